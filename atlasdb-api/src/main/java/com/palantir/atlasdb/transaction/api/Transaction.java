@@ -36,6 +36,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
@@ -302,6 +303,34 @@ public interface Transaction {
     Stream<BatchingVisitable<RowResult<byte[]>>> getRangesLazy(
             TableReference tableRef, Iterable<RangeRequest> rangeRequests);
 
+    /**
+     * Returns a publisher of the rows in the provided range. Rows are read a page at a time, with pages of the batch
+     * hint of the range request, and only once a subscriber has signalled demand for them. A subscription therefore
+     * holds at most a page of rows in memory, and does not hold a thread while its subscriber is not requesting rows,
+     * so many ranges may be streamed concurrently.
+     *
+     * Each subscription scans the range independently. Subscriptions must complete, fail or be cancelled within the
+     * scope of the transaction.
+     */
+    @Idempotent
+    default Flow.Publisher<RowResult<byte[]>> getRangePublisher(TableReference tableRef, RangeRequest rangeRequest) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns a publisher of the cells in the provided column range for each of the provided rows, in the same order
+     * as {@link #getRowsColumnRange(TableReference, Iterable, ColumnRangeSelection, int)}. Cells are read in batches
+     * of {@code batchHint}, and only once a subscriber has signalled demand for them.
+     *
+     * Each subscription reads the rows independently. Subscriptions must complete, fail or be cancelled within the
+     * scope of the transaction.
+     */
+    @Idempotent
+    default Flow.Publisher<Map.Entry<Cell, byte[]>> getRowsColumnRangePublisher(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnRangeSelection columnRangeSelection, int batchHint) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Puts values into the key-value store. If you put a null or the empty byte array, then
      * this is treated like a delete to the store.
@@ -186,6 +186,13 @@ public class MetricsManager {
         return timer;
     }
 
+    public Timer registerOrGetTaggedTimer(Class<?> clazz, String metricName, Map<String, String> tags) {
+        MetricName name = getTaggedMetricName(clazz, metricName, tags);
+        Timer timer = taggedMetricRegistry.timer(name);
+        registerTaggedMetricName(name);
+        return timer;
+    }
+
     public Counter registerOrGetCounter(Class<?> clazz, String counterName) {
         return registerOrGetTaggedCounter(clazz, counterName, Map.of());
     }
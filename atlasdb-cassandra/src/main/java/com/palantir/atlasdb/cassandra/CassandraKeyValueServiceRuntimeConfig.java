@@ -113,6 +113,16 @@ public abstract class CassandraKeyValueServiceRuntimeConfig implements KeyValueS
         return AtlasDbConstants.DEFAULT_SWEEP_CASSANDRA_READ_THREADS;
     }
 
+    /**
+     * The number of threads used to read the latest timestamps of cells, for example when checking for write-write
+     * conflicts at commit. Each thread selects only the timestamps of its cells, one cell per query, so values are
+     * never read from Cassandra. If zero, latest timestamps are instead read alongside values in batched multigets.
+     */
+    @Value.Default
+    public int latestTimestampsReadThreads() {
+        return 0;
+    }
+
     /**
      * The number of times a call to Cassandra retries a single host.
      */
@@ -1398,8 +1398,12 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
     }
 
     private CqlExecutor newInstrumentedCqlExecutor() {
+        return newInstrumentedCqlExecutor(ConsistencyLevel.ALL);
+    }
+
+    private CqlExecutor newInstrumentedCqlExecutor(ConsistencyLevel consistency) {
         return AtlasDbMetrics.instrument(
-                metricsManager.getRegistry(), CqlExecutor.class, new CqlExecutorImpl(clientPool, ConsistencyLevel.ALL));
+                metricsManager.getRegistry(), CqlExecutor.class, new CqlExecutorImpl(clientPool, consistency));
     }
 
     /**
@@ -1802,6 +1806,32 @@ public class CassandraKeyValueServiceImpl extends AbstractKeyValueService implem
         }
     }
 
+    /**
+     * Gets the latest timestamp of each cell from the key-value store. Requires a quorum of Cassandra nodes to be
+     * reachable.
+     * <p>
+     * If {@link CassandraKeyValueServiceRuntimeConfig#latestTimestampsReadThreads()} is positive, this selects only
+     * the timestamps of the cells, so does not read their values.
+     *
+     * @param tableRef the name of the table to retrieve timestamps from.
+     * @param timestampByCell specifies, for each cell, the maximum timestamp (exclusive) to retrieve.
+     * @return map of the latest timestamp of each cell. Cells which do not exist are simply not returned.
+     * @throws AtlasDbDependencyException if fewer than a quorum of Cassandra nodes are reachable.
+     */
+    @Override
+    public Map<Cell, Long> getLatestTimestamps(TableReference tableRef, Map<Cell, Long> timestampByCell) {
+        int readThreads = runtimeConfig.get().latestTimestampsReadThreads();
+        if (readThreads <= 0 || timestampByCell.isEmpty()) {
+            return super.getLatestTimestamps(tableRef, timestampByCell);
+        }
+        try {
+            return newInstrumentedCqlExecutor(readConsistencyProvider.getConsistency(tableRef))
+                    .getLatestTimestamps(tableRef, timestampByCell, executor, readThreads);
+        } catch (Exception e) {
+            throw Throwables.unwrapAndThrowAtlasDbDependencyException(e);
+        }
+    }
+
     /**
      * Gets timestamp values from the key-value store. For each cell, this returns all associated
      * timestamps &lt; given_ts.
@@ -15,9 +15,11 @@
  */
 package com.palantir.atlasdb.keyvalue.cassandra;
 
+import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.cassandra.sweep.CellWithTimestamp;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 
 public interface CqlExecutor {
@@ -37,4 +39,14 @@ public interface CqlExecutor {
      */
     List<CellWithTimestamp> getTimestamps(
             TableReference tableRef, List<byte[]> rows, int limit, ExecutorService executor, Integer executorThreads);
+
+    /**
+     * Returns, for each of the given cells, the greatest timestamp strictly below the cell's entry in
+     * {@code timestampByCell} at which the cell was written. Only the clustering columns are selected, so values are
+     * never read. Cells with no such version are not returned.
+     * @param executor is used for parallelizing the queries to Cassandra. Each cell is fetched in a separate query.
+     * @param executorThreads the number of threads to use when fetching cells from Cassandra.
+     */
+    Map<Cell, Long> getLatestTimestamps(
+            TableReference tableRef, Map<Cell, Long> timestampByCell, ExecutorService executor, int executorThreads);
 }
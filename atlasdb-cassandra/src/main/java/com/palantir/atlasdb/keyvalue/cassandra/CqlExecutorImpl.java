@@ -17,6 +17,10 @@ package com.palantir.atlasdb.keyvalue.cassandra;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.math.IntMath;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.RetryLimitReachedException;
@@ -33,6 +37,7 @@ import com.palantir.logsafe.Unsafe;
 import com.palantir.logsafe.UnsafeArg;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.math.RoundingMode;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -156,7 +161,64 @@ public class CqlExecutorImpl implements CqlExecutor {
         }
     }
 
-    private void cancelFutures(List<Future<CqlResult>> futures) {
+    @Override
+    public Map<Cell, Long> getLatestTimestamps(
+            TableReference tableRef, Map<Cell, Long> timestampByCell, ExecutorService executor, int executorThreads) {
+        if (timestampByCell.isEmpty()) {
+            return ImmutableMap.of();
+        }
+        String preparedSelQuery = String.format(
+                "SELECT column2 FROM %s WHERE key = ? AND column1 = ? AND column2 > ? LIMIT 1;",
+                quotedTableName(tableRef).getValue());
+        ByteBuffer queryBytes = ByteBuffer.wrap(preparedSelQuery.getBytes(StandardCharsets.UTF_8));
+
+        List<Map.Entry<Cell, Long>> cells = new ArrayList<>(timestampByCell.entrySet());
+        CqlPreparedResult preparedResult =
+                queryExecutor.prepare(queryBytes, cells.get(0).getKey().getRowName(), Compression.NONE);
+        int queryId = preparedResult.getItemId();
+
+        int partitionSize = IntMath.divide(cells.size(), Math.max(executorThreads, 1), RoundingMode.CEILING);
+        List<Future<Map<Cell, Long>>> futures = new ArrayList<>();
+        try {
+            for (List<Map.Entry<Cell, Long>> partition : Lists.partition(cells, partitionSize)) {
+                futures.add(executor.submit(() -> getLatestTimestamps(queryId, partition)));
+            }
+            Map<Cell, Long> result = Maps.newHashMapWithExpectedSize(cells.size());
+            for (Future<Map<Cell, Long>> future : futures) {
+                result.putAll(future.get());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            throw Throwables.throwUncheckedException(e);
+        } catch (ExecutionException e) {
+            throw Throwables.throwUncheckedException(e.getCause());
+        } finally {
+            cancelFutures(futures);
+        }
+    }
+
+    private Map<Cell, Long> getLatestTimestamps(int queryId, List<Map.Entry<Cell, Long>> cells) {
+        Map<Cell, Long> result = Maps.newHashMapWithExpectedSize(cells.size());
+        for (Map.Entry<Cell, Long> cellAndTimestamp : cells) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw Throwables.throwUncheckedException(new InterruptedException());
+            }
+            Cell cell = cellAndTimestamp.getKey();
+            // column2 holds inverted timestamps, so the first match is the latest version below the bound
+            CqlResult cqlResult = queryExecutor.executePrepared(
+                    queryId,
+                    ImmutableList.of(
+                            ByteBuffer.wrap(cell.getRowName()),
+                            ByteBuffer.wrap(cell.getColumnName()),
+                            ByteBuffer.wrap(PtBytes.toBytes(~cellAndTimestamp.getValue()))));
+            if (!cqlResult.getRows().isEmpty()) {
+                result.put(cell, extractTimestamp(cqlResult.getRows().get(0), 0));
+            }
+        }
+        return result;
+    }
+
+    private void cancelFutures(List<? extends Future<?>> futures) {
         futures.stream().filter(Objects::nonNull).forEach(f -> f.cancel(true));
     }
 
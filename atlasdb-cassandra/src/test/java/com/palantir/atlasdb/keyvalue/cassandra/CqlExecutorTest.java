@@ -15,6 +15,7 @@
  */
 package com.palantir.atlasdb.keyvalue.cassandra;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
@@ -23,16 +24,24 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.Uninterruptibles;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.Namespace;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.common.concurrent.PTExecutors;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import org.apache.cassandra.thrift.Column;
 import org.apache.cassandra.thrift.CqlPreparedResult;
 import org.apache.cassandra.thrift.CqlResult;
+import org.apache.cassandra.thrift.CqlRow;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatcher;
@@ -41,6 +50,7 @@ public class CqlExecutorTest {
 
     private final CqlExecutorImpl.QueryExecutor queryExecutor = mock(CqlExecutorImpl.QueryExecutor.class);
     private final CqlExecutor executor = new CqlExecutorImpl(queryExecutor);
+    private final ExecutorService readExecutor = PTExecutors.newFixedThreadPool(2);
 
     private long queryDelayMillis = 0L;
 
@@ -67,6 +77,11 @@ public class CqlExecutorTest {
         when(queryExecutor.executePrepared(eq(1), any())).thenReturn(result);
     }
 
+    @AfterEach
+    public void after() {
+        readExecutor.shutdownNow();
+    }
+
     @Test
     public void getTimestampsForGivenRows() {
         String expected = "SELECT key, column1, column2 FROM \"foo__bar\"" + " WHERE key = ? LIMIT 100;";
@@ -94,6 +109,36 @@ public class CqlExecutorTest {
         verify(queryExecutor).execute(argThat(cqlQueryMatcher(expected)), eq(ROW));
     }
 
+    @Test
+    public void getLatestTimestampsSelectsOnlyTimestampsBelowEachBound() {
+        String expected =
+                "SELECT column2 FROM \"foo__bar\" WHERE key = ? AND column1 = ? AND column2 > ? LIMIT 1;";
+        Cell presentCell = Cell.create(ROW, COLUMN);
+        Cell absentCell = Cell.create(END_ROW, COLUMN);
+        CqlResult presentResult = new CqlResult();
+        presentResult.setRows(ImmutableList.of(
+                new CqlRow().setColumns(ImmutableList.of(new Column().setValue(PtBytes.toBytes(~TIMESTAMP))))));
+        List<ByteBuffer> presentCellArgs = ImmutableList.of(
+                ByteBuffer.wrap(ROW), ByteBuffer.wrap(COLUMN), ByteBuffer.wrap(PtBytes.toBytes(~(TIMESTAMP + 1))));
+        when(queryExecutor.executePrepared(1, presentCellArgs)).thenReturn(presentResult);
+
+        Map<Cell, Long> latestTimestamps = executor.getLatestTimestamps(
+                TABLE_REF,
+                ImmutableMap.of(presentCell, TIMESTAMP + 1, absentCell, TIMESTAMP),
+                readExecutor,
+                2);
+
+        assertThat(latestTimestamps).containsExactly(Map.entry(presentCell, TIMESTAMP));
+        verify(queryExecutor).prepare(argThat(byteBufferMatcher(expected)), eq(ROW), any());
+        verify(queryExecutor)
+                .executePrepared(
+                        eq(1),
+                        eq(ImmutableList.of(
+                                ByteBuffer.wrap(END_ROW),
+                                ByteBuffer.wrap(COLUMN),
+                                ByteBuffer.wrap(PtBytes.toBytes(~TIMESTAMP)))));
+    }
+
     private ArgumentMatcher<ByteBuffer> byteBufferMatcher(String expected) {
         return argument -> {
             if (argument == null) {
@@ -0,0 +1,155 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.compress;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.google.common.io.BaseEncoding;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A preset dictionary for {@link com.palantir.atlasdb.table.description.ColumnValueDescription.Compression#DEFLATE}
+ * compression of column values.
+ * <p>
+ * Values stored in a single column tend to be small and to share most of their structure (field tags, enum names,
+ * common prefixes), which a general purpose compressor cannot exploit when compressing each value on its own. Seeding
+ * the compressor with a dictionary of substrings that are common across values lets even very small values compress.
+ * <p>
+ * Dictionaries are stored in the table metadata, and are embedded in the generated table code.
+ */
+public final class CompressionDictionary {
+    /**
+     * DEFLATE cannot refer back further than 32 KiB, so any dictionary content beyond this is never used.
+     */
+    public static final int MAX_SIZE = 32 * 1024;
+
+    private static final int SUBSTRING_LENGTH = 8;
+    private static final long MAX_DECODED_WEIGHT = 8 * 1024 * 1024;
+    private static final LoadingCache<String, CompressionDictionary> DECODED = Caffeine.newBuilder()
+            .weigher((String base64, CompressionDictionary dictionary) -> base64.length() + dictionary.bytes.length)
+            .maximumWeight(MAX_DECODED_WEIGHT)
+            .build(encoded -> new CompressionDictionary(BaseEncoding.base64().decode(encoded)));
+
+    private final byte[] bytes;
+
+    private CompressionDictionary(byte[] bytes) {
+        Preconditions.checkArgument(bytes.length > 0, "Compression dictionaries must not be empty");
+        Preconditions.checkArgument(
+                bytes.length <= MAX_SIZE,
+                "Compression dictionary is too large",
+                SafeArg.of("size", bytes.length),
+                SafeArg.of("maxSize", MAX_SIZE));
+        this.bytes = bytes;
+    }
+
+    public static CompressionDictionary of(byte[] bytes) {
+        return new CompressionDictionary(bytes.clone());
+    }
+
+    /**
+     * Used by generated code, so that table instances share the same decoded dictionary. Decoded dictionaries are
+     * cached up to a bounded total size, as the base64 strings may come from arbitrary table metadata.
+     */
+    public static CompressionDictionary fromBase64(String base64) {
+        return DECODED.get(base64);
+    }
+
+    /**
+     * Trains a dictionary of at most {@code maxSize} bytes from a sample of column values.
+     * <p>
+     * Substrings are scored by the number of samples they appear in, and only those appearing in more than one sample
+     * are kept. The highest scoring substrings are placed at the end of the dictionary, where they are cheapest for the
+     * compressor to refer to.
+     */
+    public static CompressionDictionary train(Iterable<byte[]> samples, int maxSize) {
+        Preconditions.checkArgument(
+                maxSize > 0 && maxSize <= MAX_SIZE,
+                "Dictionary size must be positive and at most the maximum size",
+                SafeArg.of("maxSize", maxSize),
+                SafeArg.of("maximum", MAX_SIZE));
+
+        Map<ByteBuffer, Integer> sampleCounts = new HashMap<>();
+        for (byte[] sample : samples) {
+            Set<ByteBuffer> substringsInSample = new HashSet<>();
+            for (int offset = 0; offset + SUBSTRING_LENGTH <= sample.length; offset++) {
+                substringsInSample.add(ByteBuffer.wrap(Arrays.copyOfRange(sample, offset, offset + SUBSTRING_LENGTH)));
+            }
+            substringsInSample.forEach(substring -> sampleCounts.merge(substring, 1, Integer::sum));
+        }
+
+        List<Map.Entry<ByteBuffer, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<ByteBuffer, Integer> entry : sampleCounts.entrySet()) {
+            if (entry.getValue() > 1) {
+                candidates.add(entry);
+            }
+        }
+        candidates.sort(Map.Entry.<ByteBuffer, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        Preconditions.checkArgument(
+                !candidates.isEmpty(), "Samples do not have enough in common to train a compression dictionary");
+
+        int substrings = Math.min(candidates.size(), maxSize / SUBSTRING_LENGTH);
+        byte[] dictionary = new byte[substrings * SUBSTRING_LENGTH];
+        for (int i = 0; i < substrings; i++) {
+            ByteBuffer substring = candidates.get(i).getKey();
+            substring.duplicate().get(dictionary, dictionary.length - (i + 1) * SUBSTRING_LENGTH, SUBSTRING_LENGTH);
+        }
+        return new CompressionDictionary(dictionary);
+    }
+
+    public byte[] getBytes() {
+        return bytes.clone();
+    }
+
+    byte[] bytesWithoutCopying() {
+        return bytes;
+    }
+
+    public String toBase64() {
+        return BaseEncoding.base64().encode(bytes);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return Arrays.equals(bytes, ((CompressionDictionary) other).bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "CompressionDictionary{size=" + bytes.length + "}";
+    }
+}
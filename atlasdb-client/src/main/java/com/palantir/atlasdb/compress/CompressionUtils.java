@@ -15,20 +15,50 @@
  */
 package com.palantir.atlasdb.compress;
 
+import com.google.common.primitives.Ints;
 import com.palantir.atlasdb.table.description.ColumnValueDescription.Compression;
 import com.palantir.common.base.Throwables;
+import com.palantir.common.compression.LZ4ByteArrayCompression;
+import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.annotation.Nullable;
 import org.xerial.snappy.Snappy;
 
 public final class CompressionUtils {
+    private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+    /**
+     * The largest uncompressed length {@link #decompressWithDeflate(byte[], CompressionDictionary)} accepts, so that a
+     * corrupt length prefix cannot make it allocate an arbitrarily large array.
+     */
+    public static final int DEFAULT_MAX_UNCOMPRESSED_LENGTH = LZ4ByteArrayCompression.DEFAULT_MAX_UNCOMPRESSED_LENGTH;
+
+    // Deflater and Inflater hold native memory that is only released when they are ended, so reuse them per thread.
+    private static final ThreadLocal<Deflater> DEFLATER =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(() -> new Inflater(true));
+
     private CompressionUtils() {
         // empty
     }
 
     public static byte[] compress(byte[] bytes, Compression compressionType) {
+        return compress(bytes, compressionType, null);
+    }
+
+    public static byte[] compress(
+            byte[] bytes, Compression compressionType, @Nullable CompressionDictionary dictionary) {
         if (compressionType == Compression.SNAPPY) {
             return compressWithSnappy(bytes);
+        } else if (compressionType == Compression.LZ4) {
+            return LZ4ByteArrayCompression.compress(bytes);
+        } else if (compressionType == Compression.DEFLATE) {
+            return compressWithDeflate(bytes, dictionary);
         } else if (compressionType == Compression.NONE) {
             return bytes;
         } else {
@@ -37,8 +67,17 @@ public final class CompressionUtils {
     }
 
     public static byte[] decompress(byte[] bytes, Compression compressionType) {
+        return decompress(bytes, compressionType, null);
+    }
+
+    public static byte[] decompress(
+            byte[] bytes, Compression compressionType, @Nullable CompressionDictionary dictionary) {
         if (compressionType == Compression.SNAPPY) {
             return decompressWithSnappy(bytes);
+        } else if (compressionType == Compression.LZ4) {
+            return LZ4ByteArrayCompression.decompress(bytes);
+        } else if (compressionType == Compression.DEFLATE) {
+            return decompressWithDeflate(bytes, dictionary);
         } else if (compressionType == Compression.NONE) {
             return bytes;
         } else {
@@ -64,4 +103,88 @@ public final class CompressionUtils {
             throw Throwables.throwUncheckedException(e);
         }
     }
+
+    /**
+     * Compresses with raw DEFLATE, optionally seeded with a preset dictionary. The compressed form is the length of
+     * the uncompressed data as a 4 byte big-endian integer, followed by the raw DEFLATE stream. The zlib header and
+     * checksum are omitted, as they would dominate the size of small values.
+     */
+    public static byte[] compressWithDeflate(byte[] bytes, @Nullable CompressionDictionary dictionary) {
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary.bytesWithoutCopying());
+        }
+        deflater.setInput(bytes);
+        deflater.finish();
+
+        byte[] compressed = new byte[LENGTH_PREFIX_SIZE + bytes.length + bytes.length / 8 + 16];
+        System.arraycopy(Ints.toByteArray(bytes.length), 0, compressed, 0, LENGTH_PREFIX_SIZE);
+        int length = LENGTH_PREFIX_SIZE;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        return Arrays.copyOf(compressed, length);
+    }
+
+    public static byte[] decompressWithDeflate(byte[] bytes, @Nullable CompressionDictionary dictionary) {
+        return decompressWithDeflate(bytes, dictionary, DEFAULT_MAX_UNCOMPRESSED_LENGTH);
+    }
+
+    /**
+     * Decompresses bytes produced by {@link #compressWithDeflate(byte[], CompressionDictionary)}, failing if they would
+     * decompress to more than {@code maxUncompressedLength} bytes, or do not hold exactly one DEFLATE stream of the
+     * length given by their prefix.
+     */
+    public static byte[] decompressWithDeflate(
+            byte[] bytes, @Nullable CompressionDictionary dictionary, int maxUncompressedLength) {
+        if (bytes.length < LENGTH_PREFIX_SIZE) {
+            throw new SafeIllegalArgumentException(
+                    "Cannot decompress these bytes using DEFLATE", SafeArg.of("length", bytes.length));
+        }
+        int uncompressedLength = Ints.fromBytes(bytes[0], bytes[1], bytes[2], bytes[3]);
+        if (uncompressedLength < 0 || uncompressedLength > maxUncompressedLength) {
+            throw new SafeIllegalArgumentException(
+                    "Cannot decompress these bytes using DEFLATE",
+                    SafeArg.of("uncompressedLength", uncompressedLength),
+                    SafeArg.of("maxUncompressedLength", maxUncompressedLength));
+        }
+
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        if (dictionary != null) {
+            inflater.setDictionary(dictionary.bytesWithoutCopying());
+        }
+        inflater.setInput(bytes, LENGTH_PREFIX_SIZE, bytes.length - LENGTH_PREFIX_SIZE);
+        byte[] uncompressed = new byte[uncompressedLength];
+        try {
+            int length = 0;
+            while (length < uncompressedLength && !inflater.finished()) {
+                int inflated = inflater.inflate(uncompressed, length, uncompressedLength - length);
+                if (inflated == 0) {
+                    // Truncated input, or a dictionary was used for compression but not provided here.
+                    break;
+                }
+                length += inflated;
+            }
+            if (length == uncompressedLength && !inflater.finished()) {
+                // The inflater stops once the output is full, so the end of the stream may not have been read yet.
+                length += inflater.inflate(new byte[1]);
+            }
+            if (length != uncompressedLength || !inflater.finished() || inflater.getRemaining() != 0) {
+                throw new SafeIllegalArgumentException(
+                        "Cannot decompress these bytes using DEFLATE",
+                        SafeArg.of("expectedLength", uncompressedLength),
+                        SafeArg.of("actualLength", length),
+                        SafeArg.of("finished", inflater.finished()),
+                        SafeArg.of("remainingInputBytes", inflater.getRemaining()));
+            }
+        } catch (DataFormatException e) {
+            throw new SafeIllegalArgumentException("Cannot decompress these bytes using DEFLATE", e);
+        }
+        return uncompressed;
+    }
 }
@@ -16,6 +16,7 @@
 package com.palantir.atlasdb.table.description;
 
 import com.google.protobuf.AbstractMessage;
+import com.google.protobuf.ByteString;
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
 import com.google.protobuf.Descriptors.Descriptor;
 import com.google.protobuf.Descriptors.DescriptorValidationException;
@@ -23,6 +24,7 @@ import com.google.protobuf.Descriptors.FileDescriptor;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.palantir.atlasdb.annotation.Reusable;
+import com.palantir.atlasdb.compress.CompressionDictionary;
 import com.palantir.atlasdb.compress.CompressionUtils;
 import com.palantir.atlasdb.persist.api.Persister;
 import com.palantir.atlasdb.persist.api.ReusablePersister;
@@ -64,7 +66,13 @@ public final class ColumnValueDescription {
 
     public enum Compression {
         SNAPPY,
-        NONE;
+        NONE,
+        LZ4,
+        /**
+         * DEFLATE, optionally with a preset dictionary trained on sample values of the column.
+         * See {@link ColumnValueDescription#withCompressionDictionary}.
+         */
+        DEFLATE;
 
         public TableMetadataPersistence.Compression persistToProto() {
             return TableMetadataPersistence.Compression.valueOf(name());
@@ -87,14 +95,19 @@ public final class ColumnValueDescription {
     // null if not a proto or descriptor is missing
     @Nullable
     final Descriptor protoDescriptor;
+    // null if no dictionary is used for compression
+    @Nullable
+    final CompressionDictionary compressionDictionary;
 
-    private ColumnValueDescription(ValueType type, Compression compression) {
+    private ColumnValueDescription(
+            ValueType type, Compression compression, @Nullable CompressionDictionary compressionDictionary) {
         this.format = Format.VALUE_TYPE;
         this.compression = Preconditions.checkNotNull(compression);
         this.type = Preconditions.checkNotNull(type);
         this.canonicalClassName = null;
         this.className = null;
         this.protoDescriptor = null;
+        this.compressionDictionary = checkCompressionDictionary(compression, compressionDictionary);
     }
 
     public static ColumnValueDescription forType(ValueType type) {
@@ -102,7 +115,7 @@ public final class ColumnValueDescription {
     }
 
     public static ColumnValueDescription forType(ValueType type, Compression compression) {
-        return new ColumnValueDescription(type, compression);
+        return new ColumnValueDescription(type, compression, null);
     }
 
     public static ColumnValueDescription forPersistable(Class<? extends Persistable> clazz) {
@@ -113,7 +126,7 @@ public final class ColumnValueDescription {
         Preconditions.checkNotNull(
                 Persistables.getHydrator(clazz), "Not a valid persistable class because it has no hydrator");
         return new ColumnValueDescription(
-                Format.PERSISTABLE, clazz.getName(), clazz.getCanonicalName(), compression, null);
+                Format.PERSISTABLE, clazz.getName(), clazz.getCanonicalName(), compression, null, null);
     }
 
     /**
@@ -136,7 +149,7 @@ public final class ColumnValueDescription {
     @Deprecated
     public static ColumnValueDescription forPersister(Class<? extends Persister<?>> clazz, Compression compression) {
         return new ColumnValueDescription(
-                Format.PERSISTER, clazz.getName(), clazz.getCanonicalName(), compression, null);
+                Format.PERSISTER, clazz.getName(), clazz.getCanonicalName(), compression, null, null);
     }
 
     public static ColumnValueDescription forReusablePersister(Class<? extends ReusablePersister<?>> clazz) {
@@ -146,7 +159,7 @@ public final class ColumnValueDescription {
     public static ColumnValueDescription forReusablePersister(
             Class<? extends ReusablePersister<?>> clazz, Compression compression) {
         return new ColumnValueDescription(
-                Format.PERSISTER, clazz.getName(), clazz.getCanonicalName(), compression, null);
+                Format.PERSISTER, clazz.getName(), clazz.getCanonicalName(), compression, null, null);
     }
 
     public static ColumnValueDescription forProtoMessage(Class<? extends AbstractMessage> clazz) {
@@ -156,7 +169,7 @@ public final class ColumnValueDescription {
     public static ColumnValueDescription forProtoMessage(
             Class<? extends AbstractMessage> clazz, Compression compression) {
         return new ColumnValueDescription(
-                Format.PROTO, clazz.getName(), clazz.getCanonicalName(), compression, getDescriptor(clazz));
+                Format.PROTO, clazz.getName(), clazz.getCanonicalName(), compression, getDescriptor(clazz), null);
     }
 
     private static <T extends AbstractMessage> Descriptor getDescriptor(Class<T> clazz) {
@@ -175,7 +188,8 @@ public final class ColumnValueDescription {
             String className,
             String canonicalClassName,
             Compression compression,
-            Descriptor protoDescriptor) {
+            Descriptor protoDescriptor,
+            @Nullable CompressionDictionary compressionDictionary) {
         this.compression = Preconditions.checkNotNull(compression);
         this.type = ValueType.BLOB;
         this.format = Preconditions.checkNotNull(format);
@@ -185,6 +199,29 @@ public final class ColumnValueDescription {
         this.canonicalClassName = Preconditions.checkNotNull(canonicalClassName);
         this.className = Preconditions.checkNotNull(className);
         this.protoDescriptor = protoDescriptor;
+        this.compressionDictionary = checkCompressionDictionary(compression, compressionDictionary);
+    }
+
+    private static CompressionDictionary checkCompressionDictionary(
+            Compression compression, @Nullable CompressionDictionary compressionDictionary) {
+        Preconditions.checkArgument(
+                compressionDictionary == null || compression == Compression.DEFLATE,
+                "Compression dictionaries are only supported for DEFLATE compression");
+        return compressionDictionary;
+    }
+
+    /**
+     * Returns a copy of this description whose values are compressed using the provided preset dictionary. Values
+     * written with a dictionary can only be read with the same dictionary, so the dictionary of an existing column
+     * must never be changed.
+     */
+    public ColumnValueDescription withCompressionDictionary(CompressionDictionary dictionary) {
+        Preconditions.checkNotNull(dictionary, "dictionary");
+        if (format == Format.VALUE_TYPE) {
+            return new ColumnValueDescription(type, compression, dictionary);
+        }
+        return new ColumnValueDescription(
+                format, className, canonicalClassName, compression, protoDescriptor, dictionary);
     }
 
     public int getMaxValueSize() {
@@ -199,6 +236,11 @@ public final class ColumnValueDescription {
         return compression;
     }
 
+    @Nullable
+    public CompressionDictionary getCompressionDictionary() {
+        return compressionDictionary;
+    }
+
     public Format getFormat() {
         return format;
     }
@@ -315,7 +357,19 @@ public final class ColumnValueDescription {
             result = type.getPersistCode(varName);
         }
         return "com.palantir.atlasdb.compress.CompressionUtils.compress(" + result + ", "
-                + "com.palantir.atlasdb.table.description.ColumnValueDescription.Compression." + compression + ")";
+                + "com.palantir.atlasdb.table.description.ColumnValueDescription.Compression." + compression
+                + getCompressionDictionaryCode() + ")";
+    }
+
+    /**
+     * The code for the trailing dictionary argument of the generated CompressionUtils calls, if there is one.
+     */
+    public String getCompressionDictionaryCode() {
+        if (compressionDictionary == null) {
+            return "";
+        }
+        return ", com.palantir.atlasdb.compress.CompressionDictionary.fromBase64(\""
+                + compressionDictionary.toBase64() + "\")";
     }
 
     public Class<?> getImportClass() {
@@ -376,7 +430,8 @@ public final class ColumnValueDescription {
 
     public String composeVarName(String varName) {
         return "com.palantir.atlasdb.compress.CompressionUtils.decompress(" + varName
-                + ", com.palantir.atlasdb.table.description.ColumnValueDescription.Compression." + compression + ")";
+                + ", com.palantir.atlasdb.table.description.ColumnValueDescription.Compression." + compression
+                + getCompressionDictionaryCode() + ")";
     }
 
     public String getInstantiateReusablePersisterCode(boolean isStatic) {
@@ -389,7 +444,7 @@ public final class ColumnValueDescription {
         Preconditions.checkState(format == Format.PROTO, "Column value is not a protocol buffer.");
         return ColumnValues.parseProtoBuf(
                 (Class<? extends AbstractMessage>) getImportClass(classLoader),
-                CompressionUtils.decompress(value, compression));
+                CompressionUtils.decompress(value, compression, compressionDictionary));
     }
 
     public TableMetadataPersistence.ColumnValueDescription.Builder persistToProto() {
@@ -397,6 +452,9 @@ public final class ColumnValueDescription {
                 TableMetadataPersistence.ColumnValueDescription.newBuilder();
         builder.setType(type.persistToProto());
         builder.setCompression(compression.persistToProto());
+        if (compressionDictionary != null) {
+            builder.setCompressionDictionary(ByteString.copyFrom(compressionDictionary.getBytes()));
+        }
         if (className != null) {
             builder.setClassName(className);
         }
@@ -428,8 +486,11 @@ public final class ColumnValueDescription {
     public static ColumnValueDescription hydrateFromProto(TableMetadataPersistence.ColumnValueDescription message) {
         ValueType type = ValueType.hydrateFromProto(message.getType());
         Compression compression = Compression.hydrateFromProto(message.getCompression());
+        CompressionDictionary compressionDictionary = message.hasCompressionDictionary()
+                ? CompressionDictionary.of(message.getCompressionDictionary().toByteArray())
+                : null;
         if (!message.hasClassName()) {
-            return new ColumnValueDescription(type, compression);
+            return new ColumnValueDescription(type, compression, compressionDictionary);
         }
 
         Preconditions.checkArgument(type == ValueType.BLOB);
@@ -446,7 +507,12 @@ public final class ColumnValueDescription {
                     protoDescriptor = fileDescriptor.findMessageTypeByName(message.getProtoMessageName());
                 }
                 return new ColumnValueDescription(
-                        format, message.getClassName(), message.getCanonicalClassName(), compression, protoDescriptor);
+                        format,
+                        message.getClassName(),
+                        message.getCanonicalClassName(),
+                        compression,
+                        protoDescriptor,
+                        compressionDictionary);
             } catch (Exception e) {
                 log.error("Failed to parse FileDescriptorProto.", e);
             }
@@ -471,7 +537,12 @@ public final class ColumnValueDescription {
             }
         }
         return new ColumnValueDescription(
-                format, message.getClassName(), message.getCanonicalClassName(), compression, protoDescriptor);
+                format,
+                message.getClassName(),
+                message.getCanonicalClassName(),
+                compression,
+                protoDescriptor,
+                compressionDictionary);
     }
 
     private static FileDescriptor hydrateFileDescriptorTree(FileDescriptorTreeProto proto)
@@ -488,7 +559,7 @@ public final class ColumnValueDescription {
     public String toString() {
         return "ColumnValueDescription [format=" + format + ", compression=" + compression
                 + ", type=" + type + ", className=" + className + ", canonicalClassName="
-                + canonicalClassName + "]";
+                + canonicalClassName + ", compressionDictionary=" + compressionDictionary + "]";
     }
 
     @Override
@@ -501,6 +572,7 @@ public final class ColumnValueDescription {
         result = prime * result + (type == null ? 0 : type.hashCode());
         result = prime * result + (className == null ? 0 : className.hashCode());
         result = prime * result + (canonicalClassName == null ? 0 : canonicalClassName.hashCode());
+        result = prime * result + (compressionDictionary == null ? 0 : compressionDictionary.hashCode());
         return result;
     }
 
@@ -551,6 +623,13 @@ public final class ColumnValueDescription {
         } else if (!canonicalClassName.equals(other.canonicalClassName)) {
             return false;
         }
+        if (compressionDictionary == null) {
+            if (other.compressionDictionary != null) {
+                return false;
+            }
+        } else if (!compressionDictionary.equals(other.compressionDictionary)) {
+            return false;
+        }
         return true;
     }
 }
@@ -20,6 +20,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
 import com.google.protobuf.AbstractMessage;
 import com.palantir.atlasdb.AtlasDbConstants;
+import com.palantir.atlasdb.compress.CompressionDictionary;
 import com.palantir.atlasdb.persist.api.Persister;
 import com.palantir.atlasdb.persist.api.ReusablePersister;
 import com.palantir.atlasdb.protos.generated.TableMetadataPersistence.LogSafety;
@@ -114,6 +115,24 @@ public class TableDefinition extends AbstractDefinition {
         namedComponentsSafeByDefault();
     }
 
+    /**
+     * Specifies a preset dictionary to use for all columns of this table that are declared with
+     * {@link Compression#DEFLATE} compression. The dictionary is stored in the table metadata, and should be trained
+     * on representative values using {@link CompressionDictionary#train}.
+     *
+     * Note that values written with a dictionary can only be read with the same dictionary, so the dictionary of an
+     * existing table must never be changed.
+     */
+    public void compressionDictionary(CompressionDictionary dictionary) {
+        com.palantir.logsafe.Preconditions.checkState(
+                state == State.NONE,
+                "Specifying a compression dictionary should be done outside of the subscopes of TableDefinition.");
+        com.palantir.logsafe.Preconditions.checkState(
+                fixedColumns.isEmpty() && dynamicColumnValue == null,
+                "The compression dictionary must be specified before any columns are defined.");
+        compressionDictionary = com.palantir.logsafe.Preconditions.checkNotNull(dictionary, "dictionary");
+    }
+
     public void column(String columnName, String shortName, Class<?> protoOrPersistable) {
         column(columnName, shortName, protoOrPersistable, Compression.NONE);
     }
@@ -362,6 +381,38 @@ public class TableDefinition extends AbstractDefinition {
         this.v2TableEnabled = true;
     }
 
+    public boolean hasVisitorAccessorsEnabled() {
+        return this.visitorAccessorsEnabled;
+    }
+
+    /**
+     * Enables generation of visitor-based read methods (visitRows and visitRowsColumnRange) on the generated table.
+     * These pass each decoded row, column and value straight to a visitor, instead of collecting them into row
+     * results, column value wrappers and multimaps first.
+     *
+     * This is a beta feature. API stability is not guaranteed, and the risk of defects is higher.
+     */
+    @Beta
+    public void enableVisitorAccessors() {
+        this.visitorAccessorsEnabled = true;
+    }
+
+    public boolean hasAsyncAccessorsEnabled() {
+        return this.asyncAccessorsEnabled;
+    }
+
+    /**
+     * Enables generation of ListenableFuture-returning read methods on the generated table, backed by
+     * {@link com.palantir.atlasdb.transaction.api.Transaction#getAsync}. Reads of several tables in the same
+     * transaction can then be issued together and combined with {@link com.google.common.util.concurrent.Futures}.
+     *
+     * This is a beta feature. API stability is not guaranteed, and the risk of defects is higher.
+     */
+    @Beta
+    public void enableAsyncAccessors() {
+        this.asyncAccessorsEnabled = true;
+    }
+
     public void validate() {
         toTableMetadata();
         getConstraintMetadata();
@@ -397,6 +448,9 @@ public class TableDefinition extends AbstractDefinition {
     private LogSafety tableNameSafety = LogSafety.UNSAFE;
     private LogSafety defaultNamedComponentLogSafety = LogSafety.UNSAFE;
     private boolean v2TableEnabled = false;
+    private boolean visitorAccessorsEnabled = false;
+    private boolean asyncAccessorsEnabled = false;
+    private CompressionDictionary compressionDictionary = null;
 
     public TableMetadata toTableMetadata() {
         com.palantir.logsafe.Preconditions.checkState(!rowNameComponents.isEmpty(), "No row name components defined.");
@@ -444,17 +498,22 @@ public class TableDefinition extends AbstractDefinition {
 
     @SuppressWarnings({"rawtypes", "unchecked"})
     private ColumnValueDescription getColumnValueDescription(Class protoOrPersistable, Compression compression) {
+        ColumnValueDescription description;
         if (AbstractMessage.class.isAssignableFrom(protoOrPersistable)) {
-            return ColumnValueDescription.forProtoMessage(protoOrPersistable, compression);
+            description = ColumnValueDescription.forProtoMessage(protoOrPersistable, compression);
         } else if (Persister.class.isAssignableFrom(protoOrPersistable)) {
-            return ColumnValueDescription.forPersister(protoOrPersistable, compression);
+            description = ColumnValueDescription.forPersister(protoOrPersistable, compression);
         } else if (ReusablePersister.class.isAssignableFrom(protoOrPersistable)) {
-            return ColumnValueDescription.forReusablePersister(protoOrPersistable, compression);
+            description = ColumnValueDescription.forReusablePersister(protoOrPersistable, compression);
         } else if (Persistable.class.isAssignableFrom(protoOrPersistable)) {
-            return ColumnValueDescription.forPersistable(protoOrPersistable, compression);
+            description = ColumnValueDescription.forPersistable(protoOrPersistable, compression);
         } else {
             throw new SafeIllegalArgumentException("Expected either protobuf or Persistable class.");
         }
+        if (compression == Compression.DEFLATE && compressionDictionary != null) {
+            return description.withCompressionDictionary(compressionDictionary);
+        }
+        return description;
     }
 
     private void checkHashRowComponentsPreconditions(String methodName) {
@@ -173,6 +173,7 @@ public class DynamicColumnValueRenderer extends Renderer {
             line(
                     "return CompressionUtils.compress(bytes, Compression.",
                     val.getCompression().name(),
+                    val.getCompressionDictionaryCode(),
                     ");");
         }
         line("}");
@@ -184,6 +185,7 @@ public class DynamicColumnValueRenderer extends Renderer {
             line(
                     "bytes = CompressionUtils.decompress(bytes, Compression.",
                     val.getCompression().name(),
+                    val.getCompressionDictionaryCode(),
                     ");");
             switch (val.getFormat()) {
                 case PERSISTABLE:
@@ -27,12 +27,23 @@ public class NamedColumnValueRenderer extends Renderer {
     private final String tableName;
     private final String Name;
     private final NamedColumnDescription col;
+    private final boolean staticHydrateValue;
 
     public NamedColumnValueRenderer(Renderer parent, String tableName, NamedColumnDescription col) {
+        this(parent, tableName, col, false);
+    }
+
+    /**
+     * @param staticHydrateValue whether to also render a static hydrateValue method, which decodes a value without
+     *                           wrapping it in a column value
+     */
+    public NamedColumnValueRenderer(
+            Renderer parent, String tableName, NamedColumnDescription col, boolean staticHydrateValue) {
         super(parent);
         this.tableName = tableName;
         this.Name = Renderers.CamelCase(col.getLongName());
         this.col = col;
+        this.staticHydrateValue = staticHydrateValue;
     }
 
     @Override
@@ -59,6 +70,10 @@ public class NamedColumnValueRenderer extends Renderer {
             line();
             bytesHydrator();
             line();
+            if (staticHydrateValue) {
+                hydrateValue();
+                line();
+            }
             renderToString();
         }
         line("}");
@@ -152,6 +167,7 @@ public class NamedColumnValueRenderer extends Renderer {
             line(
                     "return CompressionUtils.compress(bytes, Compression.",
                     col.getValue().getCompression().name(),
+                    col.getValue().getCompressionDictionaryCode(),
                     ");");
         }
         line("}");
@@ -179,41 +195,53 @@ public class NamedColumnValueRenderer extends Renderer {
             line("@Override");
             line("public ", Name, " hydrateFromBytes(byte[] bytes) {");
             {
-                line(
-                        "bytes = CompressionUtils.decompress(bytes, Compression.",
-                        col.getValue().getCompression().name(),
-                        ");");
-                switch (col.getValue().getFormat()) {
-                    case PERSISTABLE:
-                        line("return of(", TypeName(col), ".BYTES_HYDRATOR.hydrateFromBytes(bytes));");
-                        break;
-                    case PROTO:
-                        line("try {");
-                        {
-                            line("return of(", TypeName(col), ".parseFrom(bytes));");
-                        }
-                        line("} catch (InvalidProtocolBufferException e) {");
-                        {
-                            line("throw Throwables.throwUncheckedException(e);");
-                        }
-                        line("}");
-                        break;
-                    case PERSISTER:
-                        line("return of(", col.getValue().getHydrateCode("bytes"), ");");
-                        break;
-                    case VALUE_TYPE:
-                        line("return of(", col.getValue().getValueType().getHydrateCode("bytes", "0"), ");");
-                        break;
-                    default:
-                        throw new UnsupportedOperationException(
-                                "Unsupported value type: " + col.getValue().getFormat());
-                }
+                hydrate("of(", ")");
             }
             line("}");
         }
         line("};");
     }
 
+    private void hydrateValue() {
+        line("public static ", TypeName(col), " hydrateValue(byte[] bytes) {");
+        {
+            hydrate("", "");
+        }
+        line("}");
+    }
+
+    private void hydrate(String wrapStart, String wrapEnd) {
+        line(
+                "bytes = CompressionUtils.decompress(bytes, Compression.",
+                col.getValue().getCompression().name(),
+                col.getValue().getCompressionDictionaryCode(),
+                ");");
+        switch (col.getValue().getFormat()) {
+            case PERSISTABLE:
+                line("return ", wrapStart, TypeName(col), ".BYTES_HYDRATOR.hydrateFromBytes(bytes)", wrapEnd, ";");
+                break;
+            case PROTO:
+                line("try {");
+                {
+                    line("return ", wrapStart, TypeName(col), ".parseFrom(bytes)", wrapEnd, ";");
+                }
+                line("} catch (InvalidProtocolBufferException e) {");
+                {
+                    line("throw Throwables.throwUncheckedException(e);");
+                }
+                line("}");
+                break;
+            case PERSISTER:
+                line("return ", wrapStart, col.getValue().getHydrateCode("bytes"), wrapEnd, ";");
+                break;
+            case VALUE_TYPE:
+                line("return ", wrapStart, col.getValue().getValueType().getHydrateCode("bytes", "0"), wrapEnd, ";");
+                break;
+            default:
+                throw new UnsupportedOperationException("Unsupported value type: " + col.getValue().getFormat());
+        }
+    }
+
     private void renderToString() {
         line("@Override");
         line("public String toString() {");
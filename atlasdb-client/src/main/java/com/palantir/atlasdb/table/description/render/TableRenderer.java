@@ -149,6 +149,9 @@ public class TableRenderer {
         private final String ColumnValue;
         private final String RowResult;
         private final String Trigger;
+        private final String CellVisitor;
+        private final boolean visitorAccessors;
+        private final boolean asyncAccessors;
 
         public ClassRenderer(String rawTableName, TableDefinition table, SortedSet<IndexMetadata> indices) {
             Preconditions.checkArgument(Schemas.isTableNameValid(rawTableName), "Invalid table name %s", rawTableName);
@@ -166,6 +169,9 @@ public class TableRenderer {
             this.ColumnValue = tableName + (isDynamic(this.table) ? "ColumnValue" : "NamedColumnValue<?>");
             this.RowResult = tableName + "RowResult";
             this.Trigger = tableName + "Trigger";
+            this.CellVisitor = tableName + "CellVisitor";
+            this.visitorAccessors = table.hasVisitorAccessorsEnabled();
+            this.asyncAccessors = table.hasAsyncAccessorsEnabled();
         }
 
         public ClassRenderer(Renderer parent, String outerTable, IndexMetadata index) {
@@ -184,6 +190,9 @@ public class TableRenderer {
             this.ColumnValue = tableName + (isDynamic(this.table) ? "ColumnValue" : "NamedColumnValue<?>");
             this.RowResult = tableName + "RowResult";
             this.Trigger = tableName + "Trigger";
+            this.CellVisitor = tableName + "CellVisitor";
+            this.visitorAccessors = false;
+            this.asyncAccessors = false;
         }
 
         @Override
@@ -282,7 +291,7 @@ public class TableRenderer {
             line("public interface ", tableName, "NamedColumnValue<T> extends NamedColumnValue<T> { /* */ }");
             line();
             for (NamedColumnDescription col : ColumnRenderers.namedColumns(table)) {
-                new NamedColumnValueRenderer(this, tableName, col).run();
+                new NamedColumnValueRenderer(this, tableName, col, visitorAccessors).run();
                 line();
             }
             renderTrigger();
@@ -322,6 +331,18 @@ public class TableRenderer {
             renderGetRowsColumnRange(false);
             line();
             renderGetRowsColumnRangeIterator(false);
+            if (visitorAccessors) {
+                line();
+                renderVisitorAccessors(false);
+            }
+            if (asyncAccessors) {
+                for (NamedColumnDescription col : table.getColumns().getNamedColumns()) {
+                    line();
+                    renderNamedGetColumnAsync(col);
+                }
+                line();
+                renderNamedGetRowsMultimapAsync();
+            }
 
             if (!cellReferencingIndices.isEmpty()) {
                 line();
@@ -365,6 +386,14 @@ public class TableRenderer {
             renderGetRowsColumnRange(true);
             line();
             renderGetRowsColumnRangeIterator(true);
+            if (visitorAccessors) {
+                line();
+                renderVisitorAccessors(true);
+            }
+            if (asyncAccessors) {
+                line();
+                renderDynamicGetAsync();
+            }
         }
 
         private void fields(boolean isDynamic) {
@@ -1767,6 +1796,328 @@ public class TableRenderer {
             line("}");
         }
 
+        private void renderNamedGetColumnAsync(NamedColumnDescription col) {
+            line(
+                    "public com.google.common.util.concurrent.ListenableFuture<Map<",
+                    Row,
+                    ", ",
+                    ColumnRenderers.TypeName(col),
+                    ">> get",
+                    ColumnRenderers.VarName(col),
+                    "sAsync(Collection<",
+                    Row,
+                    "> rows) {");
+            {
+                line("Map<Cell, ", Row, "> cells = Maps.newHashMapWithExpectedSize(rows.size());");
+                line("for (", Row, " row : rows) {");
+                {
+                    line(
+                            "cells.put(Cell.create(row.persistToBytes(), PtBytes.toCachedBytes(",
+                            ColumnRenderers.short_name(col),
+                            ")), row);");
+                }
+                line("}");
+                line("return com.google.common.util.concurrent.Futures.transform(");
+                line("        t.getAsync(tableRef, cells.keySet()),");
+                line("        results -> {");
+                {
+                    line(
+                            "Map<",
+                            Row,
+                            ", ",
+                            ColumnRenderers.TypeName(col),
+                            "> ret = Maps.newHashMapWithExpectedSize(results.size());");
+                    line("for (Entry<Cell, byte[]> e : results.entrySet()) {");
+                    {
+                        line(
+                                ColumnRenderers.TypeName(col),
+                                " val = ",
+                                ColumnRenderers.VarName(col),
+                                ".BYTES_HYDRATOR.hydrateFromBytes(e.getValue()).getValue();");
+                        line("ret.put(cells.get(e.getKey()), val);");
+                    }
+                    line("}");
+                    line("return ret;");
+                }
+                line("},");
+                line("com.google.common.util.concurrent.MoreExecutors.directExecutor());");
+            }
+            line("}");
+        }
+
+        private void renderNamedGetRowsMultimapAsync() {
+            line("/**");
+            line(" * Reads all named columns of the given rows, without blocking. Reads of other tables in the same");
+            line(" * transaction can be issued before this completes, and combined using {@code Futures}.");
+            line(" */");
+            line(
+                    "public com.google.common.util.concurrent.ListenableFuture<Multimap<",
+                    Row,
+                    ", ",
+                    ColumnValue,
+                    ">> getRowsMultimapAsync(Iterable<",
+                    Row,
+                    "> rows) {");
+            {
+                line("Set<Cell> cells = new HashSet<>();");
+                line("for (", Row, " row : rows) {");
+                {
+                    line("byte[] rowBytes = row.persistToBytes();");
+                    line("for (String shortName : shortNameToHydrator.keySet()) {");
+                    {
+                        line("cells.add(Cell.create(rowBytes, PtBytes.toCachedBytes(shortName)));");
+                    }
+                    line("}");
+                }
+                line("}");
+                line("return com.google.common.util.concurrent.Futures.transform(");
+                line("        t.getAsync(tableRef, cells),");
+                line("        results -> {");
+                {
+                    line("Multimap<", Row, ", ", ColumnValue, "> rowMap = ArrayListMultimap.create();");
+                    line("for (Entry<Cell, byte[]> e : results.entrySet()) {");
+                    {
+                        line(Row, " row = ", Row, ".BYTES_HYDRATOR.hydrateFromBytes(e.getKey().getRowName());");
+                        line(
+                                "rowMap.put(row, shortNameToHydrator.get(PtBytes.toString(e.getKey().getColumnName()))"
+                                        + ".hydrateFromBytes(e.getValue()));");
+                    }
+                    line("}");
+                    line("return rowMap;");
+                }
+                line("},");
+                line("com.google.common.util.concurrent.MoreExecutors.directExecutor());");
+            }
+            line("}");
+        }
+
+        private void renderDynamicGetAsync() {
+            line("/**");
+            line(" * Reads the given cells, without blocking. Reads of other tables in the same transaction can be");
+            line(" * issued before this completes, and combined using {@code Futures}.");
+            line(" */");
+            line(
+                    "public com.google.common.util.concurrent.ListenableFuture<Multimap<",
+                    Row,
+                    ", ",
+                    ColumnValue,
+                    ">> getAsync(Multimap<",
+                    Row,
+                    ", ",
+                    Column,
+                    "> cells) {");
+            {
+                line("Set<Cell> rawCells = ColumnValues.toCells(cells);");
+                line("return com.google.common.util.concurrent.Futures.transform(");
+                line("        t.getAsync(tableRef, rawCells),");
+                line("        rawResults -> {");
+                {
+                    line("Multimap<", Row, ", ", ColumnValue, "> rowMap = ArrayListMultimap.create();");
+                    line("for (Entry<Cell, byte[]> e : rawResults.entrySet()) {");
+                    {
+                        line("if (e.getValue().length > 0) {");
+                        {
+                            line(Row, " row = ", Row, ".BYTES_HYDRATOR.hydrateFromBytes(e.getKey().getRowName());");
+                            line(
+                                    Column,
+                                    " col = ",
+                                    Column,
+                                    ".BYTES_HYDRATOR.hydrateFromBytes(e.getKey().getColumnName());");
+                            line(
+                                    table.getColumns().getDynamicColumn().getValue().getJavaObjectTypeName(),
+                                    " val = ",
+                                    ColumnValue,
+                                    ".hydrateValue(e.getValue());");
+                            line("rowMap.put(row, ", ColumnValue, ".of(col, val));");
+                        }
+                        line("}");
+                    }
+                    line("}");
+                    line("return rowMap;");
+                }
+                line("},");
+                line("com.google.common.util.concurrent.MoreExecutors.directExecutor());");
+            }
+            line("}");
+        }
+
+        private void renderVisitorAccessors(boolean isDynamic) {
+            renderCellVisitor(isDynamic);
+            line();
+            renderVisitRows(isDynamic);
+            line();
+            renderVisitRowsColumnRange();
+            line();
+            renderVisitCell(isDynamic);
+        }
+
+        private void renderCellVisitor(boolean isDynamic) {
+            line("/**");
+            line(" * Receives the cells read by visitRows and visitRowsColumnRange, as they are decoded.");
+            line(" */");
+            line("public interface ", CellVisitor, " {");
+            {
+                if (isDynamic) {
+                    line(
+                            "void visit(",
+                            Row,
+                            " row, ",
+                            Column,
+                            " column, ",
+                            table.getColumns().getDynamicColumn().getValue().getJavaObjectTypeName(),
+                            " value);");
+                } else {
+                    for (NamedColumnDescription col : ColumnRenderers.namedColumns(table)) {
+                        line(
+                                "default void visit",
+                                ColumnRenderers.VarName(col),
+                                "(",
+                                Row,
+                                " row, ",
+                                ColumnRenderers.TypeName(col),
+                                " value) {}");
+                    }
+                }
+            }
+            line("}");
+        }
+
+        private void renderVisitRows(boolean isDynamic) {
+            if (isDynamic) {
+                line("private static final int VISIT_ALL_COLUMNS_BATCH_HINT = 1000;");
+                line();
+            }
+            line("/**");
+            line(" * Reads the given rows and passes each cell to the visitor, without building row results.");
+            line(" * Cells are read as a single batch and visited in the order of the given rows.");
+            if (isDynamic) {
+                line(" * If all columns are selected, the rows are read as in visitRowsColumnRange instead.");
+            }
+            line(" */");
+            line(
+                    "public void visitRows(Iterable<",
+                    Row,
+                    "> rows, ColumnSelection columns, ",
+                    CellVisitor,
+                    " visitor) {");
+            {
+                if (isDynamic) {
+                    line("if (columns.allColumnsSelected()) {");
+                    {
+                        line("visitRowsColumnRange(rows, new ColumnRangeSelection(PtBytes.EMPTY_BYTE_ARRAY,"
+                                + " PtBytes.EMPTY_BYTE_ARRAY), VISIT_ALL_COLUMNS_BATCH_HINT, visitor);");
+                        line("return;");
+                    }
+                    line("}");
+                } else {
+                    line("columns = columns.allColumnsSelected() ? allColumns : columns;");
+                }
+                line("List<", Row, "> distinctRows = ImmutableSet.copyOf(rows).asList();");
+                line("List<byte[]> rowNames = Persistables.persistAll(distinctRows);");
+                line("Map<Cell, byte[]> results = t.get(tableRef, columns.asCellsForRows(rowNames));");
+                line("for (int i = 0; i < rowNames.size(); i++) {");
+                {
+                    line("for (byte[] columnName : columns.getSelectedColumns()) {");
+                    {
+                        line("byte[] value = results.get(Cell.create(rowNames.get(i), columnName));");
+                        line("if (value != null) {");
+                        {
+                            line("visitCell(distinctRows.get(i), columnName, value, visitor);");
+                        }
+                        line("}");
+                    }
+                    line("}");
+                }
+                line("}");
+            }
+            line("}");
+        }
+
+        private void renderVisitRowsColumnRange() {
+            line("/**");
+            line(" * Reads the given column range of the given rows and passes each cell to the visitor, in the order");
+            line(" * of the underlying iterator. Consecutive cells of the same row share a single decoded row.");
+            line(" */");
+            line(
+                    "public void visitRowsColumnRange(Iterable<",
+                    Row,
+                    "> rows, ColumnRangeSelection columnRangeSelection, int batchHint, ",
+                    CellVisitor,
+                    " visitor) {");
+            {
+                line("Iterator<Map.Entry<Cell, byte[]>> results = t.getRowsColumnRange(getTableRef(),"
+                        + " Persistables.persistAll(rows), columnRangeSelection, batchHint);");
+                line("byte[] rowName = null;");
+                line(Row, " row = null;");
+                line("while (results.hasNext()) {");
+                {
+                    line("Map.Entry<Cell, byte[]> e = results.next();");
+                    line("if (rowName == null || !Arrays.equals(rowName, e.getKey().getRowName())) {");
+                    {
+                        line("rowName = e.getKey().getRowName();");
+                        line("row = ", Row, ".BYTES_HYDRATOR.hydrateFromBytes(rowName);");
+                    }
+                    line("}");
+                    line("visitCell(row, e.getKey().getColumnName(), e.getValue(), visitor);");
+                }
+                line("}");
+            }
+            line("}");
+        }
+
+        private void renderVisitCell(boolean isDynamic) {
+            if (!isDynamic) {
+                for (NamedColumnDescription col : ColumnRenderers.namedColumns(table)) {
+                    line(
+                            "private static final byte[] ",
+                            ColumnRenderers.varName(col),
+                            "ShortName = PtBytes.toCachedBytes(",
+                            ColumnRenderers.short_name(col),
+                            ");");
+                }
+                line();
+            }
+            line(
+                    "private static void visitCell(",
+                    Row,
+                    " row, byte[] columnName, byte[] value, ",
+                    CellVisitor,
+                    " visitor) {");
+            {
+                if (isDynamic) {
+                    line(
+                            "visitor.visit(row, ",
+                            Column,
+                            ".BYTES_HYDRATOR.hydrateFromBytes(columnName), ",
+                            ColumnValue,
+                            ".hydrateValue(value));");
+                } else {
+                    // Compare the raw short names, rather than decoding them to strings to look up a hydrator.
+                    boolean first = true;
+                    for (NamedColumnDescription col : ColumnRenderers.namedColumns(table)) {
+                        line(
+                                first ? "if" : "} else if",
+                                " (Arrays.equals(columnName, ",
+                                ColumnRenderers.varName(col),
+                                "ShortName)) {");
+                        {
+                            line(
+                                    "visitor.visit",
+                                    ColumnRenderers.VarName(col),
+                                    "(row, ",
+                                    ColumnRenderers.VarName(col),
+                                    ".hydrateValue(value));");
+                        }
+                        first = false;
+                    }
+                    if (!first) {
+                        line("}");
+                    }
+                }
+            }
+            line("}");
+        }
+
         private void renderFindConstraintFailures() {
             line("@Override");
             line("public List<String> findConstraintFailures(Map<Cell, byte[]> writes,");
@@ -40,6 +40,7 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
@@ -134,6 +135,17 @@ public abstract class ForwardingTransaction extends ForwardingObject implements
         return delegate().getRangesLazy(tableRef, rangeRequests);
     }
 
+    @Override
+    public Flow.Publisher<RowResult<byte[]>> getRangePublisher(TableReference tableRef, RangeRequest rangeRequest) {
+        return delegate().getRangePublisher(tableRef, rangeRequest);
+    }
+
+    @Override
+    public Flow.Publisher<Map.Entry<Cell, byte[]>> getRowsColumnRangePublisher(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnRangeSelection columnRangeSelection, int batchHint) {
+        return delegate().getRowsColumnRangePublisher(tableRef, rows, columnRangeSelection, batchHint);
+    }
+
     @Override
     public void put(TableReference tableRef, Map<Cell, byte[]> values) {
         delegate().put(tableRef, values);
@@ -37,6 +37,7 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Flow;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
@@ -119,6 +120,19 @@ public class ReadTransaction extends ForwardingCallbackAwareTransaction {
         return delegate().getRangesLazy(tableRef, rangeRequests);
     }
 
+    @Override
+    public Flow.Publisher<RowResult<byte[]>> getRangePublisher(TableReference tableRef, RangeRequest rangeRequest) {
+        checkTableName(tableRef);
+        return delegate().getRangePublisher(tableRef, rangeRequest);
+    }
+
+    @Override
+    public Flow.Publisher<Map.Entry<Cell, byte[]>> getRowsColumnRangePublisher(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnRangeSelection columnRangeSelection, int batchHint) {
+        checkTableName(tableRef);
+        return delegate().getRowsColumnRangePublisher(tableRef, rows, columnRangeSelection, batchHint);
+    }
+
     @Override
     public Map<byte[], BatchingVisitable<Map.Entry<Cell, byte[]>>> getRowsColumnRange(
             TableReference tableRef, Iterable<byte[]> rows, BatchColumnRangeSelection columnRangeSelection) {
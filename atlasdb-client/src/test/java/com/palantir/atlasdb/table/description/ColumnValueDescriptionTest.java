@@ -0,0 +1,84 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.table.description;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.palantir.atlasdb.compress.CompressionDictionary;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.table.description.ColumnValueDescription.Compression;
+import org.junit.jupiter.api.Test;
+
+public class ColumnValueDescriptionTest {
+    private static final CompressionDictionary DICTIONARY =
+            CompressionDictionary.of(PtBytes.toBytes("\"status\":\"COMPLETED\""));
+
+    @Test
+    public void canSerializeAndDeserializeNewCompressionTypes() {
+        for (Compression compression : Compression.values()) {
+            assertCanSerializeAndDeserialize(ColumnValueDescription.forType(ValueType.BLOB, compression));
+        }
+    }
+
+    @Test
+    public void canSerializeAndDeserializeCompressionDictionary() {
+        ColumnValueDescription description = ColumnValueDescription.forType(ValueType.BLOB, Compression.DEFLATE)
+                .withCompressionDictionary(DICTIONARY);
+
+        assertCanSerializeAndDeserialize(description);
+        assertThat(ColumnValueDescription.hydrateFromProto(description.persistToProto().build())
+                        .getCompressionDictionary())
+                .isEqualTo(DICTIONARY);
+    }
+
+    @Test
+    public void compressionDictionaryIsPartOfEquality() {
+        ColumnValueDescription description = ColumnValueDescription.forType(ValueType.BLOB, Compression.DEFLATE);
+        assertThat(description.withCompressionDictionary(DICTIONARY)).isNotEqualTo(description);
+    }
+
+    @Test
+    public void compressionDictionaryIsOnlySupportedForDeflate() {
+        assertThatThrownBy(() -> ColumnValueDescription.forType(ValueType.BLOB, Compression.LZ4)
+                        .withCompressionDictionary(DICTIONARY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void generatedCodePassesCompressionDictionary() {
+        ColumnValueDescription description = ColumnValueDescription.forType(ValueType.BLOB, Compression.DEFLATE)
+                .withCompressionDictionary(DICTIONARY);
+        String dictionaryCode =
+                "com.palantir.atlasdb.compress.CompressionDictionary.fromBase64(\"" + DICTIONARY.toBase64() + "\")";
+
+        assertThat(description.getPersistCode("value")).contains("Compression.DEFLATE, " + dictionaryCode + ")");
+        assertThat(description.composeVarName("value")).contains("Compression.DEFLATE, " + dictionaryCode + ")");
+    }
+
+    @Test
+    public void generatedCodeDoesNotPassDictionaryIfNoneIsUsed() {
+        ColumnValueDescription description = ColumnValueDescription.forType(ValueType.BLOB, Compression.LZ4);
+        assertThat(description.composeVarName("value"))
+                .isEqualTo("com.palantir.atlasdb.compress.CompressionUtils.decompress(value, "
+                        + "com.palantir.atlasdb.table.description.ColumnValueDescription.Compression.LZ4)");
+    }
+
+    private static void assertCanSerializeAndDeserialize(ColumnValueDescription description) {
+        assertThat(ColumnValueDescription.hydrateFromProto(description.persistToProto().build()))
+                .isEqualTo(description);
+    }
+}
@@ -177,6 +177,89 @@ public class TableRendererTest {
         };
     }
 
+    @Test
+    public void doesNotRenderVisitorAccessorsByDefault() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", getSimpleTableDefinition(TABLE_REF), NO_INDICES))
+                .doesNotContain("TestTableCellVisitor")
+                .doesNotContain("visitRows");
+    }
+
+    @Test
+    public void testCanRenderVisitorAccessorsForNamedColumns() {
+        TableDefinition definition = getSimpleTableDefinition(TABLE_REF);
+        definition.enableVisitorAccessors();
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", definition, NO_INDICES))
+                .contains("public interface TestTableCellVisitor {")
+                .contains("default void visitCol1(TestTableRow row, Long value) {}")
+                .contains("public void visitRows(Iterable<TestTableRow> rows, ColumnSelection columns,"
+                        + " TestTableCellVisitor visitor) {")
+                .contains("public void visitRowsColumnRange(Iterable<TestTableRow> rows,"
+                        + " ColumnRangeSelection columnRangeSelection, int batchHint, TestTableCellVisitor visitor) {")
+                .contains("private static final byte[] col1ShortName = PtBytes.toCachedBytes(\"1\");")
+                .contains("if (Arrays.equals(columnName, col1ShortName)) {")
+                .contains("Map<Cell, byte[]> results = t.get(tableRef, columns.asCellsForRows(rowNames));")
+                .contains("public static Long hydrateValue(byte[] bytes) {")
+                .contains("visitor.visitCol1(row, Col1.hydrateValue(value));")
+                .doesNotContain("SortedMap<byte[], RowResult<byte[]>> results = t.getRows(");
+    }
+
+    @Test
+    public void testCanRenderVisitorAccessorsForDynamicColumns() {
+        TableDefinition definition =
+                getTableWithUserSpecifiedPersisterInDynamicColumns(TABLE_REF, JsonNodePersister.class);
+        definition.enableVisitorAccessors();
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", definition, NO_INDICES))
+                .contains("void visit(TestTableRow row, TestTableColumn column,"
+                        + " com.fasterxml.jackson.databind.JsonNode value);")
+                .contains("visitor.visit(row, TestTableColumn.BYTES_HYDRATOR.hydrateFromBytes(columnName),"
+                        + " TestTableColumnValue.hydrateValue(value));")
+                .contains("visitRowsColumnRange(rows, new ColumnRangeSelection(PtBytes.EMPTY_BYTE_ARRAY,"
+                        + " PtBytes.EMPTY_BYTE_ARRAY), VISIT_ALL_COLUMNS_BATCH_HINT, visitor);");
+    }
+
+    @Test
+    public void doesNotRenderStaticHydrateValueForNamedColumnsByDefault() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", getSimpleTableDefinition(TABLE_REF), NO_INDICES))
+                .doesNotContain("public static Long hydrateValue(byte[] bytes) {");
+    }
+
+    @Test
+    public void testCanRenderAsyncAccessorsForNamedColumns() {
+        TableDefinition definition = getSimpleTableDefinition(TABLE_REF);
+        definition.enableAsyncAccessors();
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", definition, NO_INDICES))
+                .contains("public com.google.common.util.concurrent.ListenableFuture<Map<TestTableRow, Long>>"
+                        + " getCol1sAsync(Collection<TestTableRow> rows) {")
+                .contains("public com.google.common.util.concurrent.ListenableFuture<Multimap<TestTableRow,"
+                        + " TestTableNamedColumnValue<?>>> getRowsMultimapAsync(Iterable<TestTableRow> rows) {")
+                .contains("t.getAsync(tableRef, cells.keySet()),");
+    }
+
+    @Test
+    public void testCanRenderAsyncAccessorsForDynamicColumns() {
+        TableDefinition definition =
+                getTableWithUserSpecifiedPersisterInDynamicColumns(TABLE_REF, JsonNodePersister.class);
+        definition.enableAsyncAccessors();
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", definition, NO_INDICES))
+                .contains("public com.google.common.util.concurrent.ListenableFuture<Multimap<TestTableRow,"
+                        + " TestTableColumnValue>> getAsync(Multimap<TestTableRow, TestTableColumn> cells) {")
+                .contains("t.getAsync(tableRef, rawCells),");
+    }
+
+    @Test
+    public void doesNotRenderAsyncAccessorsByDefault() {
+        TableRenderer renderer = new TableRenderer("package", Namespace.DEFAULT_NAMESPACE, OptionalType.JAVA8);
+        assertThat(renderer.render("table", getSimpleTableDefinition(TABLE_REF), NO_INDICES))
+                .doesNotContain("getAsync")
+                .doesNotContain("ListenableFuture");
+    }
+
     public static final class LegacyNonReusableStringPersister implements Persister<String> {
         @Override
         public byte[] persistToBytes(String objectToPersist) {
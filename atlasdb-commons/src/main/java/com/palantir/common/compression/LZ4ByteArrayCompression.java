@@ -0,0 +1,93 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.common.compression;
+
+import com.google.common.primitives.Ints;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import java.util.Arrays;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+/**
+ * LZ4 compression of small, self-contained byte arrays such as individual cell values.
+ * <p>
+ * Unlike {@link LZ4CompressingInputStream}, this does not use the LZ4 block stream framing, which costs a 21 byte
+ * header per block. The compressed form is the length of the uncompressed data as a 4 byte big-endian integer,
+ * followed by a single raw LZ4 block.
+ */
+public final class LZ4ByteArrayCompression {
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4SafeDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+    private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+    /**
+     * The largest uncompressed length {@link #decompress(byte[])} accepts, so that a corrupt length prefix cannot
+     * make it allocate an arbitrarily large array.
+     */
+    public static final int DEFAULT_MAX_UNCOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
+    private LZ4ByteArrayCompression() {
+        // utility
+    }
+
+    public static byte[] compress(byte[] bytes) {
+        byte[] compressed = new byte[LENGTH_PREFIX_SIZE + COMPRESSOR.maxCompressedLength(bytes.length)];
+        System.arraycopy(Ints.toByteArray(bytes.length), 0, compressed, 0, LENGTH_PREFIX_SIZE);
+        int compressedLength = COMPRESSOR.compress(
+                bytes, 0, bytes.length, compressed, LENGTH_PREFIX_SIZE, compressed.length - LENGTH_PREFIX_SIZE);
+        return Arrays.copyOf(compressed, LENGTH_PREFIX_SIZE + compressedLength);
+    }
+
+    public static byte[] decompress(byte[] bytes) {
+        return decompress(bytes, DEFAULT_MAX_UNCOMPRESSED_LENGTH);
+    }
+
+    /**
+     * Decompresses bytes produced by {@link #compress(byte[])}, failing if they would decompress to more than
+     * {@code maxUncompressedLength} bytes.
+     */
+    public static byte[] decompress(byte[] bytes, int maxUncompressedLength) {
+        if (bytes.length < LENGTH_PREFIX_SIZE) {
+            throw new SafeIllegalArgumentException(
+                    "Cannot decompress these bytes using LZ4", SafeArg.of("length", bytes.length));
+        }
+        int uncompressedLength = Ints.fromBytes(bytes[0], bytes[1], bytes[2], bytes[3]);
+        if (uncompressedLength < 0 || uncompressedLength > maxUncompressedLength) {
+            throw new SafeIllegalArgumentException(
+                    "Cannot decompress these bytes using LZ4",
+                    SafeArg.of("uncompressedLength", uncompressedLength),
+                    SafeArg.of("maxUncompressedLength", maxUncompressedLength));
+        }
+        byte[] uncompressed = new byte[uncompressedLength];
+        try {
+            int decompressedLength = DECOMPRESSOR.decompress(
+                    bytes, LENGTH_PREFIX_SIZE, bytes.length - LENGTH_PREFIX_SIZE, uncompressed, 0, uncompressedLength);
+            if (decompressedLength != uncompressedLength) {
+                throw new SafeIllegalArgumentException(
+                        "Cannot decompress these bytes using LZ4",
+                        SafeArg.of("uncompressedLength", uncompressedLength),
+                        SafeArg.of("decompressedLength", decompressedLength));
+            }
+        } catch (LZ4Exception e) {
+            throw new SafeIllegalArgumentException("Cannot decompress these bytes using LZ4", e);
+        }
+        return uncompressed;
+    }
+}
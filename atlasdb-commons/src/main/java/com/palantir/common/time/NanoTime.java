@@ -63,6 +63,10 @@ public abstract class NanoTime implements Comparable<NanoTime> {
         return create(time() + duration.toNanos());
     }
 
+    public Duration since(NanoTime earlier) {
+        return Duration.ofNanos(nanosBetween(earlier, this));
+    }
+
     public boolean isBefore(NanoTime other) {
         return compareTo(other) < 0;
     }
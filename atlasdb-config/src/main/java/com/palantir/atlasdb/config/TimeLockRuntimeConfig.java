@@ -29,4 +29,13 @@ public abstract class TimeLockRuntimeConfig {
     public ServerListConfig serversList() {
         return ImmutableServerListConfig.builder().build();
     }
+
+    /**
+     * If true, the immutable timestamp is served from the immutable timestamp TimeLock last returned when starting
+     * transactions, for as long as the lease on it is valid, instead of being requested from TimeLock each time.
+     */
+    @Value.Default
+    public boolean serveImmutableTimestampFromLease() {
+        return false;
+    }
 }
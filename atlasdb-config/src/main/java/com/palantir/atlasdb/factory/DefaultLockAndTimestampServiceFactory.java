@@ -23,6 +23,7 @@ import com.palantir.atlasdb.config.ServerListConfig;
 import com.palantir.atlasdb.config.ServerListConfigs;
 import com.palantir.atlasdb.config.TimeLockClientConfig;
 import com.palantir.atlasdb.config.TimeLockRequestBatcherProviders;
+import com.palantir.atlasdb.config.TimeLockRuntimeConfig;
 import com.palantir.atlasdb.debug.LockDiagnosticComponents;
 import com.palantir.atlasdb.debug.LockDiagnosticConjureTimelockService;
 import com.palantir.atlasdb.factory.startup.TimeLockMigrator;
@@ -77,6 +78,7 @@ import com.palantir.util.OptionalResolver;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 public final class DefaultLockAndTimestampServiceFactory implements LockAndTimestampServiceFactory {
@@ -275,7 +277,12 @@ public final class DefaultLockAndTimestampServiceFactory implements LockAndTimes
                 timeLockFeedbackBackgroundTask,
                 timelockRequestBatcherProviders,
                 schemas,
-                config.lockWatchCaching());
+                config.lockWatchCaching(),
+                () -> runtimeConfig
+                        .get()
+                        .timelockRuntime()
+                        .map(TimeLockRuntimeConfig::serveImmutableTimestampFromLease)
+                        .orElse(false));
 
         TimeLockMigrator migrator = TimeLockMigrator.create(
                 lockAndTimestampServices.managedTimestampService(), invalidator, config.initializeAsync());
@@ -300,7 +307,8 @@ public final class DefaultLockAndTimestampServiceFactory implements LockAndTimes
             Optional<TimeLockFeedbackBackgroundTask> timeLockFeedbackBackgroundTask,
             Optional<TimeLockRequestBatcherProviders> timelockRequestBatcherProviders,
             Set<Schema> schemas,
-            LockWatchCachingConfig cachingConfig) {
+            LockWatchCachingConfig cachingConfig,
+            BooleanSupplier leasedImmutableTimestampEnabled) {
         AtlasDbDialogueServiceProvider serviceProvider = AtlasDbDialogueServiceProvider.create(
                 timelockServerListConfig, reloadingFactory, userAgent, metricsManager.getTaggedRegistry());
 
@@ -368,7 +376,9 @@ public final class DefaultLockAndTimestampServiceFactory implements LockAndTimes
                         timelockNamespace,
                         timelockRequestBatcherProviders,
                         namespacedConjureTimelockService,
-                        multiClientTimelockServiceSupplier));
+                        multiClientTimelockServiceSupplier),
+                metricsManager.getTaggedRegistry(),
+                leasedImmutableTimestampEnabled);
         TimestampManagementService timestampManagementService = new RemoteTimestampManagementAdapter(
                 serviceProvider.getTimestampManagementRpcClient(), timelockNamespace);
 
@@ -27,6 +27,7 @@ import com.palantir.logsafe.logger.SafeLoggerFactory;
 import com.palantir.nexus.db.DBType;
 import com.palantir.nexus.db.pool.config.ConnectionConfig;
 import com.palantir.nexus.db.sql.ExceptionCheck;
+import com.palantir.nexus.db.sql.SqlExecutionMode;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import com.zaxxer.hikari.HikariPoolMXBean;
@@ -438,6 +439,11 @@ public class HikariCPConnectionManager extends BaseConnectionManager {
         return connConfig.getDbType();
     }
 
+    @Override
+    public SqlExecutionMode getSqlExecutionMode() {
+        return connConfig.getSqlExecutionMode();
+    }
+
     @Override
     public void setPassword(String newPassword) {
         Preconditions.checkNotNull(newPassword, "password cannot be null");
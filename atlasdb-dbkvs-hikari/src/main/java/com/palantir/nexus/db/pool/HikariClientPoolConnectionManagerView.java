@@ -18,6 +18,7 @@ package com.palantir.nexus.db.pool;
 
 import com.palantir.logsafe.exceptions.SafeRuntimeException;
 import com.palantir.nexus.db.DBType;
+import com.palantir.nexus.db.sql.SqlExecutionMode;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.concurrent.Semaphore;
@@ -82,6 +83,11 @@ public class HikariClientPoolConnectionManagerView extends BaseConnectionManager
         return sharedManager.getDbType();
     }
 
+    @Override
+    public SqlExecutionMode getSqlExecutionMode() {
+        return sharedManager.getSqlExecutionMode();
+    }
+
     @Override
     public void setPassword(String newPassword) {
         sharedManager.setPassword(newPassword);
@@ -23,6 +23,7 @@ import com.palantir.common.base.Visitors;
 import com.palantir.common.visitor.Visitor;
 import com.palantir.nexus.db.DBType;
 import com.palantir.nexus.db.pool.InterceptorDataSource;
+import com.palantir.nexus.db.sql.SqlExecutionMode;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.SQLExceptionOverride;
 import com.zaxxer.hikari.util.DriverDataSource;
@@ -135,6 +136,15 @@ public abstract class ConnectionConfig {
         return false;
     }
 
+    /**
+     * Which threads statements on connections from this pool run on. Running statements directly on the calling
+     * thread should only be enabled for JDBC drivers that do not close their connection when interrupted.
+     */
+    @Value.Default
+    public SqlExecutionMode getSqlExecutionMode() {
+        return SqlExecutionMode.EXECUTOR;
+    }
+
     /**
      * This is JsonIgnore'd because it doesn't serialise. Serialisation is needed for atlasdb-dropwizard-bundle.
      */
@@ -0,0 +1,185 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.palantir.atlasdb.AtlasDbConstants;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.TimestampRangeDelete;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.dbkvs.DbKeyValueServiceConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutableDbKeyValueServiceConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutableOracleDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.OracleDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.OracleTableNameGetter;
+import com.palantir.atlasdb.keyvalue.dbkvs.OracleTableNameGetterImpl;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionManagerAwareDbKvs;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
+import com.palantir.atlasdb.table.description.TableMetadata;
+import com.palantir.atlasdb.table.description.ValueType;
+import com.palantir.atlasdb.transaction.api.ConflictHandler;
+import com.palantir.common.exception.TableMappingNotFoundException;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@ExtendWith(DbKvsOracleExtension.class)
+public class OracleArrayBoundDeletesIntegrationTest {
+    private static final TableReference RAW_TABLE = TableReference.createFromFullyQualifiedName("test.array_raw");
+    private static final TableReference OVERFLOW_TABLE =
+            TableReference.createFromFullyQualifiedName("test.array_overflow");
+
+    private static final byte[] RAW_TABLE_METADATA = TableMetadata.builder()
+            .singleRowComponent("name", ValueType.FIXED_LONG)
+            .singleDynamicColumn("name", ValueType.FIXED_LONG, ValueType.FIXED_LONG)
+            .conflictHandler(ConflictHandler.IGNORE_ALL)
+            .build()
+            .persistToBytes();
+    private static final byte[] OVERFLOW_TABLE_METADATA = TableMetadata.builder()
+            .singleRowComponent("name", ValueType.BLOB)
+            .singleDynamicColumn("name", ValueType.BLOB, ValueType.BLOB)
+            .conflictHandler(ConflictHandler.IGNORE_ALL)
+            .build()
+            .persistToBytes();
+
+    private static final Cell CELL = Cell.create(PtBytes.toBytes("row"), PtBytes.toBytes("col"));
+    private static final Cell OTHER_CELL = Cell.create(PtBytes.toBytes("row"), PtBytes.toBytes("other"));
+
+    private ConnectionManagerAwareDbKvs kvs;
+    private ConnectionSupplier connectionSupplier;
+    private OracleTableNameGetter tableNameGetter;
+
+    @BeforeEach
+    public void setUp() {
+        DbKeyValueServiceConfig config = getConfigWithArrayBoundDeletes();
+        kvs = ConnectionManagerAwareDbKvs.create(config);
+        kvs.createTables(ImmutableMap.of(RAW_TABLE, RAW_TABLE_METADATA, OVERFLOW_TABLE, OVERFLOW_TABLE_METADATA));
+        connectionSupplier = DbKvsOracleExtension.getConnectionSupplier(kvs);
+        tableNameGetter = OracleTableNameGetterImpl.createDefault((OracleDdlConfig) config.ddl());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionSupplier.close();
+        kvs.dropTables(ImmutableSet.of(RAW_TABLE, OVERFLOW_TABLE));
+        kvs.close();
+    }
+
+    @ParameterizedTest
+    @MethodSource("tablesAndValueSizes")
+    public void deleteRemovesOnlyTheGivenVersions(TableReference tableRef, int valueSize)
+            throws TableMappingNotFoundException {
+        putVersions(tableRef, CELL, valueSize, 1L, 2L, 3L);
+        putVersions(tableRef, OTHER_CELL, valueSize, 1L, 2L);
+        assertOverflowRowCount(tableRef, valueSize, 5);
+
+        kvs.delete(tableRef, ImmutableListMultimap.of(CELL, 2L, OTHER_CELL, 1L));
+
+        assertOverflowRowCount(tableRef, valueSize, 3);
+        assertThat(getAllTimestamps(tableRef, CELL)).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(getAllTimestamps(tableRef, OTHER_CELL)).containsExactly(2L);
+        assertThat(kvs.get(tableRef, ImmutableMap.of(CELL, 2L)))
+                .hasEntrySatisfying(CELL, stored -> assertThat(stored.getContents()).isEqualTo(value(1L, valueSize)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("tablesAndValueSizes")
+    public void deleteAllTimestampsRemovesVersionsBelowTheBound(TableReference tableRef, int valueSize)
+            throws TableMappingNotFoundException {
+        putVersions(tableRef, CELL, valueSize, 1L, 2L, 3L);
+        putVersions(tableRef, OTHER_CELL, valueSize, 1L, 2L);
+        kvs.addGarbageCollectionSentinelValues(tableRef, ImmutableSet.of(CELL, OTHER_CELL));
+        assertOverflowRowCount(tableRef, valueSize, 5);
+        kvs.deleteAllTimestamps(
+                tableRef,
+                ImmutableMap.of(
+                        CELL, rangeDelete(3L, false),
+                        OTHER_CELL, rangeDelete(3L, true)));
+
+        assertOverflowRowCount(tableRef, valueSize, 1);
+        assertThat(getAllTimestamps(tableRef, CELL)).containsExactlyInAnyOrder(Value.INVALID_VALUE_TIMESTAMP, 3L);
+        assertThat(getAllTimestamps(tableRef, OTHER_CELL)).isEmpty();
+        assertThat(kvs.get(tableRef, ImmutableMap.of(CELL, Long.MAX_VALUE)))
+                .hasEntrySatisfying(CELL, stored -> assertThat(stored.getContents()).isEqualTo(value(3L, valueSize)));
+    }
+
+    private static Stream<Object[]> tablesAndValueSizes() {
+        return Stream.of(
+                new Object[] {RAW_TABLE, 8},
+                new Object[] {OVERFLOW_TABLE, 8},
+                new Object[] {OVERFLOW_TABLE, AtlasDbConstants.ORACLE_OVERFLOW_THRESHOLD + 1});
+    }
+
+    /**
+     * Asserts the number of rows in the overflow table of an overflow table reference, which should hold one row per
+     * stored version whose value exceeds the overflow threshold.
+     */
+    private void assertOverflowRowCount(TableReference tableRef, int valueSize, long versionsStored)
+            throws TableMappingNotFoundException {
+        if (!tableRef.equals(OVERFLOW_TABLE)) {
+            return;
+        }
+        String overflowTable = tableNameGetter.getInternalShortOverflowTableName(connectionSupplier, tableRef);
+        long expectedRows = valueSize > AtlasDbConstants.ORACLE_OVERFLOW_THRESHOLD ? versionsStored : 0;
+        assertThat(connectionSupplier.get().selectCount(overflowTable)).isEqualTo(expectedRows);
+    }
+
+    private void putVersions(TableReference tableRef, Cell cell, int valueSize, long... timestamps) {
+        for (long ts : timestamps) {
+            kvs.put(tableRef, ImmutableMap.of(cell, value(ts, valueSize)), ts);
+        }
+    }
+
+    private List<Long> getAllTimestamps(TableReference tableRef, Cell cell) {
+        return List.copyOf(kvs.getAllTimestamps(tableRef, ImmutableSet.of(cell), Long.MAX_VALUE).get(cell));
+    }
+
+    private static byte[] value(long ts, int size) {
+        byte[] value = new byte[size];
+        value[0] = (byte) ts;
+        return value;
+    }
+
+    private static TimestampRangeDelete rangeDelete(long timestamp, boolean deleteSentinels) {
+        return new TimestampRangeDelete.Builder()
+                .timestamp(timestamp)
+                .endInclusive(false)
+                .deleteSentinels(deleteSentinels)
+                .build();
+    }
+
+    private static DbKeyValueServiceConfig getConfigWithArrayBoundDeletes() {
+        DbKeyValueServiceConfig config = DbKvsOracleExtension.getKvsConfig();
+        return ImmutableDbKeyValueServiceConfig.builder()
+                .from(config)
+                .ddl(ImmutableOracleDdlConfig.builder()
+                        .from((OracleDdlConfig) config.ddl())
+                        .arrayBoundDeletes(true)
+                        .build())
+                .build();
+    }
+}
@@ -18,6 +18,7 @@ package com.palantir.atlasdb.keyvalue.dbkvs;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.conjure.java.api.config.service.HumanReadableDuration;
 import com.palantir.logsafe.Preconditions;
 import org.immutables.value.Value;
 
@@ -59,6 +60,26 @@ public abstract class DdlConfig {
         return 256;
     }
 
+    /**
+     * If true, the number of rows or cells fetched by each query of a batched read, and the number of those queries
+     * run concurrently, are tuned separately for each table from the latency of its queries. They never exceed
+     * {@link #fetchBatchSize()} and the concurrency allowed by {@link #poolQosSize()} and {@link #poolSize()}.
+     * <p>
+     * Only reads on Postgres are batched, so this has no effect on Oracle.
+     */
+    @Value.Default
+    public boolean adaptiveFetchBatching() {
+        return false;
+    }
+
+    /**
+     * The latency that adaptive fetch batching sizes each query to complete within.
+     */
+    @Value.Default
+    public HumanReadableDuration adaptiveFetchTargetLatency() {
+        return HumanReadableDuration.milliseconds(100);
+    }
+
     @Value.Default
     public int mutationBatchCount() {
         return 1000;
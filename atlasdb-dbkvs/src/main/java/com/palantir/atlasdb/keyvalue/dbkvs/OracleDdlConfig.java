@@ -78,6 +78,15 @@ public abstract class OracleDdlConfig extends DdlConfig {
         return false;
     }
 
+    /**
+     * If true, cells are deleted with a single statement per batch that binds the cells as one array, rather than
+     * with a JDBC batch of single cell deletes. This also applies to the deletion of overflow values.
+     */
+    @Value.Default
+    public boolean arrayBoundDeletes() {
+        return false;
+    }
+
     @Value.Default
     public long compactionConnectionTimeout() {
         return Duration.ofHours(10).toMillis();
@@ -50,4 +50,22 @@ public abstract class PostgresDdlConfig extends DdlConfig {
     public HumanReadableDuration compactInterval() {
         return HumanReadableDuration.seconds(0);
     }
+
+    /**
+     * If greater than 1, forward range scans of whole tables, or with batch hints of at least a thousand rows, are
+     * split into chunks at row boundaries sampled from the table's statistics, and up to this many chunks are read
+     * concurrently, each on its own connection. This speeds up such scans at the cost of holding more connections
+     * while they run. Other range scans are read as if this were 1.
+     * <p>
+     * If 1 or less, range scans read one page at a time on a single connection.
+     */
+    @Value.Default
+    public int parallelRangeScanConcurrency() {
+        return 1;
+    }
+
+    @Value.Default
+    public PostgresLatestVersionStrategy latestVersionStrategy() {
+        return PostgresLatestVersionStrategy.GROUP_BY;
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs;
+
+/**
+ * Determines how reads of the latest version of cells are answered on Postgres.
+ */
+public enum PostgresLatestVersionStrategy {
+    /**
+     * Groups every visible version of each cell to find its latest timestamp, then joins back to the table to read the
+     * value. Cheapest when cells have few versions.
+     */
+    GROUP_BY,
+
+    /**
+     * Looks up the latest visible version of each cell with its own descending index lookup, skipping between the
+     * columns of a row when every column is read. Reads a single version of each cell however many older versions it
+     * has, so suits tables that accumulate versions faster than they are swept.
+     */
+    INDEX_LOOKUP,
+
+    /**
+     * Chooses between {@link #GROUP_BY} and {@link #INDEX_LOOKUP} for each table, based on the number of versions per
+     * cell at the start of the table, which is re-estimated hourly.
+     */
+    AUTO;
+}
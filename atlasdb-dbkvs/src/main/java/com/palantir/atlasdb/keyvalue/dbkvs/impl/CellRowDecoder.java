@@ -0,0 +1,103 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl;
+
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.nexus.db.sql.AgnosticLightResultRow;
+
+/**
+ * Reads cells, timestamps and values out of the rows of a streamed DbKvs query. Columns are looked up by name on the
+ * first row only and read by index from then on, and timestamps and overflow ids are read without boxing them.
+ * <p>
+ * A decoder holds the column indices of a single result set, so a new decoder must be created for each query.
+ */
+public final class CellRowDecoder {
+    /**
+     * Returned by {@link #getOverflowId} for values stored inline. Overflow ids are allocated from a positive
+     * sequence, so can never take this value.
+     */
+    public static final long NO_OVERFLOW = Long.MIN_VALUE;
+
+    private static final int UNRESOLVED = -1;
+    private static final String OVERFLOW = "overflow";
+
+    private final boolean hasOverflow;
+
+    private int rowColumn = UNRESOLVED;
+    private int colColumn = UNRESOLVED;
+    private int timestampColumn = UNRESOLVED;
+    private int valueColumn = UNRESOLVED;
+    private int overflowColumn = UNRESOLVED;
+
+    private CellRowDecoder(boolean hasOverflow) {
+        this.hasOverflow = hasOverflow;
+    }
+
+    public static CellRowDecoder create() {
+        return new CellRowDecoder(false);
+    }
+
+    public static CellRowDecoder create(DbReadTable table) {
+        return new CellRowDecoder(table.hasOverflowValues());
+    }
+
+    public byte[] getRowName(AgnosticLightResultRow row) {
+        if (rowColumn == UNRESOLVED) {
+            rowColumn = row.getColumnIndex(DbKvs.ROW);
+        }
+        return row.getBytesAt(rowColumn);
+    }
+
+    public byte[] getColumnName(AgnosticLightResultRow row) {
+        if (colColumn == UNRESOLVED) {
+            colColumn = row.getColumnIndex(DbKvs.COL);
+        }
+        return row.getBytesAt(colColumn);
+    }
+
+    public Cell getCell(AgnosticLightResultRow row) {
+        return Cell.create(getRowName(row), getColumnName(row));
+    }
+
+    public long getTimestamp(AgnosticLightResultRow row) {
+        if (timestampColumn == UNRESOLVED) {
+            timestampColumn = row.getColumnIndex(DbKvs.TIMESTAMP);
+        }
+        return row.getLongAt(timestampColumn);
+    }
+
+    public byte[] getValue(AgnosticLightResultRow row) {
+        if (valueColumn == UNRESOLVED) {
+            valueColumn = row.getColumnIndex(DbKvs.VAL);
+        }
+        return row.getBytesAt(valueColumn);
+    }
+
+    /**
+     * Returns the id of the overflow value holding the contents of this row, or {@link #NO_OVERFLOW} if the contents
+     * are stored inline.
+     */
+    public long getOverflowId(AgnosticLightResultRow row) {
+        if (!hasOverflow) {
+            return NO_OVERFLOW;
+        }
+        if (overflowColumn == UNRESOLVED) {
+            overflowColumn = row.getColumnIndex(OVERFLOW);
+        }
+        return row.getLongAt(overflowColumn, NO_OVERFLOW);
+    }
+}
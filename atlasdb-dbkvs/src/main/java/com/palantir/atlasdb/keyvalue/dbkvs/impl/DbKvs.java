@@ -15,6 +15,7 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl;
 
+import com.codahale.metrics.MetricRegistry;
 import com.google.common.base.Function;
 import com.google.common.base.Functions;
 import com.google.common.base.Stopwatch;
@@ -68,6 +69,7 @@ import com.palantir.atlasdb.keyvalue.dbkvs.OracleTableNameGetter;
 import com.palantir.atlasdb.keyvalue.dbkvs.OracleTableNameGetterImpl;
 import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.batch.AccumulatorStrategies;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.batch.AdaptiveParallelTaskRunner;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.batch.BatchingStrategies;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.batch.BatchingTaskRunner;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.batch.ImmediateSingleBatchTaskRunner;
@@ -79,8 +81,10 @@ import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.DbkvsVersionException;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresCellTsPageLoader;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresGetRange;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresPrefixedTableNames;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresRowBoundarySampler;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges.DbKvsGetRange;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges.DbKvsGetRanges;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges.ParallelChunkedGetRange;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.CellTsPairLoader;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.sweep.DbKvsGetCandidateCellsForSweeping;
 import com.palantir.atlasdb.keyvalue.dbkvs.util.DbKvsPartitioners;
@@ -91,6 +95,8 @@ import com.palantir.atlasdb.keyvalue.impl.LocalRowColumnRangeIterator;
 import com.palantir.atlasdb.logging.LoggingArgs;
 import com.palantir.atlasdb.spi.SharedResourcesConfig;
 import com.palantir.atlasdb.tracing.TraceStatistics;
+import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.atlasdb.util.MetricsManagers;
 import com.palantir.common.annotation.Output;
 import com.palantir.common.base.ClosableIterator;
 import com.palantir.common.base.ClosableIterators;
@@ -111,6 +117,7 @@ import com.palantir.nexus.db.sql.AgnosticResultRow;
 import com.palantir.nexus.db.sql.AgnosticResultSet;
 import com.palantir.nexus.db.sql.SqlConnection;
 import com.palantir.nylon.threads.ThreadNames;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
 import com.palantir.util.crypto.Sha256Hash;
 import com.palantir.util.paging.AbstractPagingIterable;
 import com.palantir.util.paging.SimpleTokenBackedResultsPage;
@@ -167,7 +174,19 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
 
     public static DbKeyValueService create(
             DbKeyValueServiceConfig config, SqlConnectionSupplier sqlConnSupplier, boolean initializeAsync) {
-        DbKvs dbKvs = createNoInit(config.ddl(), sqlConnSupplier, config.sharedResourcesConfig());
+        return create(
+                config,
+                sqlConnSupplier,
+                initializeAsync,
+                MetricsManagers.of(new MetricRegistry(), new DefaultTaggedMetricRegistry()));
+    }
+
+    public static DbKeyValueService create(
+            DbKeyValueServiceConfig config,
+            SqlConnectionSupplier sqlConnSupplier,
+            boolean initializeAsync,
+            MetricsManager metricsManager) {
+        DbKvs dbKvs = createNoInit(config.ddl(), sqlConnSupplier, config.sharedResourcesConfig(), metricsManager);
         dbKvs.wrapper.initialize(initializeAsync);
         return dbKvs.wrapper.isInitialized() ? dbKvs : dbKvs.wrapper;
     }
@@ -181,6 +200,18 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
             DdlConfig config,
             SqlConnectionSupplier connections,
             Optional<SharedResourcesConfig> sharedResourcesConfig) {
+        return createNoInit(
+                config,
+                connections,
+                sharedResourcesConfig,
+                MetricsManagers.of(new MetricRegistry(), new DefaultTaggedMetricRegistry()));
+    }
+
+    public static DbKvs createNoInit(
+            DdlConfig config,
+            SqlConnectionSupplier connections,
+            Optional<SharedResourcesConfig> sharedResourcesConfig,
+            MetricsManager metricsManager) {
         ExecutorService executor = SharedFixedExecutors.createOrGetShared(
                 "Atlas Relational KVS",
                 config.poolSize(),
@@ -188,14 +219,14 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         return config.accept(new DdlConfig.Visitor<>() {
             @Override
             public DbKvs visit(PostgresDdlConfig postgresDdlConfig) {
-                return createPostgres(executor, postgresDdlConfig, connections);
+                return createPostgres(executor, postgresDdlConfig, connections, metricsManager);
             }
 
             @Override
             public DbKvs visit(H2DdlConfig h2DdlConfig) {
                 PostgresDdlConfig postgresDdlConfig =
                         ImmutablePostgresDdlConfig.builder().from(h2DdlConfig).build();
-                return createPostgres(executor, postgresDdlConfig, connections);
+                return createPostgres(executor, postgresDdlConfig, connections, metricsManager);
             }
 
             @Override
@@ -206,20 +237,29 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     }
 
     private static DbKvs createPostgres(
-            ExecutorService executor, PostgresDdlConfig config, SqlConnectionSupplier connections) {
+            ExecutorService executor,
+            PostgresDdlConfig config,
+            SqlConnectionSupplier connections,
+            MetricsManager metricsManager) {
         PostgresPrefixedTableNames prefixedTableNames = new PostgresPrefixedTableNames(config);
         DbTableFactory tableFactory = new PostgresDbTableFactory(config, prefixedTableNames);
         TableMetadataCache tableMetadataCache = new TableMetadataCache(tableFactory);
         CellTsPairLoader cellTsPairLoader = new PostgresCellTsPageLoader(prefixedTableNames, connections);
+        DbKvsGetRange getRange = new PostgresGetRange(prefixedTableNames, connections, tableMetadataCache);
+        if (config.parallelRangeScanConcurrency() > 1) {
+            getRange = ParallelChunkedGetRange.create(
+                    getRange,
+                    new PostgresRowBoundarySampler(prefixedTableNames, connections),
+                    config.parallelRangeScanConcurrency());
+        }
         return new DbKvs(
                 executor,
                 config,
                 tableFactory,
                 connections,
-                new ParallelTaskRunner(
-                        newFixedThreadPool(config.poolSize()), config.fetchBatchSize(), config.poolQosSize()),
+                createBatchingQueryRunner(config, metricsManager),
                 (conns, tbl, ids) -> Collections.emptyMap(), // no overflow on postgres
-                new PostgresGetRange(prefixedTableNames, connections, tableMetadataCache),
+                getRange,
                 new DbKvsGetCandidateCellsForSweeping(cellTsPairLoader));
     }
 
@@ -276,6 +316,19 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         this.getCandidateCellsForSweepingStrategy = getCandidateCellsForSweepingStrategy;
     }
 
+    private static BatchingTaskRunner createBatchingQueryRunner(DdlConfig config, MetricsManager metricsManager) {
+        if (!config.adaptiveFetchBatching()) {
+            return new ParallelTaskRunner(
+                    newFixedThreadPool(config.poolSize()), config.fetchBatchSize(), config.poolQosSize());
+        }
+        return new AdaptiveParallelTaskRunner(
+                newFixedThreadPool(config.poolSize()),
+                metricsManager,
+                config.fetchBatchSize(),
+                config.poolQosSize() > 0 ? Math.min(config.poolQosSize(), config.poolSize()) : config.poolSize(),
+                config.adaptiveFetchTargetLatency().toJavaDuration());
+    }
+
     private static ExecutorService newFixedThreadPool(int maxPoolSize) {
         return PTExecutors.newFixedThreadPool(maxPoolSize, "Atlas DbKvs reader");
     }
@@ -310,6 +363,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         dbTables.close();
         connections.close();
         batchingQueryRunner.close();
+        getRangeStrategy.close();
     }
 
     @Override
@@ -321,6 +375,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     @Override
     public Map<Cell, Value> get(TableReference tableRef, Map<Cell, Long> timestampByCell) {
         return batchingQueryRunner.runTask(
+                tableRef,
                 timestampByCell,
                 BatchingStrategies.forMap(),
                 AccumulatorStrategies.forMap(),
@@ -330,6 +385,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     private Map<Cell, Value> getRowsBatching(
             TableReference tableRef, Iterable<byte[]> rows, ColumnSelection columnSelection, long timestamp) {
         return batchingQueryRunner.runTask(
+                tableRef,
                 rows,
                 BatchingStrategies.forIterable(),
                 AccumulatorStrategies.forMap(),
@@ -342,23 +398,22 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         return runRead(tableRef, table -> extractResults(table, tableRef, query.apply(table)));
     }
 
-    @SuppressWarnings("deprecation")
     private Map<Cell, Value> extractResults(
             DbReadTable table, TableReference tableRef, ClosableIterator<AgnosticLightResultRow> rows) {
         Map<Cell, Value> results = new HashMap<>();
         Map<Cell, OverflowValue> overflowResults = new HashMap<>();
         try (ClosableIterator<AgnosticLightResultRow> iter = rows) {
-            boolean hasOverflow = table.hasOverflowValues();
+            CellRowDecoder decoder = CellRowDecoder.create(table);
             while (iter.hasNext()) {
                 AgnosticLightResultRow row = iter.next();
-                Cell cell = Cell.create(row.getBytes(ROW), row.getBytes(COL));
+                Cell cell = decoder.getCell(row);
 
                 TraceStatistics.incBytesRead(cell.getRowName().length);
                 TraceStatistics.incBytesRead(cell.getColumnName().length);
 
-                Long overflowId = hasOverflow ? row.getLongObject("overflow") : null;
-                if (overflowId == null) {
-                    Value value = Value.create(row.getBytes(VAL), row.getLong(TIMESTAMP));
+                long overflowId = decoder.getOverflowId(row);
+                if (overflowId == CellRowDecoder.NO_OVERFLOW) {
+                    Value value = Value.create(decoder.getValue(row), decoder.getTimestamp(row));
 
                     TraceStatistics.incBytesRead(value.getContents().length);
 
@@ -371,7 +426,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
                     // just pulls a pointer out of the DB (two longs)
                     TraceStatistics.incBytesRead(2 * 8);
 
-                    OverflowValue ov = ImmutableOverflowValue.of(row.getLong(TIMESTAMP), overflowId);
+                    OverflowValue ov = ImmutableOverflowValue.of(decoder.getTimestamp(row), overflowId);
                     OverflowValue oldOv = overflowResults.put(cell, ov);
                     if (oldOv != null && oldOv.ts() > ov.ts()) {
                         overflowResults.put(cell, oldOv);
@@ -386,6 +441,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     @Override
     public Map<Cell, Long> getLatestTimestamps(TableReference tableRef, Map<Cell, Long> timestampByCell) {
         return batchingQueryRunner.runTask(
+                tableRef,
                 timestampByCell,
                 BatchingStrategies.forMap(),
                 AccumulatorStrategies.forMap(),
@@ -395,10 +451,11 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     private static Map<Cell, Long> doGetLatestTimestamps(DbReadTable table, Map<Cell, Long> timestampByCell) {
         try (ClosableIterator<AgnosticLightResultRow> iter = table.getLatestCells(timestampByCell, false)) {
             Map<Cell, Long> results = new HashMap<>();
+            CellRowDecoder decoder = CellRowDecoder.create();
             while (iter.hasNext()) {
                 AgnosticLightResultRow row = iter.next();
-                Cell cell = Cell.create(row.getBytes(ROW), row.getBytes(COL));
-                long ts = row.getLong(TIMESTAMP);
+                Cell cell = decoder.getCell(row);
+                long ts = decoder.getTimestamp(row);
                 Long oldTs = results.put(cell, ts);
                 if (oldTs != null && oldTs > ts) {
                     results.put(cell, oldTs);
@@ -656,7 +713,11 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     @Override
     public ClosableIterator<RowResult<Value>> getRange(
             TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
-        return ClosableIterators.wrapWithEmptyClose(getRangeStrategy.getRange(tableRef, rangeRequest, timestamp));
+        Iterator<RowResult<Value>> range = getRangeStrategy.getRange(tableRef, rangeRequest, timestamp);
+        if (range instanceof ClosableIterator) {
+            return (ClosableIterator<RowResult<Value>>) range;
+        }
+        return ClosableIterators.wrapWithEmptyClose(range);
     }
 
     public void setMaxRangeOfTimestampsBatchSize(long newValue) {
@@ -760,8 +821,9 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
         int maxRows = getMaxRowsFromBatchHint(range.getBatchHint());
 
         try (ClosableIterator<AgnosticLightResultRow> rangeResults = table.getRange(range, timestamp, maxRows)) {
+            CellRowDecoder decoder = CellRowDecoder.create();
             while (rows.size() < maxRows && rangeResults.hasNext()) {
-                byte[] rowName = rangeResults.next().getBytes(ROW);
+                byte[] rowName = decoder.getRowName(rangeResults.next());
                 if (rowName != null) {
                     rows.add(rowName);
                 }
@@ -1002,6 +1064,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     private Map<byte[], List<Map.Entry<Cell, Value>>> extractRowColumnRangePage(
             TableReference tableRef, Map<byte[], BatchColumnRangeSelection> columnRangeSelection, long ts) {
         return batchingQueryRunner.runTask(
+                tableRef,
                 columnRangeSelection,
                 BatchingStrategies.forMap(),
                 AccumulatorStrategies.forMap(),
@@ -1014,6 +1077,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     private Map<byte[], List<Map.Entry<Cell, Value>>> extractRowColumnRangePage(
             TableReference tableRef, RowsColumnRangeBatchRequest rowsColumnRangeBatch, long ts) {
         return batchingQueryRunner.runTask(
+                tableRef,
                 rowsColumnRangeBatch,
                 RowsColumnRangeBatchRequests::partition,
                 AccumulatorStrategies.forMap(),
@@ -1039,25 +1103,25 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
             cellsByRow.put(rowHash, new ArrayList<>());
         }
 
-        boolean hasOverflow = table.hasOverflowValues();
         Map<Cell, Value> values = new HashMap<>();
         Map<Cell, OverflowValue> overflowValues = new HashMap<>();
 
         try (ClosableIterator<AgnosticLightResultRow> iter = rowLoader.get()) {
+            CellRowDecoder decoder = CellRowDecoder.create(table);
             while (iter.hasNext()) {
                 AgnosticLightResultRow row = iter.next();
-                Cell cell = Cell.create(row.getBytes(ROW), row.getBytes(COL));
+                Cell cell = decoder.getCell(row);
                 Sha256Hash rowHash = Sha256Hash.computeHash(cell.getRowName());
                 cellsByRow.get(rowHash).add(cell);
-                Long overflowId = hasOverflow ? row.getLongObject("overflow") : null;
-                if (overflowId == null) {
-                    Value value = Value.create(row.getBytes(VAL), row.getLong(TIMESTAMP));
+                long overflowId = decoder.getOverflowId(row);
+                if (overflowId == CellRowDecoder.NO_OVERFLOW) {
+                    Value value = Value.create(decoder.getValue(row), decoder.getTimestamp(row));
                     Value oldValue = values.put(cell, value);
                     if (oldValue != null && oldValue.getTimestamp() > value.getTimestamp()) {
                         values.put(cell, oldValue);
                     }
                 } else {
-                    OverflowValue ov = ImmutableOverflowValue.of(row.getLong(TIMESTAMP), overflowId);
+                    OverflowValue ov = ImmutableOverflowValue.of(decoder.getTimestamp(row), overflowId);
                     OverflowValue oldOv = overflowValues.put(cell, ov);
                     if (oldOv != null && oldOv.ts() > ov.ts()) {
                         overflowValues.put(cell, oldOv);
@@ -1118,6 +1182,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     private Map<Sha256Hash, Integer> getColumnCounts(
             TableReference tableRef, List<byte[]> rowList, ColumnRangeSelection columnRangeSelection, long timestamp) {
         Map<Sha256Hash, Integer> countsByRow = batchingQueryRunner.runTask(
+                tableRef,
                 rowList,
                 BatchingStrategies.forList(),
                 AccumulatorStrategies.forMap(),
@@ -1224,6 +1289,7 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     @Override
     public Multimap<Cell, Long> getAllTimestamps(TableReference tableRef, Set<Cell> cells, long timestamp) {
         return batchingQueryRunner.runTask(
+                tableRef,
                 cells,
                 BatchingStrategies.forIterable(),
                 AccumulatorStrategies.forListMultimap(),
@@ -1233,11 +1299,10 @@ public final class DbKvs extends AbstractKeyValueService implements DbKeyValueSe
     private static Multimap<Cell, Long> doGetAllTimestamps(DbReadTable table, Iterable<Cell> cells, long timestamp) {
         try (ClosableIterator<AgnosticLightResultRow> iter = table.getAllCells(cells, timestamp, false)) {
             Multimap<Cell, Long> results = ArrayListMultimap.create();
+            CellRowDecoder decoder = CellRowDecoder.create();
             while (iter.hasNext()) {
                 AgnosticLightResultRow row = iter.next();
-                Cell cell = Cell.create(row.getBytes(ROW), row.getBytes(COL));
-                long ts = row.getLong(TIMESTAMP);
-                results.put(cell, ts);
+                results.put(decoder.getCell(row), decoder.getTimestamp(row));
             }
             return results;
         }
@@ -18,6 +18,7 @@ package com.palantir.atlasdb.keyvalue.dbkvs.impl;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
 import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresDdlTable;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresLatestVersionStrategyCache;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresPrefixedTableNames;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresQueryFactory;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres.PostgresTableInitializer;
@@ -28,10 +29,12 @@ public class PostgresDbTableFactory implements DbTableFactory {
 
     private final PostgresDdlConfig config;
     private final PostgresPrefixedTableNames prefixedTableNames;
+    private final PostgresLatestVersionStrategyCache latestVersionStrategies;
 
     public PostgresDbTableFactory(PostgresDdlConfig config, PostgresPrefixedTableNames prefixedTableNames) {
         this.config = config;
         this.prefixedTableNames = prefixedTableNames;
+        this.latestVersionStrategies = new PostgresLatestVersionStrategyCache(config);
     }
 
     @Override
@@ -51,7 +54,12 @@ public class PostgresDbTableFactory implements DbTableFactory {
 
     @Override
     public DbReadTable createRead(TableReference tableRef, ConnectionSupplier conns) {
-        return new DbReadTable(conns, new PostgresQueryFactory(DbKvs.internalTableName(tableRef), config));
+        return new DbReadTable(
+                conns,
+                new PostgresQueryFactory(
+                        DbKvs.internalTableName(tableRef),
+                        config,
+                        latestVersionStrategies.getStrategy(conns, tableRef)));
     }
 
     @Override
@@ -25,14 +25,19 @@ import com.palantir.nexus.db.sql.ConnectionBackedSqlConnectionImpl;
 import com.palantir.nexus.db.sql.SQL;
 import com.palantir.nexus.db.sql.SqlConnection;
 import com.palantir.nexus.db.sql.SqlConnectionHelper;
+import com.palantir.nexus.db.sql.SqlExecutionMode;
 
 public final class SimpleTimedSqlConnectionSupplier implements SqlConnectionSupplier {
     private final ConnectionSupplier connectionSupplier;
     private final SQL sql;
 
     public SimpleTimedSqlConnectionSupplier(ConnectionSupplier connectionSupplier) {
+        this(connectionSupplier, SqlExecutionMode.EXECUTOR);
+    }
+
+    public SimpleTimedSqlConnectionSupplier(ConnectionSupplier connectionSupplier, SqlExecutionMode executionMode) {
         this.connectionSupplier = connectionSupplier;
-        this.sql = new SimpleSql();
+        this.sql = new SimpleSql(executionMode);
     }
 
     @Override
@@ -51,6 +56,12 @@ public final class SimpleTimedSqlConnectionSupplier implements SqlConnectionSupp
     }
 
     private static final class SimpleSql extends SQL {
+        private final SqlExecutionMode executionMode;
+
+        private SimpleSql(SqlExecutionMode executionMode) {
+            this.executionMode = executionMode;
+        }
+
         @Override
         protected SqlConfig getSqlConfig() {
             return new SqlConfig() {
@@ -64,6 +75,11 @@ public final class SimpleTimedSqlConnectionSupplier implements SqlConnectionSupp
                     return SqlTimers.createCombinedSqlTimer(getSqlTimers());
                 }
 
+                @Override
+                public SqlExecutionMode getSqlExecutionMode() {
+                    return executionMode;
+                }
+
                 private Iterable<SqlTimer> getSqlTimers() {
                     return ImmutableList.of(SqlTimers.createDurationSqlTimer(), SqlTimers.createSqlStatsSqlTimer());
                 }
@@ -0,0 +1,98 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.batch;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.time.Duration;
+
+/**
+ * Tunes the size of batches, and the number of batches run concurrently, for the queries of a single table, using
+ * additive increase and multiplicative decrease.
+ * <p>
+ * Batches grow additively while full batches complete within the target latency, and halve as soon as a batch does
+ * not, so wide tables converge on small batches and narrow tables on large ones. Concurrency grows by one while the
+ * latency per item of full batches stays within twice the lowest recently observed, and halves once it exceeds that,
+ * since queries then appear to be queuing in the database rather than being slowed by their own size.
+ */
+final class AdaptiveBatchController {
+    @VisibleForTesting
+    static final double SATURATION_LATENCY_RATIO = 2.0;
+
+    /**
+     * The lowest observed latency per item creeps up by this factor on every full batch, so that it recovers after
+     * the database slows down permanently.
+     */
+    private static final double MIN_LATENCY_DRIFT = 1.01;
+
+    private final int maxBatchSize;
+    private final int maxConcurrency;
+    private final long targetLatencyNanos;
+    private final int batchSizeIncrease;
+
+    private int batchSize;
+    private int concurrency;
+    private double minNanosPerItem = Double.MAX_VALUE;
+
+    AdaptiveBatchController(int maxBatchSize, int maxConcurrency, Duration targetLatency) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrency = maxConcurrency;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.batchSizeIncrease = Math.max(1, maxBatchSize / 16);
+        this.batchSize = maxBatchSize;
+        this.concurrency = maxConcurrency;
+    }
+
+    synchronized int getBatchSize() {
+        return batchSize;
+    }
+
+    synchronized int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Records a completed query.
+     *
+     * @param queryBatchSize the batch size the query was partitioned with
+     * @param queryConcurrency the concurrency the query was run with
+     * @param fullBatch whether the query held a full batch, rather than the remainder of its input
+     * @param latencyNanos how long the query took
+     */
+    synchronized void recordQuery(int queryBatchSize, int queryConcurrency, boolean fullBatch, long latencyNanos) {
+        if (latencyNanos > targetLatencyNanos) {
+            // batches partitioned before an earlier decrease should not decrease the batch size again
+            if (queryBatchSize <= batchSize) {
+                batchSize = Math.max(1, batchSize / 2);
+            }
+        } else if (fullBatch && queryBatchSize >= batchSize) {
+            batchSize = Math.min(maxBatchSize, batchSize + batchSizeIncrease);
+        }
+
+        if (!fullBatch) {
+            return;
+        }
+        double nanosPerItem = (double) latencyNanos / queryBatchSize;
+        minNanosPerItem = Math.min(minNanosPerItem * MIN_LATENCY_DRIFT, nanosPerItem);
+        if (nanosPerItem > minNanosPerItem * SATURATION_LATENCY_RATIO) {
+            if (queryConcurrency <= concurrency) {
+                concurrency = Math.max(1, concurrency / 2);
+            }
+        } else {
+            concurrency = Math.min(maxConcurrency, concurrency + 1);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.batch;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.common.concurrent.BlockingWorkerPool;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * A {@link BatchingTaskRunner} that, like {@link ParallelTaskRunner}, runs batches in parallel, but whose batch size
+ * and concurrency are tuned for each table by an {@link AdaptiveBatchController}, from the latency of the table's
+ * queries. The current values are published as the {@code batchSize} and {@code concurrency} gauges, tagged by table.
+ * At most {@link #MAX_TRACKED_TABLES} tables are tuned individually; any further tables share a single controller.
+ */
+public class AdaptiveParallelTaskRunner implements BatchingTaskRunner {
+    @VisibleForTesting
+    static final int MAX_TRACKED_TABLES = 1_000;
+
+    private final ExecutorService executor;
+    private final MetricsManager metricsManager;
+    private final int maxBatchSize;
+    private final int maxConcurrency;
+    private final Duration targetLatency;
+    private final AdaptiveBatchController untrackedController;
+    private final Map<TableReference, AdaptiveBatchController> controllers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs an AdaptiveParallelTaskRunner.
+     *
+     * @param executor the ExecutorService to use for running tasks
+     * @param metricsManager where to publish the batch size and concurrency of each table
+     * @param maxBatchSize the largest batchSize to pass into the {@link BatchingStrategy}, which is also the batch size
+     *                     each table starts with
+     * @param maxConcurrency the largest number of concurrent tasks that may run spawning from a single thread, which is
+     *                       also the concurrency each table starts with
+     * @param targetLatency the latency each task should complete within
+     */
+    public AdaptiveParallelTaskRunner(
+            ExecutorService executor,
+            MetricsManager metricsManager,
+            int maxBatchSize,
+            int maxConcurrency,
+            Duration targetLatency) {
+        this.executor = executor;
+        this.metricsManager = metricsManager;
+        this.maxBatchSize = maxBatchSize;
+        this.maxConcurrency = maxConcurrency;
+        this.targetLatency = targetLatency;
+        this.untrackedController = new AdaptiveBatchController(maxBatchSize, maxConcurrency, targetLatency);
+    }
+
+    @Override
+    public <InT, OutT> OutT runTask(
+            InT input,
+            BatchingStrategy<InT> batchingStrategy,
+            ResultAccumulatorStrategy<OutT> resultAccumulatingStrategy,
+            Function<InT, OutT> task) {
+        return runTask(untrackedController, input, batchingStrategy, resultAccumulatingStrategy, task);
+    }
+
+    @Override
+    public <InT, OutT> OutT runTask(
+            TableReference tableRef,
+            InT input,
+            BatchingStrategy<InT> batchingStrategy,
+            ResultAccumulatorStrategy<OutT> resultAccumulatingStrategy,
+            Function<InT, OutT> task) {
+        return runTask(getController(tableRef), input, batchingStrategy, resultAccumulatingStrategy, task);
+    }
+
+    private <InT, OutT> OutT runTask(
+            AdaptiveBatchController controller,
+            InT input,
+            BatchingStrategy<InT> batchingStrategy,
+            ResultAccumulatorStrategy<OutT> resultAccumulatingStrategy,
+            Function<InT, OutT> task) {
+        int batchSize = controller.getBatchSize();
+        int concurrency = controller.getConcurrency();
+        Iterator<? extends InT> batches =
+                batchingStrategy.partitionIntoBatches(input, batchSize).iterator();
+        List<Future<OutT>> futures = new ArrayList<>();
+        BlockingWorkerPool<OutT> pool = new BlockingWorkerPool<>(executor, concurrency);
+        while (batches.hasNext()) {
+            InT batch = batches.next();
+            // only the last batch may be partially filled
+            boolean fullBatch = batches.hasNext();
+            Future<OutT> future = pool.submitCallableUnchecked(() -> {
+                long start = System.nanoTime();
+                OutT batchResult = task.apply(batch);
+                controller.recordQuery(batchSize, concurrency, fullBatch, System.nanoTime() - start);
+                return batchResult;
+            });
+            futures.add(future);
+        }
+        OutT result = resultAccumulatingStrategy.createEmptyResult();
+        for (Future<OutT> future : futures) {
+            OutT batchResult = getFutureUnchecked(future);
+            resultAccumulatingStrategy.accumulateResult(result, batchResult);
+        }
+        return result;
+    }
+
+    private AdaptiveBatchController getController(TableReference tableRef) {
+        AdaptiveBatchController controller = controllers.get(tableRef);
+        if (controller != null) {
+            return controller;
+        }
+        // Bounds the controllers, and the gauges registered for them, when many tables are in use; the check races
+        // with concurrent insertions, so the limit may be exceeded by at most the number of concurrent callers.
+        if (controllers.size() >= MAX_TRACKED_TABLES) {
+            return untrackedController;
+        }
+        return controllers.computeIfAbsent(tableRef, this::createController);
+    }
+
+    private AdaptiveBatchController createController(TableReference tableRef) {
+        AdaptiveBatchController controller = new AdaptiveBatchController(maxBatchSize, maxConcurrency, targetLatency);
+        Map<String, String> tag = metricsManager.getTableNameTagFor(tableRef);
+        metricsManager.registerOrGet(
+                AdaptiveParallelTaskRunner.class, "batchSize", (Gauge<Integer>) controller::getBatchSize, tag);
+        metricsManager.registerOrGet(
+                AdaptiveParallelTaskRunner.class, "concurrency", (Gauge<Integer>) controller::getConcurrency, tag);
+        return controller;
+    }
+
+    private static <T> T getFutureUnchecked(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw Throwables.propagate(e);
+        } catch (ExecutionException e) {
+            throw Throwables.propagate(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
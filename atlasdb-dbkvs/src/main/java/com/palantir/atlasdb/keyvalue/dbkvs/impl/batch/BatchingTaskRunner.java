@@ -15,6 +15,7 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.batch;
 
+import com.palantir.atlasdb.keyvalue.api.TableReference;
 import java.io.Closeable;
 import java.util.function.Function;
 
@@ -36,6 +37,19 @@ public interface BatchingTaskRunner extends Closeable {
             ResultAccumulatorStrategy<OutT> resultAccumulatingStrategy,
             Function<InT, OutT> task);
 
+    /**
+     * As {@link #runTask(Object, BatchingStrategy, ResultAccumulatorStrategy, Function)}, for a task that queries the
+     * given table, which runners may use to batch queries of different tables differently.
+     */
+    default <InT, OutT> OutT runTask(
+            TableReference tableRef,
+            InT input,
+            BatchingStrategy<InT> batchingStrategy,
+            ResultAccumulatorStrategy<OutT> resultAccumulatingStrategy,
+            Function<InT, OutT> task) {
+        return runTask(input, batchingStrategy, resultAccumulatingStrategy, task);
+    }
+
     @Override
     void close();
 }
@@ -0,0 +1,160 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle;
+
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.TimestampRangeDelete;
+import com.palantir.atlasdb.keyvalue.dbkvs.OracleDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
+import com.palantir.db.oracle.JdbcHandler.ArrayHandler;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Deletes cells from Oracle tables with a single statement per batch, binding the cells of the batch as one array of
+ * CELL_TS structs. Oracle executes the statement once for the whole batch, instead of once per cell as for a JDBC
+ * batch of single cell deletes.
+ */
+final class OracleArrayBoundDeletes {
+    private final OracleDdlConfig config;
+    private final ConnectionSupplier conns;
+
+    OracleArrayBoundDeletes(OracleDdlConfig config, ConnectionSupplier conns) {
+        this.config = config;
+        this.conns = conns;
+    }
+
+    void delete(String shortTableName, List<Map.Entry<Cell, Long>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        conns.get()
+                .updateUnregisteredQuery(
+                        " /* DELETE_ONE_ARRAY (" + shortTableName + ") */ "
+                                + " DELETE /*+ INDEX(m " + PrimaryKeyConstraintNames.get(shortTableName) + ") */ "
+                                + " FROM " + shortTableName + " m "
+                                + " WHERE (m.row_name, m.col_name, m.ts) IN ("
+                                + "   SELECT /*+ CARDINALITY(t 1) */ t.row_name, t.col_name, t.max_ts "
+                                + "   FROM TABLE(CAST(? AS " + structArrayPrefix() + "CELL_TS_TABLE)) t)",
+                        cellsAndTimestampsToOracleArray(entries));
+    }
+
+    /**
+     * Deletes the overflow values referenced by the given cells. Must be called before the cells themselves are
+     * deleted from the short table.
+     */
+    void deleteOverflow(String overflowTable, String shortTableName, List<Map.Entry<Cell, Long>> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        conns.get()
+                .updateUnregisteredQuery(
+                        "/* DELETE_ONE_OVERFLOW_ARRAY (" + overflowTable + ") */"
+                                + " DELETE /*+ INDEX(m " + PrimaryKeyConstraintNames.get(overflowTable) + ") */"
+                                + " FROM " + overflowTable + " m"
+                                + " WHERE m.id IN ("
+                                + "   SELECT /*+ USE_NL(t i) LEADING(t i) CARDINALITY(t 1) INDEX(i "
+                                + PrimaryKeyConstraintNames.get(shortTableName) + ") */"
+                                + "     i.overflow"
+                                + "   FROM " + shortTableName + " i,"
+                                + "     TABLE(CAST(? AS " + structArrayPrefix() + "CELL_TS_TABLE)) t"
+                                + "   WHERE i.row_name = t.row_name"
+                                + "     AND i.col_name = t.col_name"
+                                + "     AND i.ts = t.max_ts"
+                                + "     AND i.overflow IS NOT NULL)",
+                        cellsAndTimestampsToOracleArray(entries));
+    }
+
+    void deleteAllTimestamps(String shortTableName, Map<Cell, TimestampRangeDelete> deletes) {
+        groupByMinTimestamp(deletes).forEach((minTs, cells) -> conns.get()
+                .updateUnregisteredQuery(
+                        " /* DELETE_ALL_TS_ARRAY (" + shortTableName + ") */ "
+                                + " DELETE /*+ INDEX(m " + PrimaryKeyConstraintNames.get(shortTableName) + ") */ "
+                                + " FROM " + shortTableName + " m "
+                                + " WHERE (m.row_name, m.col_name, m.ts) IN ("
+                                + "   SELECT /*+ USE_NL(t i) LEADING(t i) CARDINALITY(t 1) INDEX(i "
+                                + PrimaryKeyConstraintNames.get(shortTableName) + ") */"
+                                + "     i.row_name, i.col_name, i.ts"
+                                + "   FROM " + shortTableName + " i,"
+                                + "     TABLE(CAST(? AS " + structArrayPrefix() + "CELL_TS_TABLE)) t"
+                                + "   WHERE i.row_name = t.row_name"
+                                + "     AND i.col_name = t.col_name"
+                                + "     AND i.ts >= ?"
+                                + "     AND i.ts <= t.max_ts)",
+                        toOracleArray(cells),
+                        minTs));
+    }
+
+    /**
+     * Deletes the overflow values referenced by the given ranges of cells. Must be called before the cells themselves
+     * are deleted from the short table.
+     */
+    void deleteAllTimestampsOverflow(
+            String overflowTable, String shortTableName, Map<Cell, TimestampRangeDelete> deletes) {
+        groupByMinTimestamp(deletes).forEach((minTs, cells) -> conns.get()
+                .updateUnregisteredQuery(
+                        "/* DELETE_ALL_TS_OVERFLOW_ARRAY (" + overflowTable + ") */"
+                                + " DELETE /*+ INDEX(m " + PrimaryKeyConstraintNames.get(overflowTable) + ") */"
+                                + " FROM " + overflowTable + " m"
+                                + " WHERE m.id IN ("
+                                + "   SELECT /*+ USE_NL(t i) LEADING(t i) CARDINALITY(t 1) INDEX(i "
+                                + PrimaryKeyConstraintNames.get(shortTableName) + ") */"
+                                + "     i.overflow"
+                                + "   FROM " + shortTableName + " i,"
+                                + "     TABLE(CAST(? AS " + structArrayPrefix() + "CELL_TS_TABLE)) t"
+                                + "   WHERE i.row_name = t.row_name"
+                                + "     AND i.col_name = t.col_name"
+                                + "     AND i.ts >= ?"
+                                + "     AND i.ts <= t.max_ts"
+                                + "     AND i.overflow IS NOT NULL)",
+                        toOracleArray(cells),
+                        minTs));
+    }
+
+    /**
+     * CELL_TS structs only hold a single timestamp, so the lower bound of each range is bound separately. Only a
+     * couple of distinct lower bounds are used in practice, depending on whether sentinels are deleted.
+     */
+    private static Map<Long, List<Object[]>> groupByMinTimestamp(Map<Cell, TimestampRangeDelete> deletes) {
+        Map<Long, List<Object[]>> cellsByMinTimestamp = new TreeMap<>();
+        deletes.forEach((cell, range) -> cellsByMinTimestamp
+                .computeIfAbsent(range.minTimestampToDelete(), unused -> new ArrayList<>())
+                .add(new Object[] {cell.getRowName(), cell.getColumnName(), range.maxTimestampToDelete()}));
+        return cellsByMinTimestamp;
+    }
+
+    private ArrayHandler cellsAndTimestampsToOracleArray(List<Map.Entry<Cell, Long>> entries) {
+        List<Object[]> oraRows = new ArrayList<>(entries.size());
+        for (Map.Entry<Cell, Long> entry : entries) {
+            Cell cell = entry.getKey();
+            oraRows.add(new Object[] {cell.getRowName(), cell.getColumnName(), entry.getValue()});
+        }
+        return toOracleArray(oraRows);
+    }
+
+    private ArrayHandler toOracleArray(List<Object[]> oraRows) {
+        return config.jdbcHandler()
+                .createStructArray(structArrayPrefix() + "CELL_TS", structArrayPrefix() + "CELL_TS_TABLE", oraRows);
+    }
+
+    private String structArrayPrefix() {
+        return config.tablePrefix().toUpperCase(Locale.ROOT);
+    }
+}
@@ -17,6 +17,7 @@ package com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Ordering;
 import com.palantir.atlasdb.AtlasDbConstants;
@@ -57,6 +58,7 @@ public final class OracleOverflowWriteTable implements DbWriteTable {
     private final OracleTableNameGetter oracleTableNameGetter;
     private final OraclePrefixedTableNames oraclePrefixedTableNames;
     private final TableReference tableRef;
+    private final OracleArrayBoundDeletes arrayBoundDeletes;
 
     private OracleOverflowWriteTable(
             OracleDdlConfig config,
@@ -71,6 +73,7 @@ public final class OracleOverflowWriteTable implements DbWriteTable {
         this.oracleTableNameGetter = oracleTableNameGetter;
         this.oraclePrefixedTableNames = oraclePrefixedTableNames;
         this.tableRef = tableRef;
+        this.arrayBoundDeletes = new OracleArrayBoundDeletes(config, conns);
     }
 
     public static OracleOverflowWriteTable create(
@@ -215,27 +218,21 @@ public final class OracleOverflowWriteTable implements DbWriteTable {
 
     @Override
     public void delete(List<Map.Entry<Cell, Long>> entries) {
+        if (config.arrayBoundDeletes()) {
+            String shortTableName = oraclePrefixedTableNames.get(tableRef, conns);
+            for (String overflowTable : getOverflowTablesToDeleteFrom()) {
+                arrayBoundDeletes.deleteOverflow(overflowTable, shortTableName, entries);
+            }
+            arrayBoundDeletes.delete(shortTableName, entries);
+            return;
+        }
         List<Object[]> args = new ArrayList<>(entries.size());
         for (Map.Entry<Cell, Long> entry : entries) {
             Cell cell = entry.getKey();
             args.add(new Object[] {cell.getRowName(), cell.getColumnName(), entry.getValue()});
         }
-        switch (config.overflowMigrationState()) {
-            case UNSTARTED:
-                deleteOverflow(config.singleOverflowTable(), args);
-                break;
-            case IN_PROGRESS:
-                deleteOverflow(config.singleOverflowTable(), args);
-                deleteOverflow(getShortOverflowTableName(), args);
-                break;
-            case FINISHING: // fall through
-            case FINISHED:
-                deleteOverflow(getShortOverflowTableName(), args);
-                break;
-            default:
-                throw new EnumConstantNotPresentException(
-                        OverflowMigrationState.class,
-                        config.overflowMigrationState().name());
+        for (String overflowTable : getOverflowTablesToDeleteFrom()) {
+            deleteOverflow(overflowTable, args);
         }
         String shortTableName = oraclePrefixedTableNames.get(tableRef, conns);
         SqlConnection conn = conns.get();
@@ -262,22 +259,8 @@ public final class OracleOverflowWriteTable implements DbWriteTable {
     public void delete(RangeRequest range) {
         String shortTableName = getShortTableName();
 
-        switch (config.overflowMigrationState()) {
-            case UNSTARTED:
-                deleteOverflowRange(config.singleOverflowTable(), shortTableName, range);
-                break;
-            case IN_PROGRESS:
-                deleteOverflowRange(config.singleOverflowTable(), shortTableName, range);
-                deleteOverflowRange(getShortOverflowTableName(), shortTableName, range);
-                break;
-            case FINISHING:
-            case FINISHED:
-                deleteOverflowRange(getShortOverflowTableName(), shortTableName, range);
-                break;
-            default:
-                throw new EnumConstantNotPresentException(
-                        OverflowMigrationState.class,
-                        config.overflowMigrationState().name());
+        for (String overflowTable : getOverflowTablesToDeleteFrom()) {
+            deleteOverflowRange(overflowTable, shortTableName, range);
         }
 
         // delete from main table
@@ -302,28 +285,22 @@ public final class OracleOverflowWriteTable implements DbWriteTable {
 
     @Override
     public void deleteAllTimestamps(Map<Cell, TimestampRangeDelete> deletes) {
+        if (config.arrayBoundDeletes()) {
+            String shortTableName = oraclePrefixedTableNames.get(tableRef, conns);
+            for (String overflowTable : getOverflowTablesToDeleteFrom()) {
+                arrayBoundDeletes.deleteAllTimestampsOverflow(overflowTable, shortTableName, deletes);
+            }
+            arrayBoundDeletes.deleteAllTimestamps(shortTableName, deletes);
+            return;
+        }
         List<Object[]> args = new ArrayList<>(deletes.size());
         deletes.forEach((cell, ts) -> args.add(new Object[] {
             cell.getRowName(), cell.getColumnName(),
             ts.minTimestampToDelete(), ts.maxTimestampToDelete()
         }));
 
-        switch (config.overflowMigrationState()) {
-            case UNSTARTED:
-                deleteAllTimestampsOverflow(config.singleOverflowTable(), args);
-                break;
-            case IN_PROGRESS:
-                deleteAllTimestampsOverflow(config.singleOverflowTable(), args);
-                deleteAllTimestampsOverflow(getShortOverflowTableName(), args);
-                break;
-            case FINISHING: // fall through
-            case FINISHED:
-                deleteAllTimestampsOverflow(getShortOverflowTableName(), args);
-                break;
-            default:
-                throw new EnumConstantNotPresentException(
-                        OverflowMigrationState.class,
-                        config.overflowMigrationState().name());
+        for (String overflowTable : getOverflowTablesToDeleteFrom()) {
+            deleteAllTimestampsOverflow(overflowTable, args);
         }
         String shortTableName = oraclePrefixedTableNames.get(tableRef, conns);
         SqlConnection conn = conns.get();
@@ -347,6 +324,22 @@ public final class OracleOverflowWriteTable implements DbWriteTable {
                 args);
     }
 
+    private List<String> getOverflowTablesToDeleteFrom() {
+        switch (config.overflowMigrationState()) {
+            case UNSTARTED:
+                return ImmutableList.of(config.singleOverflowTable());
+            case IN_PROGRESS:
+                return ImmutableList.of(config.singleOverflowTable(), getShortOverflowTableName());
+            case FINISHING: // fall through
+            case FINISHED:
+                return ImmutableList.of(getShortOverflowTableName());
+            default:
+                throw new EnumConstantNotPresentException(
+                        OverflowMigrationState.class,
+                        config.overflowMigrationState().name());
+        }
+    }
+
     private void deleteOverflow(String overflowTable, List<Object[]> args) {
         String shortTableName = oraclePrefixedTableNames.get(tableRef, conns);
         conns.get()
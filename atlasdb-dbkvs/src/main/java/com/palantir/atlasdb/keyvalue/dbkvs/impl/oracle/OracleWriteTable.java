@@ -15,18 +15,47 @@
  */
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.oracle;
 
+import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.TableReference;
-import com.palantir.atlasdb.keyvalue.dbkvs.DdlConfig;
+import com.palantir.atlasdb.keyvalue.api.TimestampRangeDelete;
+import com.palantir.atlasdb.keyvalue.dbkvs.OracleDdlConfig;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.AbstractDbWriteTable;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.OraclePrefixedTableNames;
+import java.util.List;
+import java.util.Map;
 
 public class OracleWriteTable extends AbstractDbWriteTable {
+    private final OracleDdlConfig oracleConfig;
+    private final OraclePrefixedTableNames oraclePrefixedTableNames;
+    private final OracleArrayBoundDeletes arrayBoundDeletes;
+
     public OracleWriteTable(
-            DdlConfig config,
+            OracleDdlConfig config,
             ConnectionSupplier conns,
             OraclePrefixedTableNames oraclePrefixedTableNames,
             TableReference tableRef) {
         super(config, conns, tableRef, oraclePrefixedTableNames);
+        this.oracleConfig = config;
+        this.oraclePrefixedTableNames = oraclePrefixedTableNames;
+        this.arrayBoundDeletes = new OracleArrayBoundDeletes(config, conns);
+    }
+
+    @Override
+    public void delete(List<Map.Entry<Cell, Long>> entries) {
+        if (!oracleConfig.arrayBoundDeletes()) {
+            super.delete(entries);
+            return;
+        }
+        arrayBoundDeletes.delete(oraclePrefixedTableNames.get(tableRef, conns), entries);
+    }
+
+    @Override
+    public void deleteAllTimestamps(Map<Cell, TimestampRangeDelete> deletes) {
+        if (!oracleConfig.arrayBoundDeletes()) {
+            super.deleteAllTimestamps(deletes);
+            return;
+        }
+        arrayBoundDeletes.deleteAllTimestamps(oraclePrefixedTableNames.get(tableRef, conns), deletes);
     }
 }
@@ -0,0 +1,107 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Iterables;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresLatestVersionStrategy;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.DbKvs;
+import com.palantir.atlasdb.logging.LoggingArgs;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import com.palantir.nexus.db.sql.AgnosticResultRow;
+import com.palantir.nexus.db.sql.AgnosticResultSet;
+import java.time.Duration;
+
+/**
+ * Resolves the {@link PostgresLatestVersionStrategy} used to read each table. For {@link
+ * PostgresLatestVersionStrategy#AUTO}, the number of versions per cell is estimated from the first entries of the
+ * table's primary key index, which only reads the index, and the estimate is cached for an hour.
+ */
+public final class PostgresLatestVersionStrategyCache {
+    private static final SafeLogger log = SafeLoggerFactory.get(PostgresLatestVersionStrategyCache.class);
+
+    @VisibleForTesting
+    static final int SAMPLED_VERSIONS = 10_000;
+
+    @VisibleForTesting
+    static final double MIN_VERSIONS_PER_CELL_FOR_INDEX_LOOKUP = 4.0;
+
+    private final PostgresDdlConfig config;
+    private final Cache<TableReference, PostgresLatestVersionStrategy> strategies = Caffeine.newBuilder()
+            .maximumSize(10000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    public PostgresLatestVersionStrategyCache(PostgresDdlConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Returns the strategy to read the given table with, which is never {@link PostgresLatestVersionStrategy#AUTO}.
+     */
+    public PostgresLatestVersionStrategy getStrategy(ConnectionSupplier conns, TableReference tableRef) {
+        if (config.latestVersionStrategy() != PostgresLatestVersionStrategy.AUTO) {
+            return config.latestVersionStrategy();
+        }
+        return strategies.get(tableRef, ref -> estimateStrategy(conns, ref));
+    }
+
+    private PostgresLatestVersionStrategy estimateStrategy(ConnectionSupplier conns, TableReference tableRef) {
+        String tableName = DbKvs.internalTableName(tableRef);
+        try {
+            AgnosticResultSet results = conns.get()
+                    .selectResultSetUnregisteredQuery(
+                            " /* ESTIMATE_VERSIONS_PER_CELL (" + tableName + ") */ "
+                                    + " SELECT count(*) AS versions, "
+                                    + "        count(DISTINCT (s.row_name, s.col_name)) AS cells "
+                                    + "   FROM (SELECT m.row_name, m.col_name "
+                                    + "           FROM " + config.tablePrefix() + tableName + " m "
+                                    + "          ORDER BY m.row_name, m.col_name, m.ts "
+                                    + "          LIMIT ?) s",
+                            SAMPLED_VERSIONS);
+            AgnosticResultRow row = Iterables.getOnlyElement(results.rows());
+            PostgresLatestVersionStrategy strategy = chooseStrategy(row.getLong("versions"), row.getLong("cells"));
+            log.info(
+                    "Chose latest version strategy {} for table {}.",
+                    SafeArg.of("strategy", strategy),
+                    LoggingArgs.tableRef(tableRef));
+            return strategy;
+        } catch (RuntimeException e) {
+            log.warn(
+                    "Could not estimate the number of versions per cell of table {}, so falling back to {}.",
+                    LoggingArgs.tableRef(tableRef),
+                    SafeArg.of("strategy", PostgresLatestVersionStrategy.GROUP_BY),
+                    e);
+            return PostgresLatestVersionStrategy.GROUP_BY;
+        }
+    }
+
+    @VisibleForTesting
+    static PostgresLatestVersionStrategy chooseStrategy(long versions, long cells) {
+        if (cells > 0 && (double) versions / cells >= MIN_VERSIONS_PER_CELL_FOR_INDEX_LOOKUP) {
+            return PostgresLatestVersionStrategy.INDEX_LOOKUP;
+        }
+        return PostgresLatestVersionStrategy.GROUP_BY;
+    }
+}
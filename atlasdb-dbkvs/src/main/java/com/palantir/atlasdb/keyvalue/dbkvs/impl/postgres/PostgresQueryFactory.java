@@ -16,15 +16,20 @@
 package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.Maps;
 import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.Cell;
 import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
 import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
 import com.palantir.atlasdb.keyvalue.api.RangeRequest;
 import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresLatestVersionStrategy;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.AbstractDbQueryFactory;
 import com.palantir.atlasdb.keyvalue.dbkvs.impl.FullQuery;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -33,14 +38,28 @@ import java.util.Map;
 public class PostgresQueryFactory extends AbstractDbQueryFactory {
     private final String tableName;
     private final PostgresDdlConfig config;
+    private final PostgresLatestVersionStrategy latestVersionStrategy;
 
     public PostgresQueryFactory(String tableName, PostgresDdlConfig config) {
+        this(tableName, config, PostgresLatestVersionStrategy.GROUP_BY);
+    }
+
+    public PostgresQueryFactory(
+            String tableName, PostgresDdlConfig config, PostgresLatestVersionStrategy latestVersionStrategy) {
+        Preconditions.checkArgument(
+                latestVersionStrategy != PostgresLatestVersionStrategy.AUTO,
+                "The latest version strategy must be resolved for each table",
+                SafeArg.of("strategy", latestVersionStrategy));
         this.tableName = tableName;
         this.config = config;
+        this.latestVersionStrategy = latestVersionStrategy;
     }
 
     @Override
     public FullQuery getLatestRowQuery(byte[] row, long ts, ColumnSelection columns, boolean includeValue) {
+        if (latestVersionStrategy == PostgresLatestVersionStrategy.INDEX_LOOKUP) {
+            return getLatestRowsByIndexQuery(ImmutableList.of(Maps.immutableEntry(row, ts)), columns, includeValue);
+        }
         String query = " /* GET_LATEST_ROW_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m "
@@ -57,6 +76,9 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
 
     @Override
     public FullQuery getLatestRowsQuery(Iterable<byte[]> rows, long ts, ColumnSelection columns, boolean includeValue) {
+        if (latestVersionStrategy == PostgresLatestVersionStrategy.INDEX_LOOKUP) {
+            return getLatestRowsByIndexQuery(withTimestamp(rows, ts), columns, includeValue);
+        }
         String query = " /* GET_LATEST_ROWS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m "
@@ -74,6 +96,9 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
     @Override
     public FullQuery getLatestRowsQuery(
             Collection<Map.Entry<byte[], Long>> rows, ColumnSelection columns, boolean includeValue) {
+        if (latestVersionStrategy == PostgresLatestVersionStrategy.INDEX_LOOKUP) {
+            return getLatestRowsByIndexQuery(rows, columns, includeValue);
+        }
         String query = " /* GET_LATEST_ROWS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
@@ -135,6 +160,9 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
 
     @Override
     public FullQuery getLatestCellQuery(Cell cell, long ts, boolean includeValue) {
+        if (latestVersionStrategy == PostgresLatestVersionStrategy.INDEX_LOOKUP) {
+            return getLatestCellsByIndexQuery(ImmutableList.of(Maps.immutableEntry(cell, ts)), includeValue);
+        }
         String query = " /* GET_LATEST_CELL_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m "
@@ -149,6 +177,9 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
 
     @Override
     public FullQuery getLatestCellsQuery(Iterable<Cell> cells, long ts, boolean includeValue) {
+        if (latestVersionStrategy == PostgresLatestVersionStrategy.INDEX_LOOKUP) {
+            return getLatestCellsByIndexQuery(withTimestamp(cells, ts), includeValue);
+        }
         String query = " /* GET_LATEST_CELLS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
@@ -163,6 +194,9 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
 
     @Override
     public FullQuery getLatestCellsQuery(Collection<Map.Entry<Cell, Long>> cells, boolean includeValue) {
+        if (latestVersionStrategy == PostgresLatestVersionStrategy.INDEX_LOOKUP) {
+            return getLatestCellsByIndexQuery(cells, includeValue);
+        }
         String query = " /* GET_LATEST_CELLS_INNER (" + tableName + ") */ "
                 + " SELECT m.row_name, m.col_name, max(m.ts) as ts "
                 + "   FROM " + prefixedTableName() + " m,"
@@ -175,6 +209,71 @@ public class PostgresQueryFactory extends AbstractDbQueryFactory {
         return addCellTsArgs(new FullQuery(query), cells);
     }
 
+    /**
+     * Reads the latest version of each requested column with a lookup limited to a single index entry. When every
+     * column is requested, the columns of each row are enumerated by skipping through the index one distinct column
+     * at a time, so older versions of a cell are never read.
+     */
+    private FullQuery getLatestRowsByIndexQuery(
+            Collection<Map.Entry<byte[], Long>> rows, ColumnSelection columns, boolean includeValue) {
+        if (!columns.allColumnsSelected()) {
+            String query = " /* GET_LATEST_ROWS_BY_INDEX (" + tableName + ") */ "
+                    + " SELECT t.row_name, c.col_name, l.ts" + (includeValue ? ", l.val " : " ")
+                    + "   FROM (VALUES " + groupOfNumParams(2, rows.size()) + ") t(row_name, ts) "
+                    + "  CROSS JOIN (VALUES "
+                    + groupOfNumParams(1, Iterables.size(columns.getSelectedColumns())) + ") c(col_name) "
+                    + "  CROSS JOIN LATERAL " + latestVersionLookup("t.row_name", "c.col_name", "t.ts", includeValue);
+            return addRowTsArgs(new FullQuery(query), rows).withArgs(columns.getSelectedColumns());
+        }
+        String query = " /* GET_LATEST_ROWS_BY_INDEX (" + tableName + ") */ "
+                + " WITH RECURSIVE t(row_name, ts) AS (VALUES " + groupOfNumParams(2, rows.size()) + "), "
+                + " c(row_name, ts, col_name) AS ( "
+                + "     SELECT t.row_name, t.ts, " + nextColumnLookup("t.row_name", "") + " FROM t "
+                + "      UNION ALL "
+                + "     SELECT c.row_name, c.ts, " + nextColumnLookup("c.row_name", " AND m.col_name > c.col_name")
+                + "       FROM c "
+                + "      WHERE c.col_name IS NOT NULL) "
+                + " SELECT c.row_name, c.col_name, l.ts" + (includeValue ? ", l.val " : " ")
+                + "   FROM c "
+                + "  CROSS JOIN LATERAL " + latestVersionLookup("c.row_name", "c.col_name", "c.ts", includeValue)
+                + "  WHERE c.col_name IS NOT NULL";
+        return addRowTsArgs(new FullQuery(query), rows);
+    }
+
+    private FullQuery getLatestCellsByIndexQuery(Collection<Map.Entry<Cell, Long>> cells, boolean includeValue) {
+        String query = " /* GET_LATEST_CELLS_BY_INDEX (" + tableName + ") */ "
+                + " SELECT t.row_name, t.col_name, l.ts" + (includeValue ? ", l.val " : " ")
+                + "   FROM (VALUES " + groupOfNumParams(3, cells.size()) + ") t(row_name, col_name, ts) "
+                + "  CROSS JOIN LATERAL " + latestVersionLookup("t.row_name", "t.col_name", "t.ts", includeValue);
+        return addCellTsArgs(new FullQuery(query), cells);
+    }
+
+    private String latestVersionLookup(String row, String col, String ts, boolean includeValue) {
+        return " (SELECT m.ts" + (includeValue ? ", m.val " : " ")
+                + "     FROM " + prefixedTableName() + " m "
+                + "    WHERE m.row_name = " + row
+                + "      AND m.col_name = " + col
+                + "      AND m.ts < " + ts
+                + "    ORDER BY m.ts DESC "
+                + "    LIMIT 1) l ";
+    }
+
+    private String nextColumnLookup(String row, String afterColumn) {
+        return " (SELECT m.col_name "
+                + "     FROM " + prefixedTableName() + " m "
+                + "    WHERE m.row_name = " + row + afterColumn
+                + "    ORDER BY m.col_name "
+                + "    LIMIT 1) ";
+    }
+
+    private static <T> List<Map.Entry<T, Long>> withTimestamp(Iterable<T> keys, long ts) {
+        List<Map.Entry<T, Long>> entries = new ArrayList<>();
+        for (T key : keys) {
+            entries.add(Maps.immutableEntry(key, ts));
+        }
+        return entries;
+    }
+
     @Override
     public FullQuery getAllCellQuery(Cell cell, long ts, boolean includeValue) {
         String query = " /* GET_ALL_CELL (" + tableName + ") */ "
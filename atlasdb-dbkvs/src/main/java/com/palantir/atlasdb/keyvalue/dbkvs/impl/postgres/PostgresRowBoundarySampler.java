@@ -0,0 +1,86 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ConnectionSupplier;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.SqlConnectionSupplier;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges.RowBoundarySampler;
+import com.palantir.atlasdb.logging.LoggingArgs;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import com.palantir.nexus.db.sql.AgnosticResultRow;
+import com.palantir.nexus.db.sql.AgnosticResultSet;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Samples row boundaries from the histogram Postgres keeps of each table's row names, which is maintained by
+ * {@code ANALYZE} and autovacuum. Reading the histogram is cheap, but it is still cached for a few minutes since it
+ * only changes when the table is re-analyzed.
+ */
+public final class PostgresRowBoundarySampler implements RowBoundarySampler {
+    private static final SafeLogger log = SafeLoggerFactory.get(PostgresRowBoundarySampler.class);
+
+    private static final Duration CACHE_EXPIRY = Duration.ofMinutes(5);
+
+    private final PostgresPrefixedTableNames prefixedTableNames;
+    private final SqlConnectionSupplier connectionPool;
+    private final LoadingCache<TableReference, List<byte[]>> rowBoundaries = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(CACHE_EXPIRY)
+            .build(this::loadRowBoundaries);
+
+    public PostgresRowBoundarySampler(
+            PostgresPrefixedTableNames prefixedTableNames, SqlConnectionSupplier connectionPool) {
+        this.prefixedTableNames = prefixedTableNames;
+        this.connectionPool = connectionPool;
+    }
+
+    @Override
+    public List<byte[]> getRowBoundaries(TableReference tableRef) {
+        return rowBoundaries.get(tableRef);
+    }
+
+    private List<byte[]> loadRowBoundaries(TableReference tableRef) {
+        try (ConnectionSupplier conns = new ConnectionSupplier(connectionPool)) {
+            AgnosticResultSet results = conns.get()
+                    .selectResultSetUnregisteredQuery(
+                            "/* SAMPLE_ROW_BOUNDARIES */"
+                                    + " SELECT unnest(histogram_bounds::text::bytea[]) AS row_name"
+                                    + "   FROM pg_stats"
+                                    + "  WHERE schemaname = current_schema()"
+                                    + "    AND tablename = lower(?)"
+                                    + "    AND attname = 'row_name'",
+                            prefixedTableNames.get(tableRef));
+            List<byte[]> boundaries = new ArrayList<>(results.size());
+            for (AgnosticResultRow row : results.rows()) {
+                boundaries.add(row.getBytes("row_name"));
+            }
+            return boundaries;
+        } catch (RuntimeException e) {
+            log.info(
+                    "Could not sample row boundaries of table {}, so ranges of it will be read serially.",
+                    LoggingArgs.tableRef(tableRef),
+                    e);
+            return List.of();
+        }
+    }
+}
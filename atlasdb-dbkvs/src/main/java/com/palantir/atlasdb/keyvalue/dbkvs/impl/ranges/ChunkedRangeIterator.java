@@ -0,0 +1,238 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges;
+
+import com.google.common.collect.AbstractIterator;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.common.base.Throwables;
+import com.palantir.common.concurrent.NamedThreadFactory;
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Concatenates the elements of consecutive chunks, while loading up to {@code concurrency} chunks ahead in the
+ * background. Each loading chunk buffers at most {@code prefetchedBatches} batches of {@code batchSize} elements,
+ * after which it waits for the consumer to catch up, so memory use stays bounded however far behind the consumer
+ * falls.
+ * <p>
+ * Closing the iterator stops the chunks that are still loading. Loaders do not reference the iterator itself, so if
+ * it is dropped without being closed, they are stopped once it has been garbage collected.
+ */
+final class ChunkedRangeIterator<T> extends AbstractIterator<T> implements ClosableIterator<T> {
+    private static final Cleaner ABANDONED_ITERATOR_CLEANER =
+            Cleaner.create(new NamedThreadFactory("dbkvs-chunked-range-cleaner", true));
+
+    /**
+     * How long a loader waits for room in its buffer before checking again whether the iterator has been closed.
+     */
+    private static final Duration OFFER_TIMEOUT = Duration.ofSeconds(1);
+
+    private final List<Supplier<? extends Iterator<T>>> chunks;
+    private final ExecutorService executor;
+    private final int concurrency;
+    private final Loaders<T> loaders;
+    private final Cleaner.Cleanable cleanable;
+
+    private int currentChunk = 0;
+    private Iterator<T> currentBatch = Collections.emptyIterator();
+
+    ChunkedRangeIterator(
+            List<Supplier<? extends Iterator<T>>> chunks,
+            ExecutorService executor,
+            int concurrency,
+            int batchSize,
+            int prefetchedBatches) {
+        this.chunks = chunks;
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.loaders = new Loaders<>(batchSize, prefetchedBatches);
+        this.cleanable = ABANDONED_ITERATOR_CLEANER.register(this, loaders::close);
+    }
+
+    @Override
+    protected T computeNext() {
+        while (!currentBatch.hasNext()) {
+            if (currentChunk == chunks.size()) {
+                return endOfData();
+            }
+            startLoaders();
+            Batch<T> batch = loaders.get(currentChunk).take();
+            if (batch.failure != null) {
+                close();
+                throw Throwables.rewrapAndThrowUncheckedException(batch.failure);
+            } else if (batch.rows == null) {
+                currentChunk++;
+            } else {
+                currentBatch = batch.rows.iterator();
+            }
+        }
+        return currentBatch.next();
+    }
+
+    private void startLoaders() {
+        int lastChunkToLoad = Math.min(chunks.size(), currentChunk + concurrency);
+        while (!loaders.closed && loaders.size() < lastChunkToLoad) {
+            loaders.start(chunks.get(loaders.size()), executor);
+        }
+    }
+
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    /**
+     * The state shared between the iterator and its loaders, which must not reference the iterator, so that it can
+     * be garbage collected, and its loaders stopped, if it is dropped without being closed.
+     */
+    private static final class Loaders<T> {
+        private final int batchSize;
+        private final int prefetchedBatches;
+        private final List<ChunkLoader<T>> started = new CopyOnWriteArrayList<>();
+        private volatile boolean closed = false;
+
+        private Loaders(int batchSize, int prefetchedBatches) {
+            this.batchSize = batchSize;
+            this.prefetchedBatches = prefetchedBatches;
+        }
+
+        private int size() {
+            return started.size();
+        }
+
+        private ChunkLoader<T> get(int chunk) {
+            return started.get(chunk);
+        }
+
+        private void start(Supplier<? extends Iterator<T>> chunk, ExecutorService executor) {
+            ChunkLoader<T> loader = new ChunkLoader<>(this, chunk);
+            loader.future = executor.submit(loader::load);
+            started.add(loader);
+        }
+
+        private void close() {
+            closed = true;
+            for (ChunkLoader<T> loader : started) {
+                loader.future.cancel(true);
+            }
+        }
+    }
+
+    private static final class ChunkLoader<T> {
+        private final Loaders<T> loaders;
+        private final Supplier<? extends Iterator<T>> chunk;
+        private final BlockingQueue<Batch<T>> batches;
+        private volatile Future<?> future;
+
+        private ChunkLoader(Loaders<T> loaders, Supplier<? extends Iterator<T>> chunk) {
+            this.loaders = loaders;
+            this.chunk = chunk;
+            this.batches = new ArrayBlockingQueue<>(loaders.prefetchedBatches);
+        }
+
+        private void load() {
+            Iterator<T> rows = null;
+            try {
+                rows = chunk.get();
+                List<T> batch = new ArrayList<>(loaders.batchSize);
+                while (!loaders.closed && rows.hasNext()) {
+                    batch.add(rows.next());
+                    if (batch.size() == loaders.batchSize) {
+                        if (!offer(Batch.of(batch))) {
+                            return;
+                        }
+                        batch = new ArrayList<>(loaders.batchSize);
+                    }
+                }
+                if (!batch.isEmpty() && !offer(Batch.of(batch))) {
+                    return;
+                }
+                offer(Batch.end());
+            } catch (InterruptedException e) {
+                // closed while waiting for the consumer
+                Thread.currentThread().interrupt();
+            } catch (Throwable t) {
+                if (!loaders.closed) {
+                    // this loader is the only producer for its queue, so there is room for the failure once cleared
+                    batches.clear();
+                    batches.offer(Batch.failed(t));
+                }
+            } finally {
+                if (rows instanceof ClosableIterator) {
+                    ((ClosableIterator<?>) rows).close();
+                }
+            }
+        }
+
+        /**
+         * Waits for room in the buffer, giving up if the iterator is closed in the meantime.
+         *
+         * @return whether the batch was buffered
+         */
+        private boolean offer(Batch<T> batch) throws InterruptedException {
+            while (!loaders.closed) {
+                if (batches.offer(batch, OFFER_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private Batch<T> take() {
+            try {
+                return batches.take();
+            } catch (InterruptedException e) {
+                loaders.close();
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static final class Batch<T> {
+        private final List<T> rows;
+        private final Throwable failure;
+
+        private Batch(List<T> rows, Throwable failure) {
+            this.rows = rows;
+            this.failure = failure;
+        }
+
+        static <T> Batch<T> of(List<T> rows) {
+            return new Batch<>(rows, null);
+        }
+
+        static <T> Batch<T> end() {
+            return new Batch<>(null, null);
+        }
+
+        static <T> Batch<T> failed(Throwable failure) {
+            return new Batch<>(null, failure);
+        }
+    }
+}
@@ -23,4 +23,11 @@ import java.util.Iterator;
 
 public interface DbKvsGetRange {
     Iterator<RowResult<Value>> getRange(TableReference tableRef, RangeRequest rangeRequest, long timestamp);
+
+    /**
+     * Releases any threads used to read ranges. Called when the key value service is closed.
+     */
+    default void close() {
+        // nothing to release
+    }
 }
@@ -0,0 +1,155 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.primitives.UnsignedBytes;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.common.concurrent.PTExecutors;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Reads forward ranges by splitting them at sampled row boundaries into chunks, which are read in parallel on
+ * separate connections by the delegate and concatenated back in order. Intended for scans of whole tables, such as
+ * migrations and sweeps, where the time taken to read each page serially dominates.
+ * <p>
+ * Only scans that are likely to read a large part of a table are chunked: those with a batch hint of at least
+ * {@link #MIN_BATCH_HINT_TO_CHUNK} rows, and those of the whole table without a batch hint. Other ranges, reverse
+ * ranges, and ranges of tables for which no sample is available are read serially by the delegate, without sampling.
+ */
+public final class ParallelChunkedGetRange implements DbKvsGetRange {
+    private static final Comparator<byte[]> ROW_COMPARATOR = UnsignedBytes.lexicographicalComparator();
+
+    @VisibleForTesting
+    static final int CHUNKS_PER_THREAD = 4;
+
+    @VisibleForTesting
+    static final int MIN_BATCH_HINT_TO_CHUNK = 1_000;
+
+    private static final int PREFETCHED_BATCHES_PER_CHUNK = 2;
+
+    private final DbKvsGetRange delegate;
+    private final RowBoundarySampler sampler;
+    private final ExecutorService executor;
+    private final int concurrency;
+
+    @VisibleForTesting
+    ParallelChunkedGetRange(
+            DbKvsGetRange delegate, RowBoundarySampler sampler, ExecutorService executor, int concurrency) {
+        Preconditions.checkArgument(
+                concurrency > 1,
+                "Parallel range scans need a concurrency above 1",
+                SafeArg.of("concurrency", concurrency));
+        this.delegate = delegate;
+        this.sampler = sampler;
+        this.executor = executor;
+        this.concurrency = concurrency;
+    }
+
+    public static ParallelChunkedGetRange create(DbKvsGetRange delegate, RowBoundarySampler sampler, int concurrency) {
+        return new ParallelChunkedGetRange(
+                delegate, sampler, PTExecutors.newCachedThreadPool("Atlas DbKvs parallel range scan"), concurrency);
+    }
+
+    @Override
+    public Iterator<RowResult<Value>> getRange(TableReference tableRef, RangeRequest rangeRequest, long timestamp) {
+        if (!shouldChunk(rangeRequest)) {
+            return delegate.getRange(tableRef, rangeRequest, timestamp);
+        }
+        List<RangeRequest> chunks = splitIntoChunks(
+                rangeRequest, sampler.getRowBoundaries(tableRef), concurrency * CHUNKS_PER_THREAD);
+        if (chunks.size() == 1) {
+            return delegate.getRange(tableRef, rangeRequest, timestamp);
+        }
+        List<Supplier<? extends Iterator<RowResult<Value>>>> chunkLoaders = chunks.stream()
+                .<Supplier<? extends Iterator<RowResult<Value>>>>map(
+                        chunk -> () -> delegate.getRange(tableRef, chunk, timestamp))
+                .collect(Collectors.toList());
+        return new ChunkedRangeIterator<>(
+                chunkLoaders,
+                executor,
+                concurrency,
+                RangeHelpers.getMaxRowsPerPage(rangeRequest),
+                PREFETCHED_BATCHES_PER_CHUNK);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        delegate.close();
+    }
+
+    @VisibleForTesting
+    static boolean shouldChunk(RangeRequest rangeRequest) {
+        if (rangeRequest.isReverse()) {
+            return false;
+        }
+        Integer batchHint = rangeRequest.getBatchHint();
+        if (batchHint != null) {
+            return batchHint >= MIN_BATCH_HINT_TO_CHUNK;
+        }
+        return rangeRequest.getStartInclusive().length == 0 && rangeRequest.getEndExclusive().length == 0;
+    }
+
+    /**
+     * Splits a forward range into at most {@code maxChunks} consecutive ranges, at evenly spaced boundaries among
+     * those that fall strictly inside the range.
+     */
+    @VisibleForTesting
+    static List<RangeRequest> splitIntoChunks(RangeRequest rangeRequest, List<byte[]> boundaries, int maxChunks) {
+        byte[] start = rangeRequest.getStartInclusive();
+        byte[] end = rangeRequest.getEndExclusive();
+        List<byte[]> inRange = boundaries.stream()
+                .filter(row -> row.length > 0)
+                .filter(row -> start.length == 0 || ROW_COMPARATOR.compare(row, start) > 0)
+                .filter(row -> end.length == 0 || ROW_COMPARATOR.compare(row, end) < 0)
+                .sorted(ROW_COMPARATOR)
+                .collect(Collectors.toList());
+        List<byte[]> splits = new ArrayList<>();
+        int numSplits = Math.min(inRange.size(), maxChunks - 1);
+        for (int i = 1; i <= numSplits; i++) {
+            byte[] split = inRange.get(i * inRange.size() / (numSplits + 1));
+            if (splits.isEmpty() || ROW_COMPARATOR.compare(split, splits.get(splits.size() - 1)) > 0) {
+                splits.add(split);
+            }
+        }
+
+        List<RangeRequest> chunks = new ArrayList<>(splits.size() + 1);
+        byte[] chunkStart = start;
+        for (byte[] split : splits) {
+            chunks.add(rangeRequest
+                    .getBuilder()
+                    .startRowInclusive(chunkStart)
+                    .endRowExclusive(split)
+                    .build());
+            chunkStart = split;
+        }
+        chunks.add(rangeRequest.getBuilder().startRowInclusive(chunkStart).build());
+        return chunks;
+    }
+}
@@ -0,0 +1,33 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges;
+
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import java.util.List;
+
+/**
+ * Samples row names that split a table into chunks of roughly equal size, so that a range scan can read the chunks
+ * in parallel.
+ */
+@FunctionalInterface
+public interface RowBoundarySampler {
+    /**
+     * Returns row names of the given table in ascending order, or an empty list if no sample is available. The
+     * sample need not be exact: rows may have been written or deleted since it was taken.
+     */
+    List<byte[]> getRowBoundaries(TableReference tableRef);
+}
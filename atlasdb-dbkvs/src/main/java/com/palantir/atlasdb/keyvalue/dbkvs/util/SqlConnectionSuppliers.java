@@ -39,7 +39,7 @@ public final class SqlConnectionSuppliers {
         runtimeConfig.subscribe(
                 newRuntimeConfig -> updateConnManagerConfig(connectionManager, config, newRuntimeConfig));
         ReentrantManagedConnectionSupplier connSupplier = new ReentrantManagedConnectionSupplier(connectionManager);
-        return new SimpleTimedSqlConnectionSupplier(connSupplier);
+        return new SimpleTimedSqlConnectionSupplier(connSupplier, connectionManager.getSqlExecutionMode());
     }
 
     private static void updateConnManagerConfig(
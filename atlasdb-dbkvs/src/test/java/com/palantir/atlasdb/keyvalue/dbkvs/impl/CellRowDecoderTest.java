@@ -0,0 +1,109 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.nexus.db.sql.AgnosticLightResultRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CellRowDecoderTest {
+    private static final int ROW_INDEX = 1;
+    private static final int COL_INDEX = 2;
+    private static final int TIMESTAMP_INDEX = 3;
+    private static final int VALUE_INDEX = 4;
+    private static final int OVERFLOW_INDEX = 5;
+
+    private static final byte[] ROW = PtBytes.toBytes("row");
+    private static final byte[] COLUMN = PtBytes.toBytes("col");
+    private static final byte[] VALUE = PtBytes.toBytes("value");
+    private static final long TIMESTAMP = 17L;
+    private static final long OVERFLOW_ID = 42L;
+
+    private final AgnosticLightResultRow row = mock(AgnosticLightResultRow.class);
+
+    @BeforeEach
+    public void setUp() {
+        when(row.getColumnIndex(DbKvs.ROW)).thenReturn(ROW_INDEX);
+        when(row.getColumnIndex(DbKvs.COL)).thenReturn(COL_INDEX);
+        when(row.getColumnIndex(DbKvs.TIMESTAMP)).thenReturn(TIMESTAMP_INDEX);
+        when(row.getColumnIndex(DbKvs.VAL)).thenReturn(VALUE_INDEX);
+        when(row.getColumnIndex("overflow")).thenReturn(OVERFLOW_INDEX);
+        when(row.getBytesAt(ROW_INDEX)).thenReturn(ROW);
+        when(row.getBytesAt(COL_INDEX)).thenReturn(COLUMN);
+        when(row.getBytesAt(VALUE_INDEX)).thenReturn(VALUE);
+        when(row.getLongAt(TIMESTAMP_INDEX)).thenReturn(TIMESTAMP);
+    }
+
+    @Test
+    public void decodesCellsTimestampsAndValues() {
+        CellRowDecoder decoder = CellRowDecoder.create();
+
+        assertThat(decoder.getCell(row)).isEqualTo(Cell.create(ROW, COLUMN));
+        assertThat(decoder.getTimestamp(row)).isEqualTo(TIMESTAMP);
+        assertThat(decoder.getValue(row)).isEqualTo(VALUE);
+    }
+
+    @Test
+    public void looksUpColumnsByNameOnlyOnce() {
+        CellRowDecoder decoder = CellRowDecoder.create();
+
+        for (int i = 0; i < 3; i++) {
+            decoder.getCell(row);
+            decoder.getTimestamp(row);
+            decoder.getValue(row);
+        }
+
+        verify(row, times(1)).getColumnIndex(DbKvs.ROW);
+        verify(row, times(1)).getColumnIndex(DbKvs.COL);
+        verify(row, times(1)).getColumnIndex(DbKvs.TIMESTAMP);
+        verify(row, times(1)).getColumnIndex(DbKvs.VAL);
+        verify(row, times(3)).getBytesAt(ROW_INDEX);
+        verify(row, times(3)).getLongAt(TIMESTAMP_INDEX);
+    }
+
+    @Test
+    public void doesNotReadOverflowColumnForTablesWithoutOverflowValues() {
+        CellRowDecoder decoder = CellRowDecoder.create();
+
+        assertThat(decoder.getOverflowId(row)).isEqualTo(CellRowDecoder.NO_OVERFLOW);
+        verify(row, never()).getColumnIndex("overflow");
+    }
+
+    @Test
+    public void readsOverflowIdsForTablesWithOverflowValues() {
+        DbReadTable table = mock(DbReadTable.class);
+        when(table.hasOverflowValues()).thenReturn(true);
+        when(row.getLongAt(OVERFLOW_INDEX, CellRowDecoder.NO_OVERFLOW))
+                .thenReturn(OVERFLOW_ID)
+                .thenReturn(CellRowDecoder.NO_OVERFLOW);
+        CellRowDecoder decoder = CellRowDecoder.create(table);
+
+        assertThat(decoder.getOverflowId(row)).isEqualTo(OVERFLOW_ID);
+        assertThat(decoder.getOverflowId(row)).isEqualTo(CellRowDecoder.NO_OVERFLOW);
+        verify(row, never()).getLongObject(anyString());
+    }
+}
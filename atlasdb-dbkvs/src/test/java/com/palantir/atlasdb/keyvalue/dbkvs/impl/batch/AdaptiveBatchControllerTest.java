@@ -0,0 +1,89 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveBatchControllerTest {
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int MAX_CONCURRENCY = 8;
+    private static final long TARGET_NANOS = Duration.ofMillis(100).toNanos();
+
+    private final AdaptiveBatchController controller =
+            new AdaptiveBatchController(MAX_BATCH_SIZE, MAX_CONCURRENCY, Duration.ofNanos(TARGET_NANOS));
+
+    @Test
+    public void startsAtMaximumBatchSizeAndConcurrency() {
+        assertThat(controller.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+        assertThat(controller.getConcurrency()).isEqualTo(MAX_CONCURRENCY);
+    }
+
+    @Test
+    public void halvesBatchSizeWhenQueriesAreSlow() {
+        controller.recordQuery(MAX_BATCH_SIZE, MAX_CONCURRENCY, true, 2 * TARGET_NANOS);
+        assertThat(controller.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+
+        controller.recordQuery(MAX_BATCH_SIZE / 2, MAX_CONCURRENCY, false, 2 * TARGET_NANOS);
+        assertThat(controller.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 4);
+    }
+
+    @Test
+    public void slowQueriesPartitionedBeforeADecreaseDoNotDecreaseAgain() {
+        controller.recordQuery(MAX_BATCH_SIZE, MAX_CONCURRENCY, true, 2 * TARGET_NANOS);
+        controller.recordQuery(MAX_BATCH_SIZE, MAX_CONCURRENCY, true, 2 * TARGET_NANOS);
+
+        assertThat(controller.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+    }
+
+    @Test
+    public void growsBatchSizeAdditivelyUpToMaximumWhenFullBatchesAreFast() {
+        controller.recordQuery(MAX_BATCH_SIZE, MAX_CONCURRENCY, true, 2 * TARGET_NANOS);
+        controller.recordQuery(MAX_BATCH_SIZE / 2, MAX_CONCURRENCY, true, TARGET_NANOS / 2);
+        assertThat(controller.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 2 + MAX_BATCH_SIZE / 16);
+
+        for (int i = 0; i < 100; i++) {
+            controller.recordQuery(controller.getBatchSize(), MAX_CONCURRENCY, true, TARGET_NANOS / 2);
+        }
+        assertThat(controller.getBatchSize()).isEqualTo(MAX_BATCH_SIZE);
+    }
+
+    @Test
+    public void partialBatchesDoNotGrowBatchSize() {
+        controller.recordQuery(MAX_BATCH_SIZE, MAX_CONCURRENCY, true, 2 * TARGET_NANOS);
+        controller.recordQuery(MAX_BATCH_SIZE / 2, MAX_CONCURRENCY, false, 1);
+
+        assertThat(controller.getBatchSize()).isEqualTo(MAX_BATCH_SIZE / 2);
+    }
+
+    @Test
+    public void halvesConcurrencyWhenLatencyPerItemRisesAndRecoversAdditively() {
+        long fastNanos = TARGET_NANOS / 10;
+        controller.recordQuery(MAX_BATCH_SIZE, MAX_CONCURRENCY, true, fastNanos);
+        controller.recordQuery(
+                MAX_BATCH_SIZE,
+                MAX_CONCURRENCY,
+                true,
+                (long) (fastNanos * AdaptiveBatchController.SATURATION_LATENCY_RATIO * 2));
+        assertThat(controller.getConcurrency()).isEqualTo(MAX_CONCURRENCY / 2);
+
+        controller.recordQuery(MAX_BATCH_SIZE, MAX_CONCURRENCY / 2, true, fastNanos);
+        assertThat(controller.getConcurrency()).isEqualTo(MAX_CONCURRENCY / 2 + 1);
+    }
+}
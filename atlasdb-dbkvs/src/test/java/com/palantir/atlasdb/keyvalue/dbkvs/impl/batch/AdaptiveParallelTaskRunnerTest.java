@@ -0,0 +1,112 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.batch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.util.MetricsManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveParallelTaskRunnerTest {
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("ns.table");
+    private static final Map<String, String> TABLE_TAG = Map.of("tableName", "table");
+    private static final int MAX_BATCH_SIZE = 4;
+
+    private final MetricsManager metricsManager = mock(MetricsManager.class);
+    private final AdaptiveParallelTaskRunner runner = new AdaptiveParallelTaskRunner(
+            Executors.newFixedThreadPool(4), metricsManager, MAX_BATCH_SIZE, 4, Duration.ofMinutes(1));
+
+    @AfterEach
+    public void tearDown() {
+        runner.close();
+    }
+
+    @Test
+    public void runsTaskOnEachBatchAndAccumulatesResults() {
+        List<Integer> input = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+        List<Integer> batchSizes = runner.runTask(
+                TABLE,
+                input,
+                BatchingStrategies.forList(),
+                new ResultAccumulator(),
+                batch -> ImmutableList.of(batch.size()));
+
+        assertThat(batchSizes).containsExactlyInAnyOrder(MAX_BATCH_SIZE, MAX_BATCH_SIZE, 2);
+    }
+
+    @Test
+    public void publishesBatchSizeAndConcurrencyOfEachTable() {
+        when(metricsManager.getTableNameTagFor(TABLE)).thenReturn(TABLE_TAG);
+
+        runner.runTask(
+                TABLE,
+                ImmutableList.of(1),
+                BatchingStrategies.forList(),
+                new ResultAccumulator(),
+                batch -> ImmutableList.of());
+
+        verify(metricsManager)
+                .registerOrGet(eq(AdaptiveParallelTaskRunner.class), eq("batchSize"), any(), eq(TABLE_TAG));
+        verify(metricsManager)
+                .registerOrGet(eq(AdaptiveParallelTaskRunner.class), eq("concurrency"), any(), eq(TABLE_TAG));
+    }
+
+    @Test
+    public void stopsTrackingTablesIndividuallyOnceLimitIsReached() {
+        IntStream.rangeClosed(0, AdaptiveParallelTaskRunner.MAX_TRACKED_TABLES)
+                .mapToObj(index -> TableReference.createFromFullyQualifiedName("ns.table" + index))
+                .forEach(tableRef -> runner.runTask(
+                        tableRef,
+                        ImmutableList.of(1),
+                        BatchingStrategies.forList(),
+                        new ResultAccumulator(),
+                        batch -> ImmutableList.of()));
+
+        verify(metricsManager, times(AdaptiveParallelTaskRunner.MAX_TRACKED_TABLES))
+                .registerOrGet(eq(AdaptiveParallelTaskRunner.class), eq("batchSize"), any(), any());
+    }
+
+    private static final class ResultAccumulator
+            implements BatchingTaskRunner.ResultAccumulatorStrategy<List<Integer>> {
+        @Override
+        public List<Integer> createEmptyResult() {
+            return new ArrayList<>();
+        }
+
+        @Override
+        public void accumulateResult(List<Integer> result, List<Integer> toAdd) {
+            result.addAll(toAdd);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.postgres;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutablePostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresLatestVersionStrategy;
+import com.palantir.atlasdb.keyvalue.dbkvs.impl.FullQuery;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+public class PostgresQueryFactoryTest {
+    private static final PostgresDdlConfig CONFIG = ImmutablePostgresDdlConfig.builder().build();
+    private static final String TABLE_NAME = "ns__table";
+    private static final byte[] ROW_1 = PtBytes.toBytes("row1");
+    private static final byte[] ROW_2 = PtBytes.toBytes("row2");
+    private static final byte[] COL_1 = PtBytes.toBytes("col1");
+    private static final byte[] COL_2 = PtBytes.toBytes("col2");
+    private static final long TS = 10L;
+
+    private final PostgresQueryFactory groupBy =
+            new PostgresQueryFactory(TABLE_NAME, CONFIG, PostgresLatestVersionStrategy.GROUP_BY);
+    private final PostgresQueryFactory indexLookup =
+            new PostgresQueryFactory(TABLE_NAME, CONFIG, PostgresLatestVersionStrategy.INDEX_LOOKUP);
+
+    @Test
+    public void groupByStrategyGroupsVersionsOfEachCell() {
+        FullQuery query = groupBy.getLatestRowsQuery(ImmutableList.of(ROW_1, ROW_2), TS, ColumnSelection.all(), true);
+
+        assertThat(query.getQuery()).contains("max(m.ts)").doesNotContain("LATERAL");
+        assertThat(query.getArgs()).containsExactly(ROW_1, ROW_2, TS);
+    }
+
+    @Test
+    public void indexLookupSkipsThroughColumnsWhenReadingWholeRows() {
+        FullQuery query =
+                indexLookup.getLatestRowsQuery(ImmutableList.of(ROW_1, ROW_2), TS, ColumnSelection.all(), true);
+
+        assertThat(query.getQuery())
+                .contains("WITH RECURSIVE", "CROSS JOIN LATERAL", "ORDER BY m.ts DESC", "l.val")
+                .doesNotContain("max(m.ts)");
+        assertThat(query.getArgs()).containsExactly(ROW_1, TS, ROW_2, TS);
+    }
+
+    @Test
+    public void indexLookupReadsSelectedColumnsOfEachRow() {
+        FullQuery query = indexLookup.getLatestRowsQuery(
+                ImmutableList.of(Maps.immutableEntry(ROW_1, TS), Maps.immutableEntry(ROW_2, TS + 1)),
+                ColumnSelection.create(ImmutableList.of(COL_1, COL_2)),
+                false);
+
+        assertThat(query.getQuery()).contains("CROSS JOIN LATERAL").doesNotContain("RECURSIVE", "val");
+        assertThat(query.getArgs()).containsExactly(ROW_1, TS, ROW_2, TS + 1, COL_1, COL_2);
+    }
+
+    @Test
+    public void indexLookupReadsEachCell() {
+        FullQuery query = indexLookup.getLatestCellsQuery(
+                ImmutableList.of(Cell.create(ROW_1, COL_1), Cell.create(ROW_2, COL_2)), TS, true);
+
+        assertThat(query.getQuery()).contains("CROSS JOIN LATERAL", "LIMIT 1");
+        assertThat(query.getArgs()).containsExactly(ROW_1, COL_1, TS, ROW_2, COL_2, TS);
+    }
+
+    @Test
+    public void requiresResolvedStrategy() {
+        assertThatThrownBy(() -> new PostgresQueryFactory(TABLE_NAME, CONFIG, PostgresLatestVersionStrategy.AUTO))
+                .isInstanceOf(SafeIllegalArgumentException.class);
+    }
+
+    @Test
+    public void choosesIndexLookupForTablesWithManyVersionsPerCell() {
+        assertThat(PostgresLatestVersionStrategyCache.chooseStrategy(0, 0))
+                .isEqualTo(PostgresLatestVersionStrategy.GROUP_BY);
+        assertThat(PostgresLatestVersionStrategyCache.chooseStrategy(3, 1))
+                .isEqualTo(PostgresLatestVersionStrategy.GROUP_BY);
+        assertThat(PostgresLatestVersionStrategyCache.chooseStrategy(4, 1))
+                .isEqualTo(PostgresLatestVersionStrategy.INDEX_LOOKUP);
+    }
+}
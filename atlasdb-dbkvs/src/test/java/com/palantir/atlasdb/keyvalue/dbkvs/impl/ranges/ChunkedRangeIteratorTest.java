@@ -0,0 +1,142 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import com.palantir.common.base.ClosableIterators;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ChunkedRangeIteratorTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int PREFETCHED_BATCHES = 2;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concatenatesChunksInOrder() {
+        List<Supplier<? extends Iterator<Integer>>> chunks = ImmutableList.of(
+                () -> numbers(0, 5), () -> numbers(5, 5), () -> numbers(5, 12), () -> numbers(12, 13));
+
+        ChunkedRangeIterator<Integer> iterator = create(chunks, 2);
+
+        assertThat(ImmutableList.copyOf(iterator)).containsExactlyElementsOf(range(0, 13));
+    }
+
+    @Test
+    public void buffersBoundedNumberOfElementsPerChunk() throws InterruptedException {
+        AtomicInteger read = new AtomicInteger();
+        ChunkedRangeIterator<Integer> iterator = create(
+                ImmutableList.of(() -> Iterators.transform(numbers(0, 100), number -> {
+                    read.incrementAndGet();
+                    return number;
+                })),
+                1);
+
+        assertThat(iterator.next()).isZero();
+        Thread.sleep(100);
+
+        assertThat(read.get()).isLessThanOrEqualTo(BATCH_SIZE * (PREFETCHED_BATCHES + 2));
+        assertThat(ImmutableList.copyOf(iterator)).containsExactlyElementsOf(range(1, 100));
+    }
+
+    @Test
+    public void propagatesFailuresOfChunks() {
+        ChunkedRangeIterator<Integer> iterator = create(
+                ImmutableList.of(() -> numbers(0, 3), () -> {
+                    throw new IllegalStateException("failed to read chunk");
+                }),
+                2);
+
+        assertThat(iterator.next()).isZero();
+        assertThat(iterator.next()).isOne();
+        assertThat(iterator.next()).isEqualTo(2);
+        assertThatThrownBy(iterator::hasNext)
+                .isInstanceOf(IllegalStateException.class)
+                .hasStackTraceContaining("failed to read chunk");
+    }
+
+    @Test
+    public void closeStopsChunksThatAreStillLoading() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Supplier<Iterator<Integer>> blockingChunk = () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return numbers(0, 0);
+        };
+        ChunkedRangeIterator<Integer> iterator =
+                create(ImmutableList.of(() -> numbers(0, 1), blockingChunk), 2);
+
+        assertThat(iterator.next()).isZero();
+        iterator.close();
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void stopsLoadingChunksOfIteratorsDroppedWithoutBeingClosed() throws InterruptedException {
+        CountDownLatch chunkClosed = new CountDownLatch(1);
+        Supplier<Iterator<Integer>> largeChunk =
+                () -> ClosableIterators.wrap(numbers(0, 1_000), chunkClosed::countDown);
+        readFirstElementAndDrop(create(ImmutableList.of(largeChunk), 1));
+
+        for (int attempt = 0; attempt < 50 && chunkClosed.getCount() > 0; attempt++) {
+            System.gc();
+            chunkClosed.await(100, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(chunkClosed.getCount()).isZero();
+    }
+
+    private static void readFirstElementAndDrop(ChunkedRangeIterator<Integer> iterator) {
+        assertThat(iterator.next()).isZero();
+    }
+
+    private ChunkedRangeIterator<Integer> create(List<Supplier<? extends Iterator<Integer>>> chunks, int concurrency) {
+        return new ChunkedRangeIterator<>(chunks, executor, concurrency, BATCH_SIZE, PREFETCHED_BATCHES);
+    }
+
+    private static Iterator<Integer> numbers(int startInclusive, int endExclusive) {
+        return range(startInclusive, endExclusive).iterator();
+    }
+
+    private static List<Integer> range(int startInclusive, int endExclusive) {
+        return IntStream.range(startInclusive, endExclusive).boxed().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.dbkvs.impl.ranges;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.RangeRequest;
+import com.palantir.atlasdb.keyvalue.api.RowResult;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class ParallelChunkedGetRangeTest {
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("ns.table");
+    private static final long TIMESTAMP = 10L;
+    private static final byte[] ROW_A = PtBytes.toBytes("a");
+    private static final byte[] ROW_C = PtBytes.toBytes("c");
+    private static final byte[] ROW_E = PtBytes.toBytes("e");
+    private static final byte[] ROW_G = PtBytes.toBytes("g");
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final DbKvsGetRange delegate = mock(DbKvsGetRange.class);
+    private final RowBoundarySampler sampler = mock(RowBoundarySampler.class);
+    private final ParallelChunkedGetRange getRange = new ParallelChunkedGetRange(delegate, sampler, executor, 2);
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void splitsAtBoundariesInsideRange() {
+        RangeRequest request = RangeRequest.builder()
+                .startRowInclusive(ROW_C)
+                .endRowExclusive(ROW_G)
+                .batchHint(7)
+                .build();
+
+        List<RangeRequest> chunks =
+                ParallelChunkedGetRange.splitIntoChunks(request, ImmutableList.of(ROW_A, ROW_C, ROW_E, ROW_G), 8);
+
+        assertThat(chunks)
+                .containsExactly(
+                        request.getBuilder().endRowExclusive(ROW_E).build(),
+                        request.getBuilder().startRowInclusive(ROW_E).build());
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getBatchHint()).isEqualTo(7));
+    }
+
+    @Test
+    public void splitsIntoAtMostMaxChunks() {
+        List<byte[]> boundaries = "bcdefghijklmnopq"
+                .chars()
+                .mapToObj(letter -> new byte[] {(byte) letter})
+                .collect(Collectors.toList());
+
+        List<RangeRequest> chunks = ParallelChunkedGetRange.splitIntoChunks(RangeRequest.all(), boundaries, 4);
+
+        assertThat(chunks).hasSize(4);
+        assertThat(chunks.get(0).getStartInclusive()).isEmpty();
+        assertThat(chunks.get(3).getEndExclusive()).isEmpty();
+        for (int i = 1; i < chunks.size(); i++) {
+            assertThat(chunks.get(i).getStartInclusive()).isEqualTo(chunks.get(i - 1).getEndExclusive());
+        }
+    }
+
+    @Test
+    public void readsChunksInParallelAndInOrder() {
+        when(sampler.getRowBoundaries(TABLE)).thenReturn(ImmutableList.of(ROW_C, ROW_E));
+        when(delegate.getRange(any(), any(), anyLong())).thenAnswer(invocation -> {
+            RangeRequest chunk = invocation.getArgument(1);
+            byte[] firstRow = chunk.getStartInclusive().length == 0 ? ROW_A : chunk.getStartInclusive();
+            return ImmutableList.of(rowResult(firstRow)).iterator();
+        });
+
+        Iterator<RowResult<Value>> range = getRange.getRange(TABLE, RangeRequest.all(), TIMESTAMP);
+
+        assertThat(ImmutableList.copyOf(range))
+                .extracting(RowResult::getRowName)
+                .containsExactly(ROW_A, ROW_C, ROW_E);
+    }
+
+    @Test
+    public void readsSeriallyWithoutSample() {
+        when(sampler.getRowBoundaries(TABLE)).thenReturn(ImmutableList.of());
+        Iterator<RowResult<Value>> serial = Collections.emptyIterator();
+        when(delegate.getRange(TABLE, RangeRequest.all(), TIMESTAMP)).thenReturn(serial);
+
+        assertThat(getRange.getRange(TABLE, RangeRequest.all(), TIMESTAMP)).isSameAs(serial);
+    }
+
+    @Test
+    public void readsReverseRangesSerially() {
+        RangeRequest reverse = RangeRequest.reverseBuilder().build();
+        Iterator<RowResult<Value>> serial = Collections.emptyIterator();
+        when(delegate.getRange(TABLE, reverse, TIMESTAMP)).thenReturn(serial);
+
+        assertThat(getRange.getRange(TABLE, reverse, TIMESTAMP)).isSameAs(serial);
+        verifyNoInteractions(sampler);
+    }
+
+    @Test
+    public void readsSmallBatchesSeriallyWithoutSampling() {
+        RangeRequest smallBatches = RangeRequest.builder().batchHint(100).build();
+        Iterator<RowResult<Value>> serial = Collections.emptyIterator();
+        when(delegate.getRange(TABLE, smallBatches, TIMESTAMP)).thenReturn(serial);
+
+        assertThat(getRange.getRange(TABLE, smallBatches, TIMESTAMP)).isSameAs(serial);
+        verifyNoInteractions(sampler);
+    }
+
+    @Test
+    public void chunksOnlyWholeTableOrLargeBatchScans() {
+        assertThat(ParallelChunkedGetRange.shouldChunk(RangeRequest.all())).isTrue();
+        assertThat(ParallelChunkedGetRange.shouldChunk(RangeRequest.builder()
+                        .startRowInclusive(ROW_C)
+                        .batchHint(ParallelChunkedGetRange.MIN_BATCH_HINT_TO_CHUNK)
+                        .build()))
+                .isTrue();
+        assertThat(ParallelChunkedGetRange.shouldChunk(
+                        RangeRequest.builder().startRowInclusive(ROW_C).build()))
+                .isFalse();
+        assertThat(ParallelChunkedGetRange.shouldChunk(RangeRequest.builder()
+                        .batchHint(ParallelChunkedGetRange.MIN_BATCH_HINT_TO_CHUNK - 1)
+                        .build()))
+                .isFalse();
+    }
+
+    private static RowResult<Value> rowResult(byte[] row) {
+        return RowResult.of(
+                Cell.create(row, PtBytes.toBytes("col")),
+                Value.create(PtBytes.toBytes("value"), TIMESTAMP - 1));
+    }
+}
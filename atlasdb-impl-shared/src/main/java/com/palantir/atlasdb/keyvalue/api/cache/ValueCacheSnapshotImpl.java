@@ -28,7 +28,7 @@ import org.immutables.value.Value;
 @Unsafe
 @Value.Immutable
 public interface ValueCacheSnapshotImpl extends ValueCacheSnapshot {
-    Map<CellReference, CacheEntry> values();
+    VersionedMap.Snapshot<CellReference, CacheEntry> values();
 
     Set<TableReference> lockWatchEnabledTables();
 
@@ -41,7 +41,7 @@ public interface ValueCacheSnapshotImpl extends ValueCacheSnapshot {
 
     @Override
     default Optional<CacheEntry> getValue(CellReference tableAndCell) {
-        return values().get(tableAndCell).toJavaOptional();
+        return values().get(tableAndCell);
     }
 
     @Override
@@ -64,8 +64,10 @@ public interface ValueCacheSnapshotImpl extends ValueCacheSnapshot {
             Map<CellReference, CacheEntry> values,
             Set<TableReference> enabledTables,
             java.util.Set<TableReference> allowedTables) {
+        VersionedMap<CellReference, CacheEntry> versionedValues = new VersionedMap<>();
+        values.forEach(versionedValues::put);
         return ImmutableValueCacheSnapshotImpl.builder()
-                .values(values)
+                .values(versionedValues.snapshot())
                 .lockWatchEnabledTables(enabledTables)
                 .allowedTablesFromSchema(allowedTables)
                 .build();
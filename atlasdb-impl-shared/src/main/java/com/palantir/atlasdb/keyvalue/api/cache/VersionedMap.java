@@ -0,0 +1,243 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.api.cache;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.common.concurrent.NamedThreadFactory;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * A map from which immutable point-in-time {@link Snapshot}s can be taken in constant time.
+ * <p>
+ * Each key maps to a chain of versions, newest first, each tagged with the epoch in which it was written. Taking a
+ * snapshot closes the current epoch, and reading from a snapshot returns, for each key, the newest version written no
+ * later than the snapshot's epoch. A write therefore allocates a single version, rather than copying the path to the
+ * modified entry as a persistent map does. Writes to the same key within an epoch replace each other, as no snapshot
+ * can observe the intermediate values.
+ * <p>
+ * Versions are pruned once no snapshot that could read them is reachable: a version is kept until the oldest live
+ * snapshot can see a newer version of the same key. Keys are pruned when they are written to, and the whole map is
+ * swept once there have been as many writes since the last sweep as there are keys, so that pruning is amortised
+ * constant time per write.
+ * <p>
+ * Writes must be externally synchronised, but snapshots can be read from any thread concurrently with writes.
+ */
+@NotThreadSafe
+final class VersionedMap<K, V> {
+    private static final Cleaner SNAPSHOT_CLEANER =
+            Cleaner.create(new NamedThreadFactory("versioned-map-snapshot-cleaner", true));
+    private static final int MIN_WRITES_BETWEEN_SWEEPS = 1_000;
+
+    private final ConcurrentMap<K, Version<V>> versions = new ConcurrentHashMap<>();
+    private final LiveEpochs liveEpochs = new LiveEpochs();
+    private long currentEpoch = 0;
+    private long writesSinceSweep = 0;
+    private boolean writtenSinceLatestSnapshot = false;
+
+    @Nullable
+    private Snapshot<K, V> latestSnapshot = null;
+
+    Optional<V> get(K key) {
+        return Optional.ofNullable(versions.get(key)).map(version -> version.value);
+    }
+
+    void put(K key, V value) {
+        write(key, value);
+    }
+
+    void remove(K key) {
+        if (get(key).isPresent()) {
+            write(key, null);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the current contents of the map, which is unaffected by later writes. If there have been
+     * no writes since the previous snapshot was taken, that snapshot is returned again.
+     */
+    Snapshot<K, V> snapshot() {
+        if (latestSnapshot == null || writtenSinceLatestSnapshot) {
+            latestSnapshot = new Snapshot<>(versions, currentEpoch, liveEpochs);
+            currentEpoch++;
+            writtenSinceLatestSnapshot = false;
+        }
+        return latestSnapshot;
+    }
+
+    @VisibleForTesting
+    int versionCount() {
+        int count = 0;
+        for (Version<V> head : versions.values()) {
+            for (Version<V> version = head; version != null; version = version.older) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void write(K key, @Nullable V value) {
+        writtenSinceLatestSnapshot = true;
+        Version<V> previous = versions.get(key);
+        Version<V> older = previous != null && previous.epoch == currentEpoch ? previous.older : previous;
+        Version<V> updated = new Version<>(currentEpoch, value, older).prune(liveEpochs.oldest(currentEpoch));
+        if (updated == null) {
+            versions.remove(key);
+        } else {
+            versions.put(key, updated);
+        }
+
+        writesSinceSweep++;
+        if (writesSinceSweep >= Math.max(MIN_WRITES_BETWEEN_SWEEPS, versions.size())) {
+            sweep();
+        }
+    }
+
+    private void sweep() {
+        writesSinceSweep = 0;
+        long oldestLiveEpoch = liveEpochs.oldest(currentEpoch);
+        Iterator<Map.Entry<K, Version<V>>> iterator = versions.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, Version<V>> entry = iterator.next();
+            Version<V> pruned = entry.getValue().prune(oldestLiveEpoch);
+            if (pruned == null) {
+                iterator.remove();
+            } else if (pruned != entry.getValue()) {
+                entry.setValue(pruned);
+            }
+        }
+    }
+
+    @ThreadSafe
+    static final class Snapshot<K, V> {
+        private final ConcurrentMap<K, Version<V>> versions;
+        private final long epoch;
+
+        private Snapshot(ConcurrentMap<K, Version<V>> versions, long epoch, LiveEpochs liveEpochs) {
+            this.versions = versions;
+            this.epoch = epoch;
+            liveEpochs.register(this, epoch);
+        }
+
+        Optional<V> get(K key) {
+            try {
+                Version<V> version = versions.get(key);
+                while (version != null && version.epoch > epoch) {
+                    version = version.older;
+                }
+                return version == null ? Optional.empty() : Optional.ofNullable(version.value);
+            } finally {
+                // Versions this snapshot can see may be pruned as soon as it is found to be unreachable.
+                Reference.reachabilityFence(this);
+            }
+        }
+
+        /**
+         * Copies the contents of this snapshot, taking time linear in the size of the map.
+         */
+        Map<K, V> toMap() {
+            try {
+                Map<K, V> map = new HashMap<>();
+                versions.keySet().forEach(key -> get(key).ifPresent(value -> map.put(key, value)));
+                return map;
+            } finally {
+                Reference.reachabilityFence(this);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "VersionedMap.Snapshot{epoch=" + epoch + "}";
+        }
+    }
+
+    private static final class Version<V> {
+        private final long epoch;
+
+        @Nullable
+        private final V value;
+
+        @Nullable
+        private final Version<V> older;
+
+        private Version(long epoch, @Nullable V value, @Nullable Version<V> older) {
+            this.epoch = epoch;
+            this.value = value;
+            this.older = older;
+        }
+
+        /**
+         * Returns a chain without the versions that no snapshot at or after the given epoch can read, or null if no
+         * such snapshot can read a value for this key. Versions are never modified, as they may be being read, so
+         * the versions newer than the oldest one kept are copied if anything is pruned.
+         */
+        @Nullable
+        private Version<V> prune(long oldestLiveEpoch) {
+            Version<V> oldestKept = this;
+            while (oldestKept != null && oldestKept.epoch > oldestLiveEpoch) {
+                oldestKept = oldestKept.older;
+            }
+            if (oldestKept == null || (oldestKept.older == null && oldestKept.value != null)) {
+                return this;
+            }
+
+            List<Version<V>> newerVersions = new ArrayList<>();
+            for (Version<V> version = this; version != oldestKept; version = version.older) {
+                newerVersions.add(version);
+            }
+            Version<V> pruned =
+                    oldestKept.value == null ? null : new Version<>(oldestKept.epoch, oldestKept.value, null);
+            for (int i = newerVersions.size() - 1; i >= 0; i--) {
+                Version<V> version = newerVersions.get(i);
+                pruned = new Version<>(version.epoch, version.value, pruned);
+            }
+            return pruned;
+        }
+    }
+
+    /**
+     * Tracks the epochs of snapshots that are still reachable. Snapshots are taken at strictly increasing epochs, so
+     * each epoch is registered at most once.
+     */
+    private static final class LiveEpochs {
+        private final ConcurrentSkipListSet<Long> epochs = new ConcurrentSkipListSet<>();
+
+        void register(Snapshot<?, ?> snapshot, long epoch) {
+            epochs.add(epoch);
+            // The cleaning action must not refer to the snapshot, or it would never become unreachable.
+            ConcurrentSkipListSet<Long> liveEpochs = epochs;
+            SNAPSHOT_CLEANER.register(snapshot, () -> liveEpochs.remove(epoch));
+        }
+
+        long oldest(long currentEpoch) {
+            Long oldestLiveEpoch = epochs.ceiling(Long.MIN_VALUE);
+            return oldestLiveEpoch == null ? currentEpoch : Math.min(oldestLiveEpoch, currentEpoch);
+        }
+    }
+}
@@ -88,6 +88,21 @@ final class ClientLockWatchSnapshot {
         snapshotVersion = Optional.of(LockWatchVersion.of(snapshot.logId(), snapshot.lastKnownVersion()));
     }
 
+    /**
+     * Moves the snapshot to a later version, without changing its contents. This is only valid if no events are known
+     * to have occurred between the current version of the snapshot and the provided version.
+     */
+    void advanceVersion(long version) {
+        Preconditions.checkState(
+                snapshotVersion.isPresent(), "Snapshot was reset on fail and has not been seeded since");
+        Preconditions.checkArgument(
+                version >= snapshotVersion.get().version(),
+                "Cannot move a snapshot to an earlier version",
+                SafeArg.of("snapshotVersion", snapshotVersion.get()),
+                SafeArg.of("attemptedVersion", version));
+        snapshotVersion = Optional.of(LockWatchVersion.of(snapshotVersion.get().id(), version));
+    }
+
     void reset() {
         snapshotVersion = Optional.empty();
         watches.clear();
@@ -17,16 +17,24 @@
 package com.palantir.atlasdb.keyvalue.api.watch;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 import com.palantir.atlasdb.keyvalue.api.cache.CacheMetrics;
 import com.palantir.atlasdb.transaction.api.TransactionLockWatchFailedException;
+import com.palantir.lock.LockDescriptor;
+import com.palantir.lock.v2.LockToken;
+import com.palantir.lock.watch.LockEvent;
 import com.palantir.lock.watch.LockWatchCreatedEvent;
 import com.palantir.lock.watch.LockWatchEvent;
 import com.palantir.lock.watch.LockWatchStateUpdate;
 import com.palantir.lock.watch.LockWatchVersion;
+import com.palantir.lock.watch.UnlockEvent;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.logsafe.Unsafe;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
@@ -49,6 +57,7 @@ final class LockWatchEventLog {
     private final VersionedEventStore eventStore;
     private final ReadWriteLock eventLock;
     private volatile Optional<LockWatchVersion> latestVersion = Optional.empty();
+    private Optional<Long> deltaBaseVersion = Optional.empty();
 
     static LockWatchEventLog create(CacheMetrics metrics, int minEvents, int maxEvents) {
         return new LockWatchEventLog(ClientLockWatchSnapshot.create(), metrics, minEvents, maxEvents);
@@ -96,6 +105,9 @@ final class LockWatchEventLog {
         runWithWriteLock(() -> getLatestKnownVersion().ifPresent(version -> {
             LockWatchEvents eventsToBeRemoved = eventStore.retentionEvents(earliestSequence);
             snapshot.processEvents(eventsToBeRemoved, version.id());
+            if (!eventsToBeRemoved.events().isEmpty()) {
+                deltaBaseVersion = Optional.empty();
+            }
         }));
     }
 
@@ -198,7 +210,8 @@ final class LockWatchEventLog {
     }
 
     private boolean tooFarBehindEventLog(LockWatchVersion startVersion) {
-        return !eventStore.containsEntryLessThanOrEqualTo(startVersion.version());
+        return !eventStore.containsEntryLessThanOrEqualTo(startVersion.version())
+                && deltaBaseVersion.filter(base -> startVersion.version() > base).isEmpty();
     }
 
     private boolean differentLeader(LockWatchVersion currentVersion, LockWatchVersion startVersion) {
@@ -219,10 +232,11 @@ final class LockWatchEventLog {
     }
 
     /**
-     * While processing snapshots and failures require write locks (as they modify both the snapshot and the event
-     * store), a success only modifies the event store as no retention is performed. As such, a read lock is *mostly*
-     * sufficient: it technically is possible to race on concurrent successes, particularly if they have different
-     * events, but this should be guarded against by the caller of {@link #processUpdate(LockWatchStateUpdate)}.
+     * While processing snapshots, deltas and failures require write locks (as they modify both the snapshot and the
+     * event store), a success only modifies the event store as no retention is performed. As such, a read lock is
+     * *mostly* sufficient: it technically is possible to race on concurrent successes, particularly if they have
+     * different events, but this should be guarded against by the caller of
+     * {@link #processUpdate(LockWatchStateUpdate)}.
      */
     private void processSuccess(LockWatchStateUpdate.Success success) {
         runWithReadLock(() -> {
@@ -257,10 +271,64 @@ final class LockWatchEventLog {
         }
     }
 
+    /**
+     * A delta is applied as a run of synthetic events occupying the last three versions it covers: the creation of any
+     * new watches, a lock of every descriptor that changed (so that anything cached for them is invalidated), and an
+     * unlock of those that are no longer locked.
+     * <p>
+     * The versions in between are never seen by this client, but the event store and the snapshot must still form a
+     * contiguous sequence. Thus, as with a snapshot update, the events held so far are folded into the snapshot, which
+     * is then moved to the version just before the synthetic events. Unlike a snapshot update, clients are not
+     * instructed to clear their caches: anything that last saw a version at or after the base of the delta can still be
+     * brought up to date with just the synthetic events, while anything older receives a snapshot as usual.
+     */
+    private void processDelta(LockWatchStateUpdate.Delta delta) {
+        runWithWriteLock(() -> processDeltaInternal(delta));
+    }
+
+    private void processDeltaInternal(LockWatchStateUpdate.Delta delta) {
+        Preconditions.checkState(latestVersion.isPresent(), "Must have a known version to process delta updates");
+        Preconditions.checkState(
+                snapshot.getSnapshotVersion().isPresent(), "Must have a snapshot before processing delta updates");
+
+        long currentVersion = latestVersion.get().version();
+        if (delta.lastKnownVersion() <= currentVersion) {
+            return;
+        }
+
+        // A delta from an earlier version also covers everything after the current one.
+        if (delta.fromVersion() > currentVersion || delta.lastKnownVersion() - currentVersion < 3) {
+            throw new TransactionLockWatchFailedException("Delta update starts after the current version, or does "
+                    + "not cover enough versions to be applied. The transaction should be retried, but this should "
+                    + "only happen rarely.");
+        }
+
+        long version = delta.lastKnownVersion();
+        snapshot.processEvents(
+                LockWatchEvents.builder()
+                        .addAllEvents(eventStore.getEventsBetweenVersionsInclusive(Optional.empty(), currentVersion))
+                        .build(),
+                delta.logId());
+        eventStore.clear();
+        snapshot.advanceVersion(version - 3);
+        deltaBaseVersion = Optional.of(currentVersion);
+
+        Set<LockDescriptor> changed = Sets.union(delta.locked(), delta.unlocked());
+        LockWatchEvents events = LockWatchEvents.builder()
+                .addEvents(LockWatchCreatedEvent.builder(delta.newLockWatches(), ImmutableSet.of())
+                        .build(version - 2))
+                .addEvents(LockEvent.builder(changed, LockToken.of(UUID.randomUUID()))
+                        .build(version - 1))
+                .addEvents(UnlockEvent.builder(delta.unlocked()).build(version))
+                .build();
+        latestVersion = Optional.of(LockWatchVersion.of(delta.logId(), eventStore.putAll(events)));
+    }
+
     private void processSnapshot(LockWatchStateUpdate.Snapshot snapshotUpdate) {
         runWithWriteLock(() -> {
             eventStore.clear();
             snapshot.resetWithSnapshot(snapshotUpdate);
+            deltaBaseVersion = Optional.empty();
             latestVersion = Optional.of(LockWatchVersion.of(snapshotUpdate.logId(), snapshotUpdate.lastKnownVersion()));
         });
     }
@@ -269,6 +337,7 @@ final class LockWatchEventLog {
         runWithWriteLock(() -> {
             eventStore.clear();
             snapshot.reset();
+            deltaBaseVersion = Optional.empty();
             latestVersion = Optional.empty();
         });
     }
@@ -287,6 +356,12 @@ final class LockWatchEventLog {
             processSnapshot(snapshotUpdate);
             return new CacheUpdate(true, latestVersion);
         }
+
+        @Override
+        public CacheUpdate visit(LockWatchStateUpdate.Delta delta) {
+            processDelta(delta);
+            return new CacheUpdate(false, Optional.of(LockWatchVersion.of(delta.logId(), delta.lastKnownVersion())));
+        }
     }
 
     private final class NewLeaderVisitor implements LockWatchStateUpdate.Visitor<CacheUpdate> {
@@ -302,5 +377,11 @@ final class LockWatchEventLog {
             processSnapshot(snapshotUpdate);
             return new CacheUpdate(true, latestVersion);
         }
+
+        @Override
+        public CacheUpdate visit(LockWatchStateUpdate.Delta delta) {
+            processFailed();
+            return CacheUpdate.FAILED;
+        }
     }
 }
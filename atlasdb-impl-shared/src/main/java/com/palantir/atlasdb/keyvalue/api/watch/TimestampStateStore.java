@@ -20,7 +20,6 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSortedMap;
-import com.google.common.collect.ImmutableSortedSet;
 import com.google.common.collect.Multimaps;
 import com.google.common.collect.SortedSetMultimap;
 import com.google.common.collect.TreeMultimap;
@@ -35,15 +34,14 @@ import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.NavigableMap;
-import java.util.NavigableSet;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ConcurrentSkipListMap;
-import java.util.concurrent.ConcurrentSkipListSet;
-import javax.annotation.concurrent.NotThreadSafe;
+import java.util.TreeMap;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.eclipse.collections.api.map.primitive.MutableLongIntMap;
+import org.eclipse.collections.api.map.primitive.MutableLongObjectMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongIntHashMap;
+import org.eclipse.collections.impl.map.mutable.primitive.LongObjectHashMap;
 import org.immutables.value.Value;
 
 /**
@@ -54,49 +52,48 @@ import org.immutables.value.Value;
  * definitely have this information). Each timestamp may also be updated with its commit version and commit lock
  * token (in a single operation). These together may then be used to retrieve relevant events for that transaction.
  *
- * Note that this class may not be thread safe in the general case, but can be used safely, depending on the caller. The
- * main things to call out are:
+ * Timestamps are keyed by primitive longs, and the living versions are tracked as a count of live timestamps per
+ * sequence rather than as a set of the timestamps themselves, so adding or removing a timestamp does not allocate
+ * (beyond the version info, which is shared by all timestamps started in the same batch). Every operation is a constant
+ * time update to these maps under this object's monitor, apart from:
  *
- * 1. Each timestamp is independent of each other, and thus updates should not interact. Updates to the same key may
- *    be executed in any order (and indeed, an update may race the initial put), but these should be handled by the
- *    caller.
- * 2. The entries in the living versions multimap may not be independent (as a single version may correspond to many
- *    timestamps), but the update concurrency should be handled by the data structure.
- * 3. Calls to {@link #getEarliestLiveSequence()} uses a snapshot of livingVersions map;
- *    this method should be called sparsely. Given that it is only used for retentioning events, which can be eventually
- *    consistent (as it is always correct to keep more events rather than less), this is acceptable for performance.
+ * 1. {@link #getEarliestLiveSequence()}, which is linear in the number of distinct live sequences. It is only used for
+ *    retentioning events, and so is called sparsely.
+ * 2. {@link #getStateForDiagnostics()}, which copies the whole state.
  */
-@NotThreadSafe
+@ThreadSafe
 final class TimestampStateStore {
     private static final SafeLogger log = SafeLoggerFactory.get(TimestampStateStore.class);
 
     @VisibleForTesting
-    static final int MAXIMUM_SIZE = 20_000;
+    static final int MAXIMUM_SIZE = 500_000;
 
-    private final NavigableMap<StartTimestamp, TimestampVersionInfo> timestampMap = new ConcurrentSkipListMap<>();
-    private final ConcurrentMap<Sequence, NavigableSet<StartTimestamp>> livingVersions = new ConcurrentHashMap<>();
+    @GuardedBy("this")
+    private final MutableLongObjectMap<TimestampVersionInfo> timestampMap = new LongObjectHashMap<>();
 
-    void putStartTimestamps(Collection<Long> startTimestamps, LockWatchVersion version) {
+    @GuardedBy("this")
+    private final MutableLongIntMap liveTimestampsPerSequence = new LongIntHashMap();
+
+    synchronized void putStartTimestamps(Collection<Long> startTimestamps, LockWatchVersion version) {
         if (startTimestamps.isEmpty()) {
             return;
         }
 
         validateStateSize();
 
-        Sequence sequence = Sequence.of(version.version());
+        long sequence = version.version();
         TimestampVersionInfo currentVersion = TimestampVersionInfo.of(version);
-        startTimestamps.stream().map(StartTimestamp::of).forEach(startTimestamp -> {
-            TimestampVersionInfo previous = timestampMap.putIfAbsent(startTimestamp, currentVersion);
-            Preconditions.checkArgument(previous == null, "Start timestamp already present in map");
-            livingVersions
-                    .computeIfAbsent(sequence, _seq -> new ConcurrentSkipListSet<>())
-                    .add(startTimestamp);
-        });
+        for (long startTimestamp : startTimestamps) {
+            Preconditions.checkArgument(
+                    !timestampMap.containsKey(startTimestamp), "Start timestamp already present in map");
+            timestampMap.put(startTimestamp, currentVersion);
+            liveTimestampsPerSequence.addToValue(sequence, 1);
+        }
     }
 
-    void putCommitUpdates(Collection<TransactionUpdate> transactionUpdates, LockWatchVersion newVersion) {
-        transactionUpdates.forEach(transactionUpdate -> {
-            StartTimestamp startTimestamp = StartTimestamp.of(transactionUpdate.startTs());
+    synchronized void putCommitUpdates(Collection<TransactionUpdate> transactionUpdates, LockWatchVersion newVersion) {
+        for (TransactionUpdate transactionUpdate : transactionUpdates) {
+            long startTimestamp = transactionUpdate.startTs();
             TimestampVersionInfo previousEntry = timestampMap.get(startTimestamp);
             if (previousEntry == null) {
                 throw new TransactionLockWatchFailedException("Start timestamp missing from map");
@@ -105,40 +102,41 @@ final class TimestampStateStore {
             Preconditions.checkArgument(
                     previousEntry.commitInfo().isEmpty(), "Commit info already present for given timestamp");
 
-            timestampMap.replace(
+            timestampMap.put(
                     startTimestamp,
                     previousEntry.withCommitInfo(CommitInfo.of(transactionUpdate.writesToken(), newVersion)));
-        });
+        }
     }
 
-    void remove(long startTimestamp) {
-        StartTimestamp startTs = StartTimestamp.of(startTimestamp);
-        TimestampVersionInfo entry = timestampMap.remove(startTs);
+    synchronized void remove(long startTimestamp) {
+        TimestampVersionInfo entry = timestampMap.remove(startTimestamp);
         if (entry != null) {
-            Sequence seq = Sequence.of(entry.version().version());
-            NavigableSet<StartTimestamp> startTimestamps = livingVersions.get(seq);
-            if (startTimestamps != null && startTimestamps.remove(startTs) && startTimestamps.isEmpty()) {
+            long sequence = entry.version().version();
+            if (liveTimestampsPerSequence.addToValue(sequence, -1) <= 0) {
                 // clean up if this was the last timestamp for sequence
-                livingVersions.remove(seq, ImmutableSortedSet.of());
+                liveTimestampsPerSequence.remove(sequence);
             }
         }
     }
 
-    void clear() {
+    synchronized void clear() {
         timestampMap.clear();
-        livingVersions.clear();
+        liveTimestampsPerSequence.clear();
     }
 
     Optional<LockWatchVersion> getStartVersion(long startTimestamp) {
         return getTimestampInfo(startTimestamp).map(TimestampVersionInfo::version);
     }
 
-    Optional<TimestampVersionInfo> getTimestampInfo(long startTimestamp) {
-        return Optional.ofNullable(timestampMap.get(StartTimestamp.of(startTimestamp)));
+    synchronized Optional<TimestampVersionInfo> getTimestampInfo(long startTimestamp) {
+        return Optional.ofNullable(timestampMap.get(startTimestamp));
     }
 
-    Optional<Sequence> getEarliestLiveSequence() {
-        return livingVersions.keySet().stream().min(Comparator.naturalOrder());
+    synchronized Optional<Sequence> getEarliestLiveSequence() {
+        if (liveTimestampsPerSequence.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(Sequence.of(liveTimestampsPerSequence.keysView().min()));
     }
 
     @VisibleForTesting
@@ -147,29 +145,33 @@ final class TimestampStateStore {
     }
 
     @Unsafe
-    TimestampStateStoreState getStateForDiagnostics() {
-        // This method doesn't need to read a thread-safe snapshot of timestampMap and livingVersions
+    synchronized TimestampStateStoreState getStateForDiagnostics() {
+        TreeMap<StartTimestamp, TimestampVersionInfo> timestamps = new TreeMap<>();
         SortedSetMultimap<Sequence, StartTimestamp> living = TreeMultimap.create();
-        livingVersions.forEach(
-                (sequence, startTimestamps) -> living.putAll(sequence, ImmutableSortedSet.copyOf(startTimestamps)));
+        timestampMap.forEachKeyValue((startTimestamp, info) -> {
+            StartTimestamp startTs = StartTimestamp.of(startTimestamp);
+            timestamps.put(startTs, info);
+            living.put(Sequence.of(info.version().version()), startTs);
+        });
 
         return ImmutableTimestampStateStoreState.builder()
-                .timestampMap(ImmutableSortedMap.copyOf(timestampMap))
+                .timestampMap(ImmutableSortedMap.copyOfSorted(timestamps))
                 .livingVersions(Multimaps.unmodifiableSortedSetMultimap(living))
                 .build();
     }
 
+    @GuardedBy("this")
     private void validateStateSize() {
         int timestampMapSize = timestampMap.size();
-        int livingVersionsSize = livingVersions.size();
+        int livingVersionsSize = liveTimestampsPerSequence.size();
         if (timestampMapSize > MAXIMUM_SIZE || livingVersionsSize > MAXIMUM_SIZE) {
             log.warn(
                     "Timestamp state store has exceeded its maximum size. This likely indicates a memory leak",
                     SafeArg.of("timestampMapSize", timestampMapSize),
                     SafeArg.of("livingVersionsSize", livingVersionsSize),
                     SafeArg.of("maximumSize", MAXIMUM_SIZE),
-                    SafeArg.of("minimumLiveTimestamp", timestampMap.firstEntry()),
-                    SafeArg.of("maximumLiveTimestamp", timestampMap.lastEntry()),
+                    SafeArg.of("minimumLiveTimestamp", timestampMap.keysView().minIfEmpty(-1L)),
+                    SafeArg.of("maximumLiveTimestamp", timestampMap.keysView().maxIfEmpty(-1L)),
                     SafeArg.of("minimumLiveVersion", getEarliestLiveSequence()));
             throw new SafeIllegalStateException("Exceeded maximum timestamp state store size");
         }
@@ -21,6 +21,9 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.transaction.impl.TransactionRetryStrategy;
 import com.palantir.conjure.java.api.config.service.HumanReadableDuration;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @JsonDeserialize(as = ImmutableTransactionConfig.class)
@@ -62,6 +65,69 @@ public abstract class TransactionConfig {
         return HumanReadableDuration.minutes(15);
     }
 
+    /**
+     * If set, a committing transaction writes to the key value service in chunks of at most this many cells, with a
+     * bounded number of chunk writes in flight at once. All writes are still enqueued on the sweep queue in a single
+     * call, before any chunk is written. If absent, all writes of a transaction are written in a single batch.
+     */
+    public abstract Optional<Integer> commitWriteChunkSizeCells();
+
+    /**
+     * Upper bound on the approximate size of a single chunk of writes. Only used if
+     * {@link #commitWriteChunkSizeCells()} is set.
+     */
+    @Value.Default
+    public long commitWriteChunkSizeBytes() {
+        return AtlasDbConstants.DEFAULT_COMMIT_WRITE_CHUNK_SIZE_BYTES;
+    }
+
+    /**
+     * If true, a committing transaction checks for write-write conflicts concurrently with marking itself as in
+     * progress and writing to the sweep queue, instead of before them. Conflict checking still completes before any
+     * values are written to the key value service, and a conflict still fails the commit.
+     */
+    @Value.Default
+    public boolean checkConflictsConcurrentlyWithCommitWrites() {
+        return false;
+    }
+
+    /**
+     * The number of tables a committing transaction checks for write-write conflicts at once. Tables whose conflict
+     * handler does not check for write-write conflicts are skipped without being read.
+     */
+    @Value.Default
+    public int conflictCheckTableConcurrency() {
+        return 1;
+    }
+
+    /**
+     * If set, range scans fetch and post-filter the next page of results in the background while the current page is
+     * being read. The next page is only fetched ahead if the current page was no larger than this many bytes, which
+     * bounds the memory held by pages that have been fetched but not yet read. If absent, pages are only fetched once
+     * the previous page has been read.
+     */
+    public abstract Optional<Long> rangePrefetchMaxBytesInFlight();
+
+    @Value.Check
+    protected void check() {
+        Preconditions.checkArgument(
+                commitWriteChunkSizeCells().map(size -> size > 0).orElse(true),
+                "Commit write chunk size must be positive",
+                SafeArg.of("commitWriteChunkSizeCells", commitWriteChunkSizeCells()));
+        Preconditions.checkArgument(
+                commitWriteChunkSizeBytes() > 0,
+                "Commit write chunk size in bytes must be positive",
+                SafeArg.of("commitWriteChunkSizeBytes", commitWriteChunkSizeBytes()));
+        Preconditions.checkArgument(
+                conflictCheckTableConcurrency() > 0,
+                "Conflict check table concurrency must be positive",
+                SafeArg.of("conflictCheckTableConcurrency", conflictCheckTableConcurrency()));
+        Preconditions.checkArgument(
+                rangePrefetchMaxBytesInFlight().map(bytes -> bytes > 0).orElse(true),
+                "Range prefetch bytes in flight must be positive",
+                SafeArg.of("rangePrefetchMaxBytesInFlight", rangePrefetchMaxBytesInFlight()));
+    }
+
     /**
      * TODO(fdesouza): Remove this once PDS-95791 is resolved.
      * @deprecated Remove this once PDS-95791 is resolved.
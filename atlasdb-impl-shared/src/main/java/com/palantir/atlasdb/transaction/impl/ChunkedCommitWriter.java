@@ -0,0 +1,213 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.impl;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.Uninterruptibles;
+import com.palantir.atlasdb.cell.api.TransactionKeyValueService;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.impl.Cells;
+import com.palantir.atlasdb.sweep.queue.MultiTableSweepQueueWriter;
+import com.palantir.atlasdb.transaction.impl.metrics.SnapshotTransactionMetricFactory;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Writes the buffered writes of a committing transaction to the key value service in bounded chunks, instead of
+ * handing the entire write map to it in a single call.
+ * <p>
+ * The entire write set is enqueued on the sweep queue in a single call, and the post-enqueue check has passed, before
+ * any chunk is written to the key value service, so the ordering that the commit protocol relies on holds for every
+ * cell. The sweep queue itself is not chunked: it assigns write indices and decides whether a transaction needs
+ * dedicated rows per call, so it must see all writes of a transaction at once. Across chunks, the next chunk is
+ * assembled on the calling thread while up to {@link #MAX_CHUNKS_IN_FLIGHT} key value service writes run in the
+ * background, and all of them have completed by the time {@link #write} returns.
+ */
+final class ChunkedCommitWriter {
+    private static final SafeLogger log = SafeLoggerFactory.get(ChunkedCommitWriter.class);
+
+    @VisibleForTesting
+    static final int MAX_CHUNKS_IN_FLIGHT = 2;
+
+    private final MultiTableSweepQueueWriter sweepQueue;
+    private final TransactionKeyValueService transactionKeyValueService;
+    private final ListeningExecutorService kvsWriteExecutor;
+    private final SnapshotTransactionMetricFactory metricFactory;
+    private final int maxCellsPerChunk;
+    private final long maxBytesPerChunk;
+
+    ChunkedCommitWriter(
+            MultiTableSweepQueueWriter sweepQueue,
+            TransactionKeyValueService transactionKeyValueService,
+            ListeningExecutorService kvsWriteExecutor,
+            SnapshotTransactionMetricFactory metricFactory,
+            int maxCellsPerChunk,
+            long maxBytesPerChunk) {
+        Preconditions.checkArgument(
+                maxCellsPerChunk > 0,
+                "Chunks must be allowed to contain at least one cell",
+                SafeArg.of("maxCellsPerChunk", maxCellsPerChunk));
+        Preconditions.checkArgument(
+                maxBytesPerChunk > 0,
+                "Chunks must be allowed to contain at least one byte",
+                SafeArg.of("maxBytesPerChunk", maxBytesPerChunk));
+        this.sweepQueue = sweepQueue;
+        this.transactionKeyValueService = transactionKeyValueService;
+        this.kvsWriteExecutor = kvsWriteExecutor;
+        this.metricFactory = metricFactory;
+        this.maxCellsPerChunk = maxCellsPerChunk;
+        this.maxBytesPerChunk = maxBytesPerChunk;
+    }
+
+    /**
+     * Writes the provided writes to the sweep queue and then the key value service, chunk by chunk.
+     *
+     * @param postEnqueueCheck run after the writes have been enqueued on the sweep queue, and before any chunk is
+     * written to the key value service. If this throws, no chunks are written.
+     */
+    void write(
+            Map<TableReference, ? extends Map<Cell, byte[]>> writes, long startTimestamp, Runnable postEnqueueCheck) {
+        sweepQueue.enqueue(writes, startTimestamp);
+        postEnqueueCheck.run();
+
+        Deque<ListenableFuture<?>> inFlightWrites = new ArrayDeque<>(MAX_CHUNKS_IN_FLIGHT);
+        int chunks = 0;
+        try {
+            Iterator<Chunk> chunkIterator = new ChunkIterator(writes, maxCellsPerChunk, maxBytesPerChunk);
+            while (chunkIterator.hasNext()) {
+                Chunk chunk = chunkIterator.next();
+                chunks++;
+                metricFactory.getHistogram("commitWriteChunkCells").update(chunk.cells());
+                metricFactory.getHistogram("commitWriteChunkBytes").update(chunk.bytes());
+
+                if (inFlightWrites.size() >= MAX_CHUNKS_IN_FLIGHT) {
+                    awaitWrite(inFlightWrites.removeFirst());
+                }
+                inFlightWrites.addLast(kvsWriteExecutor.submit(
+                        () -> transactionKeyValueService.multiPut(chunk.writes(), startTimestamp)));
+            }
+            while (!inFlightWrites.isEmpty()) {
+                awaitWrite(inFlightWrites.removeFirst());
+            }
+        } catch (RuntimeException | Error e) {
+            // Do not let a background write outlive the commit attempt that issued it.
+            inFlightWrites.forEach(ChunkedCommitWriter::awaitQuietly);
+            throw e;
+        } finally {
+            metricFactory.getHistogram("commitWriteChunks").update(chunks);
+        }
+    }
+
+    /**
+     * Waits for an earlier key value service write to complete, recording for how long the calling thread stalled.
+     */
+    private void awaitWrite(ListenableFuture<?> inFlightWrite) {
+        long waitStart = System.nanoTime();
+        AtlasFutures.getUnchecked(inFlightWrite);
+        metricFactory.getTimer("commitWriteChunkStall").update(Duration.ofNanos(System.nanoTime() - waitStart));
+    }
+
+    private static void awaitQuietly(ListenableFuture<?> inFlightWrite) {
+        try {
+            Uninterruptibles.getUninterruptibly(inFlightWrite);
+        } catch (ExecutionException | RuntimeException e) {
+            log.debug("Key value service write of a chunk failed after the commit had already failed", e);
+        }
+    }
+
+    @VisibleForTesting
+    static final class Chunk {
+        private final Map<TableReference, Map<Cell, byte[]>> writes = new HashMap<>();
+        private int cells = 0;
+        private long bytes = 0;
+
+        void add(TableReference tableRef, Cell cell, byte[] value) {
+            writes.computeIfAbsent(tableRef, _unused -> new HashMap<>()).put(cell, value);
+            cells++;
+            bytes += value.length + Cells.getApproxSizeOfCell(cell);
+        }
+
+        Map<TableReference, Map<Cell, byte[]>> writes() {
+            return writes;
+        }
+
+        int cells() {
+            return cells;
+        }
+
+        long bytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * Lazily groups the writes into chunks, so that only the chunks currently being written to the key value service
+     * are materialised at any point.
+     */
+    @VisibleForTesting
+    static final class ChunkIterator extends AbstractIterator<Chunk> {
+        private final Iterator<? extends Map.Entry<TableReference, ? extends Map<Cell, byte[]>>> tables;
+        private final int maxCellsPerChunk;
+        private final long maxBytesPerChunk;
+
+        private TableReference currentTable;
+        private Iterator<? extends Map.Entry<Cell, byte[]>> currentCells;
+
+        ChunkIterator(
+                Map<TableReference, ? extends Map<Cell, byte[]>> writes, int maxCellsPerChunk, long maxBytesPerChunk) {
+            this.tables = writes.entrySet().iterator();
+            this.maxCellsPerChunk = maxCellsPerChunk;
+            this.maxBytesPerChunk = maxBytesPerChunk;
+        }
+
+        @Override
+        protected Chunk computeNext() {
+            Chunk chunk = new Chunk();
+            while (chunk.cells() < maxCellsPerChunk && chunk.bytes() < maxBytesPerChunk && advanceToNextCell()) {
+                Map.Entry<Cell, byte[]> write = currentCells.next();
+                chunk.add(currentTable, write.getKey(), write.getValue());
+            }
+            return chunk.cells() == 0 ? endOfData() : chunk;
+        }
+
+        private boolean advanceToNextCell() {
+            while (currentCells == null || !currentCells.hasNext()) {
+                if (!tables.hasNext()) {
+                    return false;
+                }
+                Map.Entry<TableReference, ? extends Map<Cell, byte[]>> table = tables.next();
+                currentTable = table.getKey();
+                currentCells = table.getValue().entrySet().iterator();
+            }
+            return true;
+        }
+    }
+}
@@ -17,6 +17,8 @@
 package com.palantir.atlasdb.transaction.impl;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.common.concurrent.NamedThreadFactory;
 import com.palantir.common.concurrent.PTExecutors;
 import java.time.Duration;
@@ -46,4 +48,27 @@ final class DefaultTaskExecutors {
                 new NamedThreadFactory("atlas-delete-executor", true),
                 new ThreadPoolExecutor.AbortPolicy());
     }
+
+    /**
+     * Creates an executor for work that transactions run concurrently with other stages of their commit.
+     */
+    static ListeningExecutorService createDefaultCommitExecutor() {
+        return MoreExecutors.listeningDecorator(PTExecutors.newCachedThreadPool("atlas-commit-executor"));
+    }
+
+    /**
+     * Creates an executor for writing chunks of commit writes to the key value service. This is not bounded, so that
+     * a slow write cannot hold up the writes of unrelated commits; each committing thread waits for its own chunks and
+     * keeps a bounded number of them in flight, so the number of threads is bounded by the number of commits.
+     */
+    static ListeningExecutorService createDefaultCommitWriteExecutor() {
+        return MoreExecutors.listeningDecorator(PTExecutors.newCachedThreadPool("atlas-commit-write-executor"));
+    }
+
+    /**
+     * Creates an executor for fetching the next page of range scans ahead of it being read.
+     */
+    static ListeningExecutorService createDefaultRangePrefetchExecutor() {
+        return MoreExecutors.listeningDecorator(PTExecutors.newCachedThreadPool("atlas-range-prefetch"));
+    }
 }
@@ -0,0 +1,209 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.impl;
+
+import com.google.common.math.LongMath;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * A {@link Flow.Publisher} of the elements of an iterator, which is only advanced once a subscriber has signalled
+ * demand for more elements.
+ * <p>
+ * Each subscription reads from its own iterator, created once demand is first signalled. Elements are emitted by tasks
+ * on the given executor, which only run while the subscription has outstanding demand, and which each emit at most a
+ * bounded number of elements before yielding their thread. A subscription therefore holds no thread while its
+ * subscriber is not ready for more elements, and many subscriptions can share a small executor. At most one task runs
+ * for a subscription at a time, so the iterator does not need to be thread safe.
+ */
+final class IteratorPublisher<T> implements Flow.Publisher<T> {
+    private static final SafeLogger log = SafeLoggerFactory.get(IteratorPublisher.class);
+
+    private final Supplier<ClosableIterator<T>> iteratorFactory;
+    private final Executor executor;
+    private final int maxElementsPerTask;
+
+    IteratorPublisher(Supplier<ClosableIterator<T>> iteratorFactory, Executor executor, int maxElementsPerTask) {
+        Preconditions.checkArgument(
+                maxElementsPerTask > 0,
+                "The number of elements emitted per task must be positive",
+                SafeArg.of("maxElementsPerTask", maxElementsPerTask));
+        this.iteratorFactory = iteratorFactory;
+        this.executor = executor;
+        this.maxElementsPerTask = maxElementsPerTask;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Preconditions.checkNotNull(subscriber, "Subscriber must not be null");
+        subscriber.onSubscribe(new IteratorSubscription(subscriber));
+    }
+
+    private final class IteratorSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger pendingSignals = new AtomicInteger();
+        private volatile boolean cancelled = false;
+
+        @Nullable
+        private volatile Throwable invalidRequest = null;
+
+        // Only accessed by the task emitting elements for this subscription.
+        @Nullable
+        private ClosableIterator<T> iterator = null;
+
+        private boolean terminated = false;
+
+        private IteratorSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long elements) {
+            if (elements <= 0) {
+                invalidRequest = new SafeIllegalArgumentException(
+                        "Subscribers must request a positive number of elements",
+                        SafeArg.of("requested", elements));
+            } else {
+                demand.getAndUpdate(current -> LongMath.saturatedAdd(current, elements));
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            signal();
+        }
+
+        /**
+         * Ensures that a task will observe the latest demand and cancellation state. Signals that arrive while a task
+         * is running are counted, and picked up by that task before it exits.
+         */
+        private void signal() {
+            if (pendingSignals.getAndIncrement() == 0) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                fail(e);
+            }
+        }
+
+        private void drain() {
+            int missed = 1;
+            while (true) {
+                if (!terminated && emit()) {
+                    // Another task has been scheduled to carry on emitting, and takes over the pending signals.
+                    return;
+                }
+                missed = pendingSignals.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Emits elements up to the current demand, and returns whether a task was scheduled to emit further elements.
+         */
+        private boolean emit() {
+            if (invalidRequest != null) {
+                fail(invalidRequest);
+                return false;
+            }
+            long requested = demand.get();
+            long emitted = 0;
+            while (emitted < requested && emitted < maxElementsPerTask) {
+                if (cancelled) {
+                    terminate();
+                    return false;
+                }
+
+                T next;
+                try {
+                    if (iterator == null) {
+                        iterator = iteratorFactory.get();
+                    }
+                    if (!iterator.hasNext()) {
+                        terminate();
+                        subscriber.onComplete();
+                        return false;
+                    }
+                    next = iterator.next();
+                } catch (RuntimeException e) {
+                    fail(e);
+                    return false;
+                }
+
+                try {
+                    subscriber.onNext(next);
+                } catch (RuntimeException e) {
+                    log.warn("Subscriber failed to handle an element, so its subscription has been cancelled", e);
+                    terminate();
+                    return false;
+                }
+                emitted++;
+            }
+
+            if (cancelled) {
+                terminate();
+                return false;
+            }
+            if (requested != Long.MAX_VALUE) {
+                demand.addAndGet(-emitted);
+            }
+            if (emitted == maxElementsPerTask && demand.get() > 0) {
+                schedule();
+                return true;
+            }
+            return false;
+        }
+
+        private void fail(Throwable throwable) {
+            terminate();
+            subscriber.onError(throwable);
+        }
+
+        private void terminate() {
+            terminated = true;
+            if (iterator != null) {
+                try {
+                    iterator.close();
+                } catch (RuntimeException e) {
+                    log.warn("Failed to close the iterator of a cancelled or completed subscription", e);
+                }
+                iterator = null;
+            }
+        }
+    }
+}
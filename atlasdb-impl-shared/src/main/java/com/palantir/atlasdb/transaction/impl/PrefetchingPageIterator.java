@@ -0,0 +1,176 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.impl;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.atlasdb.futures.AtlasFutures;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.transaction.impl.metrics.SnapshotTransactionMetricFactory;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Optional;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.immutables.value.Value;
+
+/**
+ * Iterates over pages of a range scan, computing the next page in the background while the caller consumes the
+ * current one, so that the key value service round trip and post-filtering of a page overlap with the processing of
+ * the previous page.
+ * <p>
+ * Pages are computed one at a time, in order, so the underlying page iterator is never accessed concurrently. To bound
+ * the memory used by pages that have been fetched but not yet consumed, the next page is only prefetched if the
+ * current page was no larger than the maximum number of bytes in flight, as consecutive pages of a range are typically
+ * of similar size. If the caller stops iterating early, any page being prefetched is discarded, and the underlying
+ * resources are only closed once it has been computed.
+ */
+@NotThreadSafe
+final class PrefetchingPageIterator<T> extends AbstractIterator<T> implements ClosableIterator<T> {
+    private static final SafeLogger log = SafeLoggerFactory.get(PrefetchingPageIterator.class);
+
+    private final Iterator<Page<T>> pages;
+    private final Closeable resources;
+    private final ListeningExecutorService executor;
+    private final long maxBytesInFlight;
+    private final SnapshotTransactionMetricFactory metricFactory;
+    private final TableReference tableRef;
+
+    @Nullable
+    private ListenableFuture<Optional<Page<T>>> prefetchedPage = null;
+
+    private boolean closed = false;
+
+    PrefetchingPageIterator(
+            Iterator<Page<T>> pages,
+            Closeable resources,
+            ListeningExecutorService executor,
+            long maxBytesInFlight,
+            SnapshotTransactionMetricFactory metricFactory,
+            TableReference tableRef) {
+        Preconditions.checkArgument(
+                maxBytesInFlight > 0,
+                "The maximum number of bytes in flight must be positive",
+                SafeArg.of("maxBytesInFlight", maxBytesInFlight));
+        this.pages = pages;
+        this.resources = resources;
+        this.executor = executor;
+        this.maxBytesInFlight = maxBytesInFlight;
+        this.metricFactory = metricFactory;
+        this.tableRef = tableRef;
+    }
+
+    @Override
+    protected T computeNext() {
+        Preconditions.checkState(!closed, "Cannot iterate over a closed range");
+        Optional<Page<T>> page = prefetchedPage == null ? nextPage() : awaitPrefetchedPage();
+        prefetchedPage = null;
+        if (page.isEmpty()) {
+            return endOfData();
+        }
+
+        if (page.get().sizeInBytes() <= maxBytesInFlight) {
+            prefetchedPage = executor.submit(this::nextPage);
+            metricFactory.getCounter("rangePagesPrefetched", tableRef).inc();
+        }
+        return page.get().contents();
+    }
+
+    private Optional<Page<T>> nextPage() {
+        return pages.hasNext() ? Optional.of(pages.next()) : Optional.empty();
+    }
+
+    private Optional<Page<T>> awaitPrefetchedPage() {
+        if (prefetchedPage.isDone()) {
+            metricFactory.getCounter("rangePrefetchHits", tableRef).inc();
+            return AtlasFutures.getUnchecked(prefetchedPage);
+        }
+        long waitStart = System.nanoTime();
+        try {
+            return AtlasFutures.getUnchecked(prefetchedPage);
+        } finally {
+            metricFactory
+                    .getTimer("rangePrefetchWait", tableRef)
+                    .update(Duration.ofNanos(System.nanoTime() - waitStart));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (prefetchedPage == null) {
+            closeResources();
+            return;
+        }
+
+        // The prefetch may still be reading from the underlying resources, so they may only be closed once it is done.
+        Futures.addCallback(
+                prefetchedPage,
+                new FutureCallback<Optional<Page<T>>>() {
+                    @Override
+                    public void onSuccess(Optional<Page<T>> page) {
+                        if (page.isPresent()) {
+                            metricFactory.getCounter("rangePrefetchWasted", tableRef).inc();
+                        }
+                        closeResources();
+                    }
+
+                    @Override
+                    public void onFailure(Throwable throwable) {
+                        log.debug("Prefetching a page of a range that was no longer being read failed", throwable);
+                        closeResources();
+                    }
+                },
+                MoreExecutors.directExecutor());
+        prefetchedPage = null;
+    }
+
+    private void closeResources() {
+        try {
+            resources.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Value.Immutable
+    interface Page<T> {
+        @Value.Parameter
+        T contents();
+
+        /**
+         * An estimate of the memory used by this page.
+         */
+        @Value.Parameter
+        long sizeInBytes();
+    }
+}
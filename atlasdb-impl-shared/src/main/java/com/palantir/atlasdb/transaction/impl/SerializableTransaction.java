@@ -35,6 +35,7 @@ import com.google.common.collect.Streams;
 import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.atlasdb.cache.TimestampCache;
 import com.palantir.atlasdb.cell.api.TransactionKeyValueService;
@@ -166,6 +167,9 @@ public class SerializableTransaction extends SnapshotTransaction {
             int defaultGetRangesConcurrency,
             MultiTableSweepQueueWriter sweepQueue,
             DeleteExecutor deleteExecutor,
+            ListeningExecutorService commitExecutor,
+            ListeningExecutorService commitWriteExecutor,
+            ListeningExecutorService rangePrefetchExecutor,
             boolean validateLocksOnReads,
             Supplier<TransactionConfig> transactionConfig,
             ConflictTracer conflictTracer,
@@ -195,6 +199,9 @@ public class SerializableTransaction extends SnapshotTransaction {
                 defaultGetRangesConcurrency,
                 sweepQueue,
                 deleteExecutor,
+                commitExecutor,
+                commitWriteExecutor,
+                rangePrefetchExecutor,
                 validateLocksOnReads,
                 transactionConfig,
                 conflictTracer,
@@ -935,6 +942,9 @@ public class SerializableTransaction extends SnapshotTransaction {
                 defaultGetRangesConcurrency,
                 sweepQueue,
                 deleteExecutor,
+                commitExecutor,
+                commitWriteExecutor,
+                rangePrefetchExecutor,
                 validateLocksOnReads,
                 transactionConfig,
                 conflictTracer,
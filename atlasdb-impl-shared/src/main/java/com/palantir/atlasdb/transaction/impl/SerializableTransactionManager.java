@@ -607,6 +607,9 @@ public class SerializableTransactionManager extends SnapshotTransactionManager {
                 defaultGetRangesConcurrency,
                 sweepQueueWriter,
                 deleteExecutor,
+                commitExecutor,
+                commitWriteExecutor,
+                rangePrefetchExecutor,
                 validateLocksOnReads,
                 transactionConfig,
                 conflictTracer,
@@ -42,7 +42,9 @@ import com.google.common.io.Closer;
 import com.google.common.primitives.UnsignedBytes;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.errorprone.annotations.MustBeClosed;
 import com.google.errorprone.annotations.RestrictedApi;
 import com.palantir.atlasdb.AtlasDbConstants;
@@ -136,9 +138,11 @@ import com.palantir.common.base.AbortingVisitor;
 import com.palantir.common.base.AbstractBatchingVisitable;
 import com.palantir.common.base.BatchingVisitable;
 import com.palantir.common.base.BatchingVisitableFromIterable;
+import com.palantir.common.base.BatchingVisitableView;
 import com.palantir.common.base.BatchingVisitables;
 import com.palantir.common.base.ClosableIterator;
 import com.palantir.common.base.ClosableIterators;
+import com.palantir.common.base.Throwables;
 import com.palantir.common.collect.IteratorUtils;
 import com.palantir.common.collect.MapEntries;
 import com.palantir.common.streams.KeyedStream;
@@ -178,21 +182,26 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NavigableMap;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
@@ -285,6 +294,9 @@ public class SnapshotTransaction extends AbstractTransaction
     protected final int defaultGetRangesConcurrency;
     private final Set<TableReference> involvedTables = ConcurrentHashMap.newKeySet();
     protected final DeleteExecutor deleteExecutor;
+    protected final ListeningExecutorService commitExecutor;
+    protected final ListeningExecutorService commitWriteExecutor;
+    protected final ListeningExecutorService rangePrefetchExecutor;
     private final Timer.Context transactionTimerContext;
     protected final TransactionOutcomeMetrics transactionOutcomeMetrics;
     protected volatile boolean validateLocksOnReads;
@@ -324,6 +336,9 @@ public class SnapshotTransaction extends AbstractTransaction
      * @param immutableTimestamp If we find a row written before the immutableTimestamp we don't need to grab a read
      * lock for it because we know that no writers exist.
      * @param preCommitCondition This check must pass for this transaction to commit.
+     * @param commitExecutor Runs work concurrently with other stages of the commit, such as checking for conflicts.
+     * @param commitWriteExecutor Writes chunks of the commit writes to the key value service, if they are chunked.
+     * @param rangePrefetchExecutor Fetches the next page of range scans ahead of it being read, if enabled.
      */
     /* package */ SnapshotTransaction(
             MetricsManager metricsManager,
@@ -347,6 +362,9 @@ public class SnapshotTransaction extends AbstractTransaction
             int defaultGetRangesConcurrency,
             MultiTableSweepQueueWriter sweepQueue,
             DeleteExecutor deleteExecutor,
+            ListeningExecutorService commitExecutor,
+            ListeningExecutorService commitWriteExecutor,
+            ListeningExecutorService rangePrefetchExecutor,
             boolean validateLocksOnReads,
             Supplier<TransactionConfig> transactionConfig,
             ConflictTracer conflictTracer,
@@ -375,6 +393,9 @@ public class SnapshotTransaction extends AbstractTransaction
         this.defaultGetRangesConcurrency = defaultGetRangesConcurrency;
         this.sweepQueue = sweepQueue;
         this.deleteExecutor = deleteExecutor;
+        this.commitExecutor = commitExecutor;
+        this.commitWriteExecutor = commitWriteExecutor;
+        this.rangePrefetchExecutor = rangePrefetchExecutor;
         this.hasReads = false;
         this.hasPossiblyUnvalidatedReads = false;
         this.validateLocksOnReads = validateLocksOnReads;
@@ -1242,6 +1263,61 @@ public class SnapshotTransaction extends AbstractTransaction
         };
     }
 
+    @Override
+    public Flow.Publisher<RowResult<byte[]>> getRangePublisher(TableReference tableRef, RangeRequest rangeRequest) {
+        checkGetPreconditions(tableRef);
+        Preconditions.checkArgument(!rangeRequest.isReverse(), "we currently do not support reverse ranges");
+        int pageSize = rangeRequest.getBatchHint() != null
+                ? rangeRequest.getBatchHint()
+                : BatchingVisitables.DEFAULT_BATCH_SIZE;
+        return new IteratorPublisher<>(
+                () -> ClosableIterators.wrapWithEmptyClose(getRangeInPages(tableRef, rangeRequest, pageSize)),
+                getRangesExecutor,
+                pageSize);
+    }
+
+    /**
+     * Reads the range one page at a time, each through a separate call to {@link #getRange}, so that nothing is held
+     * open between pages. Going through {@link #getRange} means that each page is recorded as read in the same way as
+     * any other range read in this transaction.
+     */
+    private Iterator<RowResult<byte[]>> getRangeInPages(TableReference tableRef, RangeRequest range, int pageSize) {
+        return Iterators.concat(new AbstractIterator<Iterator<RowResult<byte[]>>>() {
+            @Nullable
+            private RangeRequest remaining = range.withBatchHint(pageSize);
+
+            @Override
+            protected Iterator<RowResult<byte[]>> computeNext() {
+                if (remaining == null) {
+                    return endOfData();
+                }
+                List<RowResult<byte[]>> page = BatchingVisitableView.of(getRange(tableRef, remaining))
+                        .limit(pageSize)
+                        .immutableCopy();
+                byte[] nextStartRow = page.size() < pageSize
+                        ? null
+                        : RangeRequests.getNextStartRowUnlessTerminal(
+                                false, Iterables.getLast(page).getRowName());
+                remaining = nextStartRow == null
+                        ? null
+                        : remaining.getBuilder().startRowInclusive(nextStartRow).build();
+                return page.iterator();
+            }
+        });
+    }
+
+    @Override
+    public Flow.Publisher<Map.Entry<Cell, byte[]>> getRowsColumnRangePublisher(
+            TableReference tableRef, Iterable<byte[]> rows, ColumnRangeSelection columnRangeSelection, int batchHint) {
+        checkGetPreconditions(tableRef);
+        ImmutableList<byte[]> stableRows = ImmutableList.copyOf(rows);
+        return new IteratorPublisher<>(
+                () -> ClosableIterators.wrapWithEmptyClose(
+                        getRowsColumnRange(tableRef, stableRows, columnRangeSelection, batchHint)),
+                getRangesExecutor,
+                batchHint);
+    }
+
     private void validatePreCommitRequirementsOnNonExhaustiveReadIfNecessary(TableReference tableRef, long timestamp) {
         validatePreCommitRequirementsOnReadIfNecessary(tableRef, timestamp, false);
     }
@@ -1416,28 +1492,55 @@ public class SnapshotTransaction extends AbstractTransaction
                 new RowRangeBatchProvider(transactionKeyValueService, tableRef, range, getStartTimestamp());
         BatchSizeIncreasingIterator<RowResult<Value>> results =
                 new BatchSizeIncreasingIterator<>(batchProvider, preFilterBatchSize, null);
-        Iterator<Iterator<RowResult<T>>> batchedPostFiltered = new AbstractIterator<Iterator<RowResult<T>>>() {
-            @Override
-            protected Iterator<RowResult<T>> computeNext() {
-                List<RowResult<Value>> batch = results.getBatch().batch();
-                if (batch.isEmpty()) {
-                    return endOfData();
-                }
-                SortedMap<Cell, T> postFilter = postFilterRows(tableRef, batch, transformer);
+        Optional<Long> prefetchMaxBytesInFlight = transactionConfig.get().rangePrefetchMaxBytesInFlight();
+        Iterator<PrefetchingPageIterator.Page<Iterator<RowResult<T>>>> batchedPostFiltered =
+                new AbstractIterator<PrefetchingPageIterator.Page<Iterator<RowResult<T>>>>() {
+                    @Override
+                    protected PrefetchingPageIterator.Page<Iterator<RowResult<T>>> computeNext() {
+                        List<RowResult<Value>> batch = results.getBatch().batch();
+                        if (batch.isEmpty()) {
+                            return endOfData();
+                        }
+                        SortedMap<Cell, T> postFilter = postFilterRows(tableRef, batch, transformer);
+
+                        // can't skip lock checks for range scans
+                        validatePreCommitRequirementsOnNonExhaustiveReadIfNecessary(tableRef, getStartTimestamp());
+                        results.markNumResultsNotDeleted(
+                                Cells.getRows(postFilter.keySet()).size());
+                        // the page size is only used to bound prefetching, so don't pay for it otherwise
+                        long sizeInBytes = prefetchMaxBytesInFlight.isPresent() ? getApproxSize(batch) : 0L;
+                        return ImmutablePage.of(Cells.createRowView(postFilter.entrySet()), sizeInBytes);
+                    }
+                };
 
-                // can't skip lock checks for range scans
-                validatePreCommitRequirementsOnNonExhaustiveReadIfNecessary(tableRef, getStartTimestamp());
-                results.markNumResultsNotDeleted(
-                        Cells.getRows(postFilter.keySet()).size());
-                return Cells.createRowView(postFilter.entrySet());
-            }
-        };
+        if (prefetchMaxBytesInFlight.isPresent()) {
+            PrefetchingPageIterator<Iterator<RowResult<T>>> prefetchingPages = new PrefetchingPageIterator<>(
+                    batchedPostFiltered,
+                    results,
+                    rangePrefetchExecutor,
+                    prefetchMaxBytesInFlight.get(),
+                    snapshotTransactionMetricFactory,
+                    tableRef);
+            return ClosableIterators.wrap(Iterators.concat(prefetchingPages), prefetchingPages);
+        }
 
-        final Iterator<RowResult<T>> rows = Iterators.concat(batchedPostFiltered);
+        final Iterator<RowResult<T>> rows =
+                Iterators.concat(Iterators.transform(batchedPostFiltered, PrefetchingPageIterator.Page::contents));
 
         return ClosableIterators.wrap(rows, results);
     }
 
+    private static long getApproxSize(List<RowResult<Value>> batch) {
+        long size = 0;
+        for (RowResult<Value> row : batch) {
+            size += row.getRowName().length;
+            for (Map.Entry<byte[], Value> column : row.getColumns().entrySet()) {
+                size += column.getKey().length + column.getValue().getContents().length;
+            }
+        }
+        return size;
+    }
+
     /**
      * This includes deleted writes as zero length byte arrays, be sure to strip them out.
      * <p>
@@ -1995,14 +2098,10 @@ public class SnapshotTransaction extends AbstractTransaction
             try {
                 // Conflict checking. We can actually do this later without compromising correctness, but there is no
                 // reason to postpone this check - we waste resources writing unnecessarily if these are going to fail.
-                timedAndTraced(
-                        "commitCheckingForConflicts",
-                        () -> throwIfConflictOnCommit(commitLocksToken, transactionService));
-
-                // Before doing any remote writes, we mark that the transaction is in progress. Until this point, all
-                // writes are buffered in memory.
-                timedAndTraced(
-                        "markingTransactionInProgress", () -> transactionService.markInProgress(getStartTimestamp()));
+                // If configured, the check runs concurrently with marking the transaction in progress and writing to
+                // the sweep queue; it must however complete before we write to the key value service, since it reads
+                // the latest timestamps of the cells we are about to write.
+                ListenableFuture<?> conflictCheck = startConflictCheckOnCommit(commitLocksToken, transactionService);
 
                 // Freeze the writes that we will commit. It is possible for writes to be added to the write buffer past
                 // this point (if they had passed the #ensureUncommitted check before committing started), but they will
@@ -2011,20 +2110,47 @@ public class SnapshotTransaction extends AbstractTransaction
                 // edge case.
                 Map<TableReference, ? extends Map<Cell, byte[]>> writes = localWriteBuffer.getLocalWrites();
 
-                // Write to the targeted sweep queue. We must do this before writing to the key value service -
-                // otherwise we may have hanging values that targeted sweep won't know about.
-                timedAndTraced("writingToSweepQueue", () -> sweepQueue.enqueue(writes, getStartTimestamp()));
-
-                // Introduced for txn4 - Prevents sweep from making progress beyond immutableTs before entries were
-                // put into the sweep queue. This ensures that sweep must process writes to the sweep queue done by
-                // this transaction before making progress.
-                traced(
-                        "postSweepEnqueueLockCheck",
-                        () -> preCommitRequirementValidator.throwIfImmutableTsOrCommitLocksExpired(commitLocksToken));
-
-                // Write to the key value service. We must do this before getting the commit timestamp - otherwise
-                // we risk another transaction starting at a timestamp after our commit timestamp not seeing our writes.
-                timedAndTraced("commitWrite", () -> transactionKeyValueService.multiPut(writes, getStartTimestamp()));
+                try {
+                    // Before doing any remote writes, we mark that the transaction is in progress. Until this point,
+                    // all writes are buffered in memory.
+                    timedAndTraced(
+                            "markingTransactionInProgress",
+                            () -> transactionService.markInProgress(getStartTimestamp()));
+
+                    Optional<Integer> commitWriteChunkSize = transactionConfig.get().commitWriteChunkSizeCells();
+                    if (commitWriteChunkSize.isPresent()) {
+                        // The same ordering as below is preserved: all writes are enqueued on the sweep queue at once,
+                        // and only once the post-enqueue checks have passed are they written to the key value service
+                        // in chunks.
+                        timedAndTraced(
+                                "commitWriteChunked",
+                                () -> writeChunked(
+                                        writes, commitWriteChunkSize.get(), commitLocksToken, conflictCheck));
+                    } else {
+                        // Write to the targeted sweep queue. We must do this before writing to the key value service -
+                        // otherwise we may have hanging values that targeted sweep won't know about.
+                        timedAndTraced("writingToSweepQueue", () -> sweepQueue.enqueue(writes, getStartTimestamp()));
+
+                        // Introduced for txn4 - Prevents sweep from making progress beyond immutableTs before entries
+                        // were put into the sweep queue. This ensures that sweep must process writes to the sweep queue
+                        // done by this transaction before making progress.
+                        traced(
+                                "postSweepEnqueueLockCheck",
+                                () -> preCommitRequirementValidator.throwIfImmutableTsOrCommitLocksExpired(
+                                        commitLocksToken));
+
+                        awaitConflictCheckOnCommit(conflictCheck);
+
+                        // Write to the key value service. We must do this before getting the commit timestamp -
+                        // otherwise we risk another transaction starting at a timestamp after our commit timestamp not
+                        // seeing our writes.
+                        timedAndTraced(
+                                "commitWrite", () -> transactionKeyValueService.multiPut(writes, getStartTimestamp()));
+                    }
+                } catch (RuntimeException | Error e) {
+                    throwIfConflictCheckFailed(conflictCheck, e);
+                    throw e;
+                }
 
                 // Now that all writes are done, get the commit timestamp
                 // We must do this before we check that our locks are still valid to ensure that other transactions that
@@ -2093,6 +2219,70 @@ public class SnapshotTransaction extends AbstractTransaction
         });
     }
 
+    private void writeChunked(
+            Map<TableReference, ? extends Map<Cell, byte[]>> writes,
+            int chunkSizeCells,
+            LockToken commitLocksToken,
+            ListenableFuture<?> conflictCheck) {
+        ChunkedCommitWriter writer = new ChunkedCommitWriter(
+                sweepQueue,
+                transactionKeyValueService,
+                commitWriteExecutor,
+                snapshotTransactionMetricFactory,
+                chunkSizeCells,
+                transactionConfig.get().commitWriteChunkSizeBytes());
+        writer.write(
+                writes,
+                getStartTimestamp(),
+                () -> {
+                    traced(
+                            "postSweepEnqueueLockCheck",
+                            () -> preCommitRequirementValidator.throwIfImmutableTsOrCommitLocksExpired(
+                                    commitLocksToken));
+                    awaitConflictCheckOnCommit(conflictCheck);
+                });
+    }
+
+    private ListenableFuture<?> startConflictCheckOnCommit(
+            LockToken commitLocksToken, TransactionService transactionService) {
+        Runnable conflictCheck = () -> timedAndTraced(
+                "commitCheckingForConflicts", () -> throwIfConflictOnCommit(commitLocksToken, transactionService));
+        if (transactionConfig.get().checkConflictsConcurrentlyWithCommitWrites()) {
+            return commitExecutor.submit(conflictCheck);
+        }
+        conflictCheck.run();
+        return Futures.immediateVoidFuture();
+    }
+
+    private static void awaitConflictCheckOnCommit(ListenableFuture<?> conflictCheck) {
+        try (CloseableTracer tracer = CloseableTracer.startSpan("awaitConflictCheckOnCommit")) {
+            conflictCheck.get();
+        } catch (ExecutionException e) {
+            throw Throwables.throwUncheckedException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SafeRuntimeException("Interrupted while waiting for commit conflict checking", e);
+        }
+    }
+
+    /**
+     * If a commit stage running concurrently with conflict checking failed, a conflict is the more useful failure to
+     * surface, as it tells the caller that retrying the transaction is meaningful.
+     */
+    private static void throwIfConflictCheckFailed(ListenableFuture<?> conflictCheck, Throwable commitFailure) {
+        try {
+            Futures.getUnchecked(conflictCheck);
+        } catch (UncheckedExecutionException e) {
+            if (e.getCause() instanceof TransactionConflictException && e.getCause() != commitFailure) {
+                TransactionConflictException conflict = (TransactionConflictException) e.getCause();
+                conflict.addSuppressed(commitFailure);
+                throw conflict;
+            }
+        } catch (RuntimeException e) {
+            // The failure of the commit stage is rethrown by the caller.
+        }
+    }
+
     private void throwIfTransactionKeyValueServiceNoLongerValid(long commitTimestamp) {
         if (!transactionKeyValueService.isValid(commitTimestamp)) {
             throw new SafeTransactionFailedRetriableException(
@@ -2148,14 +2338,58 @@ public class SnapshotTransaction extends AbstractTransaction
 
     /**
      * Make sure we have all the rows we are checking already locked before calling this.
+     * <p>
+     * Up to {@link TransactionConfig#conflictCheckTableConcurrency()} tables are checked at once. If several tables
+     * have conflicts, which of them is reported is not defined.
      */
     protected void throwIfConflictOnCommit(LockToken commitLocksToken, TransactionService transactionService)
             throws TransactionConflictException {
-        for (Map.Entry<TableReference, ConcurrentNavigableMap<Cell, byte[]>> write :
-                localWriteBuffer.getLocalWrites().entrySet()) {
+        Map<TableReference, ConcurrentNavigableMap<Cell, byte[]>> writes = localWriteBuffer.getLocalWrites();
+        Map<TableReference, ConflictHandler> tablesToCheck = new LinkedHashMap<>();
+        for (Map.Entry<TableReference, ConcurrentNavigableMap<Cell, byte[]>> write : writes.entrySet()) {
             ConflictHandler conflictHandler = getConflictHandlerForTable(write.getKey());
-            throwIfWriteAlreadyCommitted(
-                    write.getKey(), write.getValue(), conflictHandler, commitLocksToken, transactionService);
+            if (!write.getValue().isEmpty() && conflictHandler.checkWriteWriteConflicts()) {
+                tablesToCheck.put(write.getKey(), conflictHandler);
+            }
+        }
+
+        Queue<TableReference> remainingTables = new ConcurrentLinkedQueue<>(tablesToCheck.keySet());
+        Runnable conflictChecker = () -> {
+            for (TableReference tableRef = remainingTables.poll();
+                    tableRef != null;
+                    tableRef = remainingTables.poll()) {
+                try (Timer.Context timer = snapshotTransactionMetricFactory
+                        .getTimer("commitCheckingForConflictsOnTable", tableRef)
+                        .time()) {
+                    throwIfWriteAlreadyCommitted(
+                            tableRef,
+                            writes.get(tableRef),
+                            tablesToCheck.get(tableRef),
+                            commitLocksToken,
+                            transactionService);
+                }
+            }
+        };
+
+        int concurrency = Math.min(transactionConfig.get().conflictCheckTableConcurrency(), tablesToCheck.size());
+        if (concurrency <= 1) {
+            conflictChecker.run();
+            return;
+        }
+        List<ListenableFuture<?>> conflictCheckers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            conflictCheckers.add(commitExecutor.submit(conflictChecker));
+        }
+        try {
+            Futures.allAsList(conflictCheckers).get();
+        } catch (ExecutionException e) {
+            throw Throwables.throwUncheckedException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SafeRuntimeException("Interrupted while checking for write-write conflicts", e);
+        } finally {
+            // Once one table has failed, the other checkers stop after the table they are currently checking.
+            remainingTables.clear();
         }
     }
 
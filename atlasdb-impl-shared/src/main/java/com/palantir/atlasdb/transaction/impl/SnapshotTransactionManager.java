@@ -23,6 +23,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import com.palantir.atlasdb.cache.TimestampCache;
 import com.palantir.atlasdb.cell.api.DdlManager;
 import com.palantir.atlasdb.cell.api.TransactionKeyValueServiceManager;
@@ -103,6 +104,9 @@ import java.util.stream.Collectors;
     final boolean allowHiddenTableAccess;
     final ExecutorService getRangesExecutor;
     final DeleteExecutor deleteExecutor;
+    final ListeningExecutorService commitExecutor;
+    final ListeningExecutorService commitWriteExecutor;
+    final ListeningExecutorService rangePrefetchExecutor;
     final int defaultGetRangesConcurrency;
     final MultiTableSweepQueueWriter sweepQueueWriter;
     final boolean validateLocksOnReads;
@@ -163,6 +167,9 @@ import java.util.stream.Collectors;
         this.defaultGetRangesConcurrency = defaultGetRangesConcurrency;
         this.sweepQueueWriter = sweepQueueWriter;
         this.deleteExecutor = deleteExecutor;
+        this.commitExecutor = DefaultTaskExecutors.createDefaultCommitExecutor();
+        this.commitWriteExecutor = DefaultTaskExecutors.createDefaultCommitWriteExecutor();
+        this.rangePrefetchExecutor = DefaultTaskExecutors.createDefaultRangePrefetchExecutor();
         this.validateLocksOnReads = validateLocksOnReads;
         this.transactionConfig = transactionConfig;
         this.conflictTracer = conflictTracer;
@@ -337,6 +344,9 @@ import java.util.stream.Collectors;
                 defaultGetRangesConcurrency,
                 sweepQueueWriter,
                 deleteExecutor,
+                commitExecutor,
+                commitWriteExecutor,
+                rangePrefetchExecutor,
                 validateLocksOnReads,
                 transactionConfig,
                 conflictTracer,
@@ -385,6 +395,9 @@ import java.util.stream.Collectors;
                 defaultGetRangesConcurrency,
                 sweepQueueWriter,
                 deleteExecutor,
+                commitExecutor,
+                commitWriteExecutor,
+                rangePrefetchExecutor,
                 validateLocksOnReads,
                 transactionConfig,
                 conflictTracer,
@@ -429,6 +442,9 @@ import java.util.stream.Collectors;
             shutdownRunner.shutdownSafely(transactionKeyValueServiceManager::close);
             shutdownRunner.shutdownSafely(deleteExecutor::close);
             shutdownRunner.shutdownSafely(() -> shutdownExecutor(getRangesExecutor));
+            shutdownRunner.shutdownSafely(() -> shutdownExecutor(commitExecutor));
+            shutdownRunner.shutdownSafely(() -> shutdownExecutor(commitWriteExecutor));
+            shutdownRunner.shutdownSafely(() -> shutdownExecutor(rangePrefetchExecutor));
             shutdownRunner.shutdownSafely(this::closeLockServiceIfPossible);
 
             for (Runnable callback : Lists.reverse(closingCallbacks)) {
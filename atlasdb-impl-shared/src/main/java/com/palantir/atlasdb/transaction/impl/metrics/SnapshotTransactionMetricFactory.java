@@ -40,6 +40,11 @@ public final class SnapshotTransactionMetricFactory {
         return metricsManager.registerOrGetTimer(DELEGATE_ORIGIN, name);
     }
 
+    public Timer getTimer(String name, TableReference tableRef) {
+        return metricsManager.registerOrGetTaggedTimer(
+                DELEGATE_ORIGIN, name, metricsManager.getTableNameTagFor(tableRef));
+    }
+
     public Histogram getHistogram(String name) {
         return metricsManager.registerOrGetHistogram(DELEGATE_ORIGIN, name);
     }
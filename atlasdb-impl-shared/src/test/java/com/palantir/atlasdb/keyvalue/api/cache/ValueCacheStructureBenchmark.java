@@ -0,0 +1,192 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.keyvalue.api.cache;
+
+import com.google.common.primitives.Ints;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.CellReference;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import io.vavr.collection.HashMap;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the {@link VersionedMap} backing the {@link ValueStoreImpl} with the persistent map it replaced, for the
+ * operations the value cache performs: caching a value, reading a value from a snapshot, and taking a snapshot after
+ * each write, as happens when every commit updates the cache. A window of recent snapshots is kept reachable, as the
+ * {@link SnapshotStore} does, so that the versioned map has to retain and prune old versions. Run with {@link #main}.
+ */
+@Measurement(iterations = 5, time = 2)
+@Warmup(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValueCacheStructureBenchmark {
+    private static final TableReference TABLE = TableReference.createFromFullyQualifiedName("bench.table");
+    private static final int LIVE_SNAPSHOTS = 1_000;
+
+    public enum Structure {
+        VERSIONED_MAP {
+            @Override
+            CacheStructure create() {
+                return new VersionedCacheStructure();
+            }
+        },
+        PERSISTENT_MAP {
+            @Override
+            CacheStructure create() {
+                return new PersistentCacheStructure();
+            }
+        };
+
+        abstract CacheStructure create();
+    }
+
+    @Param({"100000", "1000000"})
+    public int cells;
+
+    @Param
+    public Structure structure;
+
+    private CellReference[] cellReferences;
+    private CacheEntry[] entries;
+    private Object[] liveSnapshots;
+    private CacheStructure cache;
+    private Random random;
+    private int snapshotIndex = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        random = new Random(0);
+        cellReferences = new CellReference[cells];
+        for (int i = 0; i < cells; i++) {
+            byte[] row = Ints.toByteArray(i);
+            cellReferences[i] = CellReference.of(TABLE, Cell.create(row, row));
+        }
+        entries = new CacheEntry[16];
+        for (int i = 0; i < entries.length; i++) {
+            byte[] value = new byte[64];
+            random.nextBytes(value);
+            entries[i] = CacheEntry.unlocked(CacheValue.of(value));
+        }
+        liveSnapshots = new Object[LIVE_SNAPSHOTS];
+
+        cache = structure.create();
+        for (CellReference cellReference : cellReferences) {
+            cache.put(cellReference, entries[random.nextInt(entries.length)]);
+        }
+        cache.snapshot();
+    }
+
+    @Benchmark
+    public void put() {
+        cache.put(randomCell(), entries[random.nextInt(entries.length)]);
+    }
+
+    @Benchmark
+    public Optional<CacheEntry> get() {
+        return cache.get(randomCell());
+    }
+
+    @Benchmark
+    public Object putAndSnapshot() {
+        cache.put(randomCell(), entries[random.nextInt(entries.length)]);
+        Object snapshot = cache.snapshot();
+        liveSnapshots[snapshotIndex] = snapshot;
+        snapshotIndex = (snapshotIndex + 1) % LIVE_SNAPSHOTS;
+        return snapshot;
+    }
+
+    private CellReference randomCell() {
+        return cellReferences[random.nextInt(cellReferences.length)];
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ValueCacheStructureBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    private interface CacheStructure {
+        void put(CellReference cellReference, CacheEntry entry);
+
+        Optional<CacheEntry> get(CellReference cellReference);
+
+        Object snapshot();
+    }
+
+    private static final class VersionedCacheStructure implements CacheStructure {
+        private final VersionedMap<CellReference, CacheEntry> values = new VersionedMap<>();
+        private VersionedMap.Snapshot<CellReference, CacheEntry> snapshot = values.snapshot();
+
+        @Override
+        public void put(CellReference cellReference, CacheEntry entry) {
+            values.put(cellReference, entry);
+        }
+
+        @Override
+        public Optional<CacheEntry> get(CellReference cellReference) {
+            return snapshot.get(cellReference);
+        }
+
+        @Override
+        public Object snapshot() {
+            snapshot = values.snapshot();
+            return snapshot;
+        }
+    }
+
+    private static final class PersistentCacheStructure implements CacheStructure {
+        private final StructureHolder<io.vavr.collection.Map<CellReference, CacheEntry>> values =
+                StructureHolder.create(HashMap::empty);
+        private io.vavr.collection.Map<CellReference, CacheEntry> snapshot = values.getSnapshot();
+
+        @Override
+        public void put(CellReference cellReference, CacheEntry entry) {
+            values.with(map -> map.put(cellReference, entry));
+        }
+
+        @Override
+        public Optional<CacheEntry> get(CellReference cellReference) {
+            return snapshot.get(cellReference).toJavaOptional();
+        }
+
+        @Override
+        public Object snapshot() {
+            snapshot = values.getSnapshot();
+            return snapshot;
+        }
+    }
+}
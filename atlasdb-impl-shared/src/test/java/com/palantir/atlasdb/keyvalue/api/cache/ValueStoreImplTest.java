@@ -38,7 +38,9 @@ import com.palantir.lock.watch.LockWatchEvent;
 import com.palantir.lock.watch.LockWatchReferences;
 import com.palantir.lock.watch.UnlockEvent;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -162,7 +164,11 @@ public final class ValueStoreImplTest {
         verify(metrics).decreaseCacheSize(EXPECTED_SIZE);
 
         // Caffeine explicitly does *not* implement simple LRU, so we cannot reason on the actual entries here.
-        assertThat(((ValueCacheSnapshotImpl) valueStore.getSnapshot()).values()).hasSize(2);
+        ValueCacheSnapshot snapshot = valueStore.getSnapshot();
+        assertThat(Stream.of(TABLE_CELL, tableCell2, CellReference.of(TABLE, CELL_3))
+                        .map(snapshot::getValue)
+                        .filter(Optional::isPresent))
+                .hasSize(2);
     }
 
     @Test
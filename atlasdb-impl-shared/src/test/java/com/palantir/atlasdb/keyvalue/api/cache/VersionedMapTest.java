@@ -0,0 +1,115 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.keyvalue.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public final class VersionedMapTest {
+    private static final String KEY_1 = "key1";
+    private static final String KEY_2 = "key2";
+
+    private final VersionedMap<String, Integer> map = new VersionedMap<>();
+
+    @Test
+    public void readsLatestValues() {
+        map.put(KEY_1, 1);
+        map.put(KEY_1, 2);
+        map.put(KEY_2, 3);
+        map.remove(KEY_2);
+
+        assertThat(map.get(KEY_1)).hasValue(2);
+        assertThat(map.get(KEY_2)).isEmpty();
+        assertThat(map.snapshot().toMap()).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(KEY_1, 2));
+    }
+
+    @Test
+    public void snapshotIsUnaffectedByLaterWrites() {
+        map.put(KEY_1, 1);
+        map.put(KEY_2, 2);
+        VersionedMap.Snapshot<String, Integer> snapshot = map.snapshot();
+
+        map.put(KEY_1, 10);
+        map.remove(KEY_2);
+        map.put("key3", 3);
+        VersionedMap.Snapshot<String, Integer> laterSnapshot = map.snapshot();
+
+        assertThat(snapshot.toMap()).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(KEY_1, 1, KEY_2, 2));
+        assertThat(laterSnapshot.toMap()).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of(KEY_1, 10, "key3", 3));
+    }
+
+    @Test
+    public void snapshotIsReusedIfThereAreNoWrites() {
+        map.put(KEY_1, 1);
+        VersionedMap.Snapshot<String, Integer> snapshot = map.snapshot();
+
+        assertThat(map.snapshot()).isSameAs(snapshot);
+        map.remove(KEY_2);
+        assertThat(map.snapshot()).isSameAs(snapshot);
+
+        map.put(KEY_2, 2);
+        assertThat(map.snapshot()).isNotSameAs(snapshot);
+    }
+
+    @Test
+    public void writesWithinAnEpochReplaceEachOther() {
+        VersionedMap.Snapshot<String, Integer> snapshot = map.snapshot();
+        IntStream.range(0, 10).forEach(value -> map.put(KEY_1, value));
+
+        assertThat(map.versionCount()).isEqualTo(1);
+        assertThat(snapshot.get(KEY_1)).isEmpty();
+    }
+
+    @Test
+    public void keepsVersionsVisibleToLiveSnapshots() {
+        map.put(KEY_1, 1);
+        VersionedMap.Snapshot<String, Integer> snapshot = map.snapshot();
+        map.put(KEY_1, 2);
+        map.snapshot();
+        map.put(KEY_1, 3);
+
+        assertThat(map.versionCount()).isEqualTo(3);
+        assertThat(snapshot.get(KEY_1)).hasValue(1);
+    }
+
+    @Test
+    public void prunesVersionsHiddenFromAllSnapshotsOnWrite() {
+        map.put(KEY_1, 1);
+        map.snapshot();
+        map.put(KEY_1, 2);
+        VersionedMap.Snapshot<String, Integer> snapshot = map.snapshot();
+        map.put(KEY_1, 3);
+        map.remove(KEY_2);
+
+        // The first snapshot may not yet have been collected, in which case its version is still retained.
+        assertThat(map.versionCount()).isBetween(2, 3);
+        assertThat(snapshot.get(KEY_1)).hasValue(2);
+        assertThat(map.get(KEY_1)).hasValue(3);
+    }
+
+    @Test
+    public void removedKeysAreDroppedOnceNoSnapshotCanReadThem() {
+        map.put(KEY_1, 1);
+        map.remove(KEY_1);
+
+        assertThat(map.versionCount()).isZero();
+        assertThat(map.snapshot().get(KEY_1)).isEmpty();
+    }
+}
@@ -62,6 +62,7 @@ public final class LockWatchEventLogTest {
     private static final long SEQUENCE_2 = 2L;
     private static final long SEQUENCE_3 = 3L;
     private static final long SEQUENCE_4 = 4L;
+    private static final long SEQUENCE_DELTA = 2000L;
 
     private static final LockDescriptor DESCRIPTOR_1 = StringLockDescriptor.of("lwelt-one");
     private static final LockDescriptor DESCRIPTOR_2 = StringLockDescriptor.of("lwelt-two");
@@ -379,6 +380,143 @@ public final class LockWatchEventLogTest {
                         .build());
     }
 
+    @Test
+    public void deltaUpdateAppliesNetChangesWithoutInstructingClientsToClearCache() {
+        eventLog.processUpdate(INITIAL_SNAPSHOT_VERSION_1);
+        CacheUpdate cacheUpdate = eventLog.processUpdate(LockWatchStateUpdate.delta(
+                INITIAL_LEADER,
+                SEQUENCE_1,
+                SEQUENCE_DELTA,
+                ImmutableSet.of(DESCRIPTOR_2),
+                ImmutableSet.of(DESCRIPTOR_1),
+                ImmutableSet.of(REFERENCE_2)));
+
+        LockWatchVersion initialLeaderAfterDelta = LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_DELTA);
+        assertThat(cacheUpdate.shouldClearCache()).isFalse();
+        assertThat(cacheUpdate.getVersion()).hasValue(initialLeaderAfterDelta);
+        assertThat(eventLog.getLatestKnownVersion()).hasValue(initialLeaderAfterDelta);
+
+        ClientLogEvents events = eventLog.getEventsBetweenVersions(VersionBounds.builder()
+                .startVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_1))
+                .endVersion(initialLeaderAfterDelta)
+                .build());
+        assertThat(events.clearCache()).isFalse();
+        List<LockWatchEvent> deltaEvents = events.events().events();
+        assertThat(deltaEvents)
+                .extracting(LockWatchEvent::sequence)
+                .containsExactly(SEQUENCE_DELTA - 2, SEQUENCE_DELTA - 1, SEQUENCE_DELTA);
+        assertThat(deltaEvents.get(0))
+                .isEqualTo(LockWatchCreatedEvent.builder(ImmutableSet.of(REFERENCE_2), ImmutableSet.of())
+                        .build(SEQUENCE_DELTA - 2));
+        assertThat(deltaEvents.get(1))
+                .isInstanceOfSatisfying(LockEvent.class, lockEvent -> assertThat(lockEvent.lockDescriptors())
+                        .containsExactlyInAnyOrder(DESCRIPTOR_1, DESCRIPTOR_2));
+        assertThat(deltaEvents.get(2))
+                .isEqualTo(UnlockEvent.builder(ImmutableSet.of(DESCRIPTOR_1)).build(SEQUENCE_DELTA));
+    }
+
+    @Test
+    public void deltaUpdateStartingAfterLatestVersionThrows() {
+        eventLog.processUpdate(INITIAL_SNAPSHOT_VERSION_1);
+
+        assertThatThrownBy(() -> eventLog.processUpdate(LockWatchStateUpdate.delta(
+                        INITIAL_LEADER,
+                        SEQUENCE_2,
+                        SEQUENCE_DELTA,
+                        ImmutableSet.of(DESCRIPTOR_2),
+                        ImmutableSet.of(),
+                        ImmutableSet.of())))
+                .isExactlyInstanceOf(TransactionLockWatchFailedException.class);
+        assertThat(eventLog.getLatestKnownVersion()).hasValue(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_1));
+    }
+
+    @Test
+    public void deltaUpdateFromDifferentLeaderLeadsToFailure() {
+        eventLog.processUpdate(INITIAL_SNAPSHOT_VERSION_1);
+
+        CacheUpdate cacheUpdate = eventLog.processUpdate(LockWatchStateUpdate.delta(
+                DIFFERENT_LEADER,
+                SEQUENCE_1,
+                SEQUENCE_DELTA,
+                ImmutableSet.of(DESCRIPTOR_2),
+                ImmutableSet.of(),
+                ImmutableSet.of()));
+        assertThat(cacheUpdate).isEqualTo(CacheUpdate.FAILED);
+        assertThat(eventLog.getLatestKnownVersion()).isEmpty();
+    }
+
+    @Test
+    public void retentionAcrossDeltaFoldsEventsIntoSnapshot() {
+        processInitialSnapshotAndDeltaFromVersionFour();
+
+        eventLog.retentionEvents(Optional.empty());
+
+        assertThat(eventLog.getStateForDiagnostics().snapshotState())
+                .isEqualTo(ImmutableClientLockWatchSnapshotState.builder()
+                        .snapshotVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_DELTA - 1))
+                        .addLocked(DESCRIPTOR_1, DESCRIPTOR_2)
+                        .addWatches(REFERENCE_1, REFERENCE_2)
+                        .build());
+        assertThat(eventLog.getStateForDiagnostics().eventStoreState().eventMap())
+                .containsOnlyKeys(Sequence.of(SEQUENCE_DELTA));
+
+        ClientLogEvents events = eventLog.getEventsBetweenVersions(VersionBounds.builder()
+                .endVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_DELTA))
+                .build());
+        assertThat(events.clearCache()).isTrue();
+        assertThat(events.events().events())
+                .containsExactly(LockWatchCreatedEvent.builder(
+                                ImmutableSet.of(REFERENCE_1, REFERENCE_2), ImmutableSet.of(DESCRIPTOR_2))
+                        .build(SEQUENCE_DELTA));
+    }
+
+    @Test
+    public void getEventsBetweenVersionsFromBaseOfDeltaReturnsOnlyDeltaEvents() {
+        processInitialSnapshotAndDeltaFromVersionFour();
+
+        ClientLogEvents events = eventLog.getEventsBetweenVersions(VersionBounds.builder()
+                .startVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_4))
+                .endVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_DELTA))
+                .build());
+
+        assertThat(events.clearCache()).isFalse();
+        assertThat(events.events().events())
+                .extracting(LockWatchEvent::sequence)
+                .containsExactly(SEQUENCE_DELTA - 2, SEQUENCE_DELTA - 1, SEQUENCE_DELTA);
+    }
+
+    @Test
+    public void getEventsBetweenVersionsFromBeforeDeltaReturnsSnapshot() {
+        processInitialSnapshotAndDeltaFromVersionFour();
+
+        ClientLogEvents events = eventLog.getEventsBetweenVersions(VersionBounds.builder()
+                .startVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_2))
+                .endVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_DELTA))
+                .build());
+
+        assertThat(events.clearCache()).isTrue();
+        assertThat(events.events().events())
+                .containsExactly(LockWatchCreatedEvent.builder(
+                                ImmutableSet.of(REFERENCE_1, REFERENCE_2), ImmutableSet.of(DESCRIPTOR_2))
+                        .build(SEQUENCE_DELTA));
+    }
+
+    @Test
+    public void getEventsBetweenVersionsFromBeforeDeltaWithLimitReturnsContiguousEvents() {
+        processInitialSnapshotAndDeltaFromVersionFour();
+
+        ClientLogEvents events = eventLog.getEventsBetweenVersions(VersionBounds.builder()
+                .startVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_2))
+                .endVersion(LockWatchVersion.of(INITIAL_LEADER, SEQUENCE_DELTA))
+                .earliestSnapshotVersion(SEQUENCE_3)
+                .build());
+
+        assertThat(events.clearCache()).isTrue();
+        assertThat(events.events().events())
+                .extracting(LockWatchEvent::sequence)
+                .containsExactly(SEQUENCE_DELTA - 3, SEQUENCE_DELTA - 2, SEQUENCE_DELTA - 1, SEQUENCE_DELTA);
+    }
+
     @Test
     public void getEventsBetweenVersionsWithUpToDateVersionsReturnsNoEvents() {
         processInitialSnapshotAndSuccessUpToVersionFour();
@@ -535,6 +673,17 @@ public final class LockWatchEventLogTest {
         eventLog.processUpdate(SUCCESS_VERSION_2_TO_4);
     }
 
+    private void processInitialSnapshotAndDeltaFromVersionFour() {
+        processInitialSnapshotAndSuccessUpToVersionFour();
+        eventLog.processUpdate(LockWatchStateUpdate.delta(
+                INITIAL_LEADER,
+                SEQUENCE_4,
+                SEQUENCE_DELTA,
+                ImmutableSet.of(DESCRIPTOR_2),
+                ImmutableSet.of(DESCRIPTOR_1),
+                ImmutableSet.of(REFERENCE_2)));
+    }
+
     private static LockWatchEvent randomEvent(long sequence) {
         if (ThreadLocalRandom.current().nextBoolean()) {
             return LockEvent.builder(ImmutableSet.of(randomDescriptor()), LOCK_TOKEN)
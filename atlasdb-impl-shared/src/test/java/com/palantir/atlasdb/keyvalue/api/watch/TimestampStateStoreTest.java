@@ -275,6 +275,23 @@ public final class TimestampStateStoreTest {
                 .hasMessage("Exceeded maximum timestamp state store size");
     }
 
+    @Test
+    public void diagnosticStateGroupsLiveTimestampsBySequence() {
+        timestampStateStore.putStartTimestamps(ImmutableSet.of(TIMESTAMP_1, TIMESTAMP_2), VERSION_1);
+        timestampStateStore.putStartTimestamps(ImmutableSet.of(TIMESTAMP_3, TIMESTAMP_4), VERSION_2);
+        timestampStateStore.remove(TIMESTAMP_3);
+
+        TimestampStateStoreState state = timestampStateStore.getStateForDiagnostics();
+
+        assertThat(state.timestampMap().keySet())
+                .containsExactly(
+                        StartTimestamp.of(TIMESTAMP_1), StartTimestamp.of(TIMESTAMP_2), StartTimestamp.of(TIMESTAMP_4));
+        assertThat(state.livingVersions().get(Sequence.of(VERSION_1.version())))
+                .containsExactly(StartTimestamp.of(TIMESTAMP_1), StartTimestamp.of(TIMESTAMP_2));
+        assertThat(state.livingVersions().get(Sequence.of(VERSION_2.version())))
+                .containsExactly(StartTimestamp.of(TIMESTAMP_4));
+    }
+
     private void removeAndAssertEarliestVersion(long timestamp, LockWatchVersion version) {
         timestampStateStore.remove(timestamp);
         assertEarliestVersion(version);
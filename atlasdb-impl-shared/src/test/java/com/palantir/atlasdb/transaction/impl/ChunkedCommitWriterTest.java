@@ -0,0 +1,277 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.atlasdb.AtlasDbConstants;
+import com.palantir.atlasdb.cell.api.TransactionKeyValueService;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.KeyValueService;
+import com.palantir.atlasdb.keyvalue.api.Namespace;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.keyvalue.impl.InMemoryKeyValueService;
+import com.palantir.atlasdb.sweep.queue.MultiTableSweepQueueWriter;
+import com.palantir.atlasdb.sweep.queue.ShardAndStrategy;
+import com.palantir.atlasdb.sweep.queue.SpecialTimestampsSupplier;
+import com.palantir.atlasdb.sweep.queue.SweepQueueUtils;
+import com.palantir.atlasdb.sweep.queue.TargetedSweepFollower;
+import com.palantir.atlasdb.sweep.queue.TargetedSweeper;
+import com.palantir.atlasdb.transaction.impl.metrics.SimpleTableLevelMetricsController;
+import com.palantir.atlasdb.transaction.impl.metrics.SnapshotTransactionMetricFactory;
+import com.palantir.atlasdb.transaction.service.TransactionService;
+import com.palantir.atlasdb.transaction.service.TransactionServices;
+import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.common.concurrent.PTExecutors;
+import com.palantir.lock.v2.TimelockService;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+public class ChunkedCommitWriterTest {
+    private static final TableReference TABLE_1 = TableReference.create(Namespace.DEFAULT_NAMESPACE, "table1");
+    private static final TableReference TABLE_2 = TableReference.create(Namespace.DEFAULT_NAMESPACE, "table2");
+    private static final long START_TIMESTAMP = 100L;
+    private static final byte[] VALUE = PtBytes.toBytes("value");
+
+    private final MultiTableSweepQueueWriter sweepQueue = mock(MultiTableSweepQueueWriter.class);
+    private final TransactionKeyValueService kvs = mock(TransactionKeyValueService.class);
+    private final Runnable postEnqueueCheck = mock(Runnable.class);
+    private final MetricsManager metricsManager = MetricsManagers.createForTests();
+    private final SnapshotTransactionMetricFactory metricFactory =
+            new SnapshotTransactionMetricFactory(metricsManager, new SimpleTableLevelMetricsController(metricsManager));
+    private final ListeningExecutorService executor = MoreExecutors.listeningDecorator(
+            PTExecutors.newFixedThreadPool(ChunkedCommitWriter.MAX_CHUNKS_IN_FLIGHT));
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void writesEverythingInOneChunkIfWithinBounds() {
+        Map<TableReference, Map<Cell, byte[]>> writes = ImmutableMap.of(TABLE_1, cells(0, 5), TABLE_2, cells(5, 10));
+
+        writer(100, Long.MAX_VALUE).write(writes, START_TIMESTAMP, postEnqueueCheck);
+
+        verify(sweepQueue).enqueue(writes, START_TIMESTAMP);
+        verify(kvs).multiPut(writes, START_TIMESTAMP);
+        verify(postEnqueueCheck).run();
+    }
+
+    @Test
+    public void splitsKvsWritesIntoChunksOfBoundedCellCount() {
+        List<Map<TableReference, Map<Cell, byte[]>>> written = recordKvsWrites();
+        Map<TableReference, Map<Cell, byte[]>> writes = ImmutableMap.of(TABLE_1, cells(0, 7), TABLE_2, cells(7, 10));
+
+        writer(3, Long.MAX_VALUE).write(writes, START_TIMESTAMP, postEnqueueCheck);
+
+        assertThat(written).hasSize(4);
+        assertThat(written).allSatisfy(chunk -> assertThat(countCells(chunk)).isLessThanOrEqualTo(3));
+        assertThat(merge(written)).containsExactlyInAnyOrderEntriesOf(writes);
+        verify(sweepQueue).enqueue(writes, START_TIMESTAMP);
+        verify(postEnqueueCheck).run();
+    }
+
+    @Test
+    public void splitsKvsWritesIntoChunksOfBoundedByteCount() {
+        List<Map<TableReference, Map<Cell, byte[]>>> written = recordKvsWrites();
+        Map<TableReference, Map<Cell, byte[]>> writes = ImmutableMap.of(TABLE_1, cells(0, 10));
+
+        writer(100, 1).write(writes, START_TIMESTAMP, postEnqueueCheck);
+
+        assertThat(written).hasSize(10);
+        assertThat(merge(written)).containsExactlyInAnyOrderEntriesOf(writes);
+    }
+
+    @Test
+    public void writesNothingToKvsForEmptyWrites() {
+        Map<TableReference, Map<Cell, byte[]>> writes = ImmutableMap.of(TABLE_1, ImmutableMap.of());
+
+        writer(3, Long.MAX_VALUE).write(writes, START_TIMESTAMP, postEnqueueCheck);
+
+        verify(sweepQueue).enqueue(writes, START_TIMESTAMP);
+        verify(postEnqueueCheck).run();
+        verify(kvs, never()).multiPut(any(), anyLong());
+    }
+
+    @Test
+    public void enqueuesAllWritesAndChecksOnceBeforeWritingAnyChunkToKvs() {
+        Map<TableReference, Map<Cell, byte[]>> writes = ImmutableMap.of(TABLE_1, cells(0, 2));
+
+        writer(1, Long.MAX_VALUE).write(writes, START_TIMESTAMP, postEnqueueCheck);
+
+        InOrder inOrder = inOrder(sweepQueue, postEnqueueCheck, kvs);
+        inOrder.verify(sweepQueue).enqueue(writes, START_TIMESTAMP);
+        inOrder.verify(postEnqueueCheck).run();
+        inOrder.verify(kvs, times(2)).multiPut(any(), eq(START_TIMESTAMP));
+        verify(sweepQueue, times(1)).enqueue(any(), anyLong());
+    }
+
+    @Test
+    public void writesNextChunkWhilePreviousKvsWriteIsInFlight() {
+        CountDownLatch secondWriteStarted = new CountDownLatch(1);
+        AtomicInteger writeCount = new AtomicInteger();
+        doAnswer(invocation -> {
+                    if (writeCount.incrementAndGet() == 2) {
+                        secondWriteStarted.countDown();
+                    } else {
+                        // The first write can only complete if the second chunk is written concurrently.
+                        assertThat(secondWriteStarted.await(10, TimeUnit.SECONDS)).isTrue();
+                    }
+                    return null;
+                })
+                .when(kvs)
+                .multiPut(any(), anyLong());
+
+        writer(1, Long.MAX_VALUE).write(ImmutableMap.of(TABLE_1, cells(0, 2)), START_TIMESTAMP, postEnqueueCheck);
+
+        verify(kvs, times(2)).multiPut(any(), anyLong());
+        assertThat(metricFactory.getHistogram("commitWriteChunkCells").getCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void doesNotWriteToKvsIfPostEnqueueCheckFails() {
+        doThrow(new SafeIllegalStateException("locks expired")).when(postEnqueueCheck).run();
+
+        assertThatThrownBy(() -> writer(1, Long.MAX_VALUE)
+                        .write(ImmutableMap.of(TABLE_1, cells(0, 2)), START_TIMESTAMP, postEnqueueCheck))
+                .isInstanceOf(SafeIllegalStateException.class);
+
+        verify(sweepQueue, times(1)).enqueue(any(), anyLong());
+        verify(kvs, never()).multiPut(any(), anyLong());
+    }
+
+    @Test
+    public void propagatesKvsWriteFailureAndStopsWritingFurtherChunks() {
+        doThrow(new SafeIllegalStateException("write failed")).when(kvs).multiPut(any(), anyLong());
+        int chunks = ChunkedCommitWriter.MAX_CHUNKS_IN_FLIGHT + 2;
+
+        assertThatThrownBy(() -> writer(1, Long.MAX_VALUE)
+                        .write(ImmutableMap.of(TABLE_1, cells(0, chunks)), START_TIMESTAMP, postEnqueueCheck))
+                .isInstanceOf(SafeIllegalStateException.class)
+                .hasMessageContaining("write failed");
+
+        // The failure of the first write is observed before any chunk beyond the in-flight limit is submitted.
+        verify(kvs, atMost(ChunkedCommitWriter.MAX_CHUNKS_IN_FLIGHT)).multiPut(any(), anyLong());
+    }
+
+    @Test
+    public void everyCellOfMultiChunkCommitIsSweptFromRealSweepQueue() {
+        KeyValueService keyValueService = new InMemoryKeyValueService(true);
+        keyValueService.createTable(TABLE_1, AtlasDbConstants.GENERIC_TABLE_METADATA);
+        TransactionService transactionService = TransactionServices.createV1TransactionService(keyValueService);
+        TargetedSweeper sweeper = TargetedSweeper.createUninitializedForTest(keyValueService, () -> 1);
+        sweeper.initializeWithoutRunning(
+                new SpecialTimestampsSupplier(() -> Long.MAX_VALUE, () -> Long.MAX_VALUE),
+                mock(TimelockService.class),
+                keyValueService,
+                transactionService,
+                mock(TargetedSweepFollower.class));
+
+        // Large enough that the transaction needs dedicated rows, and spans several chunks that would each fit in a
+        // non-dedicated row on their own.
+        Map<Cell, byte[]> cells = cells(0, 3 * SweepQueueUtils.MAX_CELLS_GENERIC);
+        long previousStartTimestamp = START_TIMESTAMP - 10;
+        keyValueService.put(TABLE_1, cells, previousStartTimestamp);
+        transactionService.putUnlessExists(previousStartTimestamp, previousStartTimestamp + 1);
+
+        try {
+            new ChunkedCommitWriter(
+                            sweeper, kvs, executor, metricFactory, SweepQueueUtils.MAX_CELLS_GENERIC, Long.MAX_VALUE)
+                    .write(ImmutableMap.of(TABLE_1, cells), START_TIMESTAMP, postEnqueueCheck);
+            transactionService.putUnlessExists(START_TIMESTAMP, START_TIMESTAMP + 1);
+
+            sweeper.sweepNextBatch(ShardAndStrategy.conservative(0), START_TIMESTAMP + 2);
+
+            // Conservative sweep replaces every overwritten version with a sentinel, so any cell left out of the
+            // sweep queue would still have its previous version.
+            Map<Cell, Value> remaining = keyValueService.get(
+                    TABLE_1, Maps.asMap(cells.keySet(), _unused -> START_TIMESTAMP));
+            assertThat(remaining).hasSameSizeAs(cells);
+            assertThat(remaining.values())
+                    .allSatisfy(value -> assertThat(value.getTimestamp()).isEqualTo(Value.INVALID_VALUE_TIMESTAMP));
+        } finally {
+            sweeper.close();
+        }
+    }
+
+    private ChunkedCommitWriter writer(int maxCells, long maxBytes) {
+        return new ChunkedCommitWriter(sweepQueue, kvs, executor, metricFactory, maxCells, maxBytes);
+    }
+
+    private List<Map<TableReference, Map<Cell, byte[]>>> recordKvsWrites() {
+        List<Map<TableReference, Map<Cell, byte[]>>> written = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> {
+                    written.add(invocation.getArgument(0));
+                    return null;
+                })
+                .when(kvs)
+                .multiPut(any(), anyLong());
+        return written;
+    }
+
+    private static Map<Cell, byte[]> cells(int fromInclusive, int toExclusive) {
+        ImmutableSortedMap.Builder<Cell, byte[]> builder = ImmutableSortedMap.naturalOrder();
+        IntStream.range(fromInclusive, toExclusive)
+                .forEach(index -> builder.put(
+                        Cell.create(PtBytes.toBytes("row" + index), PtBytes.toBytes("col" + index)), VALUE));
+        return builder.buildOrThrow();
+    }
+
+    private static int countCells(Map<TableReference, Map<Cell, byte[]>> chunk) {
+        return chunk.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private static Map<TableReference, Map<Cell, byte[]>> merge(List<Map<TableReference, Map<Cell, byte[]>>> chunks) {
+        Map<TableReference, Map<Cell, byte[]>> merged = new HashMap<>();
+        for (Map<TableReference, Map<Cell, byte[]>> chunk : chunks) {
+            chunk.forEach((table, cells) -> merged.computeIfAbsent(table, _unused -> new HashMap<>())
+                    .putAll(cells));
+        }
+        return merged;
+    }
+}
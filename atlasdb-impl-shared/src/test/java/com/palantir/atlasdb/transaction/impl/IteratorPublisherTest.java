@@ -0,0 +1,175 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.collect.AbstractIterator;
+import com.palantir.common.base.ClosableIterator;
+import com.palantir.logsafe.exceptions.SafeIllegalArgumentException;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class IteratorPublisherTest {
+    private static final int NUM_ELEMENTS = 5;
+
+    private final AtomicInteger elementsRead = new AtomicInteger();
+    private final AtomicInteger tasksRun = new AtomicInteger();
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Executor executor = task -> {
+        tasksRun.incrementAndGet();
+        task.run();
+    };
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    @Test
+    public void doesNotReadElementsBeforeTheyAreRequested() {
+        publisher(NUM_ELEMENTS, 10).subscribe(subscriber);
+        assertThat(elementsRead).hasValue(0);
+
+        subscriber.request(2);
+        assertThat(subscriber.elements).containsExactly(0, 1);
+        assertThat(elementsRead).hasValue(2);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void completesAndClosesIteratorOnceExhausted() {
+        publisher(NUM_ELEMENTS, 10).subscribe(subscriber);
+
+        subscriber.request(NUM_ELEMENTS + 1);
+        assertThat(subscriber.elements).containsExactly(0, 1, 2, 3, 4);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void yieldsThreadAfterMaxElementsPerTask() {
+        publisher(NUM_ELEMENTS, 2).subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+        assertThat(subscriber.elements).containsExactly(0, 1, 2, 3, 4);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(tasksRun).hasValue(3);
+    }
+
+    @Test
+    public void cancellingStopsReadingAndClosesIterator() {
+        publisher(NUM_ELEMENTS, 10).subscribe(subscriber);
+
+        subscriber.request(1);
+        subscriber.subscription.cancel();
+        subscriber.request(1);
+        assertThat(subscriber.elements).containsExactly(0);
+        assertThat(elementsRead).hasValue(1);
+        assertThat(subscriber.completed).isFalse();
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void propagatesFailuresFromIterator() {
+        SafeIllegalStateException failure = new SafeIllegalStateException("failed to read element");
+        new IteratorPublisher<Integer>(() -> failingIterator(failure), executor, 10).subscribe(subscriber);
+
+        subscriber.request(2);
+        assertThat(subscriber.elements).containsExactly(0);
+        assertThat(subscriber.error).isEqualTo(failure);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    public void failsSubscriptionOnNonPositiveRequest() {
+        publisher(NUM_ELEMENTS, 10).subscribe(subscriber);
+
+        subscriber.request(0);
+        assertThat(subscriber.error).isInstanceOf(SafeIllegalArgumentException.class);
+        subscriber.request(1);
+        assertThat(subscriber.elements).isEmpty();
+    }
+
+    private IteratorPublisher<Integer> publisher(int numElements, int maxElementsPerTask) {
+        return new IteratorPublisher<>(() -> countingIterator(numElements), executor, maxElementsPerTask);
+    }
+
+    private ClosableIterator<Integer> countingIterator(int numElements) {
+        return new TestIterator() {
+            @Override
+            protected Integer computeNext() {
+                if (elementsRead.get() == numElements) {
+                    return endOfData();
+                }
+                return elementsRead.getAndIncrement();
+            }
+        };
+    }
+
+    private ClosableIterator<Integer> failingIterator(RuntimeException failure) {
+        return new TestIterator() {
+            @Override
+            protected Integer computeNext() {
+                if (elementsRead.get() > 0) {
+                    throw failure;
+                }
+                return elementsRead.getAndIncrement();
+            }
+        };
+    }
+
+    private abstract class TestIterator extends AbstractIterator<Integer> implements ClosableIterator<Integer> {
+        @Override
+        public void close() {
+            closed.set(true);
+        }
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<Integer> {
+        private final List<Integer> elements = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed = false;
+        private Throwable error;
+
+        private void request(long elementsToRequest) {
+            subscription.request(elementsToRequest);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription newSubscription) {
+            subscription = newSubscription;
+        }
+
+        @Override
+        public void onNext(Integer element) {
+            elements.add(element);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.transaction.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.palantir.atlasdb.keyvalue.api.Namespace;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.transaction.impl.metrics.SimpleTableLevelMetricsController;
+import com.palantir.atlasdb.transaction.impl.metrics.SnapshotTransactionMetricFactory;
+import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.common.concurrent.PTExecutors;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class PrefetchingPageIteratorTest {
+    private static final TableReference TABLE = TableReference.create(Namespace.DEFAULT_NAMESPACE, "table");
+    private static final long PAGE_SIZE = 10;
+
+    private final MetricsManager metricsManager = MetricsManagers.createForTests();
+    private final SnapshotTransactionMetricFactory metricFactory =
+            new SnapshotTransactionMetricFactory(metricsManager, new SimpleTableLevelMetricsController(metricsManager));
+    private final ListeningExecutorService executor =
+            MoreExecutors.listeningDecorator(PTExecutors.newSingleThreadExecutor());
+    private final AtomicInteger pagesComputed = new AtomicInteger();
+    private final AtomicBoolean resourcesClosed = new AtomicBoolean();
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void returnsAllPagesInOrder() {
+        PrefetchingPageIterator<Integer> iterator = iterator(pages(5), PAGE_SIZE);
+
+        assertThat(ImmutableList.copyOf(iterator)).containsExactly(0, 1, 2, 3, 4);
+        iterator.close();
+        assertThat(resourcesClosed).isTrue();
+    }
+
+    @Test
+    public void prefetchesNextPageWhileCurrentPageIsConsumed() {
+        PrefetchingPageIterator<Integer> iterator = iterator(pages(5), PAGE_SIZE);
+
+        assertThat(iterator.next()).isZero();
+        await().atMost(Duration.ofSeconds(5)).until(() -> pagesComputed.get() == 2);
+        assertThat(iterator.next()).isEqualTo(1);
+        assertThat(metricFactory.getCounter("rangePrefetchHits", TABLE).getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void doesNotPrefetchPagesLargerThanMaxBytesInFlight() throws InterruptedException {
+        PrefetchingPageIterator<Integer> iterator = iterator(pages(5), PAGE_SIZE - 1);
+
+        assertThat(iterator.next()).isZero();
+        Thread.sleep(100);
+        assertThat(pagesComputed).hasValue(1);
+        assertThat(metricFactory.getCounter("rangePagesPrefetched", TABLE).getCount())
+                .isZero();
+    }
+
+    @Test
+    public void closesResourcesOnlyOncePrefetchCompletes() throws InterruptedException {
+        CountDownLatch prefetchStarted = new CountDownLatch(1);
+        CountDownLatch allowPrefetch = new CountDownLatch(1);
+        Iterator<PrefetchingPageIterator.Page<Integer>> pages = new AbstractIterator<>() {
+            @Override
+            protected PrefetchingPageIterator.Page<Integer> computeNext() {
+                int page = pagesComputed.getAndIncrement();
+                if (page > 0) {
+                    prefetchStarted.countDown();
+                    awaitUninterruptibly(allowPrefetch);
+                }
+                return ImmutablePage.of(page, PAGE_SIZE);
+            }
+        };
+        PrefetchingPageIterator<Integer> iterator = iterator(pages, PAGE_SIZE);
+
+        assertThat(iterator.next()).isZero();
+        assertThat(prefetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        iterator.close();
+        assertThat(resourcesClosed).isFalse();
+
+        allowPrefetch.countDown();
+        await().atMost(Duration.ofSeconds(5)).untilTrue(resourcesClosed);
+        assertThat(metricFactory.getCounter("rangePrefetchWasted", TABLE).getCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void propagatesFailuresFromPrefetchedPages() {
+        Iterator<PrefetchingPageIterator.Page<Integer>> pages = new AbstractIterator<>() {
+            @Override
+            protected PrefetchingPageIterator.Page<Integer> computeNext() {
+                int page = pagesComputed.getAndIncrement();
+                if (page > 0) {
+                    throw new SafeIllegalStateException("failed to fetch page");
+                }
+                return ImmutablePage.of(page, PAGE_SIZE);
+            }
+        };
+        PrefetchingPageIterator<Integer> iterator = iterator(pages, PAGE_SIZE);
+
+        assertThat(iterator.next()).isZero();
+        assertThatThrownBy(iterator::next).hasStackTraceContaining("failed to fetch page");
+        iterator.close();
+        await().atMost(Duration.ofSeconds(5)).untilTrue(resourcesClosed);
+    }
+
+    private PrefetchingPageIterator<Integer> iterator(
+            Iterator<PrefetchingPageIterator.Page<Integer>> pages, long maxBytesInFlight) {
+        return new PrefetchingPageIterator<>(
+                pages, () -> resourcesClosed.set(true), executor, maxBytesInFlight, metricFactory, TABLE);
+    }
+
+    private Iterator<PrefetchingPageIterator.Page<Integer>> pages(int numPages) {
+        return IntStream.range(0, numPages)
+                .<PrefetchingPageIterator.Page<Integer>>mapToObj(page -> {
+                    pagesComputed.incrementAndGet();
+                    return ImmutablePage.of(page, PAGE_SIZE);
+                })
+                .iterator();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+}
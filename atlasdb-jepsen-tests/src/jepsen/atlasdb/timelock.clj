@@ -30,9 +30,11 @@
 (defn create-db
   "Creates an object that implements the db/DB protocol.
    This object defines how to setup and teardown a timelock server on a given node, and specifies where the log files
-   can be found.
+   can be found. The server is configured with resources/atlasdb/timelock.yml, unless another config file in that
+   directory is named.
   "
-  []
+  ([] (create-db "timelock.yml"))
+  ([config-file]
   (reify db/DB
     (setup! [_ _ node]
       (c/su
@@ -42,7 +44,7 @@
         (c/upload "resources/atlasdb/timelock-server.tgz" "/")
         (c/exec :mkdir "/timelock-server")
         (c/exec :tar :xf "/timelock-server.tgz" "-C" "/timelock-server" "--strip-components" "1")
-        (c/upload "resources/atlasdb/timelock.yml" "/timelock-server/var/conf")
+        (c/upload (str "resources/atlasdb/" config-file) "/timelock-server/var/conf/timelock.yml")
         (c/upload "var/security/keyStore.jks" "/timelock-server/var/security")
         (c/upload "var/security/trustStore.jks" "/timelock-server/var/security")
         (c/exec :sed :-i (format "s/<HOSTNAME>/%s/" (name node)) "/timelock-server/var/conf/timelock.yml"))
@@ -58,7 +60,7 @@
 
     db/LogFiles
     (log-files [_ test node]
-      ["/timelock-server/var/log/timelock-server-startup.log"])))
+      ["/timelock-server/var/log/timelock-server-startup.log"]))))
 
 (defn mostly-small-nonempty-subset
   "Returns a subset of the given collection, with a logarithmically decreasing
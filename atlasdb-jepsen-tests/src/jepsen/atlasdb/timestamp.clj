@@ -59,7 +59,8 @@
 ;; Defining the Jepsen test
 ;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;;
 (defn timestamp-test
-  [nem]
+  ([nem] (timestamp-test nem (timelock/create-db)))
+  ([nem db]
   (assoc tests/noop-test
     :os debian/os
     :client (create-client nil)
@@ -72,5 +73,5 @@
                                     (gen/sleep 60)
                                     {:type :info, :f :stop}])))
                  (gen/time-limit 360))
-    :db (timelock/create-db)
-    :checker checker))
+    :db db
+    :checker checker)))
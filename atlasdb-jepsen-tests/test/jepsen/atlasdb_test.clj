@@ -26,3 +26,14 @@
 
 (deftest timestamp-test-partition
   (is (:valid? (:results (jepsen/run! (timestamp/timestamp-test (nemesis/partition-random-halves)))))))
+
+;; The same timestamp tests, with the prepare phase of Paxos for each timestamp bound run in advance
+
+(def prepare-in-advance-db (timelock/create-db "timelock-prepare-in-advance.yml"))
+
+(deftest timestamp-test-crash-prepare-in-advance
+  (is (:valid? (:results (jepsen/run! (timestamp/timestamp-test timelock/crash-nemesis prepare-in-advance-db))))))
+
+(deftest timestamp-test-partition-prepare-in-advance
+  (is (:valid? (:results (jepsen/run!
+                           (timestamp/timestamp-test (nemesis/partition-random-halves) prepare-in-advance-db))))))
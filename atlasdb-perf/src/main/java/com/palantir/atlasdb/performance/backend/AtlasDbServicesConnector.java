@@ -25,6 +25,7 @@ import com.palantir.atlasdb.spi.KeyValueServiceRuntimeConfig;
 import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import java.io.Closeable;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
@@ -41,13 +42,20 @@ public class AtlasDbServicesConnector implements Closeable {
     private AtlasDbServices services;
 
     public AtlasDbServices connect() {
+        return connect(UnaryOperator.identity());
+    }
+
+    /**
+     * As {@link #connect()}, but allows benchmarks to adjust the key value service config of the backend under test.
+     */
+    public AtlasDbServices connect(UnaryOperator<KeyValueServiceConfig> configCustomizer) {
         if (services != null) {
             throw new SafeIllegalStateException("connect() has already been called");
         }
 
         DockerizedDatabaseUri dburi = DockerizedDatabaseUri.fromUriString(uri);
-        KeyValueServiceConfig config =
-                dburi.getKeyValueServiceInstrumentation().getKeyValueServiceConfig(dburi.getAddress());
+        KeyValueServiceConfig config = configCustomizer.apply(
+                dburi.getKeyValueServiceInstrumentation().getKeyValueServiceConfig(dburi.getAddress()));
         Optional<KeyValueServiceRuntimeConfig> runtimeConfig =
                 dburi.getKeyValueServiceInstrumentation().getKeyValueServiceRuntimeConfig(dburi.getAddress());
         ImmutableAtlasDbConfig atlasDbConfig =
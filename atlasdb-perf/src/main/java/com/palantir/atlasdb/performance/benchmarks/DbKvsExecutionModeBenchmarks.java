@@ -0,0 +1,105 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.performance.benchmarks.table.ExecutionModeNarrowTable;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the latency of concurrent DbKvs reads when statements run in each
+ * {@link com.palantir.nexus.db.sql.SqlExecutionMode}. The peak number of live threads and the number of threads
+ * started during each iteration are logged alongside the latencies.
+ */
+@Measurement(iterations = 5, time = 10)
+@Warmup(iterations = 2, time = 5)
+@Fork(value = 1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DbKvsExecutionModeBenchmarks {
+    private static final SafeLogger log = SafeLoggerFactory.get(DbKvsExecutionModeBenchmarks.class);
+    private static final int ROWS_PER_READ = 10;
+
+    @State(Scope.Benchmark)
+    public static class ThreadCounts {
+        private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        private long threadsStartedBeforeIteration;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            threads.resetPeakThreadCount();
+            threadsStartedBeforeIteration = threads.getTotalStartedThreadCount();
+        }
+
+        @TearDown(Level.Iteration)
+        public void report(ExecutionModeNarrowTable table) {
+            log.info(
+                    "Thread counts for benchmark iteration",
+                    SafeArg.of("executionMode", table.executionMode),
+                    SafeArg.of("peakLiveThreads", threads.getPeakThreadCount()),
+                    SafeArg.of("threadsStarted", threads.getTotalStartedThreadCount() - threadsStartedBeforeIteration));
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getRowsSingleThreaded(ExecutionModeNarrowTable table, ThreadCounts counts) {
+        return getRows(table);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Object getRowsConcurrently(ExecutionModeNarrowTable table, ThreadCounts counts) {
+        return getRows(table);
+    }
+
+    private static Map<Cell, Value> getRows(ExecutionModeNarrowTable table) {
+        Map<Cell, Value> result = table.getKvs()
+                .getRows(
+                        table.getTableRef(),
+                        table.getRandomRows(ROWS_PER_READ),
+                        ColumnSelection.all(),
+                        Long.MAX_VALUE);
+        Preconditions.checkState(
+                result.size() == ROWS_PER_READ,
+                "Unexpected number of rows read",
+                SafeArg.of("expected", ROWS_PER_READ),
+                SafeArg.of("actual", result.size()));
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.keyvalue.api.Value;
+import com.palantir.atlasdb.performance.benchmarks.table.VersionedWideRowTable;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares reads of the latest version of cells with many versions under each
+ * {@link com.palantir.atlasdb.keyvalue.dbkvs.PostgresLatestVersionStrategy}.
+ */
+@Measurement(iterations = 5, time = 10)
+@Warmup(iterations = 2, time = 5)
+@Fork(value = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DbKvsLatestVersionBenchmarks {
+    private static final int CELLS_PER_READ = 100;
+
+    @Benchmark
+    @Threads(1)
+    public Object getAllColumnsOfVersionedWideRow(VersionedWideRowTable table) {
+        Map<Cell, Value> result = table.getKvs()
+                .getRows(table.getTableRef(), List.of(table.getRow()), ColumnSelection.all(), Long.MAX_VALUE);
+        return checkSize(result, table.getNumCols());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Object getCellsOfVersionedWideRow(VersionedWideRowTable table) {
+        Map<Cell, Value> result =
+                table.getKvs().get(table.getTableRef(), table.getRandomCells(CELLS_PER_READ, Long.MAX_VALUE));
+        return checkSize(result, CELLS_PER_READ);
+    }
+
+    private static Map<Cell, Value> checkSize(Map<Cell, Value> result, int expectedSize) {
+        Preconditions.checkState(
+                result.size() == expectedSize,
+                "Unexpected number of cells read",
+                SafeArg.of("expected", expectedSize),
+                SafeArg.of("actual", result.size()));
+        return result;
+    }
+}
@@ -15,16 +15,80 @@
  */
 package com.palantir.atlasdb.performance.benchmarks;
 
+import com.google.common.util.concurrent.Uninterruptibles;
 import com.palantir.atlasdb.performance.benchmarks.endpoint.TimestampServiceEndpoint;
+import com.palantir.common.concurrent.PTExecutors;
+import com.palantir.timestamp.PersistentTimestampServiceImpl;
+import com.palantir.timestamp.TimestampBoundStore;
 import com.palantir.timestamp.TimestampRange;
+import com.palantir.timestamp.TimestampService;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
 public class TimestampServiceBenchmarks {
+    public enum UpperLimitExtension {
+        SYNCHRONOUS,
+        BACKGROUND
+    }
+
+    /**
+     * A timestamp service whose bound store takes as long to write to as a round of Paxos between TimeLock nodes, so
+     * that requests which have to wait for the upper limit to be stored show up in the tail latency.
+     */
+    @State(Scope.Benchmark)
+    public static class SlowBoundStoreTimestampService {
+        private static final long STORE_LATENCY_MILLIS = 5;
+        private static final double EXTENSION_THRESHOLD = 0.5;
+
+        @Param
+        public UpperLimitExtension extension;
+
+        private TimestampService timestampService;
+        private ExecutorService extensionExecutor;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            TimestampBoundStore boundStore = new TimestampBoundStore() {
+                private volatile long upperLimit = 0;
+
+                @Override
+                public long getUpperLimit() {
+                    return upperLimit;
+                }
+
+                @Override
+                public void storeUpperLimit(long limit) {
+                    Uninterruptibles.sleepUninterruptibly(STORE_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+                    upperLimit = limit;
+                }
+            };
+            extensionExecutor = PTExecutors.newCachedThreadPool("persistent-upper-limit-extension");
+            timestampService = extension == UpperLimitExtension.BACKGROUND
+                    ? PersistentTimestampServiceImpl.createWithBackgroundUpperLimitExtension(
+                            boundStore, EXTENSION_THRESHOLD, true, extensionExecutor)
+                    : PersistentTimestampServiceImpl.create(boundStore);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            extensionExecutor.shutdownNow();
+        }
+    }
+
     @Benchmark
     @Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
     @Measurement(time = 10, timeUnit = TimeUnit.SECONDS)
@@ -65,4 +129,18 @@ public class TimestampServiceBenchmarks {
     public TimestampRange manyThreadsGetBatchOfTimestamps(TimestampServiceEndpoint timestampService) {
         return timestampService.getFreshTimestamps(500);
     }
+
+    /**
+     * Reports the latency distribution, including p99.99, of requests for batches large enough that the upper limit
+     * has to be extended every hundred requests.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(time = 1, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 10, timeUnit = TimeUnit.SECONDS)
+    @Threads(16)
+    public TimestampRange tailLatencyOfGetBatchOfTimestamps(SlowBoundStoreTimestampService timestampService) {
+        return timestampService.timestampService.getFreshTimestamps(10000);
+    }
 }
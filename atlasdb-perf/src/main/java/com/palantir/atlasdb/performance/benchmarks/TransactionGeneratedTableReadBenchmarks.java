@@ -0,0 +1,135 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.performance.benchmarks;
+
+import com.google.common.base.Preconditions;
+import com.palantir.atlasdb.keyvalue.api.ColumnRangeSelection;
+import com.palantir.atlasdb.keyvalue.api.ColumnSelection;
+import com.palantir.atlasdb.performance.benchmarks.table.KeyValueRowsTable;
+import com.palantir.atlasdb.performance.schema.generated.KeyValueTable.KeyValueCellVisitor;
+import com.palantir.atlasdb.performance.schema.generated.KeyValueTable.KeyValueNamedColumnValue;
+import com.palantir.atlasdb.performance.schema.generated.KeyValueTable.KeyValueRow;
+import com.palantir.atlasdb.performance.schema.generated.KeyValueTable.KeyValueRowResult;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the row result based read methods of a generated table against the visitor based ones that tables get
+ * with {@code enableVisitorAccessors()}.
+ */
+@State(Scope.Benchmark)
+public class TransactionGeneratedTableReadBenchmarks {
+    private static final int BATCH_HINT = 1000;
+    private static final ColumnRangeSelection ALL_COLUMNS = new ColumnRangeSelection(null, null);
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 15, timeUnit = TimeUnit.SECONDS)
+    public void getRows(KeyValueRowsTable table, Blackhole blackhole) {
+        int count = table.getTransactionManager().runTaskThrowOnConflict(txn -> {
+            int cells = 0;
+            for (KeyValueRowResult result : table.getTableFactory().getKeyValueTable(txn).getRows(table.getRows())) {
+                blackhole.consume(result.getRowName());
+                blackhole.consume(result.getStreamId());
+                cells++;
+            }
+            return cells;
+        });
+        checkCount(count);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 15, timeUnit = TimeUnit.SECONDS)
+    public void visitRows(KeyValueRowsTable table, Blackhole blackhole) {
+        int count = table.getTransactionManager().runTaskThrowOnConflict(txn -> {
+            CountingVisitor visitor = new CountingVisitor(blackhole);
+            table.getTableFactory().getKeyValueTable(txn).visitRows(table.getRows(), ColumnSelection.all(), visitor);
+            return visitor.cells;
+        });
+        checkCount(count);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 15, timeUnit = TimeUnit.SECONDS)
+    public void getRowsColumnRange(KeyValueRowsTable table, Blackhole blackhole) {
+        int count = table.getTransactionManager().runTaskThrowOnConflict(txn -> {
+            Iterator<Map.Entry<KeyValueRow, KeyValueNamedColumnValue<?>>> iter = table.getTableFactory()
+                    .getKeyValueTable(txn)
+                    .getRowsColumnRange(table.getRows(), ALL_COLUMNS, BATCH_HINT);
+            int cells = 0;
+            while (iter.hasNext()) {
+                Map.Entry<KeyValueRow, KeyValueNamedColumnValue<?>> entry = iter.next();
+                blackhole.consume(entry.getKey());
+                blackhole.consume(entry.getValue().getValue());
+                cells++;
+            }
+            return cells;
+        });
+        checkCount(count);
+    }
+
+    @Benchmark
+    @Threads(1)
+    @Warmup(time = 5, timeUnit = TimeUnit.SECONDS)
+    @Measurement(time = 15, timeUnit = TimeUnit.SECONDS)
+    public void visitRowsColumnRange(KeyValueRowsTable table, Blackhole blackhole) {
+        int count = table.getTransactionManager().runTaskThrowOnConflict(txn -> {
+            CountingVisitor visitor = new CountingVisitor(blackhole);
+            table.getTableFactory()
+                    .getKeyValueTable(txn)
+                    .visitRowsColumnRange(table.getRows(), ALL_COLUMNS, BATCH_HINT, visitor);
+            return visitor.cells;
+        });
+        checkCount(count);
+    }
+
+    private static void checkCount(int count) {
+        Preconditions.checkState(
+                count == KeyValueRowsTable.NUM_ROWS,
+                "Should be %s cells, but was: %s",
+                KeyValueRowsTable.NUM_ROWS,
+                count);
+    }
+
+    private static final class CountingVisitor implements KeyValueCellVisitor {
+        private final Blackhole blackhole;
+        private int cells = 0;
+
+        private CountingVisitor(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void visitStreamId(KeyValueRow row, Long value) {
+            blackhole.consume(row);
+            blackhole.consume(value);
+            cells++;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.performance.benchmarks.table;
+
+import com.google.common.primitives.Ints;
+import com.palantir.atlasdb.keyvalue.api.KeyValueService;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.dbkvs.DbKeyValueServiceConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutableDbKeyValueServiceConfig;
+import com.palantir.atlasdb.performance.backend.AtlasDbServicesConnector;
+import com.palantir.atlasdb.performance.benchmarks.Benchmarks;
+import com.palantir.atlasdb.services.AtlasDbServices;
+import com.palantir.atlasdb.spi.KeyValueServiceConfig;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.nexus.db.pool.config.ImmutablePostgresConnectionConfig;
+import com.palantir.nexus.db.pool.config.PostgresConnectionConfig;
+import com.palantir.nexus.db.sql.SqlExecutionMode;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * State class for a table of N rows with row names [0...N), read through a DbKvs whose connection pool runs
+ * statements in each {@link SqlExecutionMode}. Only the Postgres backend is supported.
+ */
+@State(Scope.Benchmark)
+public class ExecutionModeNarrowTable {
+    private static final TableReference TABLE_REF =
+            TableReference.createFromFullyQualifiedName("performance.persistent_table_execution_mode");
+    private static final int NUM_ROWS = 10_000;
+
+    @Param
+    public SqlExecutionMode executionMode;
+
+    private AtlasDbServicesConnector connector;
+    private AtlasDbServices services;
+
+    @Setup(Level.Trial)
+    public void setup(AtlasDbServicesConnector conn) {
+        this.connector = conn;
+        services = conn.connect(this::withExecutionMode);
+        if (!getKvs().getAllTableNames().contains(TABLE_REF)) {
+            Benchmarks.createTable(getKvs(), TABLE_REF, Tables.ROW_COMPONENT, Tables.COLUMN_NAME);
+            services.getTransactionManager().runTaskThrowOnConflict(txn -> {
+                txn.put(TABLE_REF, Tables.generateContinuousBatch(new Random(Tables.RANDOM_SEED), 0, NUM_ROWS));
+                return null;
+            });
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() {
+        this.connector.close();
+    }
+
+    public KeyValueService getKvs() {
+        return services.getKeyValueService();
+    }
+
+    public TableReference getTableRef() {
+        return TABLE_REF;
+    }
+
+    public List<byte[]> getRandomRows(int numRows) {
+        return ThreadLocalRandom.current()
+                .ints(0, NUM_ROWS)
+                .distinct()
+                .limit(numRows)
+                .mapToObj(Ints::toByteArray)
+                .collect(Collectors.toList());
+    }
+
+    private KeyValueServiceConfig withExecutionMode(KeyValueServiceConfig config) {
+        Preconditions.checkArgument(
+                config instanceof DbKeyValueServiceConfig
+                        && ((DbKeyValueServiceConfig) config).connection() instanceof PostgresConnectionConfig,
+                "SQL execution modes can only be benchmarked against Postgres",
+                SafeArg.of("type", config.type()));
+        DbKeyValueServiceConfig dbConfig = (DbKeyValueServiceConfig) config;
+        return ImmutableDbKeyValueServiceConfig.copyOf(dbConfig)
+                .withConnection(ImmutablePostgresConnectionConfig.copyOf(
+                                (PostgresConnectionConfig) dbConfig.connection())
+                        .withSqlExecutionMode(executionMode));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.performance.benchmarks.table;
+
+import com.google.common.collect.ImmutableList;
+import com.palantir.atlasdb.keyvalue.api.Namespace;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.performance.backend.AtlasDbServicesConnector;
+import com.palantir.atlasdb.performance.schema.StreamTestSchema;
+import com.palantir.atlasdb.performance.schema.generated.KeyValueTable;
+import com.palantir.atlasdb.performance.schema.generated.KeyValueTable.KeyValueRow;
+import com.palantir.atlasdb.performance.schema.generated.StreamTestTableFactory;
+import com.palantir.atlasdb.services.AtlasDbServices;
+import com.palantir.atlasdb.table.description.Schemas;
+import com.palantir.atlasdb.transaction.api.TransactionManager;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * State class for the generated {@link KeyValueTable}, with {@link #NUM_ROWS} rows that each have a stream id.
+ */
+@State(Scope.Benchmark)
+public class KeyValueRowsTable {
+    public static final int NUM_ROWS = 10_000;
+
+    private static final StreamTestTableFactory TABLE_FACTORY = StreamTestTableFactory.of();
+    private static final TableReference TABLE_REF =
+            TableReference.create(Namespace.DEFAULT_NAMESPACE, KeyValueTable.getRawTableName());
+
+    private AtlasDbServicesConnector connector;
+    private AtlasDbServices services;
+    private List<KeyValueRow> rows;
+
+    public TransactionManager getTransactionManager() {
+        return services.getTransactionManager();
+    }
+
+    public StreamTestTableFactory getTableFactory() {
+        return TABLE_FACTORY;
+    }
+
+    public List<KeyValueRow> getRows() {
+        return rows;
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() throws Exception {
+        services.getKeyValueService().dropTable(TABLE_REF);
+        connector.close();
+    }
+
+    @Setup(Level.Trial)
+    public void setup(AtlasDbServicesConnector conn) {
+        connector = conn;
+        services = conn.connect();
+        Schemas.createTablesAndIndexes(StreamTestSchema.getSchema(), services.getKeyValueService());
+        rows = IntStream.range(0, NUM_ROWS)
+                .mapToObj(i -> KeyValueRow.of("row" + i))
+                .collect(ImmutableList.toImmutableList());
+        Map<KeyValueRow, Long> streamIds = rows.stream()
+                .collect(Collectors.toMap(Function.identity(), row -> (long) row.getKey().hashCode()));
+        getTransactionManager().runTaskThrowOnConflict(txn -> {
+            TABLE_FACTORY.getKeyValueTable(txn).putStreamId(streamIds);
+            return null;
+        });
+    }
+}
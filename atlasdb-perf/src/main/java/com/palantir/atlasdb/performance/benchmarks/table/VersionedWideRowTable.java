@@ -0,0 +1,130 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.performance.benchmarks.table;
+
+import com.google.common.primitives.Ints;
+import com.palantir.atlasdb.encoding.PtBytes;
+import com.palantir.atlasdb.keyvalue.api.Cell;
+import com.palantir.atlasdb.keyvalue.api.KeyValueService;
+import com.palantir.atlasdb.keyvalue.api.TableReference;
+import com.palantir.atlasdb.keyvalue.dbkvs.DbKeyValueServiceConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutableDbKeyValueServiceConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.ImmutablePostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresDdlConfig;
+import com.palantir.atlasdb.keyvalue.dbkvs.PostgresLatestVersionStrategy;
+import com.palantir.atlasdb.performance.backend.AtlasDbServicesConnector;
+import com.palantir.atlasdb.performance.benchmarks.Benchmarks;
+import com.palantir.atlasdb.services.AtlasDbServices;
+import com.palantir.atlasdb.spi.KeyValueServiceConfig;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * State class for a single wide row whose every cell has many versions, as in a table that sweep has fallen behind
+ * on, read through a DbKvs using each {@link PostgresLatestVersionStrategy}. Only the Postgres backend is supported.
+ */
+@State(Scope.Benchmark)
+public class VersionedWideRowTable {
+    private static final TableReference TABLE_REF =
+            TableReference.createFromFullyQualifiedName("performance.persistent_table_versioned_wide_row");
+    private static final byte[] ROW = PtBytes.toBytes("row");
+    private static final int NUM_COLS = 5_000;
+    private static final int VERSIONS_PER_CELL = 20;
+    private static final int VALUE_SIZE = 100;
+
+    @Param
+    public PostgresLatestVersionStrategy strategy;
+
+    private AtlasDbServicesConnector connector;
+    private AtlasDbServices services;
+
+    @Setup(Level.Trial)
+    public void setup(AtlasDbServicesConnector conn) {
+        this.connector = conn;
+        services = conn.connect(this::withLatestVersionStrategy);
+        if (!getKvs().getAllTableNames().contains(TABLE_REF)) {
+            Benchmarks.createTable(getKvs(), TABLE_REF, Tables.ROW_COMPONENT, Tables.COLUMN_NAME);
+            Random random = new Random(Tables.RANDOM_SEED);
+            for (long ts = 1; ts <= VERSIONS_PER_CELL; ts++) {
+                Map<Cell, byte[]> values = new HashMap<>();
+                for (int col = 0; col < NUM_COLS; col++) {
+                    byte[] value = new byte[VALUE_SIZE];
+                    random.nextBytes(value);
+                    values.put(getCell(col), value);
+                }
+                getKvs().put(TABLE_REF, values, ts);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void cleanup() {
+        this.connector.close();
+    }
+
+    public KeyValueService getKvs() {
+        return services.getKeyValueService();
+    }
+
+    public TableReference getTableRef() {
+        return TABLE_REF;
+    }
+
+    public byte[] getRow() {
+        return ROW;
+    }
+
+    public int getNumCols() {
+        return NUM_COLS;
+    }
+
+    public Map<Cell, Long> getRandomCells(int numCells, long readTimestamp) {
+        Map<Cell, Long> cells = new HashMap<>();
+        ThreadLocalRandom.current()
+                .ints(0, NUM_COLS)
+                .distinct()
+                .limit(numCells)
+                .forEach(col -> cells.put(getCell(col), readTimestamp));
+        return cells;
+    }
+
+    private static Cell getCell(int col) {
+        return Cell.create(ROW, Ints.toByteArray(col));
+    }
+
+    private KeyValueServiceConfig withLatestVersionStrategy(KeyValueServiceConfig config) {
+        Preconditions.checkArgument(
+                config instanceof DbKeyValueServiceConfig
+                        && ((DbKeyValueServiceConfig) config).ddl() instanceof PostgresDdlConfig,
+                "Latest version strategies can only be benchmarked against Postgres",
+                SafeArg.of("type", config.type()));
+        DbKeyValueServiceConfig dbConfig = (DbKeyValueServiceConfig) config;
+        return ImmutableDbKeyValueServiceConfig.copyOf(dbConfig)
+                .withDdl(ImmutablePostgresDdlConfig.copyOf((PostgresDdlConfig) dbConfig.ddl())
+                        .withLatestVersionStrategy(strategy));
+    }
+}
@@ -44,6 +44,7 @@ public final class StreamTestSchema implements AtlasSchema {
                 javaTableName("KeyValue");
 
                 rangeScanAllowed();
+                enableVisitorAccessors();
 
                 rowName();
                 rowComponent("key", ValueType.STRING);
@@ -279,6 +279,11 @@ public final class KeyValueTable implements
             }
         };
 
+        public static Long hydrateValue(byte[] bytes) {
+            bytes = CompressionUtils.decompress(bytes, Compression.NONE);
+            return EncodingUtils.decodeUnsignedVarLong(bytes, 0);
+        }
+
         @Override
         public String toString() {
             return MoreObjects.toStringHelper(getClass().getSimpleName())
@@ -560,6 +565,58 @@ public final class KeyValueTable implements
         return transformed;
     }
 
+    /**
+     * Receives the cells read by visitRows and visitRowsColumnRange, as they are decoded.
+     */
+    public interface KeyValueCellVisitor {
+        default void visitStreamId(KeyValueRow row, Long value) {}
+    }
+
+    /**
+     * Reads the given rows and passes each cell to the visitor, without building row results.
+     * Cells are read as a single batch and visited in the order of the given rows.
+     */
+    public void visitRows(Iterable<KeyValueRow> rows, ColumnSelection columns, KeyValueCellVisitor visitor) {
+        columns = columns.allColumnsSelected() ? allColumns : columns;
+        List<KeyValueRow> distinctRows = ImmutableSet.copyOf(rows).asList();
+        List<byte[]> rowNames = Persistables.persistAll(distinctRows);
+        Map<Cell, byte[]> results = t.get(tableRef, columns.asCellsForRows(rowNames));
+        for (int i = 0; i < rowNames.size(); i++) {
+            for (byte[] columnName : columns.getSelectedColumns()) {
+                byte[] value = results.get(Cell.create(rowNames.get(i), columnName));
+                if (value != null) {
+                    visitCell(distinctRows.get(i), columnName, value, visitor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the given column range of the given rows and passes each cell to the visitor, in the order
+     * of the underlying iterator. Consecutive cells of the same row share a single decoded row.
+     */
+    public void visitRowsColumnRange(Iterable<KeyValueRow> rows, ColumnRangeSelection columnRangeSelection, int batchHint, KeyValueCellVisitor visitor) {
+        Iterator<Map.Entry<Cell, byte[]>> results = t.getRowsColumnRange(getTableRef(), Persistables.persistAll(rows), columnRangeSelection, batchHint);
+        byte[] rowName = null;
+        KeyValueRow row = null;
+        while (results.hasNext()) {
+            Map.Entry<Cell, byte[]> e = results.next();
+            if (rowName == null || !Arrays.equals(rowName, e.getKey().getRowName())) {
+                rowName = e.getKey().getRowName();
+                row = KeyValueRow.BYTES_HYDRATOR.hydrateFromBytes(rowName);
+            }
+            visitCell(row, e.getKey().getColumnName(), e.getValue(), visitor);
+        }
+    }
+
+    private static final byte[] streamIdShortName = PtBytes.toCachedBytes("s");
+
+    private static void visitCell(KeyValueRow row, byte[] columnName, byte[] value, KeyValueCellVisitor visitor) {
+        if (Arrays.equals(columnName, streamIdShortName)) {
+            visitor.visitStreamId(row, StreamId.hydrateValue(value));
+        }
+    }
+
     private RangeRequest optimizeRangeRequest(RangeRequest range) {
         if (range.getColumnNames().isEmpty()) {
             return range.getBuilder().retainColumns(allColumns).build();
@@ -743,5 +800,5 @@ public final class KeyValueTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "0k27Xw8Atky9e/BF082r/g==";
+    static String __CLASS_HASH = "DLr4fdOxJexuozWrOLbGkA==";
 }
@@ -210,7 +210,7 @@ public final class AtlasDeserializers {
                 throw new EnumConstantNotPresentException(
                         Format.class, description.getFormat().name());
         }
-        return CompressionUtils.compress(bytes, description.getCompression());
+        return CompressionUtils.compress(bytes, description.getCompression(), description.getCompressionDictionary());
     }
 
     private static class JsonNodeIterable<T> implements Iterable<T> {
@@ -175,6 +175,9 @@ public abstract class AbstractSerializableTransactionTest extends AbstractTransa
                 new DefaultDeleteExecutor(
                         transactionKeyValueServiceManager.getKeyValueService().orElseThrow(),
                         MoreExecutors.newDirectExecutorService()),
+                AbstractTransactionTest.COMMIT_EXECUTOR,
+                AbstractTransactionTest.COMMIT_EXECUTOR,
+                AbstractTransactionTest.COMMIT_EXECUTOR,
                 true,
                 transactionConfigSupplier,
                 ConflictTracer.NO_OP,
@@ -32,6 +32,8 @@ import com.google.common.collect.Ordering;
 import com.google.common.collect.Streams;
 import com.google.common.io.BaseEncoding;
 import com.google.common.primitives.UnsignedBytes;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.BatchColumnRangeSelection;
@@ -80,10 +82,12 @@ import java.util.Random;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
 import java.util.concurrent.FutureTask;
 import java.util.function.BiFunction;
 import java.util.function.UnaryOperator;
@@ -113,6 +117,8 @@ public abstract class AbstractTransactionTest extends TransactionTestSetup {
 
     protected static final ExecutorService GET_RANGES_EXECUTOR =
             Executors.newFixedThreadPool(GET_RANGES_THREAD_POOL_SIZE);
+    protected static final ListeningExecutorService COMMIT_EXECUTOR =
+            MoreExecutors.listeningDecorator(Executors.newCachedThreadPool());
 
     protected Transaction startTransaction() {
         return Iterables.getOnlyElement(txMgr.startTransactions(List.of(PreCommitConditions.NO_OP)));
@@ -1750,6 +1756,52 @@ public abstract class AbstractTransactionTest extends TransactionTestSetup {
         }
     }
 
+    @Test
+    public void rangePublisherReadsRangeInPagesWithLocalWrites() throws InterruptedException, ExecutionException {
+        Transaction tx = startTransaction();
+        for (int index = 0; index < 25; index++) {
+            put(tx, "row" + index, "col1", "value" + index);
+        }
+        tx.commit();
+
+        tx = startTransaction();
+        put(tx, "row5", "col2", "localValue");
+        delete(tx, "row7", "col1");
+        List<RowResult<byte[]>> published = collect(tx.getRangePublisher(
+                TEST_TABLE, RangeRequest.builder().batchHint(4).build()));
+        List<RowResult<byte[]>> expected = BatchingVisitables.copyToList(
+                tx.getRange(TEST_TABLE, RangeRequest.builder().build()));
+        tx.commit();
+
+        assertThat(published).hasSize(24);
+        assertThat(cellValues(Iterables.concat(Iterables.transform(published, RowResult::getCells))))
+                .containsExactlyElementsOf(
+                        cellValues(Iterables.concat(Iterables.transform(expected, RowResult::getCells))));
+    }
+
+    @Test
+    public void rowsColumnRangePublisherMatchesRowsColumnRange() throws InterruptedException, ExecutionException {
+        Assumptions.assumeTrue(canGetRowsColumnRangeOnTestTable());
+        Transaction tx = startTransaction();
+        Map<Cell, byte[]> valuesToPut = KeyedStream.of(IntStream.range(0, 10).boxed())
+                .flatMapKeys(index -> Stream.of(Cell.create(row(index), column(0)), Cell.create(row(index), column(1))))
+                .map(AbstractTransactionTest::value)
+                .collectToMap();
+        tx.put(TEST_TABLE, valuesToPut);
+        tx.commit();
+
+        tx = startTransaction();
+        List<byte[]> rows = IntStream.range(0, 10).mapToObj(AbstractTransactionTest::row).collect(Collectors.toList());
+        ColumnRangeSelection allColumns = new ColumnRangeSelection(PtBytes.EMPTY_BYTE_ARRAY, PtBytes.EMPTY_BYTE_ARRAY);
+        List<Entry<Cell, byte[]>> published =
+                collect(tx.getRowsColumnRangePublisher(TEST_TABLE, rows, allColumns, 3));
+        List<Entry<Cell, byte[]>> expected =
+                ImmutableList.copyOf(tx.getRowsColumnRange(TEST_TABLE, rows, allColumns, 3));
+
+        assertThat(published).hasSize(20);
+        assertThat(cellValues(published)).containsExactlyElementsOf(cellValues(expected));
+    }
+
     private boolean canGetRowsColumnRangeOnTestTable() {
         try {
             Transaction tx = startTransaction();
@@ -1963,6 +2015,43 @@ public abstract class AbstractTransactionTest extends TransactionTestSetup {
                 .immutableCopy();
     }
 
+    private static <T> List<T> collect(Flow.Publisher<T> publisher) throws InterruptedException, ExecutionException {
+        CompletableFuture<List<T>> result = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<T>() {
+            private final List<T> elements = new ArrayList<>();
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription newSubscription) {
+                subscription = newSubscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(T element) {
+                elements.add(element);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(elements);
+            }
+        });
+        return result.get();
+    }
+
+    private static List<Pair<Cell, String>> cellValues(Iterable<Entry<Cell, byte[]>> entries) {
+        return Streams.stream(entries)
+                .map(entry -> Pair.create(entry.getKey(), PtBytes.toString(entry.getValue())))
+                .collect(Collectors.toList());
+    }
+
     private static byte[] row(int index) {
         return toBytes("row" + index);
     }
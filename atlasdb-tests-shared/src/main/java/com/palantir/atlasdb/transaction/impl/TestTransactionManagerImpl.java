@@ -207,6 +207,9 @@ public class TestTransactionManagerImpl extends SerializableTransactionManager i
                         defaultGetRangesConcurrency,
                         sweepQueueWriter,
                         deleteExecutor,
+                        commitExecutor,
+                        commitWriteExecutor,
+                        rangePrefetchExecutor,
                         validateLocksOnReads,
                         transactionConfig,
                         ConflictTracer.NO_OP,
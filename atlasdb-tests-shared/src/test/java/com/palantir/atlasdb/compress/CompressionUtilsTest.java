@@ -16,9 +16,14 @@
 package com.palantir.atlasdb.compress;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.table.description.ColumnValueDescription.Compression;
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 public class CompressionUtilsTest {
@@ -69,4 +74,115 @@ public class CompressionUtilsTest {
         }
         assertThat(threwIllegalArgumentException).isTrue();
     }
+
+    @Test
+    public void testCompressAndDecompressWithLz4() {
+        byte[] original = new byte[1024];
+        byte[] compressed = CompressionUtils.compress(original, Compression.LZ4);
+        assertThat(compressed).hasSizeLessThan(original.length);
+        assertThat(CompressionUtils.decompress(compressed, Compression.LZ4)).isEqualTo(original);
+    }
+
+    @Test
+    public void testCompressAndDecompressEmptyValues() {
+        for (Compression compression : Compression.values()) {
+            byte[] compressed = CompressionUtils.compress(new byte[0], compression);
+            assertThat(CompressionUtils.decompress(compressed, compression)).isEmpty();
+        }
+    }
+
+    @Test
+    public void testDecompressExceptionWithLz4() {
+        assertThatThrownBy(() -> CompressionUtils.decompress(new byte[] {1, 2, 3}, Compression.LZ4))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompressionUtils.decompress(new byte[] {0, 0, 0, 10, 1, 2, 3}, Compression.LZ4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testDecompressExceptionWithLz4ForLengthAboveMaximum() {
+        byte[] compressed = CompressionUtils.compress(new byte[1024], Compression.LZ4);
+        compressed[0] = Byte.MAX_VALUE;
+        assertThatThrownBy(() -> CompressionUtils.decompress(compressed, Compression.LZ4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testCompressAndDecompressWithDeflate() {
+        byte[] original = new byte[1024];
+        byte[] compressed = CompressionUtils.compress(original, Compression.DEFLATE);
+        assertThat(compressed).hasSizeLessThan(original.length);
+        assertThat(CompressionUtils.decompress(compressed, Compression.DEFLATE)).isEqualTo(original);
+    }
+
+    @Test
+    public void testDecompressExceptionWithDeflate() {
+        byte[] compressed = CompressionUtils.compress(new byte[1024], Compression.DEFLATE);
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length - 1);
+        assertThatThrownBy(() -> CompressionUtils.decompress(truncated, Compression.DEFLATE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testDecompressExceptionWithDeflateForLengthAboveMaximum() {
+        byte[] compressed = CompressionUtils.compress(new byte[1024], Compression.DEFLATE);
+        compressed[0] = Byte.MAX_VALUE;
+        assertThatThrownBy(() -> CompressionUtils.decompress(compressed, Compression.DEFLATE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testDecompressExceptionWithDeflateForLengthMismatch() {
+        byte[] compressed = CompressionUtils.compress(new byte[1024], Compression.DEFLATE);
+        byte[] tooShort = compressed.clone();
+        tooShort[2] = 0;
+        byte[] tooLong = compressed.clone();
+        tooLong[2] = 8;
+        byte[] trailingBytes = Arrays.copyOf(compressed, compressed.length + 1);
+        assertThatThrownBy(() -> CompressionUtils.decompress(tooShort, Compression.DEFLATE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompressionUtils.decompress(tooLong, Compression.DEFLATE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CompressionUtils.decompress(trailingBytes, Compression.DEFLATE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void trainedDictionaryImprovesCompressionOfSimilarValues() {
+        CompressionDictionary dictionary = trainDictionary();
+        byte[] original = value(1000);
+
+        byte[] withoutDictionary = CompressionUtils.compress(original, Compression.DEFLATE);
+        byte[] withDictionary = CompressionUtils.compress(original, Compression.DEFLATE, dictionary);
+
+        assertThat(withDictionary).hasSizeLessThan(withoutDictionary.length);
+        assertThat(CompressionUtils.decompress(withDictionary, Compression.DEFLATE, dictionary))
+                .isEqualTo(original);
+    }
+
+    @Test
+    public void cannotDecompressWithoutTheDictionaryUsedForCompression() {
+        CompressionDictionary dictionary = trainDictionary();
+        byte[] compressed = CompressionUtils.compress(value(1000), Compression.DEFLATE, dictionary);
+
+        assertThatThrownBy(() -> CompressionUtils.decompress(compressed, Compression.DEFLATE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void dictionaryRoundTripsThroughBase64() {
+        CompressionDictionary dictionary = CompressionDictionary.of(PtBytes.toBytes("some dictionary"));
+        assertThat(CompressionDictionary.fromBase64(dictionary.toBase64())).isEqualTo(dictionary);
+    }
+
+    private static CompressionDictionary trainDictionary() {
+        List<byte[]> samples =
+                IntStream.range(0, 100).mapToObj(CompressionUtilsTest::value).collect(Collectors.toList());
+        return CompressionDictionary.train(samples, 1024);
+    }
+
+    private static byte[] value(int index) {
+        return PtBytes.toBytes("{\"type\":\"EVENT\",\"status\":\"COMPLETED\",\"owner\":\"user-" + index
+                + "\",\"sequence\":" + index + "}");
+    }
 }
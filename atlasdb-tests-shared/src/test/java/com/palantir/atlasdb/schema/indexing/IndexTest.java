@@ -18,9 +18,13 @@ package com.palantir.atlasdb.schema.indexing;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Multimap;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.palantir.atlasdb.AtlasDbTestCase;
 import com.palantir.atlasdb.encoding.PtBytes;
 import com.palantir.atlasdb.keyvalue.api.RangeRequest;
@@ -39,6 +43,8 @@ import com.palantir.atlasdb.table.description.ValueType;
 import com.palantir.atlasdb.transaction.api.RuntimeTransactionTask;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -142,6 +148,35 @@ public class IndexTest extends AtlasDbTestCase {
         });
     }
 
+    @Test
+    public void testTwoColumnsAsyncReads() {
+        txManager.runTaskWithRetry((RuntimeTransactionTask<Void>) txn -> {
+            TwoColumnsTable table = getTableFactory().getTwoColumnsTable(txn);
+            table.putFoo(TwoColumnsRow.of(1L), 2L);
+            table.putBar(TwoColumnsRow.of(1L), 5L);
+            table.putFoo(TwoColumnsRow.of(3L), 4L);
+            return null;
+        });
+        txManager.runTaskWithRetry((RuntimeTransactionTask<Void>) txn -> {
+            TwoColumnsTable table = getTableFactory().getTwoColumnsTable(txn);
+            ListenableFuture<Map<TwoColumnsRow, Long>> foos =
+                    table.getFoosAsync(ImmutableList.of(TwoColumnsRow.of(1L), TwoColumnsRow.of(3L)));
+            ListenableFuture<Map<TwoColumnsRow, Long>> bars =
+                    table.getBarsAsync(ImmutableList.of(TwoColumnsRow.of(1L), TwoColumnsRow.of(3L)));
+            ListenableFuture<Multimap<TwoColumnsRow, TwoColumnsNamedColumnValue<?>>> rows =
+                    table.getRowsMultimapAsync(ImmutableList.of(TwoColumnsRow.of(1L)));
+
+            assertThat(Futures.getUnchecked(foos))
+                    .containsExactlyInAnyOrderEntriesOf(
+                            ImmutableMap.of(TwoColumnsRow.of(1L), 2L, TwoColumnsRow.of(3L), 4L));
+            assertThat(Futures.getUnchecked(bars)).containsExactlyEntriesOf(ImmutableMap.of(TwoColumnsRow.of(1L), 5L));
+            Map<String, Object> rowValues = Futures.getUnchecked(rows).get(TwoColumnsRow.of(1L)).stream()
+                    .collect(Collectors.toMap(value -> value.getColumnName(), value -> value.getValue()));
+            assertThat(rowValues).containsExactlyInAnyOrderEntriesOf(ImmutableMap.of("foo", 2L, "bar", 5L));
+            return null;
+        });
+    }
+
     @Test
     public void testFirstRowComponentIsHashed() {
         long rawComponent = 1L;
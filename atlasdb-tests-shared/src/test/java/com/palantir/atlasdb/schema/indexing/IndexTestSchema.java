@@ -98,6 +98,7 @@ public class IndexTestSchema implements AtlasSchema {
                 columns();
                 column("foo", "f", ValueType.FIXED_LONG);
                 column("bar", "b", ValueType.FIXED_LONG);
+                enableAsyncAccessors();
             }
         });
 
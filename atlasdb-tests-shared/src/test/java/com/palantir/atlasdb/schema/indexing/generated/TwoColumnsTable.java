@@ -755,6 +755,67 @@ public final class TwoColumnsTable implements
         return transformed;
     }
 
+    public com.google.common.util.concurrent.ListenableFuture<Map<TwoColumnsRow, Long>> getFoosAsync(Collection<TwoColumnsRow> rows) {
+        Map<Cell, TwoColumnsRow> cells = Maps.newHashMapWithExpectedSize(rows.size());
+        for (TwoColumnsRow row : rows) {
+            cells.put(Cell.create(row.persistToBytes(), PtBytes.toCachedBytes("f")), row);
+        }
+        return com.google.common.util.concurrent.Futures.transform(
+                t.getAsync(tableRef, cells.keySet()),
+                results -> {
+            Map<TwoColumnsRow, Long> ret = Maps.newHashMapWithExpectedSize(results.size());
+            for (Entry<Cell, byte[]> e : results.entrySet()) {
+                Long val = Foo.BYTES_HYDRATOR.hydrateFromBytes(e.getValue()).getValue();
+                ret.put(cells.get(e.getKey()), val);
+            }
+            return ret;
+        },
+        com.google.common.util.concurrent.MoreExecutors.directExecutor());
+    }
+
+    public com.google.common.util.concurrent.ListenableFuture<Map<TwoColumnsRow, Long>> getBarsAsync(Collection<TwoColumnsRow> rows) {
+        Map<Cell, TwoColumnsRow> cells = Maps.newHashMapWithExpectedSize(rows.size());
+        for (TwoColumnsRow row : rows) {
+            cells.put(Cell.create(row.persistToBytes(), PtBytes.toCachedBytes("b")), row);
+        }
+        return com.google.common.util.concurrent.Futures.transform(
+                t.getAsync(tableRef, cells.keySet()),
+                results -> {
+            Map<TwoColumnsRow, Long> ret = Maps.newHashMapWithExpectedSize(results.size());
+            for (Entry<Cell, byte[]> e : results.entrySet()) {
+                Long val = Bar.BYTES_HYDRATOR.hydrateFromBytes(e.getValue()).getValue();
+                ret.put(cells.get(e.getKey()), val);
+            }
+            return ret;
+        },
+        com.google.common.util.concurrent.MoreExecutors.directExecutor());
+    }
+
+    /**
+     * Reads all named columns of the given rows, without blocking. Reads of other tables in the same
+     * transaction can be issued before this completes, and combined using {@code Futures}.
+     */
+    public com.google.common.util.concurrent.ListenableFuture<Multimap<TwoColumnsRow, TwoColumnsNamedColumnValue<?>>> getRowsMultimapAsync(Iterable<TwoColumnsRow> rows) {
+        Set<Cell> cells = new HashSet<>();
+        for (TwoColumnsRow row : rows) {
+            byte[] rowBytes = row.persistToBytes();
+            for (String shortName : shortNameToHydrator.keySet()) {
+                cells.add(Cell.create(rowBytes, PtBytes.toCachedBytes(shortName)));
+            }
+        }
+        return com.google.common.util.concurrent.Futures.transform(
+                t.getAsync(tableRef, cells),
+                results -> {
+            Multimap<TwoColumnsRow, TwoColumnsNamedColumnValue<?>> rowMap = ArrayListMultimap.create();
+            for (Entry<Cell, byte[]> e : results.entrySet()) {
+                TwoColumnsRow row = TwoColumnsRow.BYTES_HYDRATOR.hydrateFromBytes(e.getKey().getRowName());
+                rowMap.put(row, shortNameToHydrator.get(PtBytes.toString(e.getKey().getColumnName())).hydrateFromBytes(e.getValue()));
+            }
+            return rowMap;
+        },
+        com.google.common.util.concurrent.MoreExecutors.directExecutor());
+    }
+
     private Multimap<TwoColumnsRow, TwoColumnsNamedColumnValue<?>> getAffectedCells(Multimap<TwoColumnsRow, ? extends TwoColumnsNamedColumnValue<?>> rows) {
         Multimap<TwoColumnsRow, TwoColumnsNamedColumnValue<?>> oldData = getRowsMultimap(rows.keySet());
         Multimap<TwoColumnsRow, TwoColumnsNamedColumnValue<?>> cellsAffected = ArrayListMultimap.create();
@@ -2190,5 +2251,5 @@ public final class TwoColumnsTable implements
      * {@link UnsignedBytes}
      * {@link ValueType}
      */
-    static String __CLASS_HASH = "pAsGGRHTYhHRY58MdyOkCg==";
+    static String __CLASS_HASH = "LdRgm0kyVAAYl6KS67KAjQ==";
 }
@@ -50,6 +50,7 @@ import com.google.common.collect.Ordering;
 import com.google.common.collect.Streams;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import com.palantir.atlasdb.AtlasDbConstants;
@@ -219,6 +220,8 @@ public abstract class AbstractSnapshotTransactionTest extends AtlasDbTestCase {
     private final TimestampCache timestampCache = new DefaultTimestampCache(
             metricsManager.getRegistry(), () -> AtlasDbConstants.DEFAULT_TIMESTAMP_CACHE_SIZE);
     private final ExecutorService getRangesExecutor = Executors.newFixedThreadPool(8);
+    private final ListeningExecutorService commitExecutor =
+            MoreExecutors.listeningDecorator(Executors.newCachedThreadPool());
     private final int defaultGetRangesConcurrency = 2;
     private final TransactionOutcomeMetrics transactionOutcomeMetrics = TransactionOutcomeMetrics.create(
             TransactionMetrics.of(metricsManager.getTaggedRegistry()), metricsManager.getTaggedRegistry());
@@ -475,6 +478,9 @@ public abstract class AbstractSnapshotTransactionTest extends AtlasDbTestCase {
                         new DefaultDeleteExecutor(
                                 txnKeyValueServiceManager.getKeyValueService().orElseThrow(),
                                 MoreExecutors.newDirectExecutorService()),
+                        commitExecutor,
+                        commitExecutor,
+                        commitExecutor,
                         true,
                         transactionConfig::get,
                         ConflictTracer.NO_OP,
@@ -918,6 +924,72 @@ public abstract class AbstractSnapshotTransactionTest extends AtlasDbTestCase {
         assertThatThrownBy(t2::commit).isInstanceOf(TransactionConflictException.class);
     }
 
+    @Test
+    public void writeWriteConflictsThrowWhenCheckedConcurrentlyWithCommitWrites() {
+        setTransactionConfig(ImmutableTransactionConfig.builder()
+                .checkConflictsConcurrentlyWithCommitWrites(true)
+                .build());
+        Map<TableReference, ConflictHandler> conflictHandlers =
+                ImmutableMap.of(TABLE, ConflictHandler.RETRY_ON_WRITE_WRITE);
+        Transaction t1 = getSnapshotTransactionWith(timelockService, conflictHandlers);
+        Transaction t2 = getSnapshotTransactionWith(timelockService, conflictHandlers);
+        t1.put(TABLE, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("t1")));
+        t2.put(TABLE, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("t2")));
+
+        t1.commit();
+        assertThatThrownBy(t2::commit).isInstanceOf(TransactionConflictException.class);
+        assertThat(keyValueService.get(TABLE, ImmutableMap.of(TEST_CELL, Long.MAX_VALUE)))
+                .as("the conflicting transaction must not have written its value")
+                .hasEntrySatisfying(TEST_CELL, value -> assertThat(value.getContents())
+                        .isEqualTo(PtBytes.toBytes("t1")));
+    }
+
+    @Test
+    public void writeWriteConflictsThrowWhenTablesAreCheckedConcurrently() {
+        setTransactionConfig(ImmutableTransactionConfig.builder()
+                .conflictCheckTableConcurrency(3)
+                .build());
+        Map<TableReference, ConflictHandler> conflictHandlers = ImmutableMap.of(
+                TABLE, ConflictHandler.RETRY_ON_WRITE_WRITE,
+                TABLE1, ConflictHandler.IGNORE_ALL,
+                TABLE2, ConflictHandler.RETRY_ON_WRITE_WRITE);
+        Cell otherCell = Cell.create(PtBytes.toBytes("row2"), PtBytes.toBytes("column1"));
+        Transaction t1 = getSnapshotTransactionWith(timelockService, conflictHandlers);
+        Transaction t2 = getSnapshotTransactionWith(timelockService, conflictHandlers);
+        t1.put(TABLE1, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("t1")));
+        t1.put(TABLE2, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("t1")));
+        t2.put(TABLE, ImmutableMap.of(otherCell, PtBytes.toBytes("t2")));
+        t2.put(TABLE1, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("t2")));
+        t2.put(TABLE2, ImmutableMap.of(TEST_CELL, PtBytes.toBytes("t2")));
+
+        t1.commit();
+        assertThatThrownBy(t2::commit)
+                .isInstanceOfSatisfying(TransactionConflictException.class, conflict -> assertThat(
+                                conflict.getSpanningWrites())
+                        .extracting(TransactionConflictException.CellConflict::getCell)
+                        .containsExactly(TEST_CELL));
+    }
+
+    @Test
+    public void chunkedCommitWritesWithConcurrentConflictCheckingAreAllVisible() {
+        setTransactionConfig(ImmutableTransactionConfig.builder()
+                .commitWriteChunkSizeCells(3)
+                .checkConflictsConcurrentlyWithCommitWrites(true)
+                .build());
+        ImmutableMap.Builder<Cell, byte[]> builder = ImmutableMap.builder();
+        for (int i = 0; i < 10; i++) {
+            builder.put(Cell.create(PtBytes.toBytes("row" + i), PtBytes.toBytes("col")), PtBytes.toBytes(i));
+        }
+        ImmutableMap<Cell, byte[]> writes = builder.buildOrThrow();
+
+        Transaction txn = getSnapshotTransactionWith(timelockService, ImmutableMap.of());
+        txn.put(TABLE, writes);
+        txn.commit();
+
+        Transaction readTransaction = txManager.createNewTransaction();
+        assertThat(readTransaction.get(TABLE, writes.keySet())).containsOnlyKeys(writes.keySet());
+    }
+
     @Test
     public void disallowPutOnEmptyObject() {
         Transaction t1 = txManager.createNewTransaction();
@@ -3457,6 +3529,9 @@ public abstract class AbstractSnapshotTransactionTest extends AtlasDbTestCase {
                 MultiTableSweepQueueWriter.NO_OP,
                 new DefaultDeleteExecutor(
                         txnKeyValueServiceManager.getKeyValueService().orElseThrow(), deleteExecutor),
+                commitExecutor,
+                commitExecutor,
+                commitExecutor,
                 true,
                 transactionConfig::get,
                 ConflictTracer.NO_OP,
@@ -3517,6 +3592,9 @@ public abstract class AbstractSnapshotTransactionTest extends AtlasDbTestCase {
                 MultiTableSweepQueueWriter.NO_OP,
                 new DefaultDeleteExecutor(
                         txnKeyValueServiceManager.getKeyValueService().orElseThrow(), deleteExecutor),
+                commitExecutor,
+                commitExecutor,
+                commitExecutor,
                 validateLocksOnReads,
                 transactionConfig::get,
                 ConflictTracer.NO_OP,
@@ -16,6 +16,7 @@
 package com.palantir.nexus.db.pool;
 
 import com.palantir.nexus.db.DBType;
+import com.palantir.nexus.db.sql.SqlExecutionMode;
 import java.sql.Connection;
 import java.sql.SQLException;
 
@@ -54,6 +55,13 @@ public interface ConnectionManager {
 
     DBType getDbType();
 
+    /**
+     * The threads that statements on connections from this manager should run on.
+     */
+    default SqlExecutionMode getSqlExecutionMode() {
+        return SqlExecutionMode.EXECUTOR;
+    }
+
     /**
      * Change the password which will be used for new connections. Existing connections are not modified in any way.
      *
@@ -26,4 +26,19 @@ public interface AgnosticLightResultRow extends AgnosticResultRow {
     DateTime getDateTime(String colname) throws PalantirSqlException;
 
     Object getArray(String colName) throws PalantirSqlException;
+
+    /**
+     * Returns the index of the named column. Callers reading many rows can look their columns up once, and then read
+     * each row with the index based accessors below rather than looking up every column of every row by name.
+     */
+    int getColumnIndex(String colname);
+
+    byte[] getBytesAt(int columnIndex) throws PalantirSqlException;
+
+    long getLongAt(int columnIndex) throws PalantirSqlException;
+
+    /**
+     * Returns the value of the given column, or {@code valueIfNull} if the column is null, without boxing it.
+     */
+    long getLongAt(int columnIndex, long valueIfNull) throws PalantirSqlException;
 }
@@ -235,4 +235,29 @@ public class AgnosticLightResultRowImpl extends AbstractAgnosticResultRow implem
     public int size() throws PalantirSqlException {
         return ResultSets.getColumnCount(results);
     }
+
+    @Override
+    public int getColumnIndex(String colname) {
+        return findColumn(colname);
+    }
+
+    @Override
+    public byte[] getBytesAt(int columnIndex) throws PalantirSqlException {
+        return ResultSets.getBytes(results, columnIndex);
+    }
+
+    @Override
+    public long getLongAt(int columnIndex) throws PalantirSqlException {
+        return ResultSets.getLong(results, columnIndex);
+    }
+
+    @Override
+    public long getLongAt(int columnIndex, long valueIfNull) throws PalantirSqlException {
+        long value = ResultSets.getLong(results, columnIndex);
+        // JDBC reads null as zero, so only zeros need to be checked.
+        if (value == 0 && ResultSets.wasNull(results)) {
+            return valueIfNull;
+        }
+        return value;
+    }
 }
@@ -77,6 +77,10 @@ public abstract class BasicSQL {
         boolean isSqlCancellationDisabled();
 
         SqlTimer getSqlTimer();
+
+        default SqlExecutionMode getSqlExecutionMode() {
+            return SqlExecutionMode.EXECUTOR;
+        }
     }
 
     protected abstract SqlConfig getSqlConfig();
@@ -387,6 +391,10 @@ public abstract class BasicSQL {
             Suppliers.memoize(() -> PTExecutors.newCachedThreadPool(SELECT_THREAD_NAME));
     static final Supplier<ExecutorService> DEFAULT_EXECUTE_EXECUTOR =
             Suppliers.memoize(() -> PTExecutors.newCachedThreadPool(EXECUTE_THREAD_NAME));
+    private static final Supplier<ExecutorService> VIRTUAL_SELECT_EXECUTOR =
+            Suppliers.memoize(() -> PTExecutors.newVirtualThreadPool(SELECT_THREAD_NAME));
+    private static final Supplier<ExecutorService> VIRTUAL_EXECUTE_EXECUTOR =
+            Suppliers.memoize(() -> PTExecutors.newVirtualThreadPool(EXECUTE_THREAD_NAME));
 
     private ExecutorService selectStatementExecutor;
     private ExecutorService executeStatementExecutor;
@@ -403,6 +411,30 @@ public abstract class BasicSQL {
         this.executeStatementExecutor = executeStatementExecutor;
     }
 
+    protected SqlExecutionMode getSqlExecutionMode() {
+        return getSqlConfig().getSqlExecutionMode();
+    }
+
+    private ExecutorService getSelectStatementExecutor() {
+        return getSqlExecutionMode() == SqlExecutionMode.VIRTUAL_THREADS
+                ? VIRTUAL_SELECT_EXECUTOR.get()
+                : selectStatementExecutor;
+    }
+
+    private <T> T runUninterruptably(Callable<T> callable, String threadString, @Nullable Connection connection)
+            throws PalantirSqlException {
+        switch (getSqlExecutionMode()) {
+            case DIRECT:
+                return BasicSQLUtils.runUninterruptablyOnCallingThread(callable);
+            case VIRTUAL_THREADS:
+                return BasicSQLUtils.runUninterruptably(
+                        VIRTUAL_EXECUTE_EXECUTOR.get(), callable, threadString, connection);
+            case EXECUTOR:
+            default:
+                return BasicSQLUtils.runUninterruptably(executeStatementExecutor, callable, threadString, connection);
+        }
+    }
+
     protected enum AutoClose {
         TRUE,
         FALSE,
@@ -447,8 +479,7 @@ public abstract class BasicSQL {
             SqlLoggers.CANCEL_LOGGER.debug("interrupted prior to executing uninterruptable SQL call");
             throw new PalantirInterruptedException("interrupted prior to executing uninterruptable SQL call");
         }
-        return BasicSQLUtils.runUninterruptably(
-                executeStatementExecutor,
+        return runUninterruptably(
                 () -> {
                     if (fetchSize != null) {
                         ps.setFetchSize(fetchSize);
@@ -474,8 +505,11 @@ public abstract class BasicSQL {
             AutoClose autoClose,
             @Nullable Integer fetchSize)
             throws PalantirInterruptedException, PalantirSqlException {
+        if (getSqlExecutionMode() == SqlExecutionMode.DIRECT) {
+            return runCancellablyOnCallingThread(ps, visitor, autoClose, fetchSize);
+        }
         final String threadString = sql.toString();
-        Future<ResultSet> result = selectStatementExecutor.submit(ThreadNamingCallable.wrapWithThreadName(
+        Future<ResultSet> result = getSelectStatementExecutor().submit(ThreadNamingCallable.wrapWithThreadName(
                 () -> {
                     if (Thread.currentThread().isInterrupted()) {
                         SqlLoggers.CANCEL_LOGGER.error("Threadpool thread has interrupt flag set!"); // $NON-NLS-1$
@@ -520,6 +554,41 @@ public abstract class BasicSQL {
         }
     }
 
+    /**
+     * Runs the select on the calling thread, cancelling it from a timer thread if the calling thread is interrupted.
+     */
+    private <T> T runCancellablyOnCallingThread(
+            PreparedStatement ps, ResultSetVisitor<T> visitor, AutoClose autoClose, @Nullable Integer fetchSize)
+            throws PalantirInterruptedException, PalantirSqlException {
+        if (Thread.currentThread().isInterrupted()) {
+            SqlLoggers.CANCEL_LOGGER.debug("interrupted prior to executing SQL call");
+            throw new PalantirInterruptedException("SQL call interrupted"); // $NON-NLS-1$
+        }
+        ResultSet rs = null;
+        long startTime = System.currentTimeMillis();
+        try {
+            try (InterruptedStatementCanceller.Registration registration =
+                    InterruptedStatementCanceller.cancelOnInterrupt(ps)) {
+                try {
+                    if (fetchSize != null) {
+                        ps.setFetchSize(fetchSize);
+                    }
+                    rs = ps.executeQuery();
+                } catch (SQLException e) {
+                    if (registration.wasCancelled()) {
+                        throw new PalantirInterruptedException("SQL call interrupted", e); // $NON-NLS-1$
+                    }
+                    throw handleInterruptions(startTime, e);
+                }
+            }
+            return visitor.visit(rs);
+        } finally {
+            if (rs != null && autoClose == AutoClose.TRUE) {
+                ResultSets.close(rs);
+            }
+        }
+    }
+
     interface PreparedStatementVisitor<T> {
         T visit(PreparedStatement ps) throws PalantirSqlException;
     }
@@ -546,8 +615,7 @@ public abstract class BasicSQL {
         PreparedStatement ps = null;
 
         try {
-            ps = BasicSQLUtils.runUninterruptably(
-                    executeStatementExecutor,
+            ps = runUninterruptably(
                     () -> createPreparedStatement(c, query.getQuery(), vs),
                     "SQL createPreparedStatement",
                     c);
@@ -561,7 +629,11 @@ public abstract class BasicSQL {
     }
 
     static PalantirSqlException handleInterruptions(long startTime, ExecutionException ee) throws PalantirSqlException {
-        SQLException e = getSQLException(ee.getCause());
+        return handleExecutionFailure(startTime, ee.getCause());
+    }
+
+    static PalantirSqlException handleExecutionFailure(long startTime, Throwable cause) throws PalantirSqlException {
+        SQLException e = getSQLException(cause);
         return handleInterruptions(startTime, e);
     }
 
@@ -610,8 +682,7 @@ public abstract class BasicSQL {
         if (SqlLoggers.LOGGER.isTraceEnabled()) {
             SqlLoggers.LOGGER.trace("SQL execution query: {}", SafeArg.of("sqlQuery", sql.getQuery()));
         }
-        return BasicSQLUtils.runUninterruptably(
-                executeStatementExecutor,
+        return runUninterruptably(
                 () -> {
                     return wrapPreparedStatement(
                             c,
@@ -820,8 +891,7 @@ public abstract class BasicSQL {
         if (SqlLoggers.LOGGER.isTraceEnabled()) {
             SqlLoggers.LOGGER.trace("SQL update interval query: {}", SafeArg.of("sqlQuery", sql.getQuery()));
         }
-        return BasicSQLUtils.runUninterruptably(
-                executeStatementExecutor,
+        return runUninterruptably(
                 () -> {
                     return wrapPreparedStatement(
                             c,
@@ -843,8 +913,7 @@ public abstract class BasicSQL {
         if (SqlLoggers.LOGGER.isTraceEnabled()) {
             SqlLoggers.LOGGER.trace("SQL update many query: {}", SafeArg.of("sqlQuery", sql.getQuery()));
         }
-        BasicSQLUtils.runUninterruptably(
-                executeStatementExecutor,
+        runUninterruptably(
                 (Callable<Void>) () -> {
                     List<BlobHandler> cleanups = new ArrayList<>();
                     PreparedStatement ps = null;
@@ -886,8 +955,7 @@ public abstract class BasicSQL {
             SqlLoggers.LOGGER.trace(
                     "SQL insert one count rows internal query: {}", SafeArg.of("sqlQuery", sql.getQuery()));
         }
-        return BasicSQLUtils.runUninterruptably(
-                executeStatementExecutor,
+        return runUninterruptably(
                 () -> {
                     return wrapPreparedStatement(
                             c,
@@ -909,8 +977,7 @@ public abstract class BasicSQL {
         if (SqlLoggers.LOGGER.isTraceEnabled()) {
             SqlLoggers.LOGGER.trace("SQL insert many query: {}", SafeArg.of("sqlQuery", sql.getQuery()));
         }
-        return BasicSQLUtils.runUninterruptably(
-                executeStatementExecutor,
+        return runUninterruptably(
                 () -> {
                     int[] inserted = null;
                     PreparedStatement ps = null;
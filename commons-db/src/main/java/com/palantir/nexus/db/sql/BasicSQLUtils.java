@@ -318,6 +318,25 @@ public class BasicSQLUtils {
         return result;
     }
 
+    /**
+     * As {@link #runUninterruptably(ExecutorService, Callable, String, Connection)}, but runs the callable on the
+     * calling thread. Any interrupt flag set on the calling thread is cleared for the duration of the call, so that
+     * the JDBC driver does not observe it, and is restored afterwards.
+     */
+    public static <T> T runUninterruptablyOnCallingThread(Callable<T> callable) throws PalantirSqlException {
+        boolean interrupted = Thread.interrupted();
+        long startTime = System.currentTimeMillis();
+        try {
+            return callable.call();
+        } catch (Exception e) {
+            throw BasicSQL.handleExecutionFailure(startTime, e);
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
     @SuppressWarnings("ReadReturnValueIgnored") // Read is from a byte array input stream; will read everything
     public static void toStringSqlArgs(final StringBuilder sb, Object[] args) {
         if (args instanceof Object[][]) {
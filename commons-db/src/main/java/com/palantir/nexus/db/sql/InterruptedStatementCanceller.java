@@ -0,0 +1,114 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.nexus.db.sql;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import com.palantir.common.concurrent.NamedThreadFactory;
+import com.palantir.common.concurrent.PTExecutors;
+import com.palantir.nexus.db.sql.monitoring.logger.SqlLoggers;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cancels statements running on the calling thread once that thread is interrupted. JDBC calls do not in general
+ * respond to interrupts, so running statements are instead checked periodically from a shared timer thread.
+ */
+final class InterruptedStatementCanceller {
+    static final Duration CHECK_INTERVAL = Duration.ofMillis(100);
+
+    private static final Supplier<ScheduledExecutorService> TIMER = Suppliers.memoize(() -> {
+        ScheduledThreadPoolExecutor timer = PTExecutors.newScheduledThreadPoolExecutor(
+                1, new NamedThreadFactory("SQL statement canceller", true));
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    });
+
+    private InterruptedStatementCanceller() {
+        // utility
+    }
+
+    /**
+     * Starts watching the calling thread for interrupts while it runs the given statement. The returned registration
+     * must be closed once the statement has finished, after which the statement will no longer be cancelled.
+     */
+    static Registration cancelOnInterrupt(PreparedStatement ps) {
+        return cancelOnInterrupt(ps, TIMER.get());
+    }
+
+    @VisibleForTesting
+    static Registration cancelOnInterrupt(PreparedStatement ps, ScheduledExecutorService timer) {
+        Registration registration = new Registration(ps, Thread.currentThread());
+        registration.start(timer);
+        return registration;
+    }
+
+    static final class Registration implements AutoCloseable {
+        private final PreparedStatement ps;
+        private final Thread thread;
+        private ScheduledFuture<?> check;
+        private boolean cancelled = false;
+        private boolean closed = false;
+
+        private Registration(PreparedStatement ps, Thread thread) {
+            this.ps = ps;
+            this.thread = thread;
+        }
+
+        private synchronized void start(ScheduledExecutorService timer) {
+            check = timer.scheduleWithFixedDelay(
+                    this::cancelIfInterrupted,
+                    CHECK_INTERVAL.toMillis(),
+                    CHECK_INTERVAL.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+
+        /**
+         * Synchronized with {@link #close}, so that a statement is never cancelled once it has finished, which might
+         * otherwise cancel a later statement on the same connection.
+         */
+        @VisibleForTesting
+        synchronized void cancelIfInterrupted() {
+            if (closed || cancelled || !thread.isInterrupted()) {
+                return;
+            }
+            cancelled = true;
+            SqlLoggers.CANCEL_LOGGER.debug("about to cancel a SQL call running on an interrupted thread");
+            try {
+                ps.cancel();
+            } catch (SQLException e) {
+                SqlLoggers.CANCEL_LOGGER.warn("Failed to cancel a SQL call running on an interrupted thread", e);
+            }
+        }
+
+        synchronized boolean wasCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public synchronized void close() {
+            closed = true;
+            check.cancel(false);
+        }
+    }
+}
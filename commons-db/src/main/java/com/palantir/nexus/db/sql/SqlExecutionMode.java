@@ -0,0 +1,43 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.nexus.db.sql;
+
+/**
+ * Determines which threads {@link BasicSQL} runs statements on.
+ */
+public enum SqlExecutionMode {
+    /**
+     * Statements run on the executors {@link BasicSQL} was created with, while the calling thread waits for them.
+     * Interrupting the calling thread cancels a running select, without the JDBC driver observing the interrupt.
+     */
+    EXECUTOR,
+
+    /**
+     * Statements run on the calling thread, avoiding a thread hop per statement. Interrupting the calling thread
+     * cancels a running select from a timer thread, via {@link java.sql.Statement#cancel()}, which may take up to a
+     * tenth of a second to take effect. The JDBC driver may observe interrupts that arrive while a statement is
+     * running, so this mode should only be used with drivers that do not close their connection when interrupted.
+     */
+    DIRECT,
+
+    /**
+     * As {@link #EXECUTOR}, but statements run on new virtual threads rather than on pooled platform threads, so
+     * blocked statements do not each hold a platform thread. Falls back to {@link #EXECUTOR} if the JVM does not
+     * support virtual threads.
+     */
+    VIRTUAL_THREADS;
+}
@@ -179,6 +179,14 @@ public class ResultSets {
         }
     }
 
+    public static boolean wasNull(ResultSet rs) throws PalantirSqlException {
+        try {
+            return rs.wasNull();
+        } catch (SQLException e) {
+            throw BasicSQL.handleInterruptions(0, e);
+        }
+    }
+
     public static InputStream getBinaryStream(ResultSet rs, int col) throws PalantirSqlException {
         try {
             final InputStream binaryStream = rs.getBinaryStream(col);
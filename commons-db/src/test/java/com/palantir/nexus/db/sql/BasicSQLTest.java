@@ -20,6 +20,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import com.palantir.nexus.db.monitoring.timer.DurationSqlTimer;
@@ -65,6 +66,36 @@ public class BasicSQLTest {
         verify(executeExecutorTwo, times(2)).submit(any(Callable.class));
     }
 
+    @Test
+    public void directExecutionRunsStatementsOnCallingThread() throws SQLException {
+        ExecutorService selectExecutor = mock(ExecutorService.class);
+        ExecutorService executeExecutor = mock(ExecutorService.class);
+        Connection conn = mock(Connection.class);
+        PreparedStatement ps = mock(PreparedStatement.class);
+        when(conn.prepareStatement(any())).thenReturn(ps);
+        BasicSQL basicSql = createBasicSQL(selectExecutor, executeExecutor, SqlExecutionMode.DIRECT);
+
+        basicSql.execute(
+                conn, SQLString.getUnregisteredQuery("SELECT 1 FROM a.b;"), new Object[0], BasicSQL.AutoClose.FALSE);
+
+        verify(ps).execute();
+        verifyNoInteractions(selectExecutor, executeExecutor);
+    }
+
+    @Test
+    public void directExecutionPreservesInterruptsOfCallingThread() throws SQLException {
+        BasicSQL basicSql =
+                createBasicSQL(mock(ExecutorService.class), mock(ExecutorService.class), SqlExecutionMode.DIRECT);
+
+        Thread.currentThread().interrupt();
+        try {
+            executeSqlQuery(basicSql);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
     @Test
     public void testSQLException() {
         StringBuilder sb = new StringBuilder();
@@ -97,6 +128,13 @@ public class BasicSQLTest {
     }
 
     private BasicSQL createBasicSQL(final ExecutorService selectExecutor, final ExecutorService executeExecutor) {
+        return createBasicSQL(selectExecutor, executeExecutor, SqlExecutionMode.EXECUTOR);
+    }
+
+    private BasicSQL createBasicSQL(
+            final ExecutorService selectExecutor,
+            final ExecutorService executeExecutor,
+            SqlExecutionMode executionMode) {
         return new BasicSQL(selectExecutor, executeExecutor) {
             @Override
             protected SqlConfig getSqlConfig() {
@@ -110,6 +148,11 @@ public class BasicSQLTest {
                     public SqlTimer getSqlTimer() {
                         return new DurationSqlTimer();
                     }
+
+                    @Override
+                    public SqlExecutionMode getSqlExecutionMode() {
+                        return executionMode;
+                    }
                 };
             }
         };
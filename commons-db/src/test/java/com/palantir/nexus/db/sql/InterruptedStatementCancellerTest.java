@@ -0,0 +1,102 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.nexus.db.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("unchecked") // mocked scheduled futures
+public class InterruptedStatementCancellerTest {
+    private final PreparedStatement ps = mock(PreparedStatement.class);
+    private final ScheduledExecutorService timer = mock(ScheduledExecutorService.class);
+    private final ScheduledFuture<Object> check = mock(ScheduledFuture.class);
+
+    @BeforeEach
+    public void setUp() {
+        when(timer.scheduleWithFixedDelay(any(), anyLong(), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenAnswer(invocation -> check);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // Clear any interrupt set by the test, so that it does not leak into other tests run on this thread.
+        Thread.interrupted();
+    }
+
+    @Test
+    public void doesNotCancelStatementIfThreadIsNotInterrupted() throws SQLException {
+        try (InterruptedStatementCanceller.Registration registration =
+                InterruptedStatementCanceller.cancelOnInterrupt(ps, timer)) {
+            registration.cancelIfInterrupted();
+            assertThat(registration.wasCancelled()).isFalse();
+        }
+        verify(ps, never()).cancel();
+    }
+
+    @Test
+    public void cancelsStatementOnceThreadIsInterrupted() throws SQLException {
+        try (InterruptedStatementCanceller.Registration registration =
+                InterruptedStatementCanceller.cancelOnInterrupt(ps, timer)) {
+            Thread.currentThread().interrupt();
+            registration.cancelIfInterrupted();
+            registration.cancelIfInterrupted();
+            assertThat(registration.wasCancelled()).isTrue();
+        }
+        verify(ps, times(1)).cancel();
+    }
+
+    @Test
+    public void doesNotCancelStatementAfterRegistrationIsClosed() throws SQLException {
+        InterruptedStatementCanceller.Registration registration =
+                InterruptedStatementCanceller.cancelOnInterrupt(ps, timer);
+        registration.close();
+        verify(check).cancel(false);
+
+        Thread.currentThread().interrupt();
+        registration.cancelIfInterrupted();
+        assertThat(registration.wasCancelled()).isFalse();
+        verify(ps, never()).cancel();
+    }
+
+    @Test
+    public void toleratesFailuresToCancelStatement() throws SQLException {
+        doThrow(new SQLException("cancel failed")).when(ps).cancel();
+        try (InterruptedStatementCanceller.Registration registration =
+                InterruptedStatementCanceller.cancelOnInterrupt(ps, timer)) {
+            Thread.currentThread().interrupt();
+            registration.cancelIfInterrupted();
+            assertThat(registration.wasCancelled()).isTrue();
+        }
+    }
+}
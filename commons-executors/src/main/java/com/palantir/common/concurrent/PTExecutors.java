@@ -34,6 +34,7 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentMap;
@@ -69,6 +70,12 @@ public final class PTExecutors {
             // Shared pool uses 60 second idle thread timeouts for greater reuse
             Executors.newCachedThreadPool(new NamedThreadFactory("ptexecutors-shared", true)));
 
+    private static final Supplier<Optional<ExecutorService>> SHARED_VIRTUAL_EXECUTOR = Suppliers.memoize(() ->
+            // Virtual threads are cheap to create, so are never reused
+            VirtualThreads.threadFactory("ptexecutors-shared-virtual")
+                    .map(factory -> new ThreadPoolExecutor(
+                            0, Integer.MAX_VALUE, 0, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), factory)));
+
     private static final String FILE_NAME_FOR_THIS_CLASS = PTExecutors.class.getSimpleName() + ".java";
 
     /**
@@ -218,6 +225,40 @@ public final class PTExecutors {
                 .build();
     }
 
+    /**
+     * Like {@link #newCachedThreadPoolWithMaxThreads}, but runs each task on a new virtual thread, so that tasks which
+     * block do not each hold on to a platform thread. Falls back to {@link #newCachedThreadPoolWithMaxThreads} if the
+     * JVM does not support virtual threads.
+     */
+    @Beta
+    public static ExecutorService newVirtualThreadPoolWithMaxThreads(int maxThreads, String name) {
+        verifyName(name);
+        Preconditions.checkArgument(maxThreads > 0, "Max threads must be positive");
+        Optional<ExecutorService> virtualExecutor = SHARED_VIRTUAL_EXECUTOR.get();
+        if (virtualExecutor.isEmpty()) {
+            log.warn(
+                    "Virtual threads are not supported by this JVM; falling back to platform threads",
+                    SafeArg.of("name", name));
+            return newCachedThreadPoolWithMaxThreads(maxThreads, name);
+        }
+        return MetricRegistries.executor()
+                .registry(SharedTaggedMetricRegistries.getSingleton())
+                .name(name)
+                .executor(PTExecutors.wrap(name, getViewExecutor(name, maxThreads, 0, virtualExecutor.get())))
+                // Unhelpful for cached executors
+                .reportQueuedDuration(false)
+                .build();
+    }
+
+    /**
+     * Like {@link #newCachedThreadPool(String)}, but runs each task on a new virtual thread. Falls back to
+     * {@link #newCachedThreadPool(String)} if the JVM does not support virtual threads.
+     */
+    @Beta
+    public static ExecutorService newVirtualThreadPool(String name) {
+        return newVirtualThreadPoolWithMaxThreads(Short.MAX_VALUE, name);
+    }
+
     /**
      * Instruments the provided {@link ExecutorService} if the {@link ThreadFactory} is a {@link NamedThreadFactory}.
      */
@@ -0,0 +1,62 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.common.concurrent;
+
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Access to virtual threads, which are only available at runtime on Java 21 and later. Atlas is compiled against an
+ * older release, so the virtual thread APIs are looked up reflectively.
+ */
+public final class VirtualThreads {
+    private static final SafeLogger log = SafeLoggerFactory.get(VirtualThreads.class);
+
+    private static final Optional<ThreadFactory> VIRTUAL_THREAD_FACTORY = createFactory("virtual");
+
+    private VirtualThreads() {
+        // utility
+    }
+
+    public static boolean isSupported() {
+        return VIRTUAL_THREAD_FACTORY.isPresent();
+    }
+
+    /**
+     * Returns a factory for virtual threads whose names start with {@code name}, if this JVM supports them.
+     */
+    public static Optional<ThreadFactory> threadFactory(String name) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        return createFactory(name);
+    }
+
+    private static Optional<ThreadFactory> createFactory(String name) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, name + "-", 0L);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Virtual threads are not supported by this JVM", e);
+            return Optional.empty();
+        }
+    }
+}
@@ -116,6 +116,16 @@ public class PTExecutorsTest {
         });
     }
 
+    @Test
+    public void testExecutorThreadLocalState_virtualThreadPool() {
+        withExecutor(() -> PTExecutors.newVirtualThreadPool("virtual"), executor -> {
+            ExecutorInheritableThreadLocal<String> threadLocal = new ExecutorInheritableThreadLocal<>();
+            threadLocal.set("test");
+            String result = executor.submit(threadLocal::get).get();
+            assertThat(result).isEqualTo("test");
+        });
+    }
+
     @Test
     public void testExecutorThreadLocalState_scheduledPool_submit() {
         withExecutor(PTExecutors::newSingleThreadScheduledExecutor, executor -> {
@@ -46,6 +46,32 @@ public interface PaxosProposer {
     @Timed
     byte[] proposeAnonymously(long seq, @Nullable byte[] proposalValue) throws PaxosRoundFailureException;
 
+    /**
+     * Runs only the prepare phase of a single instance of paxos for the given sequence number, so that a value can
+     * later be agreed on with just the accept phase via {@link #proposePrepared(PreparedPaxosRound, byte[])}. This
+     * allows the prepare phase of the next instance to be taken off the critical path of a proposal.
+     *
+     * @param seq the number identifying this instance of paxos
+     * @return the prepared round, which may be used for at most one call to {@link #proposePrepared}
+     * @throws PaxosRoundFailureException if a quorum of acceptors did not promise
+     */
+    @Timed
+    PreparedPaxosRound prepare(long seq) throws PaxosRoundFailureException;
+
+    /**
+     * Reaches a consensus with peers for the sequence number of a round previously prepared by this proposer, as in
+     * {@link PaxosProposer#propose(long, byte[])} but skipping the prepare phase.
+     *
+     * @param preparedRound a round returned by {@link #prepare(long)} on this proposer
+     * @param proposalValue default value to propose to the quorum
+     * @return the value accepted by the quorum. This may not be the value you have proposed
+     * @throws PaxosRoundFailureException if the accept phase fails, for instance because another proposer has
+     *         prepared the same sequence number since; callers should then fall back to a full proposal
+     */
+    @Timed
+    byte[] proposePrepared(PreparedPaxosRound preparedRound, @Nullable byte[] proposalValue)
+            throws PaxosRoundFailureException;
+
     /**
      * Returns a unique string identifier for the proposer.
      */
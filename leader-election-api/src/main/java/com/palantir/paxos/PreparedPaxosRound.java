@@ -0,0 +1,44 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.paxos;
+
+import java.util.Optional;
+import org.immutables.value.Value;
+
+/**
+ * The outcome of a successful prepare phase for a single instance of paxos: a quorum of acceptors has promised not
+ * to accept any proposal for {@link #sequence()} with an id lower than {@link #proposalId()}.
+ */
+@Value.Immutable
+public interface PreparedPaxosRound {
+    @Value.Parameter
+    long sequence();
+
+    @Value.Parameter
+    PaxosProposalId proposalId();
+
+    /**
+     * The value accepted under the greatest proposal id by any acceptor in the quorum, if any. If present, this value
+     * must be proposed in the accept phase instead of our own.
+     */
+    @Value.Parameter
+    Optional<PaxosValue> lastAcceptedValue();
+
+    static PreparedPaxosRound of(long sequence, PaxosProposalId proposalId, Optional<PaxosValue> lastAcceptedValue) {
+        return ImmutablePreparedPaxosRound.of(sequence, proposalId, lastAcceptedValue);
+    }
+}
@@ -15,7 +15,10 @@
  */
 package com.palantir.paxos;
 
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nullable;
@@ -56,6 +59,30 @@ public final class PaxosProposerImpl implements PaxosProposer {
         return proposeWithId(UUID.randomUUID().toString(), seq, proposalValue);
     }
 
+    @Override
+    public PreparedPaxosRound prepare(long seq) throws PaxosRoundFailureException {
+        PaxosProposalId proposalId = new PaxosProposalId(proposalNumber.incrementAndGet(), uuid);
+        return PreparedPaxosRound.of(seq, proposalId, prepareQuorum(seq, proposalId));
+    }
+
+    @Override
+    public byte[] proposePrepared(PreparedPaxosRound preparedRound, @Nullable byte[] bytes)
+            throws PaxosRoundFailureException {
+        Preconditions.checkArgument(
+                uuid.equals(preparedRound.proposalId().getProposerUUID()),
+                "Can only propose rounds prepared by this proposer",
+                SafeArg.of("proposerUuid", uuid),
+                SafeArg.of("preparedBy", preparedRound.proposalId().getProposerUUID()));
+        long seq = preparedRound.sequence();
+        PaxosValue finalValue = preparedRound.lastAcceptedValue().orElseGet(() -> new PaxosValue(uuid, seq, bytes));
+
+        phaseTwo(seq, preparedRound.proposalId(), finalValue);
+
+        learnerClient.learn(seq, finalValue);
+
+        return finalValue.getData();
+    }
+
     private byte[] proposeWithId(String uuidToProposeWith, final long seq, @Nullable byte[] bytes)
             throws PaxosRoundFailureException {
         final PaxosProposalId proposalId = new PaxosProposalId(proposalNumber.incrementAndGet(), uuidToProposeWith);
@@ -84,6 +111,17 @@ public final class PaxosProposerImpl implements PaxosProposer {
      */
     private PaxosValue phaseOne(final long seq, final PaxosProposalId proposalId, PaxosValue proposalValue)
             throws PaxosRoundFailureException {
+        return prepareQuorum(seq, proposalId).orElse(proposalValue);
+    }
+
+    /**
+     * Obtains promises for the given proposal id from a quorum of acceptors.
+     *
+     * @return the value accepted under the greatest proposal id by any acceptor in the quorum, if any
+     * @throws PaxosRoundFailureException if quorum cannot be reached in this phase
+     */
+    private Optional<PaxosValue> prepareQuorum(long seq, PaxosProposalId proposalId)
+            throws PaxosRoundFailureException {
         PaxosResponses<PaxosPromise> receivedPromises = acceptorClient.prepare(seq, proposalId);
 
         if (!receivedPromises.hasQuorum()) {
@@ -97,11 +135,7 @@ public final class PaxosProposerImpl implements PaxosProposer {
         }
 
         PaxosPromise greatestPromise = Collections.max(receivedPromises.get());
-        if (greatestPromise.lastAcceptedValue != null) {
-            return greatestPromise.lastAcceptedValue;
-        }
-
-        return proposalValue;
+        return Optional.ofNullable(greatestPromise.lastAcceptedValue);
     }
 
     /**
@@ -34,7 +34,8 @@ import org.immutables.value.Value;
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
 @JsonSubTypes({
     @JsonSubTypes.Type(value = LockWatchStateUpdate.Success.class, name = LockWatchStateUpdate.Success.TYPE),
-    @JsonSubTypes.Type(value = LockWatchStateUpdate.Snapshot.class, name = LockWatchStateUpdate.Snapshot.TYPE)
+    @JsonSubTypes.Type(value = LockWatchStateUpdate.Snapshot.class, name = LockWatchStateUpdate.Snapshot.TYPE),
+    @JsonSubTypes.Type(value = LockWatchStateUpdate.Delta.class, name = LockWatchStateUpdate.Delta.TYPE)
 })
 @DoNotMock
 public interface LockWatchStateUpdate {
@@ -60,6 +61,23 @@ public interface LockWatchStateUpdate {
                 .build();
     }
 
+    static Delta delta(
+            UUID logId,
+            long fromVersion,
+            long version,
+            Set<LockDescriptor> locked,
+            Set<LockDescriptor> unlocked,
+            Set<LockWatchReference> newLockWatches) {
+        return ImmutableDelta.builder()
+                .logId(logId)
+                .fromVersion(fromVersion)
+                .lastKnownVersion(version)
+                .locked(locked)
+                .unlocked(unlocked)
+                .newLockWatches(newLockWatches)
+                .build();
+    }
+
     /**
      * A successful update is an update containing information about all lock watch events occurring since the previous
      * last known version.
@@ -109,9 +127,43 @@ public interface LockWatchStateUpdate {
         }
     }
 
+    /**
+     * A delta update may be returned instead of a snapshot when the individual events since the previous last known
+     * version are no longer retained, but their net effect is. It contains every lock descriptor whose state changed
+     * after the previous last known version, split by whether it is locked or unlocked as of the new last known
+     * version, as well as the lock watches created in the meantime. Unlike a snapshot, previous lock watch information
+     * remains valid, so long as every descriptor in the update is treated as having been locked at least once.
+     */
+    @Unsafe
+    @Value.Immutable
+    @PackageVisibleImmutablesStyle
+    @JsonSerialize(as = ImmutableDelta.class)
+    @JsonDeserialize(as = ImmutableDelta.class)
+    @JsonTypeName(Delta.TYPE)
+    interface Delta extends LockWatchStateUpdate {
+        String TYPE = "delta";
+
+        long fromVersion();
+
+        long lastKnownVersion();
+
+        Set<LockDescriptor> locked();
+
+        Set<LockDescriptor> unlocked();
+
+        Set<LockWatchReference> newLockWatches();
+
+        @Override
+        default <T> T accept(Visitor<T> visitor) {
+            return visitor.visit(this);
+        }
+    }
+
     interface Visitor<T> {
         T visit(Success success);
 
         T visit(Snapshot snapshot);
+
+        T visit(Delta delta);
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.lock.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.palantir.common.time.NanoTime;
+import com.palantir.lock.v2.Lease;
+import com.palantir.tritium.metrics.registry.TaggedMetricRegistry;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+/**
+ * A client side view of the immutable timestamp, kept up to date by the immutable timestamps that TimeLock returns
+ * when starting transactions.
+ * <p>
+ * The immutable timestamp never decreases, so any immutable timestamp previously returned by TimeLock is a valid,
+ * if conservative, immutable timestamp. To bound how conservative it is, an observed immutable timestamp is only
+ * served until the lease on the immutable timestamp lock it was returned with would have expired, measured from
+ * before the request was sent. After that, or if no transactions have been started, the immutable timestamp is
+ * fetched from TimeLock.
+ */
+final class LeasedImmutableTimestamp {
+    private final AtomicReference<Observation> latest = new AtomicReference<>();
+    private final Supplier<NanoTime> clock;
+    private final LeasedImmutableTimestampMetrics metrics;
+
+    @VisibleForTesting
+    LeasedImmutableTimestamp(Supplier<NanoTime> clock, LeasedImmutableTimestampMetrics metrics) {
+        this.clock = clock;
+        this.metrics = metrics;
+    }
+
+    static LeasedImmutableTimestamp create(TaggedMetricRegistry taggedMetricRegistry) {
+        return new LeasedImmutableTimestamp(NanoTime::now, LeasedImmutableTimestampMetrics.of(taggedMetricRegistry));
+    }
+
+    NanoTime now() {
+        return clock.get();
+    }
+
+    /**
+     * Records an immutable timestamp returned by TimeLock, with the lease it was granted with.
+     *
+     * @param requestStartTime the local time at which the request that returned the immutable timestamp was sent
+     */
+    void update(long immutableTimestamp, Lease lease, NanoTime requestStartTime) {
+        Observation observation =
+                new Observation(immutableTimestamp, requestStartTime, requestStartTime.plus(lease.validity()));
+        latest.accumulateAndGet(observation, Observation::merge);
+    }
+
+    /**
+     * Returns the latest observed immutable timestamp if it is still within its lease, and otherwise the immutable
+     * timestamp returned by the given fallback. Immutable timestamps returned are non-decreasing.
+     */
+    long get(LongSupplier fallback) {
+        Observation observation = latest.get();
+        NanoTime now = clock.get();
+        if (observation != null && now.isBefore(observation.expiry)) {
+            metrics.servedLocally().mark();
+            metrics.stalenessMillis().update(now.since(observation.observedAt).toMillis());
+            return observation.immutableTimestamp;
+        }
+
+        metrics.fallback().mark();
+        long immutableTimestamp = fallback.getAsLong();
+        // Fetched values are not leased, but must still be reflected for immutable timestamps not to go backwards.
+        Observation merged =
+                latest.accumulateAndGet(new Observation(immutableTimestamp, now, now), Observation::merge);
+        return merged.immutableTimestamp;
+    }
+
+    private static final class Observation {
+        private final long immutableTimestamp;
+        private final NanoTime observedAt;
+        private final NanoTime expiry;
+
+        private Observation(long immutableTimestamp, NanoTime observedAt, NanoTime expiry) {
+            this.immutableTimestamp = immutableTimestamp;
+            this.observedAt = observedAt;
+            this.expiry = expiry;
+        }
+
+        /**
+         * Immutable timestamps never decrease, so the greater immutable timestamp is at least as fresh as either
+         * observation, and can be served until either lease expires.
+         */
+        private static Observation merge(@Nullable Observation current, Observation update) {
+            if (current == null) {
+                return update;
+            }
+            return new Observation(
+                    Math.max(current.immutableTimestamp, update.immutableTimestamp),
+                    max(current.observedAt, update.observedAt),
+                    max(current.expiry, update.expiry));
+        }
+
+        private static NanoTime max(NanoTime first, NanoTime second) {
+            return first.isBefore(second) ? second : first;
+        }
+    }
+}
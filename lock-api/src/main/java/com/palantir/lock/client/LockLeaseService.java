@@ -26,6 +26,7 @@ import com.palantir.atlasdb.timelock.api.ConjureStartTransactionsRequest;
 import com.palantir.atlasdb.timelock.api.ConjureStartTransactionsResponse;
 import com.palantir.atlasdb.timelock.api.GetCommitTimestampsRequest;
 import com.palantir.atlasdb.timelock.api.GetCommitTimestampsResponse;
+import com.palantir.common.time.NanoTime;
 import com.palantir.lock.v2.LeaderTime;
 import com.palantir.lock.v2.Lease;
 import com.palantir.lock.v2.LockImmutableTimestampResponse;
@@ -38,9 +39,11 @@ import com.palantir.lock.v2.WaitForLocksResponse;
 import com.palantir.lock.watch.LockWatchVersion;
 import com.palantir.logsafe.Preconditions;
 import com.palantir.tritium.ids.UniqueIds;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("DangerousIdentityKey")
@@ -50,6 +53,7 @@ public class LockLeaseService implements AutoCloseable {
     private final LeaderTimeGetter leaderTimeGetter;
     private final LockTokenUnlocker unlocker;
     private final BlockEnforcingLockService lockService;
+    private final LeasedImmutableTimestamp leasedImmutableTimestamp;
 
     @VisibleForTesting
     LockLeaseService(
@@ -57,11 +61,27 @@ public class LockLeaseService implements AutoCloseable {
             UUID clientId,
             LeaderTimeGetter leaderTimeGetter,
             LockTokenUnlocker unlocker) {
+        this(
+                delegate,
+                clientId,
+                leaderTimeGetter,
+                unlocker,
+                LeasedImmutableTimestamp.create(new DefaultTaggedMetricRegistry()));
+    }
+
+    @VisibleForTesting
+    LockLeaseService(
+            NamespacedConjureTimelockService delegate,
+            UUID clientId,
+            LeaderTimeGetter leaderTimeGetter,
+            LockTokenUnlocker unlocker,
+            LeasedImmutableTimestamp leasedImmutableTimestamp) {
         this.delegate = delegate;
         this.clientId = clientId;
         this.leaderTimeGetter = leaderTimeGetter;
         this.lockService = BlockEnforcingLockService.create(delegate);
         this.unlocker = unlocker;
+        this.leasedImmutableTimestamp = leasedImmutableTimestamp;
     }
 
     public static LockLeaseService create(
@@ -71,6 +91,23 @@ public class LockLeaseService implements AutoCloseable {
         return new LockLeaseService(conjureTimelock, UniqueIds.pseudoRandomUuidV4(), leaderTimeGetter, unlocker);
     }
 
+    static LockLeaseService create(
+            NamespacedConjureTimelockService conjureTimelock,
+            LeaderTimeGetter leaderTimeGetter,
+            LockTokenUnlocker unlocker,
+            LeasedImmutableTimestamp leasedImmutableTimestamp) {
+        return new LockLeaseService(
+                conjureTimelock, UniqueIds.pseudoRandomUuidV4(), leaderTimeGetter, unlocker, leasedImmutableTimestamp);
+    }
+
+    /**
+     * Returns the immutable timestamp most recently returned when starting transactions if its lease has not yet
+     * expired, and otherwise fetches it using the given fallback.
+     */
+    long getLeasedImmutableTimestamp(LongSupplier fallback) {
+        return leasedImmutableTimestamp.get(fallback);
+    }
+
     LockImmutableTimestampResponse lockImmutableTimestamp() {
         return startTransactions(1).immutableTimestamp();
     }
@@ -82,7 +119,12 @@ public class LockLeaseService implements AutoCloseable {
                 .numTransactions(batchSize)
                 .lastKnownVersion(Optional.empty())
                 .build();
+        NanoTime requestStartTime = leasedImmutableTimestamp.now();
         ConjureStartTransactionsResponse conjureResponse = delegate.startTransactions(request);
+        leasedImmutableTimestamp.update(
+                conjureResponse.getImmutableTimestamp().getImmutableTimestamp(),
+                conjureResponse.getLease(),
+                requestStartTime);
         StartTransactionResponseV4 response = StartTransactionResponseV4.of(
                 conjureResponse.getImmutableTimestamp(), conjureResponse.getTimestamps(), conjureResponse.getLease());
 
@@ -104,7 +146,11 @@ public class LockLeaseService implements AutoCloseable {
                 .numTransactions(batchSize)
                 .lastKnownVersion(ConjureLockRequests.toConjure(maybeVersion))
                 .build();
-        return assignLeasedLockTokenToImmutableTimestampLock(delegate.startTransactions(request));
+        NanoTime requestStartTime = leasedImmutableTimestamp.now();
+        ConjureStartTransactionsResponse response = delegate.startTransactions(request);
+        leasedImmutableTimestamp.update(
+                response.getImmutableTimestamp().getImmutableTimestamp(), response.getLease(), requestStartTime);
+        return assignLeasedLockTokenToImmutableTimestampLock(response);
     }
 
     static ConjureStartTransactionsResponse assignLeasedLockTokenToImmutableTimestampLock(
@@ -35,9 +35,12 @@ import com.palantir.logsafe.exceptions.SafeRuntimeException;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
 import com.palantir.timestamp.TimestampRange;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
+import com.palantir.tritium.metrics.registry.TaggedMetricRegistry;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BooleanSupplier;
 
 public final class RemoteTimelockServiceAdapter implements TimelockService, AutoCloseable {
     private static final SafeLogger log = SafeLoggerFactory.get(RemoteTimelockServiceAdapter.class);
@@ -47,6 +50,7 @@ public final class RemoteTimelockServiceAdapter implements TimelockService, Auto
     private final LockLeaseService lockLeaseService;
     private final TransactionStarter transactionStarter;
     private final CommitTimestampGetter commitTimestampGetter;
+    private final BooleanSupplier leasedImmutableTimestampEnabled;
 
     public RemoteTimelockServiceAdapter(
             NamespacedTimelockRpcClient rpcClient,
@@ -59,6 +63,7 @@ public final class RemoteTimelockServiceAdapter implements TimelockService, Auto
         this.lockLeaseService = lockLeaseService;
         this.transactionStarter = transactionStarter;
         this.commitTimestampGetter = commitTimestampGetter;
+        this.leasedImmutableTimestampEnabled = () -> false;
     }
 
     private RemoteTimelockServiceAdapter(
@@ -66,12 +71,19 @@ public final class RemoteTimelockServiceAdapter implements TimelockService, Auto
             NamespacedConjureTimelockService conjureTimelockService,
             LeaderTimeGetter leaderTimeGetter,
             RequestBatchersFactory batcherFactory,
-            LockTokenUnlocker unlocker) {
+            LockTokenUnlocker unlocker,
+            TaggedMetricRegistry taggedMetricRegistry,
+            BooleanSupplier leasedImmutableTimestampEnabled) {
         this.rpcClient = rpcClient;
-        this.lockLeaseService = LockLeaseService.create(conjureTimelockService, leaderTimeGetter, unlocker);
+        this.lockLeaseService = LockLeaseService.create(
+                conjureTimelockService,
+                leaderTimeGetter,
+                unlocker,
+                LeasedImmutableTimestamp.create(taggedMetricRegistry));
         this.transactionStarter = TransactionStarter.create(lockLeaseService, batcherFactory);
         this.commitTimestampGetter = batcherFactory.createBatchingCommitTimestampGetter(lockLeaseService);
         this.conjureTimelockService = conjureTimelockService;
+        this.leasedImmutableTimestampEnabled = leasedImmutableTimestampEnabled;
     }
 
     public static RemoteTimelockServiceAdapter create(
@@ -93,7 +105,38 @@ public final class RemoteTimelockServiceAdapter implements TimelockService, Auto
             LeaderTimeGetter leaderTimeGetter,
             RequestBatchersFactory batcherFactory,
             LockTokenUnlocker unlocker) {
-        return new RemoteTimelockServiceAdapter(rpcClient, conjureClient, leaderTimeGetter, batcherFactory, unlocker);
+        return create(
+                rpcClient,
+                conjureClient,
+                leaderTimeGetter,
+                batcherFactory,
+                unlocker,
+                new DefaultTaggedMetricRegistry(),
+                () -> false);
+    }
+
+    /**
+     * Creates an adapter which, while {@code leasedImmutableTimestampEnabled} is true, serves
+     * {@link #getImmutableTimestamp()} from the immutable timestamp returned when transactions were last started, for
+     * as long as the lease on it is valid. The immutable timestamp served may then be older than the one TimeLock
+     * would return, but is never greater.
+     */
+    public static RemoteTimelockServiceAdapter create(
+            NamespacedTimelockRpcClient rpcClient,
+            NamespacedConjureTimelockService conjureClient,
+            LeaderTimeGetter leaderTimeGetter,
+            RequestBatchersFactory batcherFactory,
+            LockTokenUnlocker unlocker,
+            TaggedMetricRegistry taggedMetricRegistry,
+            BooleanSupplier leasedImmutableTimestampEnabled) {
+        return new RemoteTimelockServiceAdapter(
+                rpcClient,
+                conjureClient,
+                leaderTimeGetter,
+                batcherFactory,
+                unlocker,
+                taggedMetricRegistry,
+                leasedImmutableTimestampEnabled);
     }
 
     @Override
@@ -116,6 +159,9 @@ public final class RemoteTimelockServiceAdapter implements TimelockService, Auto
 
     @Override
     public long getImmutableTimestamp() {
+        if (leasedImmutableTimestampEnabled.getAsBoolean()) {
+            return lockLeaseService.getLeasedImmutableTimestamp(rpcClient::getImmutableTimestamp);
+        }
         return rpcClient.getImmutableTimestamp();
     }
 
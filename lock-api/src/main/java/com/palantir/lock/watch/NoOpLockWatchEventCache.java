@@ -121,6 +121,13 @@ public class NoOpLockWatchEventCache implements LockWatchEventCache {
             public Optional<LockWatchVersion> visit(LockWatchStateUpdate.Snapshot snapshot) {
                 return Optional.of(LockWatchVersion.of(snapshot.logId(), snapshot.lastKnownVersion()));
             }
+
+            @Override
+            public Optional<LockWatchVersion> visit(LockWatchStateUpdate.Delta delta) {
+                return currentVersion
+                        .filter(current -> current.id().equals(delta.logId()))
+                        .map(_unused -> LockWatchVersion.of(delta.logId(), delta.lastKnownVersion()));
+            }
         });
     }
 }
@@ -0,0 +1,97 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.lock.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.palantir.common.time.NanoTime;
+import com.palantir.lock.v2.LeaderTime;
+import com.palantir.lock.v2.LeadershipId;
+import com.palantir.lock.v2.Lease;
+import com.palantir.tritium.metrics.registry.DefaultTaggedMetricRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.Test;
+
+public class LeasedImmutableTimestampTest {
+    private static final Duration LEASE_DURATION = Duration.ofSeconds(1);
+    private static final Lease LEASE =
+            Lease.of(LeaderTime.of(LeadershipId.random(), NanoTime.createForTests(123)), LEASE_DURATION);
+
+    private final AtomicReference<NanoTime> time = new AtomicReference<>(NanoTime.createForTests(0));
+    private final LeasedImmutableTimestampMetrics metrics =
+            LeasedImmutableTimestampMetrics.of(new DefaultTaggedMetricRegistry());
+    private final LeasedImmutableTimestamp leasedImmutableTimestamp = new LeasedImmutableTimestamp(time::get, metrics);
+
+    private final AtomicLong remoteImmutableTimestamp = new AtomicLong(100);
+    private final AtomicLong remoteCalls = new AtomicLong();
+    private final LongSupplier fallback = () -> {
+        remoteCalls.incrementAndGet();
+        return remoteImmutableTimestamp.get();
+    };
+
+    @Test
+    public void fetchesImmutableTimestampIfNoneObserved() {
+        assertThat(leasedImmutableTimestamp.get(fallback)).isEqualTo(100);
+        assertThat(remoteCalls).hasValue(1);
+        assertThat(metrics.fallback().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void servesObservedImmutableTimestampWithinLease() {
+        leasedImmutableTimestamp.update(50, LEASE, time.get());
+        advanceTime(LEASE_DURATION.minusMillis(1));
+
+        assertThat(leasedImmutableTimestamp.get(fallback)).isEqualTo(50);
+        assertThat(remoteCalls).hasValue(0);
+        assertThat(metrics.servedLocally().getCount()).isEqualTo(1);
+        assertThat(metrics.stalenessMillis().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void fetchesImmutableTimestampOnceLeaseExpires() {
+        leasedImmutableTimestamp.update(50, LEASE, time.get());
+        advanceTime(LEASE_DURATION);
+
+        assertThat(leasedImmutableTimestamp.get(fallback)).isEqualTo(100);
+        assertThat(remoteCalls).hasValue(1);
+        assertThat(metrics.fallback().getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void servesGreatestObservedImmutableTimestamp() {
+        leasedImmutableTimestamp.update(60, LEASE, time.get());
+        leasedImmutableTimestamp.update(50, LEASE, time.get());
+
+        assertThat(leasedImmutableTimestamp.get(fallback)).isEqualTo(60);
+    }
+
+    @Test
+    public void immutableTimestampDoesNotGoBackwardsAfterFallback() {
+        leasedImmutableTimestamp.update(150, LEASE, time.get());
+        advanceTime(LEASE_DURATION);
+
+        assertThat(leasedImmutableTimestamp.get(fallback)).isEqualTo(150);
+        assertThat(remoteCalls).hasValue(1);
+    }
+
+    private void advanceTime(Duration duration) {
+        time.updateAndGet(current -> current.plus(duration));
+    }
+}
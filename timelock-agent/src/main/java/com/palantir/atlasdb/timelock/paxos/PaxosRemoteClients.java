@@ -60,7 +60,8 @@ public abstract class PaxosRemoteClients {
                     TimeLockPaxosExecutors.createBoundedExecutor(
                             TimeLockPaxosExecutors.MAXIMUM_POOL_SIZE,
                             "paxos-remote-clients-paxos-executors",
-                            executorIndex));
+                            executorIndex,
+                            context().install().useVirtualThreads()));
             executorIndex++;
         }
         return builder.buildOrThrow();
@@ -78,7 +79,8 @@ public abstract class PaxosRemoteClients {
                     TimeLockPaxosExecutors.createBoundedExecutor(
                             8, // 1 is probably enough, but be defensive for now.
                             "paxos-remote-clients-ping-executors",
-                            executorIndex));
+                            executorIndex,
+                            context().install().useVirtualThreads()));
             executorIndex++;
         }
         return builder.buildOrThrow();
@@ -25,6 +25,7 @@ import com.palantir.timestamp.ManagedTimestampService;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import org.immutables.value.Value;
 
 @Value.Immutable
@@ -32,6 +33,12 @@ public abstract class PaxosResources {
 
     public abstract NetworkClientFactories.Factory<ManagedTimestampService> timestampServiceFactory();
 
+    /**
+     * Extends the upper limits of timestamp services created by {@link #timestampServiceFactory()} in the background.
+     * Whoever uses the factory is responsible for shutting this down once the timestamp services are no longer used.
+     */
+    public abstract ExecutorService timestampUpperLimitExtensionExecutor();
+
     abstract LocalPaxosComponents timestampPaxosComponents();
 
     abstract Map<PaxosUseCase, LocalPaxosComponents> leadershipBatchComponents();
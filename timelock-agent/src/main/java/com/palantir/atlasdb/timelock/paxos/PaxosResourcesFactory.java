@@ -19,6 +19,7 @@ package com.palantir.atlasdb.timelock.paxos;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Suppliers;
 import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.common.concurrent.PTExecutors;
 import com.palantir.common.proxy.PredicateSwitchedProxy;
 import com.palantir.conjure.java.api.config.service.UserAgent;
 import com.palantir.conjure.java.config.ssl.SslSocketFactories;
@@ -36,6 +37,7 @@ import com.palantir.sls.versions.OrderableSlsVersion;
 import com.palantir.timelock.config.ClusterConfiguration;
 import com.palantir.timelock.config.PaxosInstallConfiguration.PaxosLeaderMode;
 import com.palantir.timelock.config.PaxosRuntimeConfiguration;
+import com.palantir.timelock.config.PaxosRuntimeConfiguration.TimestampPaxosConfig;
 import com.palantir.timelock.config.TimeLockInstallConfiguration;
 import com.palantir.timelock.corruption.detection.CorruptionHealthCheck;
 import com.palantir.timelock.corruption.detection.LocalCorruptionDetector;
@@ -54,6 +56,9 @@ import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
@@ -238,6 +243,12 @@ public final class PaxosResourcesFactory {
         NetworkClientFactories.Factory<PaxosProposer> proposerFactory =
                 getPaxosProposerFactory(timelockMetrics, combinedNetworkClientFactories);
 
+        BooleanSupplier prepareNextSequenceInAdvance =
+                () -> paxosRuntime.get().timestampPaxos().prepareNextSequenceInAdvance();
+        Executor preparationExecutor = PTExecutors.newCachedThreadPool("paxos-timestamp-bound-preparation");
+        ExecutorService upperLimitExtensionExecutor =
+                PTExecutors.newCachedThreadPool("persistent-upper-limit-extension");
+
         NetworkClientFactories.Factory<ManagedTimestampService> timestampFactory = client -> {
             // TODO (jkong): live reload ping
             TimestampBoundStore boundStore = timelockMetrics.instrument(
@@ -247,8 +258,19 @@ public final class PaxosResourcesFactory {
                             paxosComponents.learner(client),
                             combinedNetworkClientFactories.acceptor().create(client),
                             combinedNetworkClientFactories.learner().create(client),
-                            paxosRuntime.get().maximumWaitBeforeProposalMs()),
+                            paxosRuntime.get().maximumWaitBeforeProposalMs(),
+                            prepareNextSequenceInAdvance,
+                            preparationExecutor),
                     client);
+            TimestampPaxosConfig timestampPaxosConfig = paxosRuntime.get().timestampPaxos();
+            Optional<Double> extensionThreshold = timestampPaxosConfig.backgroundUpperLimitExtensionThreshold();
+            if (extensionThreshold.isPresent()) {
+                return PersistentTimestampServiceImpl.createWithBackgroundUpperLimitExtension(
+                        boundStore,
+                        extensionThreshold.get(),
+                        timestampPaxosConfig.adaptiveUpperLimitBuffer(),
+                        upperLimitExtensionExecutor);
+            }
             return PersistentTimestampServiceImpl.create(boundStore);
         };
 
@@ -260,7 +282,8 @@ public final class PaxosResourcesFactory {
                 .addAdhocUndertowServices(
                         TimestampPaxosAcceptorResourceEndpoints.of(new TimestampPaxosAcceptorResource(paxosComponents)))
                 .timestampPaxosComponents(paxosComponents)
-                .timestampServiceFactory(timestampFactory);
+                .timestampServiceFactory(timestampFactory)
+                .timestampUpperLimitExtensionExecutor(upperLimitExtensionExecutor);
     }
 
     @VisibleForTesting
@@ -69,9 +69,20 @@ final class TimeLockPaxosExecutors {
      * Users of such an executor should be prepared to handle {@link java.util.concurrent.RejectedExecutionException}.
      */
     static CheckedRejectionExecutorService createBoundedExecutor(int poolSize, String useCase, int index) {
+        return createBoundedExecutor(poolSize, useCase, index, false);
+    }
+
+    /**
+     * As {@link #createBoundedExecutor(int, String, int)}, but optionally running each task on a virtual thread. The
+     * bound on the number of concurrent operations on each remote still applies.
+     */
+    static CheckedRejectionExecutorService createBoundedExecutor(
+            int poolSize, String useCase, int index, boolean useVirtualThreads) {
         // metricRegistry is ignored because TExecutors.newCachedThreadPoolWithMaxThreads provides instrumentation.
-        ExecutorService underlying =
-                PTExecutors.newCachedThreadPoolWithMaxThreads(poolSize, "timelock-executors-" + useCase + "-" + index);
+        String name = "timelock-executors-" + useCase + "-" + index;
+        ExecutorService underlying = useVirtualThreads
+                ? PTExecutors.newVirtualThreadPoolWithMaxThreads(poolSize, name)
+                : PTExecutors.newCachedThreadPoolWithMaxThreads(poolSize, name);
         return new CheckedRejectionExecutorService(underlying);
     }
 }
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.base.Preconditions;
 import java.time.Duration;
+import java.util.Optional;
 import org.immutables.value.Value;
 
 @JsonDeserialize(as = ImmutablePaxosRuntimeConfiguration.class)
@@ -108,6 +109,42 @@ public interface PaxosRuntimeConfiguration {
             return false;
         }
 
+        /**
+         * If true, the prepare phase of Paxos for the next timestamp bound is run as soon as the current bound has
+         * been stored, so that storing the next bound only takes the accept phase.
+         */
+        @Value.Default
+        @JsonProperty("prepare-next-sequence-in-advance")
+        default boolean prepareNextSequenceInAdvance() {
+            return false;
+        }
+
+        /**
+         * If set, the persisted timestamp bound is extended in the background once this fraction of the buffer
+         * above the timestamps handed out has been used, instead of when a request needs a timestamp beyond it.
+         */
+        @JsonProperty("background-upper-limit-extension-threshold")
+        Optional<Double> backgroundUpperLimitExtensionThreshold();
+
+        /**
+         * If true, and the timestamp bound is extended in the background, the buffer above the timestamps handed out
+         * grows with the rate at which timestamps are handed out, instead of staying at its fixed size.
+         */
+        @Value.Default
+        @JsonProperty("adaptive-upper-limit-buffer")
+        default boolean adaptiveUpperLimitBuffer() {
+            return false;
+        }
+
+        @Value.Check
+        default void checkBackgroundUpperLimitExtensionThreshold() {
+            backgroundUpperLimitExtensionThreshold()
+                    .ifPresent(threshold -> Preconditions.checkArgument(
+                            threshold > 0.0 && threshold < 1.0,
+                            "Background upper limit extension threshold must be strictly between 0 and 1; found '%s'.",
+                            threshold));
+        }
+
         static TimestampPaxosConfig defaultConfig() {
             return ImmutableTimestampPaxosConfig.builder().build();
         }
@@ -56,6 +56,11 @@ public class RestrictedTimeLockRuntimeConfiguration extends TimeLockRuntimeConfi
         return runtime.timestampBoundPersistence();
     }
 
+    @Override
+    public boolean lockWatchDeltaUpdatesEnabled() {
+        return runtime.lockWatchDeltaUpdatesEnabled();
+    }
+
     @Override
     public DebugThreadInfoConfiguration threadInfoConfiguration() {
         return runtime.threadInfoConfiguration();
@@ -68,6 +68,17 @@ public interface TimeLockInstallConfiguration {
         return false;
     }
 
+    /**
+     * If true, and the JVM supports virtual threads, blocking work such as Paxos calls to other nodes and legacy lock
+     * requests runs on virtual threads instead of platform thread pools. TimeLock does not report virtual threads
+     * that block while pinned to their carrier thread (for example, inside a {@code synchronized} section); on JDKs
+     * that support it, operators can start the JVM with {@code -Djdk.tracePinnedThreads=short} to do so.
+     */
+    @Value.Default
+    default boolean useVirtualThreads() {
+        return false;
+    }
+
     @Value.Derived
     default boolean isNewService() {
         return paxos().isNewService();
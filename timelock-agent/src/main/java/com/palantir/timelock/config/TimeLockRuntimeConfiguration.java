@@ -80,6 +80,18 @@ public abstract class TimeLockRuntimeConfiguration {
     @JsonProperty("timestamp-bound-persistence")
     public abstract Optional<TsBoundPersisterRuntimeConfiguration> timestampBoundPersistence();
 
+    /**
+     * If enabled, lock watch clients that have fallen too far behind to be sent the individual events they missed are
+     * sent the net changes since their last known version where possible, rather than a full snapshot that clears
+     * their caches. Clients on versions that cannot process such updates will fail to deserialize them, so this must
+     * only be enabled once all clients have been upgraded.
+     */
+    @JsonProperty("lock-watch-delta-updates-enabled")
+    @Value.Default
+    public boolean lockWatchDeltaUpdatesEnabled() {
+        return false;
+    }
+
     @JsonProperty("debug-thread-info-config")
     @Value.Default
     public DebugThreadInfoConfiguration threadInfoConfiguration() {
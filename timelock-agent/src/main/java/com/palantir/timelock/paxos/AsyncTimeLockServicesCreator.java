@@ -39,27 +39,33 @@ import com.palantir.paxos.Client;
 import com.palantir.timestamp.ManagedTimestampService;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 public class AsyncTimeLockServicesCreator implements TimeLockServicesCreator {
     private static final SafeLogger log = SafeLoggerFactory.get(AsyncTimeLockServicesCreator.class);
+    private static final int START_TRANSACTIONS_THREADS_PER_CLIENT = 4;
 
     private final MetricsManager metricsManager;
     private final LockLog lockLog;
     private final LeadershipComponents leadershipComponents;
     private final Map<Client, LockDiagnosticConfig> lockDiagnosticConfig;
+    private final BooleanSupplier lockWatchDeltaUpdatesEnabled;
 
     AsyncTimeLockServicesCreator(
             MetricsManager metricsManager,
             LockLog lockLog,
             LeadershipComponents leadershipComponents,
             // TODO(fdesouza): Remove this once PDS-95791 is resolved.
-            Map<Client, LockDiagnosticConfig> lockDiagnosticConfig) {
+            Map<Client, LockDiagnosticConfig> lockDiagnosticConfig,
+            BooleanSupplier lockWatchDeltaUpdatesEnabled) {
         this.metricsManager = metricsManager;
         this.lockLog = lockLog;
         this.leadershipComponents = leadershipComponents;
         this.lockDiagnosticConfig = lockDiagnosticConfig;
+        this.lockWatchDeltaUpdatesEnabled = lockWatchDeltaUpdatesEnabled;
     }
 
     @Override
@@ -91,15 +97,21 @@ public class AsyncTimeLockServicesCreator implements TimeLockServicesCreator {
                         new NamedThreadFactory("async-lock-timeouts-" + client, true)),
                 metricsManager.getRegistry(),
                 "async-lock-timeouts");
+        // Issuing timestamps may block on persisting a new upper limit, so each client gets its own bounded executor:
+        // a client whose timestamp bound store is slow must not hold up starting transactions for other clients.
+        ExecutorService startTransactionsExecutor = PTExecutors.newFixedThreadPool(
+                START_TRANSACTIONS_THREADS_PER_CLIENT, "timelock-start-transactions-" + client);
         return new AsyncTimelockServiceImpl(
                 AsyncLockService.createDefault(
                         maybeEnhancedLockLog,
                         reaperExecutor,
                         timeoutExecutor,
-                        BufferMetrics.of(metricsManager.getTaggedRegistry())),
+                        BufferMetrics.of(metricsManager.getTaggedRegistry()),
+                        lockWatchDeltaUpdatesEnabled),
                 timestampServiceSupplier.get(),
                 maybeEnhancedLockLog,
-                RequestMetrics.of(metricsManager.getTaggedRegistry()));
+                RequestMetrics.of(metricsManager.getTaggedRegistry()),
+                startTransactionsExecutor);
     }
 
     /**
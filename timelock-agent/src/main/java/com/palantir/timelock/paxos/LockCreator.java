@@ -30,12 +30,24 @@ public class LockCreator {
     private final Refreshable<TimeLockRuntimeConfiguration> runtime;
     private final long blockingTimeoutMs;
     private final Semaphore sharedThreadPool;
-    private final ExecutorService sharedExecutor = PTExecutors.newCachedThreadPool(LockServiceImpl.class.getName());
+    private final ExecutorService sharedExecutor;
+    private final ExecutorService timeLimiterExecutor;
 
     public LockCreator(Refreshable<TimeLockRuntimeConfiguration> runtime, int threadPoolSize, long blockingTimeoutMs) {
+        this(runtime, threadPoolSize, blockingTimeoutMs, false);
+    }
+
+    public LockCreator(
+            Refreshable<TimeLockRuntimeConfiguration> runtime,
+            int threadPoolSize,
+            long blockingTimeoutMs,
+            boolean useVirtualThreads) {
         this.runtime = runtime;
         this.sharedThreadPool = new Semaphore(threadPoolSize);
         this.blockingTimeoutMs = blockingTimeoutMs;
+        this.sharedExecutor = newCachedExecutor(LockServiceImpl.class.getName(), useVirtualThreads);
+        this.timeLimiterExecutor =
+                newCachedExecutor(BlockingTimeLimitedLockService.class.getName(), useVirtualThreads);
     }
 
     public CloseableLockService createThreadPoolingLockService() {
@@ -46,8 +58,12 @@ public class LockCreator {
 
         LockServiceImpl rawLockService = LockServiceImpl.create(lockServerOptions, sharedExecutor);
         CloseableLockService lockService = BlockingTimeLimitedLockService.create(
-                rawLockService, blockingTimeoutMs, rawLockService.getSnapshotManager());
+                rawLockService, blockingTimeoutMs, rawLockService.getSnapshotManager(), timeLimiterExecutor);
 
         return new ThreadPooledLockService(lockService, -1, sharedThreadPool);
     }
+
+    private static ExecutorService newCachedExecutor(String name, boolean useVirtualThreads) {
+        return useVirtualThreads ? PTExecutors.newVirtualThreadPool(name) : PTExecutors.newCachedThreadPool(name);
+    }
 }
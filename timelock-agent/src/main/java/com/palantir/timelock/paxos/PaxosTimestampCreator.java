@@ -18,13 +18,18 @@ package com.palantir.timelock.paxos;
 import com.palantir.atlasdb.timelock.paxos.NetworkClientFactories;
 import com.palantir.paxos.Client;
 import com.palantir.timestamp.ManagedTimestampService;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 public class PaxosTimestampCreator implements TimestampCreator {
     private final NetworkClientFactories.Factory<ManagedTimestampService> timestampServiceFactory;
+    private final ExecutorService upperLimitExtensionExecutor;
 
-    PaxosTimestampCreator(NetworkClientFactories.Factory<ManagedTimestampService> timestampServiceFactory) {
+    PaxosTimestampCreator(
+            NetworkClientFactories.Factory<ManagedTimestampService> timestampServiceFactory,
+            ExecutorService upperLimitExtensionExecutor) {
         this.timestampServiceFactory = timestampServiceFactory;
+        this.upperLimitExtensionExecutor = upperLimitExtensionExecutor;
     }
 
     @Override
@@ -34,6 +39,6 @@ public class PaxosTimestampCreator implements TimestampCreator {
 
     @Override
     public void close() {
-        // no op
+        upperLimitExtensionExecutor.shutdownNow();
     }
 }
@@ -51,6 +51,7 @@ import com.palantir.atlasdb.timelock.paxos.PaxosResourcesFactory;
 import com.palantir.atlasdb.timelock.paxos.TimeLockCorruptionComponents;
 import com.palantir.atlasdb.util.MetricsManager;
 import com.palantir.common.concurrent.PTExecutors;
+import com.palantir.common.concurrent.VirtualThreads;
 import com.palantir.conjure.java.api.config.service.ServicesConfigBlock;
 import com.palantir.conjure.java.api.config.service.UserAgent;
 import com.palantir.conjure.java.undertow.lib.UndertowService;
@@ -165,13 +166,14 @@ public class TimeLockAgent {
             Runnable serviceStopper) {
 
         verifyConfigurationSanity(install, cluster);
+        configureVirtualThreads(install);
 
         // Restricting access to user-provided runtime config
         Refreshable<TimeLockRuntimeConfiguration> restrictedRuntime =
                 runtime.map(RestrictedTimeLockRuntimeConfiguration::new);
 
         TimeLockDialogueServiceProvider timeLockDialogueServiceProvider =
-                createTimeLockDialogueServiceProvider(metricsManager, cluster, userAgent);
+                createTimeLockDialogueServiceProvider(metricsManager, cluster, userAgent, install);
         PaxosResourcesFactory.TimelockPaxosInstallationContext installationContext =
                 ImmutableTimelockPaxosInstallationContext.of(
                         install, cluster, userAgent, timeLockDialogueServiceProvider, timeLockVersion);
@@ -217,11 +219,24 @@ public class TimeLockAgent {
         verifyIsNewServiceInvariant(install, cluster);
     }
 
+    private static void configureVirtualThreads(TimeLockInstallConfiguration install) {
+        if (install.useVirtualThreads() && !VirtualThreads.isSupported()) {
+            log.warn("Virtual threads were requested, but are not supported by this JVM. Using platform threads.");
+        }
+    }
+
     private static TimeLockDialogueServiceProvider createTimeLockDialogueServiceProvider(
-            MetricsManager metricsManager, ClusterConfiguration cluster, UserAgent userAgent) {
+            MetricsManager metricsManager,
+            ClusterConfiguration cluster,
+            UserAgent userAgent,
+            TimeLockInstallConfiguration install) {
+        String blockingExecutorName = "atlas-dialogue-blocking";
         DialogueClients.ReloadingFactory baseFactory = DialogueClients.create(
                         Refreshable.only(ServicesConfigBlock.empty()))
-                .withBlockingExecutor(PTExecutors.newCachedThreadPool("atlas-dialogue-blocking"));
+                .withBlockingExecutor(
+                        install.useVirtualThreads()
+                                ? PTExecutors.newVirtualThreadPool(blockingExecutorName)
+                                : PTExecutors.newCachedThreadPool(blockingExecutorName));
         ServerListConfig timeLockServerListConfig = ImmutableServerListConfig.builder()
                 .addAllServers(PaxosRemotingUtils.getRemoteServerPaths(cluster))
                 .sslConfiguration(cluster.cluster().security())
@@ -262,7 +277,7 @@ public class TimeLockAgent {
         this.paxosResources = paxosResources;
         this.sqliteDataSource = sqliteDataSource;
         this.serviceStopper = serviceStopper;
-        this.lockCreator = new LockCreator(runtime, threadPoolSize, blockingTimeoutMs);
+        this.lockCreator = new LockCreator(runtime, threadPoolSize, blockingTimeoutMs, install.useVirtualThreads());
         this.timestampStorage = getTimestampStorage();
         this.persistedSchemaVersion = persistedSchemaVersion;
 
@@ -271,7 +286,11 @@ public class TimeLockAgent {
                 Suppliers.compose(TimeLockRuntimeConfiguration::slowLockLogTriggerMillis, runtime::get));
 
         this.timelockCreator = new AsyncTimeLockServicesCreator(
-                metricsManager, lockLog, paxosResources.leadershipComponents(), install.lockDiagnosticConfig());
+                metricsManager,
+                lockLog,
+                paxosResources.leadershipComponents(),
+                install.lockDiagnosticConfig(),
+                () -> runtime.get().lockWatchDeltaUpdatesEnabled());
 
         this.noSimultaneousServiceCheck = NoSimultaneousServiceCheck.create(
                 new TimeLockActivityCheckerFactory(cluster, metricsManager, userAgent).getTimeLockActivityCheckers());
@@ -297,7 +316,9 @@ public class TimeLockAgent {
 
     private TimestampStorage createPaxosBasedTimestampStorage() {
         return ImmutableTimestampStorage.builder()
-                .timestampCreator(new PaxosTimestampCreator(paxosResources.timestampServiceFactory()))
+                .timestampCreator(new PaxosTimestampCreator(
+                        paxosResources.timestampServiceFactory(),
+                        paxosResources.timestampUpperLimitExtensionExecutor()))
                 .persistentNamespaceContext(PersistentNamespaceContexts.timestampBoundPaxos(
                         install.paxos().dataDirectory().toPath(), sqliteDataSource))
                 .build();
@@ -15,6 +15,7 @@
  */
 package com.palantir.timelock.config;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
@@ -61,4 +62,23 @@ public class PaxosRuntimeConfigurationTest {
         assertThatThrownBy(ImmutablePaxosRuntimeConfiguration.builder().leaderPingResponseWaitMs(NEGATIVE_LONG)::build)
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    public void canSpecifyBackgroundUpperLimitExtensionThresholdBetweenZeroAndOne() {
+        ImmutableTimestampPaxosConfig.builder()
+                .backgroundUpperLimitExtensionThreshold(0.5)
+                .build();
+    }
+
+    @Test
+    public void throwOnBackgroundUpperLimitExtensionThresholdOutsideZeroAndOne() {
+        assertThatThrownBy(ImmutableTimestampPaxosConfig.builder().backgroundUpperLimitExtensionThreshold(1.0)::build)
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void adaptiveUpperLimitBufferIsDisabledByDefault() {
+        assertThat(ImmutableTimestampPaxosConfig.builder().build().adaptiveUpperLimitBuffer())
+                .isFalse();
+    }
 }
@@ -18,6 +18,7 @@ package com.palantir.atlasdb.timelock;
 import com.codahale.metrics.Histogram;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
 import com.palantir.atlasdb.timelock.api.ConjureIdentifiedVersion;
 import com.palantir.atlasdb.timelock.api.ConjureStartTransactionsRequest;
@@ -53,11 +54,14 @@ import com.palantir.lock.v2.WaitForLocksResponse;
 import com.palantir.lock.watch.LockRequestMetadata;
 import com.palantir.lock.watch.LockWatchStateUpdate;
 import com.palantir.lock.watch.LockWatchVersion;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.exceptions.SafeIllegalStateException;
 import com.palantir.timestamp.ManagedTimestampService;
 import com.palantir.timestamp.TimestampRange;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 public class AsyncTimelockServiceImpl implements AsyncTimelockService {
@@ -65,13 +69,29 @@ public class AsyncTimelockServiceImpl implements AsyncTimelockService {
     private final LeadershipGuardedClientAwareManagedTimestampService timestampService;
     private final LockLog lockLog;
     private final Histogram changeMetadataHistogram;
+    private final ExecutorService startTransactionsExecutor;
 
     public AsyncTimelockServiceImpl(
             AsyncLockService lockService,
             ManagedTimestampService timestampService,
             LockLog lockLog,
             RequestMetrics metadataMetrics) {
+        this(lockService, timestampService, lockLog, metadataMetrics, MoreExecutors.newDirectExecutorService());
+    }
+
+    /**
+     * @param startTransactionsExecutor executor on which {@link #startTransactionsWithWatches} issues timestamps and
+     * computes the lock watch update, once the immutable timestamp lock has been acquired; this service owns the
+     * executor and shuts it down on {@link #close()}
+     */
+    public AsyncTimelockServiceImpl(
+            AsyncLockService lockService,
+            ManagedTimestampService timestampService,
+            LockLog lockLog,
+            RequestMetrics metadataMetrics,
+            ExecutorService startTransactionsExecutor) {
         this.changeMetadataHistogram = metadataMetrics.changeMetadata();
+        this.startTransactionsExecutor = startTransactionsExecutor;
         this.lockService = lockService;
         this.timestampService = new LeadershipGuardedClientAwareManagedTimestampService(
                 DelegatingClientAwareManagedTimestampService.createDefault(timestampService));
@@ -198,6 +218,30 @@ public class AsyncTimelockServiceImpl implements AsyncTimelockService {
 
         Leased<LockToken> leasedLock =
                 lockService.lockImmutableTimestamp(requestId, timestamp).get();
+        return toLeasedImmutableTimestampResponse(timestamp, leasedLock);
+    }
+
+    private ListenableFuture<Leased<LockImmutableTimestampResponse>> lockImmutableTimestampWithLeaseAsync(
+            UUID requestId) {
+        long timestamp = timestampService.getFreshTimestamp();
+
+        AsyncResult<Leased<LockToken>> result = lockService.lockImmutableTimestamp(requestId, timestamp);
+        SettableFuture<Leased<LockImmutableTimestampResponse>> response = SettableFuture.create();
+        result.onComplete(() -> {
+            if (result.isFailed()) {
+                response.setException(result.getError());
+            } else if (result.isTimedOut()) {
+                response.setException(new SafeIllegalStateException(
+                        "Timed out locking the immutable timestamp", SafeArg.of("requestId", requestId)));
+            } else {
+                response.set(toLeasedImmutableTimestampResponse(timestamp, result.get()));
+            }
+        });
+        return response;
+    }
+
+    private Leased<LockImmutableTimestampResponse> toLeasedImmutableTimestampResponse(
+            long timestamp, Leased<LockToken> leasedLock) {
         long immutableTs = lockService.getImmutableTimestamp().orElse(timestamp);
 
         LockImmutableTimestampResponse lockImmutableTimestampResponse =
@@ -209,13 +253,16 @@ public class AsyncTimelockServiceImpl implements AsyncTimelockService {
     @Override
     public ListenableFuture<ConjureStartTransactionsResponse> startTransactionsWithWatches(
             ConjureStartTransactionsRequest request) {
-        return Futures.immediateFuture(startTransactionsWithWatchesSync(request));
+        return Futures.transform(
+                lockImmutableTimestampWithLeaseAsync(request.getRequestId()),
+                leasedLockImmutableTimestampResponse ->
+                        startTransactionsWithWatches(request, leasedLockImmutableTimestampResponse),
+                startTransactionsExecutor);
     }
 
-    private ConjureStartTransactionsResponse startTransactionsWithWatchesSync(ConjureStartTransactionsRequest request) {
-        Leased<LockImmutableTimestampResponse> leasedLockImmutableTimestampResponse =
-                lockImmutableTimestampWithLease(request.getRequestId());
-
+    private ConjureStartTransactionsResponse startTransactionsWithWatches(
+            ConjureStartTransactionsRequest request,
+            Leased<LockImmutableTimestampResponse> leasedLockImmutableTimestampResponse) {
         ValueAndLockWatchStateUpdate<PartitionedTimestamps> timestampsAndUpdate = lockService
                 .getLockWatchingService()
                 .runTask(
@@ -270,6 +317,7 @@ public class AsyncTimelockServiceImpl implements AsyncTimelockService {
     public void close() {
         timestampService.close();
         lockService.close();
+        startTransactionsExecutor.shutdown();
     }
 
     @Override
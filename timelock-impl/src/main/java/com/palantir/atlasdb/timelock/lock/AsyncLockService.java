@@ -33,6 +33,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 public class AsyncLockService implements Closeable {
 
@@ -63,11 +64,25 @@ public class AsyncLockService implements Closeable {
             ScheduledExecutorService reaperExecutor,
             ScheduledExecutorService timeoutExecutor,
             BufferMetrics bufferMetrics) {
+        return createDefault(lockLog, reaperExecutor, timeoutExecutor, bufferMetrics, () -> false);
+    }
+
+    /**
+     * As {@link #createDefault(LockLog, ScheduledExecutorService, ScheduledExecutorService, BufferMetrics)}, but
+     * allowing lock watch deltas to be sent to clients that have fallen behind; see {@link LockWatchingServiceImpl}.
+     */
+    public static AsyncLockService createDefault(
+            LockLog lockLog,
+            ScheduledExecutorService reaperExecutor,
+            ScheduledExecutorService timeoutExecutor,
+            BufferMetrics bufferMetrics,
+            BooleanSupplier lockWatchDeltaUpdatesEnabled) {
 
         LeaderClock clock = LeaderClock.create();
 
         HeldLocksCollection heldLocks = HeldLocksCollection.create(clock);
-        LockWatchingService lockWatchingService = new LockWatchingServiceImpl(heldLocks, clock.id(), bufferMetrics);
+        LockWatchingService lockWatchingService =
+                new LockWatchingServiceImpl(heldLocks, clock.id(), bufferMetrics, lockWatchDeltaUpdatesEnabled);
         LockAcquirer lockAcquirer = new LockAcquirer(lockLog, timeoutExecutor, clock, lockWatchingService);
 
         return new AsyncLockService(
@@ -43,6 +43,7 @@ import java.math.BigInteger;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
@@ -79,9 +80,22 @@ public class BlockingTimeLimitedLockService implements CloseableLockService {
             LockThreadInfoSnapshotManager threadInfoSnapshotManager) {
         // TODO (jkong): Inject the executor to allow application lifecycle managed executors.
         // Currently maintaining existing behaviour.
+        return create(
+                lockService, blockingTimeLimitMillis, threadInfoSnapshotManager, PTExecutors.newCachedThreadPool());
+    }
+
+    /**
+     * @param timeLimiterExecutor executor on which lock requests wait, so that they can be abandoned once the
+     * blocking time limit has passed
+     */
+    public static BlockingTimeLimitedLockService create(
+            CloseableLockService lockService,
+            long blockingTimeLimitMillis,
+            LockThreadInfoSnapshotManager threadInfoSnapshotManager,
+            ExecutorService timeLimiterExecutor) {
         return new BlockingTimeLimitedLockService(
                 lockService,
-                SimpleTimeLimiter.create(PTExecutors.newCachedThreadPool()),
+                SimpleTimeLimiter.create(timeLimiterExecutor),
                 blockingTimeLimitMillis,
                 threadInfoSnapshotManager);
     }
@@ -17,18 +17,25 @@ package com.palantir.atlasdb.timelock.lock;
 
 import com.palantir.atlasdb.timelock.util.LoggableIllegalStateException;
 import com.palantir.logsafe.SafeArg;
+import java.util.Map;
 import java.util.Optional;
-import java.util.SortedMap;
-import java.util.TreeMap;
 import java.util.UUID;
-import javax.annotation.concurrent.GuardedBy;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * Tracks the timestamps locked by in-flight transactions, the smallest of which is the immutable timestamp.
+ * <p>
+ * Every transaction start locks and later unlocks a timestamp here, so this is backed by a concurrent skip list
+ * rather than a synchronized map, and none of its operations serialize on a shared monitor. Each operation is
+ * linearizable, so a timestamp that has been locked by a thread bounds any immutable timestamp that thread
+ * subsequently reads, until it is unlocked.
+ */
 public class ImmutableTimestampTracker {
 
-    @GuardedBy("this")
-    private final SortedMap<Long, UUID> holdersByTimestamp = new TreeMap<>();
+    private final ConcurrentNavigableMap<Long, UUID> holdersByTimestamp = new ConcurrentSkipListMap<>();
 
-    public synchronized void lock(long timestamp, UUID requestId) {
+    public void lock(long timestamp, UUID requestId) {
         boolean wasAdded = holdersByTimestamp.putIfAbsent(timestamp, requestId) == null;
         if (!wasAdded) {
             throw new LoggableIllegalStateException(
@@ -39,7 +46,7 @@ public class ImmutableTimestampTracker {
         }
     }
 
-    public synchronized void unlock(long timestamp, UUID requestId) {
+    public void unlock(long timestamp, UUID requestId) {
         boolean wasRemoved = holdersByTimestamp.remove(timestamp, requestId);
         if (!wasRemoved) {
             throw new LoggableIllegalStateException(
@@ -50,11 +57,10 @@ public class ImmutableTimestampTracker {
         }
     }
 
-    public synchronized Optional<Long> getImmutableTimestamp() {
-        if (holdersByTimestamp.isEmpty()) {
-            return Optional.empty();
-        }
-        return Optional.of(holdersByTimestamp.firstKey());
+    public Optional<Long> getImmutableTimestamp() {
+        // A single call, as the map may become empty between checking for emptiness and reading the first key.
+        Map.Entry<Long, UUID> oldestHolder = holdersByTimestamp.firstEntry();
+        return Optional.ofNullable(oldestHolder).map(Map.Entry::getKey);
     }
 
     // TODO(nziebart): should these locks should be created by LockCollection for consistency?
@@ -56,7 +56,7 @@ public class ArrayLockEventSlidingWindow {
         return Arrays.copyOf(buffer, buffer.length);
     }
 
-    void add(LockWatchEvent.Builder eventBuilder) {
+    LockWatchEvent add(LockWatchEvent.Builder eventBuilder) {
         LockWatchEvent event = eventBuilder.build(nextSequence);
         int index = LongMath.mod(nextSequence, maxSize);
 
@@ -67,6 +67,7 @@ public class ArrayLockEventSlidingWindow {
 
         buffer[index] = event;
         nextSequence++;
+        return event;
     }
 
     private void incrementMetadataCounters(LockRequestMetadata metadata) {
@@ -0,0 +1,124 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.palantir.atlasdb.timelock.lock.watch;
+
+import com.palantir.lock.LockDescriptor;
+import com.palantir.lock.watch.LockEvent;
+import com.palantir.lock.watch.LockWatchCreatedEvent;
+import com.palantir.lock.watch.LockWatchEvent;
+import com.palantir.lock.watch.LockWatchReferences.LockWatchReference;
+import com.palantir.lock.watch.LockWatchStateUpdate;
+import com.palantir.lock.watch.UnlockEvent;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * The net effect of all lock watch events since a checkpoint version, keeping only whether each lock descriptor was
+ * last locked or unlocked. This lets a client whose last known version is too old for the
+ * {@link ArrayLockEventSlidingWindow} catch up with a {@link LockWatchStateUpdate.Delta}, instead of a snapshot that
+ * forces it to discard everything it has cached.
+ * <p>
+ * Once more than the maximum number of descriptors and watches have been touched since the checkpoint, the history is
+ * checkpointed again at the latest version; clients behind that version then require a snapshot.
+ */
+@NotThreadSafe
+final class CompactedLockEventHistory {
+    private final int maxSize;
+    private final Map<LockDescriptor, Boolean> lockedAfterCheckpoint = new HashMap<>();
+    private final Set<LockWatchReference> watchesCreatedAfterCheckpoint = new HashSet<>();
+    private final HistoryUpdater updater = new HistoryUpdater();
+    private long checkpointVersion;
+
+    CompactedLockEventHistory(int maxSize, long initialVersion) {
+        Preconditions.checkArgument(maxSize > 0, "maxSize must be positive", SafeArg.of("maxSize", maxSize));
+        this.maxSize = maxSize;
+        this.checkpointVersion = initialVersion;
+    }
+
+    void add(LockWatchEvent event) {
+        Preconditions.checkArgument(
+                event.sequence() > checkpointVersion,
+                "Events must be added in order",
+                SafeArg.of("sequence", event.sequence()),
+                SafeArg.of("checkpointVersion", checkpointVersion));
+        event.accept(updater);
+        if (lockedAfterCheckpoint.size() + watchesCreatedAfterCheckpoint.size() > maxSize) {
+            checkpoint(event.sequence());
+        }
+    }
+
+    /**
+     * Discards the history, such that only clients that know about all events up to and including the given version
+     * can be sent deltas.
+     */
+    void checkpoint(long version) {
+        lockedAfterCheckpoint.clear();
+        watchesCreatedAfterCheckpoint.clear();
+        checkpointVersion = version;
+    }
+
+    /**
+     * Returns a delta taking a client from the given version to the last version, if the history goes back far enough.
+     * The delta may also contain changes from before the client's version, which is harmless: descriptors are still
+     * reported in their latest state, and would at worst be invalidated unnecessarily.
+     */
+    Optional<LockWatchStateUpdate> getDelta(UUID logId, long fromVersion, long lastVersion) {
+        if (fromVersion < checkpointVersion || fromVersion > lastVersion) {
+            return Optional.empty();
+        }
+
+        Set<LockDescriptor> locked = new HashSet<>();
+        Set<LockDescriptor> unlocked = new HashSet<>();
+        lockedAfterCheckpoint.forEach((descriptor, isLocked) -> {
+            if (isLocked) {
+                locked.add(descriptor);
+            } else {
+                unlocked.add(descriptor);
+            }
+        });
+        return Optional.of(LockWatchStateUpdate.delta(
+                logId, fromVersion, lastVersion, locked, unlocked, new HashSet<>(watchesCreatedAfterCheckpoint)));
+    }
+
+    private final class HistoryUpdater implements LockWatchEvent.Visitor<Void> {
+        @Override
+        public Void visit(LockEvent lockEvent) {
+            lockEvent.lockDescriptors().forEach(descriptor -> lockedAfterCheckpoint.put(descriptor, true));
+            return null;
+        }
+
+        @Override
+        public Void visit(UnlockEvent unlockEvent) {
+            unlockEvent.lockDescriptors().forEach(descriptor -> lockedAfterCheckpoint.put(descriptor, false));
+            return null;
+        }
+
+        @Override
+        public Void visit(LockWatchCreatedEvent lockWatchCreatedEvent) {
+            watchesCreatedAfterCheckpoint.addAll(lockWatchCreatedEvent.references());
+            lockWatchCreatedEvent.lockDescriptors().forEach(descriptor -> lockedAfterCheckpoint.put(descriptor, true));
+            return null;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.palantir.lock.v2.LockToken;
 import com.palantir.lock.watch.LockEvent;
 import com.palantir.lock.watch.LockRequestMetadata;
 import com.palantir.lock.watch.LockWatchCreatedEvent;
+import com.palantir.lock.watch.LockWatchEvent;
 import com.palantir.lock.watch.LockWatchReferences.LockWatchReference;
 import com.palantir.lock.watch.LockWatchStateUpdate;
 import com.palantir.lock.watch.LockWatchVersion;
@@ -39,6 +40,7 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -50,8 +52,13 @@ public class LockEventLogImpl implements LockEventLog {
     // need diagnostics on large clusters.
     private static final RateLimitedLogger diagnosticLog = new RateLimitedLogger(log, 1 / 120.0);
 
+    private static final int WINDOW_SIZE = 1000;
+    private static final int MAX_COMPACTED_HISTORY_SIZE = 50_000;
+
     private final UUID logId;
     private final ArrayLockEventSlidingWindow slidingWindow;
+    private final CompactedLockEventHistory compactedHistory;
+    private final BooleanSupplier deltaUpdatesEnabled;
     private final Supplier<LockWatches> watchesSupplier;
     private final HeldLocksCollection heldLocksCollection;
 
@@ -60,15 +67,28 @@ public class LockEventLogImpl implements LockEventLog {
             Supplier<LockWatches> watchesSupplier,
             HeldLocksCollection heldLocksCollection,
             BufferMetrics bufferMetrics) {
+        this(logId, watchesSupplier, heldLocksCollection, bufferMetrics, () -> false);
+    }
+
+    LockEventLogImpl(
+            UUID logId,
+            Supplier<LockWatches> watchesSupplier,
+            HeldLocksCollection heldLocksCollection,
+            BufferMetrics bufferMetrics,
+            BooleanSupplier deltaUpdatesEnabled) {
         this.logId = logId;
-        this.slidingWindow = new ArrayLockEventSlidingWindow(1000, bufferMetrics);
+        this.slidingWindow = new ArrayLockEventSlidingWindow(WINDOW_SIZE, bufferMetrics);
+        this.compactedHistory = new CompactedLockEventHistory(MAX_COMPACTED_HISTORY_SIZE, slidingWindow.lastVersion());
+        this.deltaUpdatesEnabled = deltaUpdatesEnabled;
         this.watchesSupplier = watchesSupplier;
         this.heldLocksCollection = heldLocksCollection;
     }
 
     @Override
     public synchronized LockWatchStateUpdate getLogDiff(Optional<LockWatchVersion> fromVersion) {
-        return tryGetNextEvents(fromVersion).orElseGet(this::calculateSnapshot);
+        return tryGetNextEvents(fromVersion)
+                .or(() -> tryGetDelta(fromVersion))
+                .orElseGet(this::calculateSnapshot);
     }
 
     @Override
@@ -83,18 +103,18 @@ public class LockEventLogImpl implements LockEventLog {
     public synchronized void logLock(
             Set<LockDescriptor> locksTakenOut, LockToken lockToken, Optional<LockRequestMetadata> metadata) {
 
-        slidingWindow.add(LockEvent.builder(locksTakenOut, lockToken, metadata));
+        addEvent(LockEvent.builder(locksTakenOut, lockToken, metadata));
     }
 
     @Override
     public synchronized void logUnlock(Set<LockDescriptor> locksUnlocked) {
-        slidingWindow.add(UnlockEvent.builder(locksUnlocked));
+        addEvent(UnlockEvent.builder(locksUnlocked));
     }
 
     @Override
     public synchronized void logLockWatchCreated(LockWatches newWatches) {
         Set<LockDescriptor> openLocks = calculateOpenLocks(newWatches.ranges());
-        slidingWindow.add(LockWatchCreatedEvent.builder(newWatches.references(), openLocks));
+        addEvent(LockWatchCreatedEvent.builder(newWatches.references(), openLocks));
     }
 
     @Override
@@ -110,6 +130,19 @@ public class LockEventLogImpl implements LockEventLog {
         });
     }
 
+    /**
+     * The compacted history is only maintained while delta updates are enabled: while they are not, it is kept empty
+     * by checkpointing at every event, so that it is complete from the point they are (re-)enabled.
+     */
+    private void addEvent(LockWatchEvent.Builder eventBuilder) {
+        LockWatchEvent event = slidingWindow.add(eventBuilder);
+        if (deltaUpdatesEnabled.getAsBoolean()) {
+            compactedHistory.add(event);
+        } else {
+            compactedHistory.checkpoint(event.sequence());
+        }
+    }
+
     private Optional<LockWatchStateUpdate> tryGetNextEvents(Optional<LockWatchVersion> fromVersion) {
         if (!fromVersion.isPresent() || !fromVersion.get().id().equals(logId)) {
             return Optional.empty();
@@ -120,6 +153,16 @@ public class LockEventLogImpl implements LockEventLog {
                 .map(events -> LockWatchStateUpdate.success(logId, slidingWindow.lastVersion(), events));
     }
 
+    private Optional<LockWatchStateUpdate> tryGetDelta(Optional<LockWatchVersion> fromVersion) {
+        if (!deltaUpdatesEnabled.getAsBoolean()
+                || !fromVersion.isPresent()
+                || !fromVersion.get().id().equals(logId)) {
+            return Optional.empty();
+        }
+
+        return compactedHistory.getDelta(logId, fromVersion.get().version(), slidingWindow.lastVersion());
+    }
+
     @Unsafe
     private LockWatchStateUpdate calculateSnapshot() {
         long lastVersion = slidingWindow.lastVersion();
@@ -46,6 +46,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -75,12 +76,35 @@ public class LockWatchingServiceImpl implements LockWatchingService {
 
     public LockWatchingServiceImpl(
             HeldLocksCollection heldLocksCollection, LeadershipId leadershipId, BufferMetrics lockWatchMetrics) {
-        this(leadershipId.id(), heldLocksCollection, lockWatchMetrics);
+        this(heldLocksCollection, leadershipId, lockWatchMetrics, () -> false);
+    }
+
+    /**
+     * @param deltaUpdatesEnabled whether clients that are too far behind to be sent the events they missed may be sent
+     * a {@link LockWatchStateUpdate.Delta} instead of a snapshot. This must only be enabled once all clients are able
+     * to process deltas.
+     */
+    public LockWatchingServiceImpl(
+            HeldLocksCollection heldLocksCollection,
+            LeadershipId leadershipId,
+            BufferMetrics lockWatchMetrics,
+            BooleanSupplier deltaUpdatesEnabled) {
+        this(leadershipId.id(), heldLocksCollection, lockWatchMetrics, deltaUpdatesEnabled);
     }
 
     @VisibleForTesting
     LockWatchingServiceImpl(UUID logId, HeldLocksCollection heldLocksCollection, BufferMetrics lockWatchMetrics) {
-        this.lockEventLog = new LockEventLogImpl(logId, watches::get, heldLocksCollection, lockWatchMetrics);
+        this(logId, heldLocksCollection, lockWatchMetrics, () -> false);
+    }
+
+    @VisibleForTesting
+    LockWatchingServiceImpl(
+            UUID logId,
+            HeldLocksCollection heldLocksCollection,
+            BufferMetrics lockWatchMetrics,
+            BooleanSupplier deltaUpdatesEnabled) {
+        this.lockEventLog =
+                new LockEventLogImpl(logId, watches::get, heldLocksCollection, lockWatchMetrics, deltaUpdatesEnabled);
     }
 
     @Override
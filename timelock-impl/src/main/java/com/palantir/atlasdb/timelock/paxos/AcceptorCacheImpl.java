@@ -18,41 +18,54 @@ package com.palantir.atlasdb.timelock.paxos;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.google.common.collect.TreeMultimap;
-import com.palantir.common.streams.KeyedStream;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
 import com.palantir.paxos.Client;
 import java.time.Duration;
-import java.util.Collection;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.GuardedBy;
 
+/**
+ * Updates are recorded in an append-only log keyed by cache timestamp, and the latest cache key is published only
+ * once its updates are in the log. Digests are computed from the published key and the log without taking any lock,
+ * so readers never block, or are blocked by, writers; writers only serialize amongst themselves to assign timestamps.
+ * <p>
+ * Log entries at or before the timestamp of the oldest live cache key are periodically trimmed.
+ */
 public class AcceptorCacheImpl implements AcceptorCache {
+    private static final Duration CACHE_KEY_EXPIRY = Duration.ofMinutes(10);
+
+    @VisibleForTesting
+    static final int TRIM_INTERVAL = 1_000;
 
-    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object writeLock = new Object();
     private final Cache<AcceptorCacheKey, TimestampedAcceptorCacheKey> cacheKeyToTimestamp;
-    private final Map<Client, WithSeq<Long>> clientToTimeAndSeq = new HashMap<>();
-    private final TreeMultimap<Long, WithSeq<Client>> clientsByLatestTimestamp = TreeMultimap.create(
-            Comparator.naturalOrder(),
-            Comparator.comparing(clientWithSeq -> clientWithSeq.value().value(), Comparator.naturalOrder()));
+    private final Map<Client, Long> latestSequenceNumbers = new ConcurrentHashMap<>();
+    private final ConcurrentNavigableMap<Long, Map<Client, Long>> updatesByTimestamp = new ConcurrentSkipListMap<>();
 
-    @GuardedBy("lock")
-    private TimestampedAcceptorCacheKey latestTimestampedAcceptorCacheKey =
+    private volatile TimestampedAcceptorCacheKey latestTimestampedAcceptorCacheKey =
             TimestampedAcceptorCacheKey.of(AcceptorCacheKey.newCacheKey(), 0);
 
+    /**
+     * Cache keys with a timestamp before this may no longer have all their subsequent updates in the log.
+     */
+    private volatile long trimmedUpToTimestamp = 0;
+
     public AcceptorCacheImpl() {
-        Cache<AcceptorCacheKey, TimestampedAcceptorCacheKey> cacheKeyToTime =
-                Caffeine.newBuilder().expireAfterAccess(Duration.ofMinutes(10)).build();
-        cacheKeyToTime.put(latestTimestampedAcceptorCacheKey.cacheKey(), latestTimestampedAcceptorCacheKey);
-        this.cacheKeyToTimestamp = cacheKeyToTime;
+        this(Caffeine.newBuilder().expireAfterAccess(CACHE_KEY_EXPIRY).build());
+    }
+
+    @VisibleForTesting
+    AcceptorCacheImpl(Cache<AcceptorCacheKey, TimestampedAcceptorCacheKey> cacheKeyToTimestamp) {
+        cacheKeyToTimestamp.put(latestTimestampedAcceptorCacheKey.cacheKey(), latestTimestampedAcceptorCacheKey);
+        this.cacheKeyToTimestamp = cacheKeyToTimestamp;
     }
 
     @Override
@@ -61,84 +74,102 @@ public class AcceptorCacheImpl implements AcceptorCache {
             return;
         }
 
-        lock.writeLock().lock();
-        try {
+        synchronized (writeLock) {
             long nextTimestamp = latestTimestampedAcceptorCacheKey.timestamp() + 1;
-            AtomicBoolean updated = new AtomicBoolean(false);
+            Map<Client, Long> updates = new HashMap<>();
 
             clientsAndSeqs.forEach(clientAndSeq -> {
                 Client client = clientAndSeq.value();
                 long incomingSequenceNumber = clientAndSeq.seq();
-                WithSeq<Long> clientLatestWithTs = clientToTimeAndSeq.get(client);
-
-                if (clientLatestWithTs == null) {
-                    clientToTimeAndSeq.put(client, WithSeq.of(nextTimestamp, incomingSequenceNumber));
-                    clientsByLatestTimestamp.put(nextTimestamp, clientAndSeq);
-                    updated.set(true);
-                } else if (incomingSequenceNumber > clientLatestWithTs.seq()) {
-                    clientToTimeAndSeq.put(client, WithSeq.of(nextTimestamp, incomingSequenceNumber));
-                    clientsByLatestTimestamp.put(nextTimestamp, clientAndSeq);
-                    clientsByLatestTimestamp.remove(
-                            clientLatestWithTs.value(), WithSeq.of(client, clientLatestWithTs.seq()));
-                    updated.set(true);
+                Long latestSequenceNumber = latestSequenceNumbers.get(client);
+
+                if (latestSequenceNumber == null || incomingSequenceNumber > latestSequenceNumber) {
+                    updates.merge(client, incomingSequenceNumber, Math::max);
                 }
             });
 
-            if (!updated.get()) {
+            if (updates.isEmpty()) {
                 return;
             }
 
+            latestSequenceNumbers.putAll(updates);
+            updatesByTimestamp.put(nextTimestamp, ImmutableMap.copyOf(updates));
+
             AcceptorCacheKey nextCacheKey = AcceptorCacheKey.newCacheKey();
             TimestampedAcceptorCacheKey newTimestampedCacheKey =
                     TimestampedAcceptorCacheKey.of(nextCacheKey, nextTimestamp);
             cacheKeyToTimestamp.put(nextCacheKey, newTimestampedCacheKey);
             latestTimestampedAcceptorCacheKey = newTimestampedCacheKey;
-        } finally {
-            lock.writeLock().unlock();
+
+            if (nextTimestamp % TRIM_INTERVAL == 0) {
+                trimLog();
+            }
         }
     }
 
     @Override
     public AcceptorCacheDigest getAllUpdates() {
-        lock.readLock().lock();
-        try {
-            Map<Client, Long> clientsToLatest =
-                    KeyedStream.stream(clientToTimeAndSeq).map(WithSeq::seq).collectToMap();
-            return ImmutableAcceptorCacheDigest.builder()
-                    .newCacheKey(latestTimestampedAcceptorCacheKey.cacheKey())
-                    .cacheTimestamp(latestTimestampedAcceptorCacheKey.timestamp())
-                    .updates(clientsToLatest)
-                    .build();
-        } finally {
-            lock.readLock().unlock();
-        }
+        TimestampedAcceptorCacheKey latest = latestTimestampedAcceptorCacheKey;
+        // This may include updates made after the latest cache key was read; those will be repeated in the next diff,
+        // which is fine as sequence numbers are merged by taking the maximum.
+        return ImmutableAcceptorCacheDigest.builder()
+                .newCacheKey(latest.cacheKey())
+                .cacheTimestamp(latest.timestamp())
+                .updates(ImmutableMap.copyOf(latestSequenceNumbers))
+                .build();
     }
 
     @Override
     public Optional<AcceptorCacheDigest> updatesSinceCacheKey(@Nonnull AcceptorCacheKey cacheKey)
             throws InvalidAcceptorCacheKeyException {
-        lock.readLock().lock();
-        try {
-            if (cacheKey.equals(latestTimestampedAcceptorCacheKey.cacheKey())) {
-                return Optional.empty();
-            }
+        TimestampedAcceptorCacheKey latest = latestTimestampedAcceptorCacheKey;
+        if (cacheKey.equals(latest.cacheKey())) {
+            return Optional.empty();
+        }
 
-            long cacheKeyTimestamp = Optional.ofNullable(cacheKeyToTimestamp.getIfPresent(cacheKey))
-                    .map(TimestampedAcceptorCacheKey::timestamp)
-                    .orElseThrow(() -> new InvalidAcceptorCacheKeyException(cacheKey));
-
-            Map<Client, Long> diff =
-                    clientsByLatestTimestamp.asMap().tailMap(cacheKeyTimestamp, false).values().stream()
-                            .flatMap(Collection::stream)
-                            .collect(Collectors.toMap(WithSeq::value, WithSeq::seq));
-
-            return Optional.of(ImmutableAcceptorCacheDigest.builder()
-                    .newCacheKey(latestTimestampedAcceptorCacheKey.cacheKey())
-                    .cacheTimestamp(latestTimestampedAcceptorCacheKey.timestamp())
-                    .updates(diff)
-                    .build());
-        } finally {
-            lock.readLock().unlock();
+        TimestampedAcceptorCacheKey timestampedCacheKey = cacheKeyToTimestamp.getIfPresent(cacheKey);
+        if (timestampedCacheKey == null) {
+            throw new InvalidAcceptorCacheKeyException(cacheKey);
+        }
+        long cacheKeyTimestamp = timestampedCacheKey.timestamp();
+        if (cacheKeyTimestamp >= latest.timestamp()) {
+            return Optional.empty();
+        }
+
+        Map<Client, Long> diff = new HashMap<>();
+        updatesByTimestamp
+                .subMap(cacheKeyTimestamp, false, latest.timestamp(), true)
+                .values()
+                .forEach(updates -> updates.forEach((client, seq) -> diff.merge(client, seq, Math::max)));
+
+        // the log may have been trimmed past this cache key whilst we were reading it
+        if (cacheKeyTimestamp < trimmedUpToTimestamp) {
+            throw new InvalidAcceptorCacheKeyException(cacheKey);
+        }
+
+        return Optional.of(ImmutableAcceptorCacheDigest.builder()
+                .newCacheKey(latest.cacheKey())
+                .cacheTimestamp(latest.timestamp())
+                .updates(diff)
+                .build());
+    }
+
+    @VisibleForTesting
+    int logSize() {
+        return updatesByTimestamp.size();
+    }
+
+    @GuardedBy("writeLock")
+    private void trimLog() {
+        cacheKeyToTimestamp.cleanUp();
+        long oldestLiveTimestamp = cacheKeyToTimestamp.asMap().values().stream()
+                .mapToLong(TimestampedAcceptorCacheKey::timestamp)
+                .min()
+                .orElseGet(latestTimestampedAcceptorCacheKey::timestamp);
+        if (oldestLiveTimestamp <= trimmedUpToTimestamp) {
+            return;
         }
+        trimmedUpToTimestamp = oldestLiveTimestamp;
+        updatesByTimestamp.headMap(oldestLiveTimestamp, true).clear();
     }
 }
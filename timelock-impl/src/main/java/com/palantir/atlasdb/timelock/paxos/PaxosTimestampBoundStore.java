@@ -39,11 +39,16 @@ import com.palantir.paxos.PaxosProposer;
 import com.palantir.paxos.PaxosResponses;
 import com.palantir.paxos.PaxosRoundFailureException;
 import com.palantir.paxos.PaxosValue;
+import com.palantir.paxos.PreparedPaxosRound;
 import com.palantir.timestamp.DebugLogger;
 import com.palantir.timestamp.MultipleRunningTimestampServiceError;
 import com.palantir.timestamp.TimestampBoundStore;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.GuardedBy;
 import org.immutables.value.Value;
@@ -57,6 +62,8 @@ public class PaxosTimestampBoundStore implements TimestampBoundStore {
     private final PaxosAcceptorNetworkClient acceptorNetworkClient;
     private final PaxosLearnerNetworkClient learnerClient;
     private final long maximumWaitBeforeProposalMs;
+    private final BooleanSupplier prepareNextSequenceInAdvance;
+    private final Executor preparationExecutor;
 
     @GuardedBy("this")
     private SequenceAndBound agreedState;
@@ -64,12 +71,42 @@ public class PaxosTimestampBoundStore implements TimestampBoundStore {
     @GuardedBy("this")
     private boolean hasLostLeadership = false;
 
+    @GuardedBy("this")
+    private Optional<CompletableFuture<PreparedPaxosRound>> nextPreparedRound = Optional.empty();
+
     public PaxosTimestampBoundStore(
             PaxosProposer proposer,
             PaxosLearner knowledge,
             PaxosAcceptorNetworkClient acceptorNetworkClient,
             PaxosLearnerNetworkClient learnerClient,
             long maximumWaitBeforeProposalMs) {
+        this(
+                proposer,
+                knowledge,
+                acceptorNetworkClient,
+                learnerClient,
+                maximumWaitBeforeProposalMs,
+                () -> false,
+                Runnable::run);
+    }
+
+    /**
+     * If prepareNextSequenceInAdvance returns true, then after each bound is stored the prepare phase of Paxos for
+     * the next sequence number is run on the preparationExecutor, so that storing the next bound only requires the
+     * accept phase. This is safe because a promise holds until a higher proposal id is prepared, in which case the
+     * accept phase fails and we fall back to a full proposal.
+     * <p>
+     * Only the next sequence number is ever prepared: recovery in {@link #getAgreedState(long)} relies on every
+     * sequence number two below the latest one prepared or accepted having been agreed upon.
+     */
+    public PaxosTimestampBoundStore(
+            PaxosProposer proposer,
+            PaxosLearner knowledge,
+            PaxosAcceptorNetworkClient acceptorNetworkClient,
+            PaxosLearnerNetworkClient learnerClient,
+            long maximumWaitBeforeProposalMs,
+            BooleanSupplier prepareNextSequenceInAdvance,
+            Executor preparationExecutor) {
         DebugLogger.logger.info(
                 "Creating PaxosTimestampBoundStore. The UUID of my proposer is {}. "
                         + "Currently, I believe the timestamp bound is {}.",
@@ -80,6 +117,8 @@ public class PaxosTimestampBoundStore implements TimestampBoundStore {
         this.acceptorNetworkClient = acceptorNetworkClient;
         this.learnerClient = learnerClient;
         this.maximumWaitBeforeProposalMs = maximumWaitBeforeProposalMs;
+        this.prepareNextSequenceInAdvance = prepareNextSequenceInAdvance;
+        this.preparationExecutor = preparationExecutor;
     }
 
     /**
@@ -95,6 +134,7 @@ public class PaxosTimestampBoundStore implements TimestampBoundStore {
         List<PaxosLong> responses = getLatestSequenceNumbersFromAcceptors();
         PaxosLong max = Ordering.natural().onResultOf(PaxosLong::getValue).max(responses);
         agreedState = getAgreedState(max.getValue());
+        nextPreparedRound = Optional.empty();
         return agreedState.getBound();
     }
 
@@ -239,9 +279,14 @@ public class PaxosTimestampBoundStore implements TimestampBoundStore {
                     SafeArg.of("currentLimit", agreedState.getBound()));
             newSeq = agreedState.getSeqId() + 1;
         }
+        Optional<PreparedPaxosRound> preparedRound = takePreparedRound(newSeq);
         while (true) {
             try {
-                proposer.propose(newSeq, PtBytes.toBytes(limit));
+                if (preparedRound.isPresent()) {
+                    proposer.proposePrepared(preparedRound.get(), PtBytes.toBytes(limit));
+                } else {
+                    proposer.propose(newSeq, PtBytes.toBytes(limit));
+                }
                 PaxosValue value = knowledge
                         .getLearnedValue(newSeq)
                         .orElseThrow(() -> new SafeIllegalStateException("Timestamp bound store: Paxos proposal"
@@ -267,13 +312,62 @@ public class PaxosTimestampBoundStore implements TimestampBoundStore {
                             SafeArg.of("newLimit", newLimit),
                             SafeArg.of("target", limit));
                 }
+                maybePrepareInAdvance(newSeq + 1);
                 return;
             } catch (PaxosRoundFailureException e) {
-                waitForRandomBackoff(e, this::wait);
+                if (preparedRound.isPresent()) {
+                    // Our promise may have been superseded; retry immediately with both phases.
+                    log.info(
+                            "Accepting a value for a sequence prepared in advance failed. Retrying with a full"
+                                    + " Paxos proposal.",
+                            SafeArg.of("sequence", newSeq),
+                            e);
+                    preparedRound = Optional.empty();
+                } else {
+                    waitForRandomBackoff(e, this::wait);
+                }
             }
         }
     }
 
+    /**
+     * Returns the round prepared in advance for the given sequence number, if there is one and its prepare phase
+     * succeeded. If the prepare phase is still in flight, we wait for it, as that is no slower than starting over.
+     */
+    @GuardedBy("this")
+    private Optional<PreparedPaxosRound> takePreparedRound(long seq) {
+        Optional<CompletableFuture<PreparedPaxosRound>> maybeRound = nextPreparedRound;
+        nextPreparedRound = Optional.empty();
+        if (maybeRound.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(maybeRound.get().join()).filter(round -> round.sequence() == seq);
+        } catch (CompletionException e) {
+            log.info(
+                    "Preparing a sequence in advance failed; we will make a full Paxos proposal instead.",
+                    SafeArg.of("sequence", seq),
+                    e);
+            return Optional.empty();
+        }
+    }
+
+    @GuardedBy("this")
+    private void maybePrepareInAdvance(long seq) {
+        if (!prepareNextSequenceInAdvance.getAsBoolean()) {
+            return;
+        }
+        CompletableFuture<PreparedPaxosRound> preparedRound = new CompletableFuture<>();
+        preparationExecutor.execute(() -> {
+            try {
+                preparedRound.complete(proposer.prepare(seq));
+            } catch (Throwable t) {
+                preparedRound.completeExceptionally(t);
+            }
+        });
+        nextPreparedRound = Optional.of(preparedRound);
+    }
+
     /**
      * Checks that the PaxosValue agreed upon by a quorum of nodes in our cluster was proposed by us.
      *
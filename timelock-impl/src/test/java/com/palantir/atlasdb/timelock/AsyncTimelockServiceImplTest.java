@@ -19,10 +19,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.codahale.metrics.MetricRegistry;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.palantir.atlasdb.timelock.api.ConjureStartTransactionsRequest;
+import com.palantir.atlasdb.timelock.api.ConjureStartTransactionsResponse;
 import com.palantir.atlasdb.timelock.lock.AsyncLockService;
 import com.palantir.atlasdb.timelock.lock.LockLog;
+import com.palantir.atlasdb.timelock.lockwatches.BufferMetrics;
 import com.palantir.atlasdb.timelock.lockwatches.RequestMetrics;
+import com.palantir.atlasdb.util.MetricsManager;
+import com.palantir.atlasdb.util.MetricsManagers;
+import com.palantir.timestamp.InMemoryTimestampService;
 import com.palantir.timestamp.ManagedTimestampService;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jmock.lib.concurrent.DeterministicScheduler;
 import org.junit.jupiter.api.Test;
 
 public class AsyncTimelockServiceImplTest {
@@ -36,4 +49,51 @@ public class AsyncTimelockServiceImplTest {
         assertThat(service.isInitialized()).isFalse();
         assertThat(service.isInitialized()).isTrue();
     }
+
+    @Test
+    public void startTransactionsWithWatchesIssuesTimestampsOnTheProvidedExecutor() {
+        MetricsManager metricsManager = MetricsManagers.createForTests();
+        LockLog lockLog = new LockLog(new MetricRegistry(), () -> 10000L);
+        DeterministicScheduler lockServiceScheduler = new DeterministicScheduler();
+        DeterministicScheduler startTransactionsExecutor = new DeterministicScheduler();
+        AsyncTimelockServiceImpl service = new AsyncTimelockServiceImpl(
+                AsyncLockService.createDefault(
+                        lockLog,
+                        lockServiceScheduler,
+                        lockServiceScheduler,
+                        BufferMetrics.of(metricsManager.getTaggedRegistry())),
+                new InMemoryTimestampService(),
+                lockLog,
+                RequestMetrics.of(metricsManager.getTaggedRegistry()),
+                startTransactionsExecutor);
+
+        ListenableFuture<ConjureStartTransactionsResponse> responseFuture =
+                service.startTransactionsWithWatches(ConjureStartTransactionsRequest.builder()
+                        .requestId(UUID.randomUUID())
+                        .requestorId(UUID.randomUUID())
+                        .numTransactions(5)
+                        .build());
+        assertThat(responseFuture).isNotDone();
+
+        startTransactionsExecutor.runUntilIdle();
+        ConjureStartTransactionsResponse response = Futures.getUnchecked(responseFuture);
+        assertThat(response.getTimestamps().count()).isEqualTo(5);
+        assertThat(response.getImmutableTimestamp().getImmutableTimestamp())
+                .isLessThan(response.getTimestamps().start());
+    }
+
+    @Test
+    public void closeShutsDownStartTransactionsExecutor() {
+        ExecutorService startTransactionsExecutor = Executors.newSingleThreadExecutor();
+        AsyncTimelockServiceImpl service = new AsyncTimelockServiceImpl(
+                mock(AsyncLockService.class),
+                mock(ManagedTimestampService.class),
+                mock(LockLog.class),
+                mock(RequestMetrics.class),
+                startTransactionsExecutor);
+
+        service.close();
+
+        assertThat(startTransactionsExecutor.isShutdown()).isTrue();
+    }
 }
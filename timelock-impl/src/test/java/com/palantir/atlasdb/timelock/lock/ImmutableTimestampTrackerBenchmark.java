@@ -0,0 +1,88 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.timelock.lock;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the throughput of the {@link ImmutableTimestampTracker} operations performed for every transaction start,
+ * with 1 to 64 threads starting transactions concurrently. Run with {@link #main}.
+ */
+@Measurement(iterations = 5, time = 2)
+@Warmup(iterations = 3, time = 1)
+@Fork(value = 1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ImmutableTimestampTrackerBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int LONG_RUNNING_TRANSACTIONS = 1_000;
+
+    private final AtomicLong timestamps = new AtomicLong();
+    private ImmutableTimestampTracker tracker;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        tracker = new ImmutableTimestampTracker();
+        // Transactions that stay open for the whole run, so that the tracker is never close to empty.
+        for (int i = 0; i < LONG_RUNNING_TRANSACTIONS; i++) {
+            tracker.lock(timestamps.incrementAndGet(), UUID.randomUUID());
+        }
+    }
+
+    @Benchmark
+    public Optional<Long> startAndFinishTransaction() {
+        long timestamp = timestamps.incrementAndGet();
+        UUID requestId = new UUID(0, timestamp);
+        tracker.lock(timestamp, requestId);
+        Optional<Long> immutableTimestamp = tracker.getImmutableTimestamp();
+        tracker.unlock(timestamp, requestId);
+        return immutableTimestamp;
+    }
+
+    @Benchmark
+    public Optional<Long> getImmutableTimestamp() {
+        return tracker.getImmutableTimestamp();
+    }
+
+    public static void main(String[] _args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(ImmutableTimestampTrackerBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -45,7 +45,9 @@ import com.palantir.lock.watch.UnlockEvent;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -65,6 +67,7 @@ public class LockEventLogImplTest {
     private static final AsyncLock LOCK_2 = new ExclusiveLock(DESCRIPTOR_2);
     private static final AsyncLock LOCK_3 = new ExclusiveLock(DESCRIPTOR_3);
     private static final LockToken TOKEN = LockToken.of(UUID.randomUUID());
+    private static final int LOCKS_OUTSIDE_SLIDING_WINDOW = 600;
 
     private final AtomicReference<LockWatches> lockWatches = new AtomicReference<>(LockWatches.create());
     private final HeldLocksCollection heldLocksCollection = mock(HeldLocksCollection.class);
@@ -177,6 +180,71 @@ public class LockEventLogImplTest {
         assertThat(snapshot.lockWatches()).containsExactly(entireTable);
     }
 
+    @Test
+    public void clientTooFarBehindReceivesSnapshotIfDeltaUpdatesAreDisabled() {
+        logLocksAndUnlocksOutsideSlidingWindow(log);
+
+        UpdateVisitors.assertSnapshot(log.getLogDiff(NEGATIVE_VERSION_CURRENT_LOG_ID));
+    }
+
+    @Test
+    public void clientTooFarBehindReceivesNetChangesIfDeltaUpdatesAreEnabled() {
+        LockEventLog deltaLog = createLog(() -> true);
+        LockWatchReference secondRowReference = LockWatchReferenceUtils.rowPrefix(TABLE_REF, PtBytes.toBytes("2"));
+        deltaLog.logLockWatchCreated(createWatchesFor(secondRowReference));
+        logLocksAndUnlocksOutsideSlidingWindow(deltaLog);
+
+        LockWatchStateUpdate.Delta delta =
+                UpdateVisitors.assertDelta(deltaLog.getLogDiff(NEGATIVE_VERSION_CURRENT_LOG_ID));
+        assertThat(delta.fromVersion()).isEqualTo(-1L);
+        assertThat(delta.lastKnownVersion()).isEqualTo(2 * LOCKS_OUTSIDE_SLIDING_WINDOW);
+        assertThat(delta.locked()).containsExactly(DESCRIPTOR_2);
+        assertThat(delta.unlocked()).containsExactly(DESCRIPTOR_3);
+        assertThat(delta.newLockWatches()).containsExactly(secondRowReference);
+    }
+
+    @Test
+    public void clientWithinSlidingWindowReceivesEventsEvenIfDeltaUpdatesAreEnabled() {
+        LockEventLog deltaLog = createLog(() -> true);
+        deltaLog.logLock(ImmutableSet.of(DESCRIPTOR), TOKEN);
+
+        LockWatchStateUpdate.Success success =
+                UpdateVisitors.assertSuccess(deltaLog.getLogDiff(NEGATIVE_VERSION_CURRENT_LOG_ID));
+        assertThat(success.events()).containsExactly(LockEvent.builder(ImmutableSet.of(DESCRIPTOR), TOKEN)
+                .build(0L));
+    }
+
+    @Test
+    public void clientBehindEnablingOfDeltaUpdatesReceivesSnapshot() {
+        AtomicBoolean deltaUpdatesEnabled = new AtomicBoolean(false);
+        LockEventLog deltaLog = createLog(deltaUpdatesEnabled::get);
+        deltaLog.logLock(ImmutableSet.of(DESCRIPTOR), TOKEN);
+        deltaUpdatesEnabled.set(true);
+        logLocksAndUnlocksOutsideSlidingWindow(deltaLog);
+
+        UpdateVisitors.assertSnapshot(deltaLog.getLogDiff(NEGATIVE_VERSION_CURRENT_LOG_ID));
+        LockWatchStateUpdate.Delta delta =
+                UpdateVisitors.assertDelta(deltaLog.getLogDiff(Optional.of(LockWatchVersion.of(LOG_ID, 0L))));
+        assertThat(delta.locked()).containsExactly(DESCRIPTOR_2);
+        assertThat(delta.unlocked()).containsExactly(DESCRIPTOR_3);
+    }
+
+    private static void logLocksAndUnlocksOutsideSlidingWindow(LockEventLog eventLog) {
+        for (int i = 0; i < LOCKS_OUTSIDE_SLIDING_WINDOW; i++) {
+            eventLog.logLock(ImmutableSet.of(DESCRIPTOR_2, DESCRIPTOR_3), TOKEN);
+            eventLog.logUnlock(ImmutableSet.of(DESCRIPTOR_3));
+        }
+    }
+
+    private LockEventLog createLog(BooleanSupplier deltaUpdatesEnabled) {
+        return new LockEventLogImpl(
+                LOG_ID,
+                lockWatches::get,
+                heldLocksCollection,
+                BufferMetrics.of(MetricsManagers.createForTests().getTaggedRegistry()),
+                deltaUpdatesEnabled);
+    }
+
     private LockWatches createWatchesFor(LockWatchReference... references) {
         return ImmutableLockWatches.of(
                 Arrays.stream(references).collect(Collectors.toSet()),
@@ -20,13 +20,23 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.entry;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.palantir.common.streams.KeyedStream;
 import com.palantir.paxos.Client;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 public class AcceptorCacheImplTests {
@@ -151,6 +161,89 @@ public class AcceptorCacheImplTests {
                 .contains(diffAfterSecondUpdate);
     }
 
+    @Test
+    public void logIsTrimmedOnceCacheKeysExpire() throws InvalidAcceptorCacheKeyException {
+        AtomicLong nanos = new AtomicLong();
+        AcceptorCacheImpl cache = new AcceptorCacheImpl(Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .ticker(nanos::get)
+                .executor(Runnable::run)
+                .build());
+
+        int halfway = AcceptorCacheImpl.TRIM_INTERVAL / 2;
+        AcceptorCacheKey expiredCacheKey = cache.getAllUpdates().newCacheKey();
+        for (int update = 1; update < halfway; update++) {
+            cache.updateSequenceNumbers(ImmutableSet.of(WithSeq.of(Client.of("client" + update % 10), update)));
+        }
+
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        cache.updateSequenceNumbers(ImmutableSet.of(WithSeq.of(Client.of("client"), halfway)));
+        AcceptorCacheKey liveCacheKey = cache.getAllUpdates().newCacheKey();
+
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+        for (int update = halfway + 1; update <= AcceptorCacheImpl.TRIM_INTERVAL; update++) {
+            cache.updateSequenceNumbers(ImmutableSet.of(WithSeq.of(Client.of("client" + update % 10), update)));
+        }
+
+        assertThat(cache.logSize())
+                .as("only updates after the oldest live cache key are retained")
+                .isEqualTo(AcceptorCacheImpl.TRIM_INTERVAL - halfway);
+        assertThatExceptionOfType(InvalidAcceptorCacheKeyException.class)
+                .isThrownBy(() -> cache.updatesSinceCacheKey(expiredCacheKey));
+        Map<Client, Long> expectedDiff = KeyedStream.stream(cache.getAllUpdates().updates())
+                .filterKeys(client -> !client.equals(Client.of("client")))
+                .collectToMap();
+        assertThat(cache.updatesSinceCacheKey(liveCacheKey))
+                .map(AcceptorCacheDigest::updates)
+                .contains(expectedDiff);
+    }
+
+    @Test
+    public void concurrentReadersSeeAllUpdates() throws Exception {
+        AcceptorCache cache = cache(ImmutableMap.of());
+        int numWriters = 4;
+        int updatesPerWriter = 5_000;
+        AtomicBoolean writersDone = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(numWriters + 1);
+
+        try {
+            Future<Map<Client, Long>> reader = executor.submit(() -> {
+                AcceptorCacheDigest digest = cache.getAllUpdates();
+                Map<Client, Long> view = new HashMap<>(digest.updates());
+                AcceptorCacheKey cacheKey = digest.newCacheKey();
+                boolean finalRead = false;
+                while (!finalRead) {
+                    finalRead = writersDone.get();
+                    Optional<AcceptorCacheDigest> maybeDiff = cache.updatesSinceCacheKey(cacheKey);
+                    if (maybeDiff.isPresent()) {
+                        maybeDiff.get().updates().forEach((client, seq) -> view.merge(client, seq, Math::max));
+                        cacheKey = maybeDiff.get().newCacheKey();
+                    }
+                }
+                return view;
+            });
+            Future<?>[] writers = IntStream.range(0, numWriters)
+                    .mapToObj(writer -> executor.submit(() -> {
+                        for (long seq = 1; seq <= updatesPerWriter; seq++) {
+                            cache.updateSequenceNumbers(ImmutableSet.of(
+                                    WithSeq.of(Client.of("writer" + writer), seq),
+                                    WithSeq.of(Client.of("shared" + seq % 7), seq)));
+                        }
+                    }))
+                    .toArray(Future<?>[]::new);
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            writersDone.set(true);
+
+            assertThat(reader.get())
+                    .as("a reader following diffs ends up with the same view as a full read")
+                    .isEqualTo(cache.getAllUpdates().updates());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private static AcceptorCache cache(Map<Client, Long> latestSequencesForClients) {
         AcceptorCacheImpl acceptorCache = new AcceptorCacheImpl();
 
@@ -20,12 +20,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.Maps;
 import com.google.common.io.Closer;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.palantir.atlasdb.util.MetricsManagers;
 import com.palantir.common.concurrent.CheckedRejectionExecutorService;
 import com.palantir.common.concurrent.PTExecutors;
@@ -43,6 +46,7 @@ import com.palantir.paxos.PaxosLearnerNetworkClient;
 import com.palantir.paxos.PaxosProposer;
 import com.palantir.paxos.PaxosProposerImpl;
 import com.palantir.paxos.PaxosRoundFailureException;
+import com.palantir.paxos.PreparedPaxosRound;
 import com.palantir.paxos.SingleLeaderAcceptorNetworkClient;
 import com.palantir.paxos.SingleLeaderLearnerNetworkClient;
 import com.palantir.paxos.SqliteConnections;
@@ -199,6 +203,42 @@ public class PaxosTimestampBoundStoreTest {
         assertThat(store.getUpperLimit()).isGreaterThanOrEqualTo(TIMESTAMP_2);
     }
 
+    @ParameterizedTest
+    @MethodSource("useBatches")
+    public void onlyRunsAcceptPhaseForSequencesPreparedInAdvance(boolean useBatch) throws Exception {
+        setup(useBatch);
+        PaxosProposer proposer = spy(createPaxosProposer(0));
+        store = createPipelinedPaxosTimestampBoundStore(0, proposer);
+
+        store.storeUpperLimit(TIMESTAMP_1);
+        store.storeUpperLimit(TIMESTAMP_2);
+        store.storeUpperLimit(TIMESTAMP_3);
+
+        verify(proposer, times(1)).propose(anyLong(), any());
+        verify(proposer, times(2)).proposePrepared(any(), any());
+        verify(proposer, times(3)).prepare(anyLong());
+        assertThat(store.getUpperLimit()).isGreaterThanOrEqualTo(TIMESTAMP_3);
+    }
+
+    @ParameterizedTest
+    @MethodSource("useBatches")
+    public void throwsSuspectedNotCurrentLeaderExceptionIfSequencePreparedInAdvanceIsTakenOver(boolean useBatch)
+            throws Exception {
+        setup(useBatch);
+        PaxosProposer proposer = spy(createPaxosProposer(0));
+        store = createPipelinedPaxosTimestampBoundStore(0, proposer);
+        store.storeUpperLimit(TIMESTAMP_1);
+
+        PaxosTimestampBoundStore additionalStore = createPaxosTimestampBoundStore(1);
+        assertThat(additionalStore.getUpperLimit()).isEqualTo(TIMESTAMP_1);
+        additionalStore.storeUpperLimit(TIMESTAMP_2);
+
+        assertThatThrownBy(() -> store.storeUpperLimit(TIMESTAMP_3))
+                .isInstanceOf(SuspectedNotCurrentLeaderException.class);
+        verify(proposer).proposePrepared(any(), any());
+        verify(proposer, atLeastOnce()).propose(eq(1L), any());
+    }
+
     @ParameterizedTest
     @MethodSource("useBatches")
     public void canReadConsensusProposedByOtherNodes(boolean useBatch) {
@@ -424,6 +464,17 @@ public class PaxosTimestampBoundStoreTest {
                 proposer, learners.get(nodeIndex), acceptorClient, learnerClientsByNode.get(nodeIndex), 1000L);
     }
 
+    private PaxosTimestampBoundStore createPipelinedPaxosTimestampBoundStore(int nodeIndex, PaxosProposer proposer) {
+        return new PaxosTimestampBoundStore(
+                proposer,
+                learners.get(nodeIndex),
+                acceptorClient,
+                learnerClientsByNode.get(nodeIndex),
+                1000L,
+                () -> true,
+                MoreExecutors.directExecutor());
+    }
+
     private PaxosProposer createPaxosProposer(int nodeIndex) {
         return PaxosProposerImpl.newProposer(acceptorClient, learnerClientsByNode.get(nodeIndex), UUID.randomUUID());
     }
@@ -454,6 +505,17 @@ public class PaxosTimestampBoundStoreTest {
             throw new PaxosRoundFailureException("paxos fail");
         }
 
+        @Override
+        public PreparedPaxosRound prepare(long seq) throws PaxosRoundFailureException {
+            return delegate.prepare(seq);
+        }
+
+        @Override
+        public byte[] proposePrepared(PreparedPaxosRound preparedRound, @Nullable byte[] proposalValue)
+                throws PaxosRoundFailureException {
+            return delegate.proposePrepared(preparedRound, proposalValue);
+        }
+
         @Override
         public String getUuid() {
             return delegate.getUuid();
@@ -25,6 +25,7 @@ import com.palantir.atlasdb.timelock.benchmarks.benchmarks.LockAndUnlockContende
 import com.palantir.atlasdb.timelock.benchmarks.benchmarks.LockAndUnlockUncontendedBenchmark;
 import com.palantir.atlasdb.timelock.benchmarks.benchmarks.RangeScanDynamicColumnsBenchmark;
 import com.palantir.atlasdb.timelock.benchmarks.benchmarks.RangeScanRowsBenchmark;
+import com.palantir.atlasdb.timelock.benchmarks.benchmarks.StartTransactionsBenchmark;
 import com.palantir.atlasdb.timelock.benchmarks.benchmarks.TimestampBenchmark;
 import com.palantir.atlasdb.timelock.benchmarks.benchmarks.TransactionReadRowsBenchmark;
 import com.palantir.atlasdb.timelock.benchmarks.benchmarks.TransactionWriteBenchmarkContended;
@@ -108,6 +109,11 @@ public class BenchmarksResource implements BenchmarksService {
         return TimestampBenchmark.execute(txnManager, numClients, numRequestsPerClient);
     }
 
+    @Override
+    public Map<String, Object> startTransactions(int numClients, int numRequestsPerClient, int transactionsPerRequest) {
+        return StartTransactionsBenchmark.execute(txnManager, numClients, numRequestsPerClient, transactionsPerRequest);
+    }
+
     @Override
     public Map<String, Object> rangeScanRows(int numClients, int numRequestsPerClient, int dataSize, int numRows) {
         return RangeScanRowsBenchmark.execute(txnManager, numClients, numRequestsPerClient, dataSize, numRows);
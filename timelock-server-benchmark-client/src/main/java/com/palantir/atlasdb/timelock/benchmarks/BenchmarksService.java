@@ -89,6 +89,13 @@ public interface BenchmarksService {
     Map<String, Object> timestamp(
             @QueryParam("numClients") int numClients, @QueryParam("numRequestsPerClient") int numRequestsPerClient);
 
+    @GET
+    @Path("/start-transactions")
+    Map<String, Object> startTransactions(
+            @QueryParam("numClients") int numClients,
+            @QueryParam("numRequestsPerClient") int numRequestsPerClient,
+            @QueryParam("transactionsPerRequest") int transactionsPerRequest);
+
     @GET
     @Path("/range-scan-rows")
     Map<String, Object> rangeScanRows(
@@ -149,6 +149,8 @@ public abstract class AbstractBenchmark {
         result.put("p50", getPercentile(0.5));
         result.put("p95", getPercentile(0.95));
         result.put("p99", getPercentile(0.99));
+        result.put("p999", getPercentile(0.999));
+        result.put("p9999", getPercentile(0.9999));
         result.put("totalTime", totalTime / 1_000_000.0);
         result.put("throughput", getThroughput());
         result.put("name", getClass().getSimpleName());
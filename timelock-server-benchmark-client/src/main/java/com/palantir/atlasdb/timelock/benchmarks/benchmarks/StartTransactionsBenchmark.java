@@ -0,0 +1,66 @@
+/*
+ * (c) Copyright 2026 Palantir Technologies Inc. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.palantir.atlasdb.timelock.benchmarks.benchmarks;
+
+import com.google.common.collect.ImmutableMap;
+import com.palantir.atlasdb.transaction.api.TransactionManager;
+import com.palantir.lock.v2.LockImmutableTimestampResponse;
+import com.palantir.lock.v2.LockToken;
+import com.palantir.lock.v2.StartIdentifiedAtlasDbTransactionResponse;
+import com.palantir.lock.v2.TimelockService;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Starts transactions, and releases their immutable timestamp locks, against TimeLock. Run at high client concurrency
+ * against servers with and without {@code useVirtualThreads} to compare the throughput and tail latency of the two
+ * execution modes.
+ */
+public final class StartTransactionsBenchmark extends AbstractBenchmark {
+
+    private final TimelockService timelockService;
+    private final int transactionsPerRequest;
+
+    public static Map<String, Object> execute(
+            TransactionManager txnManager, int numClients, int requestsPerClient, int transactionsPerRequest) {
+        return new StartTransactionsBenchmark(
+                        txnManager.getTimelockService(), numClients, requestsPerClient, transactionsPerRequest)
+                .execute();
+    }
+
+    private StartTransactionsBenchmark(
+            TimelockService timelockService, int numClients, int numRequestsPerClient, int transactionsPerRequest) {
+        super(numClients, numRequestsPerClient);
+        this.timelockService = timelockService;
+        this.transactionsPerRequest = transactionsPerRequest;
+    }
+
+    @Override
+    protected void performOneCall() {
+        Set<LockToken> immutableTimestampLocks =
+                timelockService.startIdentifiedAtlasDbTransactionBatch(transactionsPerRequest).stream()
+                        .map(StartIdentifiedAtlasDbTransactionResponse::immutableTimestamp)
+                        .map(LockImmutableTimestampResponse::getLock)
+                        .collect(Collectors.toSet());
+        timelockService.tryUnlock(immutableTimestampLocks);
+    }
+
+    @Override
+    protected Map<String, Object> getExtraParameters() {
+        return ImmutableMap.of("transactionsPerRequest", transactionsPerRequest);
+    }
+}
@@ -28,6 +28,14 @@ public class BenchmarksRunner extends BenchmarkRunnerBase {
         runAndPrintResults(client::timestamp, 4, 1000);
     }
 
+    /**
+     * High client concurrency; compare TimeLock servers running with and without {@code useVirtualThreads}.
+     */
+    @Test
+    public void startTransactions() {
+        runAndPrintResults(() -> client.startTransactions(512, 200, 1));
+    }
+
     @Test
     public void lockAndUnlockUncontended() {
         runAndPrintResults(client::lockAndUnlockUncontended, 4, 500);
@@ -187,5 +187,10 @@ public class AsyncTimeLockServiceMetadataTest {
         public LockWatchStateUpdate.Success visit(LockWatchStateUpdate.Snapshot snapshot) {
             return fail("Unexpected snapshot");
         }
+
+        @Override
+        public LockWatchStateUpdate.Success visit(LockWatchStateUpdate.Delta delta) {
+            return fail("Unexpected delta");
+        }
     }
 }
@@ -18,7 +18,14 @@ package com.palantir.atlasdb.timelock.lock;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.Test;
 
 public class ImmutableTimestampTrackerTest {
@@ -78,6 +85,34 @@ public class ImmutableTimestampTrackerTest {
         assertThatThrownBy(() -> unlock(TIMESTAMP_1, REQUEST_1)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    public void immutableTimestampIsBoundedByHeldTimestampsUnderConcurrentUse() throws Exception {
+        AtomicLong timestamps = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 16; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        long timestamp = timestamps.incrementAndGet();
+                        UUID requestId = UUID.randomUUID();
+                        tracker.lock(timestamp, requestId);
+                        assertThat(tracker.getImmutableTimestamp())
+                                .hasValueSatisfying(immutable -> assertThat(immutable).isLessThanOrEqualTo(timestamp));
+                        tracker.unlock(timestamp, requestId);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(tracker.getImmutableTimestamp()).isNotPresent();
+    }
+
     private AsyncResult<Void> lock(long timestamp, UUID requestId) {
         return tracker.getLockFor(timestamp).lock(requestId);
     }
@@ -22,6 +22,8 @@ import com.palantir.atlasdb.AtlasDbConstants;
 import com.palantir.logsafe.SafeArg;
 import com.palantir.logsafe.logger.SafeLogger;
 import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import javax.annotation.concurrent.ThreadSafe;
 
 @ThreadSafe
@@ -49,6 +51,7 @@ public class PersistentTimestampServiceImpl implements PersistentTimestampServic
     private static final int MAX_TIMESTAMPS_PER_REQUEST = 10_000;
 
     private ErrorCheckingTimestampBoundStore store;
+    private Function<TimestampBoundStore, PersistentUpperLimit> upperLimitFactory;
     private PersistentTimestamp timestamp;
     private final InitializingWrapper wrapper = new InitializingWrapper();
 
@@ -65,7 +68,27 @@ public class PersistentTimestampServiceImpl implements PersistentTimestampServic
     }
 
     public static PersistentTimestampService create(ErrorCheckingTimestampBoundStore store, boolean initializeAsync) {
-        PersistentTimestampServiceImpl service = new PersistentTimestampServiceImpl(store);
+        return create(store, PersistentUpperLimit::new, initializeAsync);
+    }
+
+    /**
+     * Creates a timestamp service whose upper limit is extended in the background, so that handing out timestamps
+     * does not usually wait for the bound store. See {@link PersistentUpperLimit#withBackgroundExtension}.
+     */
+    public static PersistentTimestampService createWithBackgroundUpperLimitExtension(
+            TimestampBoundStore store, double extensionThreshold, boolean adaptiveBuffer, Executor extensionExecutor) {
+        return create(
+                new ErrorCheckingTimestampBoundStore(store),
+                boundStore -> PersistentUpperLimit.withBackgroundExtension(
+                        boundStore, extensionThreshold, adaptiveBuffer, extensionExecutor),
+                AtlasDbConstants.DEFAULT_INITIALIZE_ASYNC);
+    }
+
+    private static PersistentTimestampService create(
+            ErrorCheckingTimestampBoundStore store,
+            Function<TimestampBoundStore, PersistentUpperLimit> upperLimitFactory,
+            boolean initializeAsync) {
+        PersistentTimestampServiceImpl service = new PersistentTimestampServiceImpl(store, upperLimitFactory);
         service.wrapper.initialize(initializeAsync);
         return service.wrapper.isInitialized() ? service : service.wrapper;
     }
@@ -75,12 +98,15 @@ public class PersistentTimestampServiceImpl implements PersistentTimestampServic
         this.timestamp = timestamp;
     }
 
-    private PersistentTimestampServiceImpl(ErrorCheckingTimestampBoundStore store) {
+    private PersistentTimestampServiceImpl(
+            ErrorCheckingTimestampBoundStore store,
+            Function<TimestampBoundStore, PersistentUpperLimit> upperLimitFactory) {
         this.store = store;
+        this.upperLimitFactory = upperLimitFactory;
     }
 
     private void tryInitialize() {
-        PersistentUpperLimit upperLimit = new PersistentUpperLimit(store);
+        PersistentUpperLimit upperLimit = upperLimitFactory.apply(store);
         long latestTimestamp = upperLimit.get();
         timestamp = new PersistentTimestamp(upperLimit, latestTimestamp);
     }
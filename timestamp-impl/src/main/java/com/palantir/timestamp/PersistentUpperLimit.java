@@ -16,22 +16,81 @@
 package com.palantir.timestamp;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.palantir.logsafe.Preconditions;
+import com.palantir.logsafe.SafeArg;
+import com.palantir.logsafe.logger.SafeLogger;
+import com.palantir.logsafe.logger.SafeLoggerFactory;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
 
 public class PersistentUpperLimit {
+    private static final SafeLogger log = SafeLoggerFactory.get(PersistentUpperLimit.class);
 
     /**
+     * The buffer stored above the timestamps handed out. This is always the buffer used, unless background extension
+     * is enabled with an adaptive buffer, in which case it is the minimum buffer.
+     *
      * Some internal atlas clients have behavior tied to this value and will need to
      * be updated if the value changes.
      */
     @VisibleForTesting
     static final long BUFFER = 1_000_000;
 
+    /**
+     * When extending in the background with an adaptive buffer, the buffer grows so that it lasts at least this long
+     * at the observed rate of timestamp issuance, up to {@link #MAX_ADAPTIVE_BUFFER}.
+     */
+    @VisibleForTesting
+    static final Duration ADAPTIVE_BUFFER_TARGET_DURATION = Duration.ofSeconds(10);
+
+    @VisibleForTesting
+    static final long MAX_ADAPTIVE_BUFFER = 100 * BUFFER;
+
     private volatile long currentLimit;
     private final TimestampBoundStore store;
 
+    private final BackgroundExtension backgroundExtension;
+
     public PersistentUpperLimit(TimestampBoundStore boundStore) {
+        this(boundStore, null);
+    }
+
+    private PersistentUpperLimit(TimestampBoundStore boundStore, BackgroundExtension backgroundExtension) {
         this.store = boundStore;
         this.currentLimit = boundStore.getUpperLimit();
+        this.backgroundExtension = backgroundExtension;
+    }
+
+    /**
+     * Creates an upper limit that is extended in the background, once more than {@code extensionThreshold} of the
+     * buffer above the timestamps handed out has been used. Requests then only wait for the bound store if timestamps
+     * are handed out faster than the store can be written to.
+     *
+     * If {@code adaptiveBuffer} is set, the buffer also adapts to the rate at which timestamps are handed out, so it
+     * may grow beyond {@link #BUFFER}. Otherwise, the buffer is always {@link #BUFFER}.
+     *
+     * Extensions run on {@code executor}, which remains owned by the caller.
+     */
+    public static PersistentUpperLimit withBackgroundExtension(
+            TimestampBoundStore boundStore, double extensionThreshold, boolean adaptiveBuffer, Executor executor) {
+        return withBackgroundExtension(boundStore, extensionThreshold, adaptiveBuffer, executor, System::nanoTime);
+    }
+
+    @VisibleForTesting
+    static PersistentUpperLimit withBackgroundExtension(
+            TimestampBoundStore boundStore,
+            double extensionThreshold,
+            boolean adaptiveBuffer,
+            Executor executor,
+            LongSupplier nanoClock) {
+        Preconditions.checkArgument(
+                extensionThreshold > 0.0 && extensionThreshold < 1.0,
+                "The extension threshold must be strictly between 0 and 1",
+                SafeArg.of("extensionThreshold", extensionThreshold));
+        return new PersistentUpperLimit(
+                boundStore, new BackgroundExtension(extensionThreshold, adaptiveBuffer, executor, nanoClock));
     }
 
     public long get() {
@@ -41,6 +100,8 @@ public class PersistentUpperLimit {
     public void increaseToAtLeast(long newLimit) {
         if (newLimit > currentLimit) {
             updateLimit(newLimit);
+        } else if (backgroundExtension != null && backgroundExtension.isDue(currentLimit - newLimit)) {
+            backgroundExtension.schedule(newLimit);
         }
     }
 
@@ -49,14 +110,102 @@ public class PersistentUpperLimit {
             return;
         }
 
-        long newLimitWithBuffer = Math.addExact(newLimit, BUFFER);
+        long newLimitWithBuffer = Math.addExact(newLimit, currentBuffer());
         storeUpperLimit(newLimitWithBuffer);
         currentLimit = newLimitWithBuffer;
     }
 
+    private synchronized void extendLimit(long limitInUse) {
+        if (!backgroundExtension.isDue(currentLimit - limitInUse)) {
+            // Someone else extended the limit while we were waiting.
+            return;
+        }
+
+        backgroundExtension.recordExtension(limitInUse);
+        long newLimitWithBuffer = Math.addExact(limitInUse, backgroundExtension.buffer);
+        storeUpperLimit(newLimitWithBuffer);
+        currentLimit = newLimitWithBuffer;
+    }
+
+    private long currentBuffer() {
+        return backgroundExtension == null ? BUFFER : backgroundExtension.buffer;
+    }
+
     private void storeUpperLimit(long upperLimit) {
         DebugLogger.willStoreNewUpperLimit(upperLimit);
         store.storeUpperLimit(upperLimit);
         DebugLogger.didStoreNewUpperLimit(upperLimit);
     }
+
+    private final class BackgroundExtension {
+        private final double extensionThreshold;
+        private final boolean adaptiveBuffer;
+        private final Executor executor;
+        private final LongSupplier nanoClock;
+        private final AtomicBoolean extensionInProgress = new AtomicBoolean();
+
+        private volatile long buffer = BUFFER;
+        private volatile long headroomToExtendAt;
+
+        // Only accessed while holding the lock on the enclosing upper limit.
+        private long lastExtensionLimitInUse = -1;
+        private long lastExtensionNanos;
+
+        private BackgroundExtension(
+                double extensionThreshold, boolean adaptiveBuffer, Executor executor, LongSupplier nanoClock) {
+            this.extensionThreshold = extensionThreshold;
+            this.adaptiveBuffer = adaptiveBuffer;
+            this.executor = executor;
+            this.nanoClock = nanoClock;
+            this.headroomToExtendAt = headroomToExtendAt(BUFFER);
+        }
+
+        private boolean isDue(long headroom) {
+            return headroom < headroomToExtendAt;
+        }
+
+        private void schedule(long limitInUse) {
+            if (!extensionInProgress.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(() -> {
+                    try {
+                        extendLimit(limitInUse);
+                    } catch (Throwable t) {
+                        // Requests will store the limit themselves once they reach it, and surface any failure then.
+                        log.warn(
+                                "Failed to extend the timestamp upper limit in the background",
+                                SafeArg.of("limitInUse", limitInUse),
+                                t);
+                    } finally {
+                        extensionInProgress.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                extensionInProgress.set(false);
+                log.warn("Failed to schedule a background extension of the timestamp upper limit", e);
+            }
+        }
+
+        private void recordExtension(long limitInUse) {
+            if (!adaptiveBuffer) {
+                return;
+            }
+            long now = nanoClock.getAsLong();
+            if (lastExtensionLimitInUse >= 0 && limitInUse > lastExtensionLimitInUse && now > lastExtensionNanos) {
+                double targetBuffer = (double) (limitInUse - lastExtensionLimitInUse)
+                        * ADAPTIVE_BUFFER_TARGET_DURATION.toNanos()
+                        / (now - lastExtensionNanos);
+                buffer = Math.max(BUFFER, Math.min(MAX_ADAPTIVE_BUFFER, Math.round(targetBuffer)));
+                headroomToExtendAt = headroomToExtendAt(buffer);
+            }
+            lastExtensionLimitInUse = limitInUse;
+            lastExtensionNanos = now;
+        }
+
+        private long headroomToExtendAt(long bufferSize) {
+            return (long) (bufferSize * (1.0 - extensionThreshold));
+        }
+    }
 }
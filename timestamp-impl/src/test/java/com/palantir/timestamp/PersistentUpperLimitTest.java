@@ -20,10 +20,14 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -31,10 +35,14 @@ public class PersistentUpperLimitTest {
     private static final long TIMESTAMP = 12345L;
     private static final long INITIAL_UPPER_LIMIT = 10L;
     private static final long BUFFER = PersistentUpperLimit.BUFFER;
+    private static final double EXTENSION_THRESHOLD = 0.5;
 
     private TimestampBoundStore boundStore;
     private PersistentUpperLimit upperLimit;
 
+    private final Queue<Runnable> backgroundTasks = new ArrayDeque<>();
+    private final AtomicLong nanoTime = new AtomicLong();
+
     @BeforeEach
     public void setup() {
         boundStore = mock(TimestampBoundStore.class);
@@ -111,4 +119,132 @@ public class PersistentUpperLimitTest {
 
         assertThat(upperLimit.get()).isEqualTo(INITIAL_UPPER_LIMIT);
     }
+
+    @Test
+    public void shouldNotExtendInTheBackgroundByDefault() {
+        upperLimit.increaseToAtLeast(TIMESTAMP);
+        upperLimit.increaseToAtLeast(upperLimit.get());
+
+        assertThat(upperLimit.get()).isEqualTo(TIMESTAMP + BUFFER);
+        verify(boundStore, times(1)).storeUpperLimit(anyLong());
+    }
+
+    @Test
+    public void shouldNotExtendInTheBackgroundBeforeTheThresholdIsReached() {
+        PersistentUpperLimit extendingLimit = createBackgroundExtendingUpperLimit();
+        extendingLimit.increaseToAtLeast(TIMESTAMP);
+
+        extendingLimit.increaseToAtLeast(TIMESTAMP + BUFFER / 2);
+
+        assertThat(backgroundTasks).isEmpty();
+    }
+
+    @Test
+    public void shouldExtendInTheBackgroundOnceTheThresholdIsReached() {
+        PersistentUpperLimit extendingLimit = createBackgroundExtendingUpperLimit();
+        extendingLimit.increaseToAtLeast(TIMESTAMP);
+
+        long limitInUse = TIMESTAMP + BUFFER / 2 + 1;
+        extendingLimit.increaseToAtLeast(limitInUse);
+        assertThat(extendingLimit.get()).isEqualTo(TIMESTAMP + BUFFER);
+        verify(boundStore, never()).storeUpperLimit(limitInUse + BUFFER);
+
+        runBackgroundTasks();
+        assertThat(extendingLimit.get()).isEqualTo(limitInUse + BUFFER);
+        verify(boundStore).storeUpperLimit(limitInUse + BUFFER);
+    }
+
+    @Test
+    public void shouldOnlyScheduleOneBackgroundExtensionAtATime() {
+        PersistentUpperLimit extendingLimit = createBackgroundExtendingUpperLimit();
+        extendingLimit.increaseToAtLeast(TIMESTAMP);
+
+        extendingLimit.increaseToAtLeast(TIMESTAMP + BUFFER / 2 + 1);
+        extendingLimit.increaseToAtLeast(TIMESTAMP + BUFFER / 2 + 2);
+
+        assertThat(backgroundTasks).hasSize(1);
+    }
+
+    @Test
+    public void shouldRetryBackgroundExtensionAfterAFailure() {
+        PersistentUpperLimit extendingLimit = createBackgroundExtendingUpperLimit();
+        extendingLimit.increaseToAtLeast(TIMESTAMP);
+        long limitInUse = TIMESTAMP + BUFFER / 2 + 1;
+        doThrow(RuntimeException.class).when(boundStore).storeUpperLimit(limitInUse + BUFFER);
+
+        extendingLimit.increaseToAtLeast(limitInUse);
+        runBackgroundTasks();
+        assertThat(extendingLimit.get()).isEqualTo(TIMESTAMP + BUFFER);
+
+        extendingLimit.increaseToAtLeast(limitInUse + 1);
+        runBackgroundTasks();
+        assertThat(extendingLimit.get()).isEqualTo(limitInUse + 1 + BUFFER);
+    }
+
+    @Test
+    public void shouldGrowTheBufferWithTheRateOfTimestampIssuance() {
+        PersistentUpperLimit extendingLimit = createBackgroundExtendingUpperLimit();
+        extendingLimit.increaseToAtLeast(TIMESTAMP);
+
+        long firstLimitInUse = TIMESTAMP + BUFFER / 2 + 1;
+        extendingLimit.increaseToAtLeast(firstLimitInUse);
+        runBackgroundTasks();
+
+        // Handing out a buffer every tenth of the target duration means the buffer should grow ten times.
+        nanoTime.addAndGet(PersistentUpperLimit.ADAPTIVE_BUFFER_TARGET_DURATION.toNanos() / 10);
+        long secondLimitInUse = firstLimitInUse + BUFFER;
+        extendingLimit.increaseToAtLeast(secondLimitInUse);
+        runBackgroundTasks();
+
+        assertThat(extendingLimit.get()).isEqualTo(secondLimitInUse + 10 * BUFFER);
+    }
+
+    @Test
+    public void shouldCapTheAdaptiveBuffer() {
+        PersistentUpperLimit extendingLimit = createBackgroundExtendingUpperLimit();
+        extendingLimit.increaseToAtLeast(TIMESTAMP);
+
+        long firstLimitInUse = TIMESTAMP + BUFFER / 2 + 1;
+        extendingLimit.increaseToAtLeast(firstLimitInUse);
+        runBackgroundTasks();
+
+        nanoTime.incrementAndGet();
+        long secondLimitInUse = firstLimitInUse + BUFFER;
+        extendingLimit.increaseToAtLeast(secondLimitInUse);
+        runBackgroundTasks();
+
+        assertThat(extendingLimit.get()).isEqualTo(secondLimitInUse + PersistentUpperLimit.MAX_ADAPTIVE_BUFFER);
+    }
+
+    @Test
+    public void shouldNotGrowTheBufferIfNotAdaptive() {
+        PersistentUpperLimit extendingLimit = createBackgroundExtendingUpperLimit(false);
+        extendingLimit.increaseToAtLeast(TIMESTAMP);
+
+        long firstLimitInUse = TIMESTAMP + BUFFER / 2 + 1;
+        extendingLimit.increaseToAtLeast(firstLimitInUse);
+        runBackgroundTasks();
+
+        nanoTime.incrementAndGet();
+        long secondLimitInUse = firstLimitInUse + BUFFER;
+        extendingLimit.increaseToAtLeast(secondLimitInUse);
+        runBackgroundTasks();
+
+        assertThat(extendingLimit.get()).isEqualTo(secondLimitInUse + BUFFER);
+    }
+
+    private PersistentUpperLimit createBackgroundExtendingUpperLimit() {
+        return createBackgroundExtendingUpperLimit(true);
+    }
+
+    private PersistentUpperLimit createBackgroundExtendingUpperLimit(boolean adaptiveBuffer) {
+        return PersistentUpperLimit.withBackgroundExtension(
+                boundStore, EXTENSION_THRESHOLD, adaptiveBuffer, backgroundTasks::add, nanoTime::get);
+    }
+
+    private void runBackgroundTasks() {
+        while (!backgroundTasks.isEmpty()) {
+            backgroundTasks.poll().run();
+        }
+    }
 }